@@ -52,9 +52,11 @@
 import static org.hamcrest.core.IsNull.nullValue;
 import static org.junit.Assert.assertThat;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.Test;
@@ -373,4 +375,120 @@ public void testDefaultNumberOfPossibleValues() {
         assertThat("Unexpected possible values", colDomain.getValues(), is(nullValue()));
 
     }
+
+    /**
+     * Checks the approximate statistics of a string column with more distinct values than the maximum number of
+     * possible values, updated in (parallel) batches.
+     */
+    @Test
+    public void testApproximateStatistics() {
+        DataTableSpec tableSpec = new DataTableSpec(new DataColumnSpecCreator("String col", StringCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Int col", IntCell.TYPE).createSpec());
+
+        DataTableDomainCreator domainCreator = new DataTableDomainCreator(tableSpec, false);
+        domainCreator.setComputeApproximateStatistics(true);
+
+        List<DataRow> batch = new ArrayList<>();
+        for (int i = 0; i < 100000; i++) {
+            // every other row is "frequent", the others are distinct
+            String value = i % 2 == 0 ? "frequent" : ("value" + i);
+            batch.add(new DefaultRow(new RowKey("Row" + i), new StringCell(value), new IntCell(i)));
+            if (batch.size() == 10000) {
+                domainCreator.updateDomain(batch);
+                batch.clear();
+            }
+        }
+
+        DataColumnSpec colSpec = domainCreator.createSpec().getColumnSpec(0);
+        assertThat("Unexpected possible values", colSpec.getDomain().getValues(), is(nullValue()));
+        long distinct = Long.parseLong(
+            colSpec.getProperties().getProperty(DataTableDomainCreator.PROPERTY_APPROXIMATE_DISTINCT_VALUES));
+        assertThat("Distinct values estimate off by more than 5%: " + distinct, Math.abs(distinct - 50001) < 2500,
+            is(true));
+        String topValues = colSpec.getProperties().getProperty(DataTableDomainCreator.PROPERTY_APPROXIMATE_TOP_VALUES);
+        assertThat("Unexpected most frequent value", topValues.split("\n")[0].split("\t")[1], is("frequent"));
+
+        DataColumnDomain intDomain = domainCreator.createSpec().getColumnSpec(1).getDomain();
+        assertThat("Unexpected lower bound", intDomain.getLowerBound(), is((DataCell)new IntCell(0)));
+        assertThat("Unexpected upper bound", intDomain.getUpperBound(), is((DataCell)new IntCell(99999)));
+        assertThat("Unexpected properties",
+            domainCreator.createSpec().getColumnSpec(1).getProperties().containsProperty(
+                DataTableDomainCreator.PROPERTY_APPROXIMATE_DISTINCT_VALUES), is(false));
+    }
+
+    /**
+     * Checks that updating the domain with small batches of rows with many columns (which are processed in parallel
+     * once enough cells are collected) gives the same result as updating row by row.
+     */
+    @Test
+    public void testParallelBatchesManyColumns() {
+        final int nrColumns = 300;
+        DataColumnSpec[] colSpecs = new DataColumnSpec[nrColumns];
+        for (int c = 0; c < nrColumns; c++) {
+            DataType type = c % 3 == 0 ? StringCell.TYPE : (c % 3 == 1 ? IntCell.TYPE : DoubleCell.TYPE);
+            colSpecs[c] = new DataColumnSpecCreator("Col " + c, type).createSpec();
+        }
+        DataTableSpec tableSpec = new DataTableSpec(colSpecs);
+
+        DataTableDomainCreator rowByRow = new DataTableDomainCreator(tableSpec, false);
+        DataTableDomainCreator batched = new DataTableDomainCreator(tableSpec, false);
+        List<DataRow> batch = new ArrayList<>();
+        for (int r = 0; r < 1000; r++) {
+            DataCell[] cells = new DataCell[nrColumns];
+            for (int c = 0; c < nrColumns; c++) {
+                int value = (r * 31 + c * 17) % (50 + c);
+                if ((r + c) % 97 == 0) {
+                    cells[c] = DataType.getMissingCell();
+                } else if (c % 3 == 0) {
+                    cells[c] = new StringCell("v" + value);
+                } else if (c % 3 == 1) {
+                    cells[c] = new IntCell(value - 25);
+                } else {
+                    cells[c] = new DoubleCell(value / 7.0);
+                }
+            }
+            DataRow row = new DefaultRow(RowKey.createRowKey((long)r), cells);
+            rowByRow.updateDomain(row);
+            // same batch size as the asynchronous data container
+            batch.add(row);
+            if (batch.size() == 10) {
+                batched.updateDomain(batch);
+                batch.clear();
+            }
+        }
+        batched.updateDomain(batch);
+
+        DataTableSpec expected = rowByRow.createSpec();
+        DataTableSpec actual = batched.createSpec();
+        for (int c = 0; c < nrColumns; c++) {
+            assertThat("Unexpected domain in column " + c, actual.getColumnSpec(c).getDomain(),
+                is(expected.getColumnSpec(c).getDomain()));
+        }
+    }
+
+    /**
+     * Checks that batches are passed row by row to subclasses that override {@link DataTableDomainCreator#updateDomain(
+     * DataRow)}.
+     */
+    @Test
+    public void testBatchWithOverriddenRowUpdate() {
+        DataTableSpec tableSpec = new DataTableSpec(new DataColumnSpecCreator("Int col", IntCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("String col", StringCell.TYPE).createSpec());
+        final List<RowKey> seenKeys = new ArrayList<>();
+        DataTableDomainCreator domainCreator = new DataTableDomainCreator(tableSpec, false) {
+            @Override
+            public void updateDomain(final DataRow row) {
+                seenKeys.add(row.getKey());
+                super.updateDomain(row);
+            }
+        };
+        List<DataRow> batch = new ArrayList<>();
+        for (int r = 0; r < 20000; r++) {
+            batch.add(new DefaultRow(RowKey.createRowKey((long)r), new IntCell(r), new StringCell("v" + (r % 10))));
+        }
+        domainCreator.updateDomain(batch);
+        assertThat("Unexpected number of rows passed to updateDomain(DataRow)", seenKeys.size(), is(20000));
+        assertThat("Unexpected upper bound", domainCreator.createSpec().getColumnSpec(0).getDomain().getUpperBound(),
+            is((DataCell)new IntCell(19999)));
+    }
 }
@@ -0,0 +1,164 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.knime.core.data.RowIteratorBuilder.DefaultRowIteratorBuilder;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DefaultRowIterator;
+import org.knime.core.data.def.IntCell;
+
+/**
+ * Tests row ranges in {@link DefaultRowIteratorBuilder} and the default {@link RowIteratorBuilder#fromIndex(long)}.
+ * @author agent
+ */
+public class RowIteratorBuilderTest {
+
+    private static final DataTableSpec SPEC =
+        new DataTableSpec(new DataColumnSpecCreator("int", IntCell.TYPE).createSpec());
+
+    private static List<DataRow> createRows(final int rowCount) {
+        List<DataRow> rows = new ArrayList<>();
+        for (int i = 0; i < rowCount; i++) {
+            rows.add(new DefaultRow(RowKey.createRowKey((long)i), new IntCell(i)));
+        }
+        return rows;
+    }
+
+    private static DefaultRowIteratorBuilder<RowIterator> createSupplierBuilder(final int rowCount) {
+        List<DataRow> rows = createRows(rowCount);
+        return new DefaultRowIteratorBuilder<RowIterator>(() -> new DefaultRowIterator(rows), SPEC);
+    }
+
+    private static DefaultRowIteratorBuilder<RowIterator> createRangeBuilder(final int rowCount) {
+        List<DataRow> rows = createRows(rowCount);
+        return new DefaultRowIteratorBuilder<RowIterator>(
+            (from, to) -> new RangeRowIterator(new DefaultRowIterator(rows), from, to), SPEC);
+    }
+
+    /** A builder implementing only the mandatory methods. */
+    private static RowIteratorBuilder<RowIterator> createMinimalBuilder(final int rowCount) {
+        List<DataRow> rows = createRows(rowCount);
+        return new RowIteratorBuilder<RowIterator>() {
+            @Override
+            public RowIteratorBuilder<RowIterator> filterColumns(final int... indices) {
+                return this;
+            }
+
+            @Override
+            public RowIteratorBuilder<RowIterator> filterColumns(final String... columns) {
+                return this;
+            }
+
+            @Override
+            public RowIterator build() {
+                return new DefaultRowIterator(rows);
+            }
+        };
+    }
+
+    private static void assertRows(final RowIterator it, final int from, final int to) {
+        for (int i = from; i <= to; i++) {
+            assertEquals("Row " + i, i, ((IntCell)it.next().getCell(0)).getIntValue());
+        }
+        assertFalse("Iterator should be at end", it.hasNext());
+    }
+
+    /** Range on a builder created with a range supplier. */
+    @Test
+    public void testRangeOnRangeSupplier() {
+        assertRows(createRangeBuilder(20).fromIndex(5).toIndex(9).build(), 5, 9);
+        assertRows(createRangeBuilder(20).toIndex(3).build(), 0, 3);
+        assertRows(createRangeBuilder(20).fromIndex(15).build(), 15, 19);
+    }
+
+    /** End index beyond the table size. */
+    @Test
+    public void testRangeBeyondEnd() {
+        assertRows(createRangeBuilder(10).fromIndex(8).toIndex(100).build(), 8, 9);
+        assertRows(createRangeBuilder(10).fromIndex(12).toIndex(100).build(), 12, 11);
+    }
+
+    /** A builder created with a plain supplier skips leading rows but rejects an end index. */
+    @Test
+    public void testSupplierBuilder() {
+        assertRows(createSupplierBuilder(20).fromIndex(15).build(), 15, 19);
+        assertRows(createSupplierBuilder(10).fromIndex(12).build(), 12, 11);
+        assertRows(createSupplierBuilder(10).toIndex(Long.MAX_VALUE).build(), 0, 9);
+        try {
+            createSupplierBuilder(20).toIndex(5);
+            fail("End index accepted by supplier based builder");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+    }
+
+    /** The default start index skips rows of the iterators built by the wrapped builder. */
+    @Test
+    public void testDefaultFromIndex() {
+        RowIteratorBuilder<RowIterator> builder = createMinimalBuilder(20);
+        assertSame(builder, builder.fromIndex(0));
+        assertRows(builder.fromIndex(7).filterColumns(0).build(), 7, 19);
+        assertRows(builder.fromIndex(7).fromIndex(18).build(), 18, 19);
+        assertRows(builder.build(), 0, 19);
+        try {
+            builder.toIndex(5);
+            fail("Default end index accepted");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+    }
+}
@@ -173,6 +173,36 @@ public void testSoftRefCache() throws InterruptedException {
         }
     }
 
+    /**
+     * Tests that tables exceeding the byte budget of the LRU cache are evicted, unless the table to be added is used less
+     * frequently than the tables in the cache, in which case it is not admitted.
+     */
+    @Test
+    public void testByteBudget() {
+        final List<Pair<Buffer, List<BlobSupportDataRow>>> tables = generateKTables(4, true);
+        final long weight = BufferCache.estimateSizeInBytes(tables.get(0).getSecond());
+        final BufferCache cache = new BufferCache();
+        cache.setLRUCacheMaxBytes(2 * weight + weight / 2);
+
+        // three tables with the same frequency: the least recently used one is evicted
+        addTablesToCache(tables.subList(0, 3), cache, true);
+        BufferCacheStatistics stats = cache.getStatistics();
+        Assert.assertEquals("Number of evictions", 1, stats.getEvictions());
+        Assert.assertEquals("Number of rejections", 0, stats.getRejections());
+        Assert.assertTrue("Bytes in LRU cache exceed budget",
+            stats.getBytesInLRUCache() <= stats.getMaxBytesInLRUCache());
+
+        // make the tables in the cache hot, the fourth table is then not admitted
+        for (int i = 0; i < 5; i++) {
+            getTablesFromCache(tables.subList(1, 3), cache);
+        }
+        addTablesToCache(tables.subList(3, 4), cache, true);
+        stats = cache.getStatistics();
+        Assert.assertEquals("Number of evictions", 1, stats.getEvictions());
+        Assert.assertEquals("Number of rejections", 1, stats.getRejections());
+        Assert.assertEquals("Hit rate", 1.0, stats.getHitRate(), 0.0);
+    }
+
     private static List<Pair<Buffer, List<BlobSupportDataRow>>> generateKTables(final int k,
         final boolean flushToDisk) {
 
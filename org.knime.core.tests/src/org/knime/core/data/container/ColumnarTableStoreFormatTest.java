@@ -0,0 +1,183 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+
+import java.util.stream.IntStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.UnmaterializedCell;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests writing and reading tables with the {@link ColumnarTableStoreFormat}, including column projection and row
+ * ranges.
+ *
+ * @author agent
+ */
+public final class ColumnarTableStoreFormatTest extends TestCase {
+
+    /** Number of generated rows, spans multiple chunks. */
+    private static final int ROW_COUNT = 2 * ColumnarTableStoreFormat.CHUNK_SIZE + 17;
+
+    private static final DataTableSpec SPEC = new DataTableSpec(
+        new DataColumnSpecCreator("int", IntCell.TYPE).createSpec(),
+        new DataColumnSpecCreator("string", StringCell.TYPE).createSpec(),
+        new DataColumnSpecCreator("long", LongCell.TYPE).createSpec(),
+        new DataColumnSpecCreator("double", DoubleCell.TYPE).createSpec(),
+        new DataColumnSpecCreator("boolean", BooleanCell.TYPE).createSpec(),
+        new DataColumnSpecCreator("mixed", DoubleCell.TYPE).createSpec());
+
+    private static DataRow createRow(final int i) {
+        DataCell missing = DataType.getMissingCell();
+        return new DefaultRow(RowKey.createRowKey((long)i),
+            i % 7 == 0 ? missing : new IntCell(i),
+            i % 11 == 0 ? missing : new StringCell("val" + (i % 13)),
+            new LongCell(Long.MAX_VALUE - i),
+            i % 5 == 0 ? missing : new DoubleCell(i + .5),
+            i % 3 == 0 ? missing : BooleanCell.get(i % 2 == 1),
+            i % 2 == 0 ? new IntCell(i) : new DoubleCell(i / 2.0));
+    }
+
+    private static Buffer writeTable() {
+        return writeTable(new ColumnarTableStoreFormat());
+    }
+
+    private static Buffer writeTable(final TableStoreFormat format) {
+        final DataContainerSettings settings =
+            DataContainerSettings.getDefault().withMaxCellsInMemory(0).withInitializedDomain(false);
+        DataContainer cont = new DataContainer(SPEC, settings.withBufferSettings(
+            DataContainerSettings.getDefault().getBufferSettings().withOutputFormat(format)));
+        IntStream.range(0, ROW_COUNT).mapToObj(ColumnarTableStoreFormatTest::createRow)
+            .forEach(cont::addRowToTable);
+        final Buffer b = cont.getBuffer();
+        cont.close();
+        return b;
+    }
+
+    /** Reads all columns back and compares with the input. */
+    @SuppressWarnings("static-method")
+    @Test
+    public void testWriteRead() {
+        final Buffer b = writeTable();
+        try (CloseableRowIterator it = b.iteratorBuilder().build()) {
+            for (int i = 0; i < ROW_COUNT; i++) {
+                Assert.assertThat("Iterator has rows", it.hasNext(), is(true));
+                DataRow ref = createRow(i);
+                DataRow row = it.next();
+                Assert.assertThat("Row key in row " + i, row.getKey(), equalTo(ref.getKey()));
+                for (int c = 0; c < ref.getNumCells(); c++) {
+                    Assert.assertThat("Cell " + c + " in row " + i, row.getCell(c), equalTo(ref.getCell(c)));
+                    Assert.assertThat("Cell class " + c + " in row " + i, row.getCell(c).getClass(),
+                        equalTo((Object)ref.getCell(c).getClass()));
+                }
+            }
+            Assert.assertThat("Iterator with more than " + ROW_COUNT + " rows", it.hasNext(), is(false));
+        }
+    }
+
+    /** Reads only selected columns, the others are expected to be unmaterialized. */
+    @SuppressWarnings("static-method")
+    @Test
+    public void testFilterColumns() {
+        final Buffer b = writeTable();
+        try (CloseableRowIterator it = b.iteratorBuilder().filterColumns(1, 3).build()) {
+            for (int i = 0; i < ROW_COUNT; i++) {
+                DataRow ref = createRow(i);
+                DataRow row = it.next();
+                Assert.assertThat("Row key in row " + i, row.getKey(), equalTo(ref.getKey()));
+                Assert.assertThat(row.getCell(1), equalTo(ref.getCell(1)));
+                Assert.assertThat(row.getCell(3), equalTo(ref.getCell(3)));
+                Assert.assertThat(row.getCell(0), instanceOf(UnmaterializedCell.class));
+                Assert.assertThat(row.getCell(5), instanceOf(UnmaterializedCell.class));
+            }
+            Assert.assertThat(it.hasNext(), is(false));
+        }
+    }
+
+    /** Reads a row range spanning a chunk border, also from a table in the default format (using its row index). */
+    @SuppressWarnings("static-method")
+    @Test
+    public void testRowRange() {
+        final int from = ColumnarTableStoreFormat.CHUNK_SIZE + 5;
+        final int to = ROW_COUNT - 3;
+        for (Buffer b : new Buffer[]{writeTable(), writeTable(new DefaultTableStoreFormat())}) {
+            try (CloseableRowIterator it = b.iteratorBuilder().fromIndex(from).toIndex(to).build()) {
+                for (int i = from; i <= to; i++) {
+                    Assert.assertThat("Iterator has rows", it.hasNext(), is(true));
+                    DataRow ref = createRow(i);
+                    DataRow row = it.next();
+                    Assert.assertThat("Row key in row " + i, row.getKey(), equalTo(ref.getKey()));
+                    Assert.assertThat("Cell in row " + i, row.getCell(5), equalTo(ref.getCell(5)));
+                }
+                Assert.assertThat("Iterator with more than " + (to - from + 1) + " rows", it.hasNext(), is(false));
+            }
+            try (CloseableRowIterator it = b.iteratorBuilder().fromIndex(ROW_COUNT).build()) {
+                Assert.assertThat("Iterator past the last row", it.hasNext(), is(false));
+            }
+        }
+    }
+
+}
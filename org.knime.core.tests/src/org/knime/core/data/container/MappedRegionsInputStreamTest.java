@@ -0,0 +1,205 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Files;
+import java.util.Random;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.knime.core.data.container.DefaultTableStoreReader.MappedRegionsInputStream;
+
+/**
+ * Tests the {@link MappedRegionsInputStream} used when reading tables via a memory mapping, with regions much smaller
+ * than in production so that the region boundaries are actually hit.
+ *
+ * @author agent
+ */
+public final class MappedRegionsInputStreamTest {
+
+    private static final int REGION_SIZE = 1000;
+
+    private File m_file;
+
+    private byte[] m_content;
+
+    /** Writes a file spanning multiple regions, the last one only partially filled. */
+    @Before
+    public void setUp() throws IOException {
+        m_content = new byte[10 * REGION_SIZE + 500];
+        new Random(42).nextBytes(m_content);
+        m_file = File.createTempFile("mapped-regions", ".bin");
+        Files.write(m_file.toPath(), m_content);
+    }
+
+    /** Deletes the temp file. */
+    @After
+    public void tearDown() {
+        m_file.delete();
+    }
+
+    private InputStream openStream() throws IOException {
+        return new MappedRegionsInputStream(DefaultTableStoreReader.mapRegions(m_file, REGION_SIZE));
+    }
+
+    /** Files larger than the region size are mapped in multiple regions, the last one holding the remainder. */
+    @Test
+    public void testFileLargerThanOneRegion() throws IOException {
+        MappedByteBuffer[] regions = DefaultTableStoreReader.mapRegions(m_file, REGION_SIZE);
+        Assert.assertThat("Number of regions", regions.length, equalTo(11));
+        Assert.assertThat("Size of first region", regions[0].remaining(), equalTo(REGION_SIZE));
+        Assert.assertThat("Size of last region", regions[10].remaining(), equalTo(500));
+        try (InputStream in = new MappedRegionsInputStream(regions)) {
+            Assert.assertThat("Content read", IOUtils.toByteArray(in), equalTo(m_content));
+        }
+        Assert.assertThat("Shared region position", regions[0].position(), equalTo(0));
+    }
+
+    /** Bulk reads with a length not aligned to the regions return the complete content. */
+    @Test
+    public void testReadsSpanningRegionBoundaries() throws IOException {
+        byte[] read = new byte[m_content.length];
+        try (InputStream in = openStream()) {
+            int off = 0;
+            while (off < read.length) {
+                int count = in.read(read, off, Math.min(333, read.length - off));
+                Assert.assertTrue("Bytes read at offset " + off, count > 0);
+                off += count;
+            }
+            Assert.assertThat("Read at end of file", in.read(read, 0, 1), equalTo(-1));
+        }
+        Assert.assertThat("Content read", read, equalTo(m_content));
+    }
+
+    /** Single byte reads continue with the next region at the end of a region. */
+    @Test
+    public void testSingleByteReadAtEndOfRegion() throws IOException {
+        try (InputStream in = openStream()) {
+            for (int i = 0; i < m_content.length; i++) {
+                Assert.assertThat("Byte at " + i, in.read(), equalTo(m_content[i] & 0xFF));
+            }
+            Assert.assertThat("Read at end of file", in.read(), equalTo(-1));
+            Assert.assertThat("Available at end of file", in.available(), equalTo(0));
+        }
+    }
+
+    /** A bulk read at the end of a region returns the rest of the region, the next read the next region. */
+    @Test
+    public void testBulkReadAtEndOfRegion() throws IOException {
+        try (InputStream in = openStream()) {
+            Assert.assertThat("Skipped", in.skip(REGION_SIZE - 2), equalTo((long)REGION_SIZE - 2));
+            byte[] read = new byte[10];
+            Assert.assertThat("Bytes read at end of region", in.read(read, 0, 10), equalTo(2));
+            Assert.assertThat("Bytes read in next region", in.read(read, 2, 8), equalTo(8));
+            byte[] expected = new byte[10];
+            System.arraycopy(m_content, REGION_SIZE - 2, expected, 0, 10);
+            Assert.assertThat("Content read", read, equalTo(expected));
+            Assert.assertThat("Zero length read", in.read(read, 0, 0), equalTo(0));
+        }
+    }
+
+    /** Skipping crosses region boundaries and stops at the end of the file. */
+    @Test
+    public void testSkip() throws IOException {
+        try (InputStream in = openStream()) {
+            long pos = 3 * REGION_SIZE + 17;
+            Assert.assertThat("Skipped", in.skip(pos), equalTo(pos));
+            Assert.assertThat("Byte after skip", in.read(), equalTo(m_content[(int)pos] & 0xFF));
+            pos++;
+            Assert.assertThat("Skipped to region end", in.skip(REGION_SIZE - 18), equalTo((long)REGION_SIZE - 18));
+            pos += REGION_SIZE - 18;
+            Assert.assertThat("Byte at region start", in.read(), equalTo(m_content[(int)pos] & 0xFF));
+            pos++;
+            Assert.assertThat("Skipped past end", in.skip(m_content.length), equalTo(m_content.length - pos));
+            Assert.assertThat("Read at end of file", in.read(), equalTo(-1));
+            Assert.assertThat("Skipped at end of file", in.skip(1), equalTo(0L));
+        }
+    }
+
+    /** An empty file is mapped as a single empty region. */
+    @Test
+    public void testEmptyFile() throws IOException {
+        Files.write(m_file.toPath(), new byte[0]);
+        MappedByteBuffer[] regions = DefaultTableStoreReader.mapRegions(m_file, REGION_SIZE);
+        Assert.assertThat("Number of regions", regions.length, equalTo(1));
+        try (InputStream in = new MappedRegionsInputStream(regions)) {
+            Assert.assertThat("Read on empty file", in.read(), equalTo(-1));
+        }
+    }
+
+    /** Streams on the same regions read independently and a closed stream can't be read anymore. */
+    @Test
+    public void testIndependentStreams() throws IOException {
+        ByteBuffer[] regions = DefaultTableStoreReader.mapRegions(m_file, REGION_SIZE);
+        InputStream in1 = new MappedRegionsInputStream(regions);
+        InputStream in2 = new MappedRegionsInputStream(regions);
+        in1.skip(REGION_SIZE + 1);
+        Assert.assertThat("First byte of second stream", in2.read(), equalTo(m_content[0] & 0xFF));
+        Assert.assertThat("Byte of first stream", in1.read(), equalTo(m_content[REGION_SIZE + 1] & 0xFF));
+        in1.close();
+        in2.close();
+        try {
+            in1.read();
+            Assert.fail("Read on closed stream");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests that the output of the {@link ParallelGZIPOutputStream} is read by a plain {@link GZIPInputStream}.
+ *
+ * @author agent
+ */
+public final class ParallelGZIPOutputStreamTest extends TestCase {
+
+    private static byte[] compressAndDecompress(final byte[] content) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (ParallelGZIPOutputStream out = new ParallelGZIPOutputStream(compressed)) {
+            // mix single byte and array writes
+            out.write(content, 0, Math.min(content.length, 7));
+            for (int i = 7; i < Math.min(content.length, 100); i++) {
+                out.write(content[i]);
+            }
+            if (content.length > 100) {
+                out.write(content, 100, content.length - 100);
+            }
+            out.flush();
+        }
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))) {
+            return IOUtils.toByteArray(in);
+        }
+    }
+
+    /** Content spanning multiple blocks (and thus multiple GZIP members). */
+    @SuppressWarnings("static-method")
+    @Test
+    public void testMultipleBlocks() throws IOException {
+        byte[] content = new byte[5 * ParallelGZIPOutputStream.BLOCK_SIZE + 4711];
+        Random random = new Random(42);
+        for (int i = 0; i < content.length; i++) {
+            // somewhat compressible
+            content[i] = (byte)random.nextInt(16);
+        }
+        Assert.assertThat("Decompressed content", compressAndDecompress(content), equalTo(content));
+    }
+
+    /** An empty stream still needs to be a valid GZIP stream. */
+    @SuppressWarnings("static-method")
+    @Test
+    public void testEmpty() throws IOException {
+        Assert.assertThat("Decompressed content", compressAndDecompress(new byte[0]), equalTo(new byte[0]));
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests {@link PrimitiveColumnRowList}.
+ *
+ * @author agent
+ */
+public final class PrimitiveColumnRowListTest extends TestCase {
+
+    /** Mixed primitive, missing and object cells are returned as they were added. */
+    @SuppressWarnings("static-method")
+    @Test
+    public void testRoundTrip() {
+        List<BlobSupportDataRow> rows = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            DataCell missing = DataType.getMissingCell();
+            rows.add(new BlobSupportDataRow(RowKey.createRowKey((long)i), new DataCell[]{
+                i % 7 == 0 ? missing : new DoubleCell(i / 3.0), new IntCell(i), new LongCell(-i),
+                BooleanCell.get(i % 2 == 0), i % 5 == 0 ? missing : new StringCell("s" + i)}));
+        }
+        List<BlobSupportDataRow> compact = PrimitiveColumnRowList.compact(rows);
+        Assert.assertThat("Compacted list", compact, instanceOf(PrimitiveColumnRowList.class));
+        Assert.assertThat("Number of rows", compact.size(), equalTo(rows.size()));
+        for (int i = 0; i < rows.size(); i++) {
+            BlobSupportDataRow row = compact.get(i);
+            Assert.assertThat("Key of row " + i, row.getKey(), equalTo(rows.get(i).getKey()));
+            for (int c = 0; c < row.getNumCells(); c++) {
+                Assert.assertThat("Cell " + c + " of row " + i, row.getCell(c), equalTo(rows.get(i).getCell(c)));
+            }
+        }
+    }
+
+    /** Lists without any primitive column are not converted. */
+    @SuppressWarnings("static-method")
+    @Test
+    public void testNoPrimitiveColumns() {
+        List<BlobSupportDataRow> rows = new ArrayList<>();
+        rows.add(new BlobSupportDataRow(RowKey.createRowKey(0L), new DataCell[]{new StringCell("a")}));
+        rows.add(new BlobSupportDataRow(RowKey.createRowKey(1L), new DataCell[]{new StringCell("b")}));
+        Assert.assertThat("Unconverted list", PrimitiveColumnRowList.compact(rows), sameInstance(rows));
+        List<BlobSupportDataRow> mixed = new ArrayList<>();
+        mixed.add(new BlobSupportDataRow(RowKey.createRowKey(0L), new DataCell[]{new IntCell(1)}));
+        mixed.add(new BlobSupportDataRow(RowKey.createRowKey(1L), new DataCell[]{new LongCell(1)}));
+        Assert.assertThat("Mixed cell types", PrimitiveColumnRowList.compact(mixed),
+            not(instanceOf(PrimitiveColumnRowList.class)));
+    }
+
+}
@@ -0,0 +1,214 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.data.sort;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.sort.AbstractTableSorter.RowComparator;
+
+/**
+ * Tests that {@link NormalizedKeys} orders rows exactly like the comparator used by the table sorter.
+ * @author agent
+ */
+public class NormalizedKeysTest {
+
+    private static final int INT_COL = 0;
+
+    private static final int LONG_COL = 1;
+
+    private static final int DOUBLE_COL = 2;
+
+    private static final int STRING_COL = 3;
+
+    private static final DataTableSpec SPEC = new DataTableSpec(
+        new DataColumnSpecCreator("int", IntCell.TYPE).createSpec(),
+        new DataColumnSpecCreator("long", LongCell.TYPE).createSpec(),
+        new DataColumnSpecCreator("double", DoubleCell.TYPE).createSpec(),
+        new DataColumnSpecCreator("string", StringCell.TYPE).createSpec());
+
+    private static final DataCell MISSING = DataType.getMissingCell();
+
+    private static final DataCell[] INTS = {new IntCell(Integer.MIN_VALUE), new IntCell(-1), new IntCell(0),
+        new IntCell(1), new IntCell(Integer.MAX_VALUE), MISSING};
+
+    private static final DataCell[] LONGS = {new LongCell(Long.MIN_VALUE), new LongCell(-1L), new LongCell(0L),
+        new LongCell(1L), new LongCell(Integer.MAX_VALUE + 1L), new LongCell(Long.MAX_VALUE), MISSING};
+
+    private static final DataCell[] DOUBLES = {new DoubleCell(Double.NaN), new DoubleCell(-0.0),
+        new DoubleCell(0.0), new DoubleCell(Double.NEGATIVE_INFINITY), new DoubleCell(Double.POSITIVE_INFINITY),
+        new DoubleCell(-Double.MAX_VALUE), new DoubleCell(Double.MAX_VALUE), new DoubleCell(Double.MIN_VALUE),
+        new DoubleCell(-Double.MIN_VALUE), new DoubleCell(1.5), new DoubleCell(-1.5), MISSING};
+
+    private static final String[] STRING_VALUES = {"", "\0", "\0\0", "a", "a\0", "a\0b", "a\u0001", "ab", "abc",
+        "ab\0", "b", "\u00e4", "\uffff", "\uffff\0"};
+
+    private static DataCell[] strings() {
+        DataCell[] result = new DataCell[STRING_VALUES.length + 1];
+        for (int i = 0; i < STRING_VALUES.length; i++) {
+            result[i] = new StringCell(STRING_VALUES[i]);
+        }
+        result[STRING_VALUES.length] = MISSING;
+        return result;
+    }
+
+    /** Creates rows that differ in the given column only, other columns are missing. */
+    private static List<DataRow> createRows(final int column, final DataCell[] values) {
+        List<DataRow> rows = new ArrayList<>();
+        for (int i = 0; i < values.length; i++) {
+            DataCell[] cells = {MISSING, MISSING, MISSING, MISSING};
+            cells[column] = values[i];
+            rows.add(new DefaultRow(RowKey.createRowKey((long)i), cells));
+        }
+        return rows;
+    }
+
+    /** Asserts that keys and comparator agree on all pairs of rows for all sort order and missing options. */
+    private static void assertSameOrder(final List<DataRow> rows, final int... indices) {
+        for (boolean ascending : new boolean[]{true, false}) {
+            for (boolean missingsToEnd : new boolean[]{true, false}) {
+                boolean[] sortAscending = new boolean[indices.length];
+                for (int i = 0; i < indices.length; i++) {
+                    // alternate the order of subsequent columns
+                    sortAscending[i] = ascending == (i % 2 == 0);
+                }
+                NormalizedKeys keys = NormalizedKeys.create(indices, sortAscending, missingsToEnd, SPEC);
+                assertNotNull("Columns should support normalized keys", keys);
+                RowComparator comparator = new RowComparator(indices, sortAscending, missingsToEnd, SPEC);
+                for (DataRow r1 : rows) {
+                    for (DataRow r2 : rows) {
+                        int expected = Integer.signum(comparator.compare(r1, r2));
+                        int actual = Integer.signum(NormalizedKeys.compare(keys.encode(r1), keys.encode(r2)));
+                        assertEquals(String.format("Comparing %s and %s (ascending: %b, missings to end: %b)", r1,
+                            r2, ascending, missingsToEnd), expected, actual);
+                    }
+                }
+            }
+        }
+    }
+
+    /** Int column including extreme values and missing cells. */
+    @Test
+    public void testInt() {
+        assertSameOrder(createRows(INT_COL, INTS), INT_COL);
+    }
+
+    /** Long column including {@link Long#MIN_VALUE} and {@link Long#MAX_VALUE}. */
+    @Test
+    public void testLong() {
+        assertSameOrder(createRows(LONG_COL, LONGS), LONG_COL);
+    }
+
+    /** Double column including NaN, -0.0/+0.0 and infinity. */
+    @Test
+    public void testDouble() {
+        assertSameOrder(createRows(DOUBLE_COL, DOUBLES), DOUBLE_COL);
+    }
+
+    /** String column including embedded zero chars and common prefixes. */
+    @Test
+    public void testString() {
+        assertSameOrder(createRows(STRING_COL, strings()), STRING_COL);
+    }
+
+    /** Sorting by row key (index -1). */
+    @Test
+    public void testRowKey() {
+        List<DataRow> rows = new ArrayList<>();
+        for (String key : STRING_VALUES) {
+            rows.add(new DefaultRow(new RowKey(key), MISSING, MISSING, MISSING, MISSING));
+        }
+        assertSameOrder(rows, -1);
+    }
+
+    /** Multiple columns (with ties in the first columns), followed by the row key. */
+    @Test
+    public void testMultipleColumns() {
+        DataCell[] strings = strings();
+        List<DataRow> rows = new ArrayList<>();
+        int index = 0;
+        for (int i = 0; i < 3; i++) {
+            for (int d = 0; d < DOUBLES.length; d += 3) {
+                for (int s = 0; s < strings.length; s += 2) {
+                    rows.add(new DefaultRow(RowKey.createRowKey((long)(index++ % 7)), INTS[i * 2],
+                        LONGS[i], DOUBLES[d], strings[s]));
+                }
+            }
+        }
+        assertSameOrder(rows, INT_COL, STRING_COL, DOUBLE_COL, -1);
+        assertSameOrder(rows, STRING_COL, LONG_COL);
+    }
+
+    /** Sorting the rows with the keys gives the same (stable) result as sorting with the comparator. */
+    @Test
+    public void testSort() {
+        List<DataRow> rows = createRows(DOUBLE_COL, DOUBLES);
+        rows.addAll(createRows(DOUBLE_COL, DOUBLES));
+        int[] indices = {DOUBLE_COL};
+        boolean[] ascending = {false};
+        List<DataRow> expected = new ArrayList<>(rows);
+        expected.sort(new RowComparator(indices, ascending, true, SPEC));
+        NormalizedKeys.create(indices, ascending, true, SPEC).sort(rows);
+        assertEquals("Sorted rows", expected, rows);
+    }
+}
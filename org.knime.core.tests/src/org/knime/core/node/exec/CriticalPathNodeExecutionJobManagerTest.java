@@ -0,0 +1,220 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.node.exec;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.workflow.NodeContainer;
+import org.knime.core.node.workflow.NodeContext;
+import org.knime.core.node.workflow.NodeID;
+import org.knime.core.node.workflow.WorkflowContext;
+import org.knime.core.node.workflow.WorkflowCreationHelper;
+import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.core.node.workflow.node.adapter.AdapterNodeFactory;
+import org.knime.core.node.workflow.node.adapter.AdapterNodeModel;
+import org.knime.core.util.FileUtil;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Tests {@link CriticalPathNodeExecutionJobManager} with a single thread pool: of the jobs waiting for the thread the
+ * one with the longest remaining path runs first, and a waiting job can be canceled.
+ *
+ * @author agent
+ */
+public class CriticalPathNodeExecutionJobManagerTest {
+
+    /** IDs of the recording nodes in the order they were executed. */
+    private static final List<NodeID> EXECUTED = Collections.synchronizedList(new ArrayList<NodeID>());
+
+    private static CountDownLatch blockerStarted;
+
+    private static CountDownLatch releaseBlocker;
+
+    private File m_workflowDirectory;
+
+    private WorkflowManager m_wfm;
+
+    private ThreadPool m_pool;
+
+    private CriticalPathNodeExecutionJobManager m_jobManager;
+
+    /** Factory of nodes that record their execution in {@link #EXECUTED}. */
+    public static final class RecordingNodeFactory extends AdapterNodeFactory {
+        private final boolean m_isSource;
+
+        /** @param isSource whether to create a source node (no input) */
+        public RecordingNodeFactory(final boolean isSource) {
+            m_isSource = isSource;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public AdapterNodeModel createNodeModel() {
+            return new AdapterNodeModel(m_isSource ? 0 : 1, 1) {
+                @Override
+                protected PortObject[] execute(final PortObject[] inObjects, final ExecutionContext exec)
+                    throws Exception {
+                    EXECUTED.add(NodeContext.getContext().getNodeContainer().getID());
+                    // non-zero duration, so that recorded timings never make all paths equally long
+                    Thread.sleep(20);
+                    return super.execute(inObjects, exec);
+                }
+            };
+        }
+    }
+
+    /** Factory of a source node that occupies its thread until {@link #releaseBlocker} is released. */
+    public static final class BlockingNodeFactory extends AdapterNodeFactory {
+        /** {@inheritDoc} */
+        @Override
+        public AdapterNodeModel createNodeModel() {
+            return new AdapterNodeModel(0, 1) {
+                @Override
+                protected PortObject[] execute(final PortObject[] inObjects, final ExecutionContext exec)
+                    throws Exception {
+                    blockerStarted.countDown();
+                    assertTrue("Blocker not released", releaseBlocker.await(30, TimeUnit.SECONDS));
+                    return super.execute(inObjects, exec);
+                }
+            };
+        }
+    }
+
+    /** Creates an empty project and a job manager with one thread. */
+    @Before
+    public void setUp() throws Exception {
+        EXECUTED.clear();
+        blockerStarted = new CountDownLatch(1);
+        releaseBlocker = new CountDownLatch(1);
+        m_workflowDirectory = FileUtil.createTempDir(getClass().getSimpleName());
+        WorkflowCreationHelper creationHelper = new WorkflowCreationHelper();
+        creationHelper.setWorkflowContext(new WorkflowContext.Factory(m_workflowDirectory).createContext());
+        m_wfm = WorkflowManager.ROOT.createAndAddProject(getClass().getSimpleName(), creationHelper);
+        m_pool = new ThreadPool(1);
+        m_jobManager = new CriticalPathNodeExecutionJobManager(m_pool);
+    }
+
+    /** Releases the blocker and removes the project. */
+    @After
+    public void tearDown() throws Exception {
+        releaseBlocker.countDown();
+        m_wfm.getParent().cancelExecution(m_wfm);
+        m_wfm.waitWhileInExecution(30, TimeUnit.SECONDS);
+        WorkflowManager.ROOT.removeNode(m_wfm.getID());
+        m_pool.shutdown();
+        FileUtil.deleteRecursively(m_workflowDirectory);
+    }
+
+    /** The head of a chain of three nodes runs before a single node that was queued earlier. */
+    @Test
+    public void testLongestPathFirst() throws Exception {
+        NodeID blocker = addNode(new BlockingNodeFactory());
+        NodeID shortPath = addNode(new RecordingNodeFactory(true));
+        NodeID longPathHead = addNode(new RecordingNodeFactory(true));
+        NodeID longPathMiddle = addNode(new RecordingNodeFactory(false));
+        NodeID longPathTail = addNode(new RecordingNodeFactory(false));
+        m_wfm.addConnection(longPathHead, 1, longPathMiddle, 1);
+        m_wfm.addConnection(longPathMiddle, 1, longPathTail, 1);
+
+        m_wfm.executeUpToHere(blocker);
+        assertTrue("Blocker not started", blockerStarted.await(30, TimeUnit.SECONDS));
+        m_wfm.executeUpToHere(shortPath);
+        m_wfm.executeUpToHere(longPathTail);
+        releaseBlocker.countDown();
+        assertTrue("Workflow not executed in time", m_wfm.waitWhileInExecution(30, TimeUnit.SECONDS));
+
+        assertEquals("Number of executed nodes", 4, EXECUTED.size());
+        assertEquals("First executed node", longPathHead, EXECUTED.get(0));
+        assertTrue("Long path executed before short path",
+            EXECUTED.indexOf(longPathMiddle) < EXECUTED.indexOf(shortPath));
+        assertTrue(m_wfm.getNodeContainerState().isExecuted());
+    }
+
+    /** A job waiting in the manager's queue is canceled without being run. */
+    @Test
+    public void testCancelPendingJob() throws Exception {
+        NodeID blocker = addNode(new BlockingNodeFactory());
+        NodeID pending = addNode(new RecordingNodeFactory(true));
+
+        m_wfm.executeUpToHere(blocker);
+        assertTrue("Blocker not started", blockerStarted.await(30, TimeUnit.SECONDS));
+        m_wfm.executeUpToHere(pending);
+        NodeContainer pendingNC = m_wfm.getNodeContainer(pending);
+        assertTrue("Node not queued", pendingNC.getNodeContainerState().isWaitingToBeExecuted());
+
+        m_wfm.cancelExecution(pendingNC);
+        assertTrue("Canceled node not configured", pendingNC.getNodeContainerState().isConfigured());
+        releaseBlocker.countDown();
+        assertTrue("Workflow not finished in time", m_wfm.waitWhileInExecution(30, TimeUnit.SECONDS));
+
+        assertTrue("Blocker not executed", m_wfm.getNodeContainer(blocker).getNodeContainerState().isExecuted());
+        assertFalse("Canceled node executed", EXECUTED.contains(pending));
+        assertTrue("Canceled node not configured", pendingNC.getNodeContainerState().isConfigured());
+    }
+
+    private NodeID addNode(final AdapterNodeFactory factory) {
+        NodeID id = m_wfm.addNode(factory);
+        m_wfm.setJobManager(id, m_jobManager);
+        return id;
+    }
+
+}
@@ -0,0 +1,189 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.node.exec;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+import org.knime.core.node.exec.MemoryAdmissionController.Ticket;
+
+/**
+ * Tests budget, queueing and footprint learning of {@link MemoryAdmissionController} with simulated memory values.
+ *
+ * @author agent
+ */
+public class MemoryAdmissionControllerTest {
+
+    private static final long MB = 1L << 20;
+
+    private static final String TYPE = "test.NodeFactory";
+
+    private final AtomicLong m_usedMemory = new AtomicLong();
+
+    /** Admitted tickets in the order their callback was called. */
+    private final BlockingQueue<Ticket> m_admitted = new LinkedBlockingQueue<>();
+
+    private MemoryAdmissionController createController(final long budget, final long maxWaitMS) {
+        return new MemoryAdmissionController(() -> budget, () -> 0L, m_usedMemory::get, maxWaitMS);
+    }
+
+    private Ticket submit(final MemoryAdmissionController controller) {
+        return controller.submit("Test Node", TYPE, m_admitted::add);
+    }
+
+    /** Submits a job that is expected to be admitted immediately. */
+    private Ticket submitAdmitted(final MemoryAdmissionController controller) {
+        Ticket ticket = submit(controller);
+        assertSame("Job not admitted immediately", ticket, m_admitted.poll());
+        return ticket;
+    }
+
+    /** Footprint starts at the default and follows the observed memory increase of successful executions only. */
+    @Test
+    public void testFootprintLearning() throws Exception {
+        MemoryAdmissionController controller = createController(1024 * MB, 60000);
+        assertEquals(MemoryAdmissionController.DEFAULT_FOOTPRINT, controller.getExpectedFootprint(TYPE));
+
+        m_usedMemory.set(100 * MB);
+        Ticket ticket = submitAdmitted(controller);
+        controller.started(ticket);
+        m_usedMemory.set(110 * MB);
+        controller.release(ticket, true);
+        assertEquals("First observation", 10 * MB, controller.getExpectedFootprint(TYPE));
+
+        ticket = submitAdmitted(controller);
+        controller.started(ticket);
+        m_usedMemory.set(140 * MB);
+        controller.release(ticket, true);
+        assertEquals("Weighted average", 20 * MB, controller.getExpectedFootprint(TYPE));
+
+        ticket = submitAdmitted(controller);
+        controller.started(ticket);
+        m_usedMemory.set(500 * MB);
+        controller.release(ticket, false);
+        assertEquals("Failed executions are not learned", 20 * MB, controller.getExpectedFootprint(TYPE));
+
+        ticket = submitAdmitted(controller);
+        m_usedMemory.set(900 * MB);
+        controller.release(ticket, true);
+        assertEquals("Jobs that never started are not learned", 20 * MB, controller.getExpectedFootprint(TYPE));
+        assertEquals("Other types keep the default", MemoryAdmissionController.DEFAULT_FOOTPRINT,
+            controller.getExpectedFootprint("other.NodeFactory"));
+    }
+
+    /** Jobs beyond the budget are queued and admitted in submission order when running jobs release. */
+    @Test(timeout = 10000)
+    public void testBudget() throws Exception {
+        // room for two default footprints
+        MemoryAdmissionController controller =
+            createController(2 * MemoryAdmissionController.DEFAULT_FOOTPRINT, 60000);
+        Ticket first = submitAdmitted(controller);
+        Ticket second = submitAdmitted(controller);
+        Ticket third = submit(controller);
+        Ticket fourth = submit(controller);
+        assertNull("Job admitted although the budget is exhausted", m_admitted.poll(300, TimeUnit.MILLISECONDS));
+
+        controller.release(first, false);
+        assertSame("Head of the queue not admitted after release", third, m_admitted.poll());
+        assertNull("Only one job fits", m_admitted.poll());
+        controller.release(second, false);
+        assertSame(fourth, m_admitted.poll());
+        controller.release(third, false);
+        controller.release(fourth, false);
+        submitAdmitted(controller);
+    }
+
+    /** One job is always admitted, even if its footprint exceeds the budget. */
+    @Test
+    public void testFirstJobAlwaysAdmitted() throws Exception {
+        MemoryAdmissionController controller = createController(0L, 60000);
+        Ticket ticket = submitAdmitted(controller);
+        controller.release(ticket, false);
+    }
+
+    /** Queued jobs are admitted after the maximum wait time regardless of the budget, but one at a time. */
+    @Test(timeout = 10000)
+    public void testAdmittedAfterMaxWait() throws Exception {
+        MemoryAdmissionController controller = createController(0L, 1000);
+        submitAdmitted(controller);
+        Ticket second = submit(controller);
+        Ticket third = submit(controller);
+        long start = System.currentTimeMillis();
+        assertSame("Head of the queue not admitted after max wait", second, m_admitted.poll(5, TimeUnit.SECONDS));
+        assertTrue("Admitted too early", System.currentTimeMillis() - start >= 900);
+        assertNull("Queued jobs admitted all at once", m_admitted.poll(300, TimeUnit.MILLISECONDS));
+        assertSame("Next job not admitted after another max wait", third, m_admitted.poll(5, TimeUnit.SECONDS));
+    }
+
+    /** A canceled job is removed from the queue and never admitted. */
+    @Test(timeout = 10000)
+    public void testCancelQueued() throws Exception {
+        MemoryAdmissionController controller = createController(0L, 60000);
+        Ticket first = submitAdmitted(controller);
+        Ticket second = submit(controller);
+        Ticket third = submit(controller);
+        assertTrue("Queued job not canceled", controller.cancel(second));
+        assertFalse("Job canceled twice", controller.cancel(second));
+
+        controller.release(first, false);
+        assertSame("Job behind the canceled one not admitted", third, m_admitted.poll());
+        assertNull(m_admitted.poll());
+        assertFalse("Admitted job can't be canceled", controller.cancel(third));
+        controller.release(third, false);
+    }
+
+}
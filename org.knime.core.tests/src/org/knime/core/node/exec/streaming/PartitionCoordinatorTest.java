@@ -0,0 +1,162 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.node.exec.streaming;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.node.streamable.RowOutput;
+
+/**
+ * Tests that the {@link PartitionCoordinator} retains the input order when partitions process batches at different
+ * speeds.
+ *
+ * @author agent
+ */
+public final class PartitionCoordinatorTest {
+
+    private static final int ROW_COUNT = 2000;
+
+    private static final int BATCH_SIZE = 7;
+
+    /** Collects rows in a list. */
+    private static final class ListRowOutput extends RowOutput {
+        private final List<String> m_keys = new ArrayList<>();
+
+        @Override
+        public synchronized void push(final DataRow row) {
+            m_keys.add(row.getKey().getString());
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /** Rows from a streamed queue, partitions with random delays, each row is emitted twice. */
+    @SuppressWarnings("static-method")
+    @Test(timeout = 30000L)
+    public void testOrderRetained() throws Exception {
+        RowBatchQueue queue = new RowBatchQueue(2);
+        ListRowOutput output = new ListRowOutput();
+        final int partitionCount = 4;
+        PartitionCoordinator coordinator = new PartitionCoordinator(queue, new RowOutput[]{output}, partitionCount);
+        List<PartitionCoordinator.Partition> partitions = new ArrayList<>();
+        for (int p = 0; p < partitionCount; p++) {
+            partitions.add(coordinator.createPartition());
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(partitionCount + 1);
+        try {
+            Future<?> producer = executor.submit(() -> {
+                DataRow[] batch = new DataRow[BATCH_SIZE];
+                int size = 0;
+                for (int i = 0; i < ROW_COUNT; i++) {
+                    batch[size++] = new DefaultRow(RowKey.createRowKey(i), new IntCell(i));
+                    if (size == BATCH_SIZE) {
+                        queue.put(batch);
+                        batch = new DataRow[BATCH_SIZE];
+                        size = 0;
+                    }
+                }
+                if (size > 0) {
+                    DataRow[] last = new DataRow[size];
+                    System.arraycopy(batch, 0, last, 0, size);
+                    queue.put(last);
+                }
+                queue.putEnd();
+                return null;
+            });
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < partitionCount; p++) {
+                PartitionCoordinator.Partition partition = partitions.get(p);
+                Random random = new Random(p);
+                futures.add(executor.submit(() -> {
+                    RowOutput out = partition.createOutput(0);
+                    StreamingRowInput in = new StreamingRowInput(null, partition);
+                    DataRow row;
+                    while ((row = in.poll()) != null) {
+                        if (random.nextInt(20) == 0) {
+                            Thread.sleep(1);
+                        }
+                        out.push(row);
+                        out.push(row);
+                    }
+                    partition.completeBatch();
+                    in.close();
+                    return null;
+                }));
+            }
+            producer.get();
+            for (Future<?> f : futures) {
+                f.get();
+            }
+            coordinator.finish();
+        } finally {
+            executor.shutdownNow();
+        }
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            expected.add(RowKey.createRowKey(i).getString());
+            expected.add(RowKey.createRowKey(i).getString());
+        }
+        Assert.assertThat("Output rows", output.m_keys, equalTo(expected));
+    }
+
+}
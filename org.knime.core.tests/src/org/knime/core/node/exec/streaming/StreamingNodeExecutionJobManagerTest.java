@@ -0,0 +1,372 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.node.exec.streaming;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.ColumnRearranger;
+import org.knime.core.data.container.SingleCellFactory;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.NodeDialogPane;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.NodeView;
+import org.knime.core.node.exec.ThreadNodeExecutionJobManagerFactory;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.streamable.simple.SimpleStreamableFunctionNodeModel;
+import org.knime.core.node.workflow.NativeNodeContainer;
+import org.knime.core.node.workflow.NodeContainer;
+import org.knime.core.node.workflow.NodeID;
+import org.knime.core.node.workflow.NodeMessage;
+import org.knime.core.node.workflow.SubNodeContainer;
+import org.knime.core.node.workflow.WorkflowAnnotation;
+import org.knime.core.node.workflow.WorkflowContext;
+import org.knime.core.node.workflow.WorkflowCreationHelper;
+import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.core.node.workflow.node.adapter.AdapterNodeFactory;
+import org.knime.core.node.workflow.node.adapter.AdapterNodeModel;
+import org.knime.core.util.FileUtil;
+
+/**
+ * Executes a component of two streamable (and distributable) nodes with the {@link StreamingNodeExecutionJobManager}
+ * and compares the output with the one of the default job manager. Also tests that a node whose output was only
+ * streamed is flagged and reset once another node is connected to it, and that canceling doesn't block.
+ *
+ * @author agent
+ */
+public class StreamingNodeExecutionJobManagerTest {
+
+    private static final int ROW_COUNT = 1000;
+
+    private File m_workflowDirectory;
+
+    private WorkflowManager m_wfm;
+
+    private NodeID m_component;
+
+    private NodeID m_consumer;
+
+    /** Factory of a source node with {@link #ROW_COUNT} rows and a single int column "value". */
+    public static final class SourceNodeFactory extends AdapterNodeFactory {
+        private static final DataTableSpec SPEC =
+            new DataTableSpec(new DataColumnSpecCreator("value", IntCell.TYPE).createSpec());
+
+        /** {@inheritDoc} */
+        @Override
+        public AdapterNodeModel createNodeModel() {
+            return new AdapterNodeModel(0, 1) {
+                @Override
+                protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) {
+                    return new DataTableSpec[]{SPEC};
+                }
+
+                @Override
+                protected PortObject[] execute(final PortObject[] inObjects, final ExecutionContext exec)
+                    throws Exception {
+                    BufferedDataContainer c = exec.createDataContainer(SPEC);
+                    for (int i = 0; i < ROW_COUNT; i++) {
+                        c.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i), new IntCell(i)));
+                    }
+                    c.close();
+                    return new BufferedDataTable[]{c.getTable()};
+                }
+            };
+        }
+    }
+
+    /** Factory of a streamable node appending <code>factor * (last column) + 1</code> as new column. */
+    public static final class AppendNodeFactory extends NodeFactory<AppendNodeModel> {
+        private final String m_newColumn;
+
+        private final int m_factor;
+
+        /**
+         * @param newColumn name of the appended column
+         * @param factor factor applied to the last column
+         */
+        public AppendNodeFactory(final String newColumn, final int factor) {
+            m_newColumn = newColumn;
+            m_factor = factor;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public AppendNodeModel createNodeModel() {
+            return new AppendNodeModel(m_newColumn, m_factor);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected int getNrNodeViews() {
+            return 0;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public NodeView<AppendNodeModel> createNodeView(final int viewIndex, final AppendNodeModel nodeModel) {
+            throw new IllegalStateException("No view");
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected boolean hasDialog() {
+            return false;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected NodeDialogPane createNodeDialogPane() {
+            throw new IllegalStateException("No dialog");
+        }
+    }
+
+    /** Model of {@link AppendNodeFactory}. */
+    public static final class AppendNodeModel extends SimpleStreamableFunctionNodeModel {
+        private final String m_newColumn;
+
+        private final int m_factor;
+
+        AppendNodeModel(final String newColumn, final int factor) {
+            m_newColumn = newColumn;
+            m_factor = factor;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected ColumnRearranger createColumnRearranger(final DataTableSpec spec) {
+            final int column = spec.getNumColumns() - 1;
+            ColumnRearranger rearranger = new ColumnRearranger(spec);
+            rearranger.append(new SingleCellFactory(new DataColumnSpecCreator(m_newColumn, IntCell.TYPE).createSpec()) {
+                @Override
+                public DataCell getCell(final DataRow row) {
+                    return new IntCell(m_factor * ((IntValue)row.getCell(column)).getIntValue() + 1);
+                }
+            });
+            return rearranger;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected void saveSettingsTo(final NodeSettingsWO settings) {
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected void validateSettings(final NodeSettingsRO settings) {
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) {
+        }
+    }
+
+    /** Creates source -&gt; component(append -&gt; append) -&gt; consumer. */
+    @Before
+    public void setUp() throws Exception {
+        m_workflowDirectory = FileUtil.createTempDir(getClass().getSimpleName());
+        WorkflowCreationHelper creationHelper = new WorkflowCreationHelper();
+        creationHelper.setWorkflowContext(new WorkflowContext.Factory(m_workflowDirectory).createContext());
+        m_wfm = WorkflowManager.ROOT.createAndAddProject(getClass().getSimpleName(), creationHelper);
+        NodeID source = m_wfm.addNode(new SourceNodeFactory());
+        NodeID first = m_wfm.addNode(new AppendNodeFactory("first", 2));
+        NodeID second = m_wfm.addNode(new AppendNodeFactory("second", 3));
+        m_consumer = m_wfm.addNode(new AdapterNodeFactory());
+        m_wfm.addConnection(source, 1, first, 1);
+        m_wfm.addConnection(first, 1, second, 1);
+        m_wfm.addConnection(second, 1, m_consumer, 1);
+        m_component = m_wfm.collapseIntoMetaNode(new NodeID[]{first, second}, new WorkflowAnnotation[0], "component")
+            .getCollapsedMetanodeID();
+        m_wfm.convertMetaNodeToSubNode(m_component);
+    }
+
+    /** Removes the project. */
+    @After
+    public void tearDown() throws Exception {
+        WorkflowManager.ROOT.removeNode(m_wfm.getID());
+        FileUtil.deleteRecursively(m_workflowDirectory);
+    }
+
+    /** The streamed component (partitioned, small chunks) produces the same table as the default job manager. */
+    @Test
+    public void testSameOutputAsDefaultJobManager() throws Exception {
+        m_wfm.setJobManager(m_component, ThreadNodeExecutionJobManagerFactory.INSTANCE.getInstance());
+        m_wfm.executeAllAndWaitUntilDone();
+        assertTrue("Not executed with default job manager", m_wfm.getNodeContainerState().isExecuted());
+        BufferedDataTable expected = getOutput(m_consumer);
+
+        m_wfm.resetAndConfigureNode(m_component);
+        m_wfm.setJobManager(m_component, new StreamingNodeExecutionJobManager(7, 3));
+        m_wfm.executeAllAndWaitUntilDone();
+        assertTrue("Not executed with streaming job manager", m_wfm.getNodeContainerState().isExecuted());
+        BufferedDataTable actual = getOutput(m_consumer);
+
+        assertTrue("Different structure: " + expected.getDataTableSpec() + " vs. " + actual.getDataTableSpec(),
+            expected.getDataTableSpec().equalStructure(actual.getDataTableSpec()));
+        assertEquals("Row count", ROW_COUNT, actual.size());
+        assertEquals("Rows", toStrings(expected), toStrings(actual));
+    }
+
+    /** A node whose output was only streamed gets a warning and is reset when another node connects to it. */
+    @Test(timeout = 60000)
+    public void testStreamedOnlyOutput() throws Exception {
+        m_wfm.setJobManager(m_component, new StreamingNodeExecutionJobManager(7, 1));
+        m_wfm.executeAllAndWaitUntilDone();
+        assertTrue("Not executed", m_wfm.getNodeContainerState().isExecuted());
+        WorkflowManager inner = ((SubNodeContainer)m_wfm.getNodeContainer(m_component)).getWorkflowManager();
+        NativeNodeContainer first = findAppendNode(inner, "first");
+        assertTrue("First node not executed", first.getNodeContainerState().isExecuted());
+        assertEquals("Message of streamed-only node: " + first.getNodeMessage(), NodeMessage.Type.WARNING,
+            first.getNodeMessage().getMessageType());
+
+        NodeID newConsumer = inner.addNode(new AdapterNodeFactory());
+        inner.addConnection(first.getID(), 1, newConsumer, 1);
+        // the reset is done by a workflow listener, asynchronously
+        while (first.getNodeContainerState().isExecuted()) {
+            Thread.sleep(50);
+        }
+
+        m_wfm.executeAllAndWaitUntilDone();
+        assertTrue("Not executed after reset", m_wfm.getNodeContainerState().isExecuted());
+        BufferedDataTable newConsumerOutput = getOutput(inner, newConsumer);
+        assertEquals("Rows at new consumer", ROW_COUNT, newConsumerOutput.size());
+        assertFalse("Warning after materialized execution",
+            first.getNodeMessage().getMessageType() == NodeMessage.Type.WARNING);
+    }
+
+    /** Canceling the component before the tasks running its nodes started (here: because the executor is busy)
+     * doesn't leave the job waiting for these nodes forever. */
+    @Test(timeout = 60000)
+    public void testCancelBeforeNodesStarted() throws Exception {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        CountDownLatch releaseExecutor = new CountDownLatch(1);
+        try {
+            executor.execute(() -> {
+                try {
+                    releaseExecutor.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            StreamingNodeExecutionJobManager jobManager = new StreamingNodeExecutionJobManager(7, 1);
+            jobManager.setExecutor(executor);
+            m_wfm.setJobManager(m_component, jobManager);
+            int nrInnerNodes =
+                ((SubNodeContainer)m_wfm.getNodeContainer(m_component)).getWorkflowManager().getNodeContainers().size();
+            m_wfm.executeAll();
+            while (executor.getQueue().size() < nrInnerNodes) {
+                Thread.sleep(10);
+            }
+            m_wfm.getParent().cancelExecution(m_wfm);
+            assertTrue("Component still executing after cancel", m_wfm.waitWhileInExecution(30, TimeUnit.SECONDS));
+            assertFalse("Component executed", m_wfm.getNodeContainer(m_component).getNodeContainerState().isExecuted());
+        } finally {
+            releaseExecutor.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static NativeNodeContainer findAppendNode(final WorkflowManager wfm, final String newColumn) {
+        for (NodeContainer nc : wfm.getNodeContainers()) {
+            if (nc instanceof NativeNodeContainer && ((NativeNodeContainer)nc).getNodeModel() instanceof AppendNodeModel
+                && newColumn.equals(((AppendNodeModel)((NativeNodeContainer)nc).getNodeModel()).m_newColumn)) {
+                return (NativeNodeContainer)nc;
+            }
+        }
+        throw new AssertionError("No node appending " + newColumn);
+    }
+
+    private BufferedDataTable getOutput(final NodeID id) {
+        return getOutput(m_wfm, id);
+    }
+
+    private static BufferedDataTable getOutput(final WorkflowManager wfm, final NodeID id) {
+        BufferedDataTable table = (BufferedDataTable)wfm.getNodeContainer(id).getOutPort(1).getPortObject();
+        assertNotNull("No output at " + id, table);
+        return table;
+    }
+
+    private static List<String> toStrings(final BufferedDataTable table) {
+        List<String> result = new ArrayList<>();
+        for (DataRow row : table) {
+            StringBuilder b = new StringBuilder(row.getKey().getString());
+            for (DataCell cell : row) {
+                b.append(", ").append(cell);
+            }
+            result.add(b.toString());
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,135 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.node.exec.streaming;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.def.DefaultRow;
+
+/**
+ * Tests the batched {@link StreamingRowInput#poll(DataRow[])}.
+ *
+ * @author agent
+ */
+public class StreamingRowInputTest {
+
+    /** Source with a fixed number of queued batches that fails if it would have to block. */
+    private static final class QueuedSource implements RowBatchSource {
+
+        private final Deque<DataRow[]> m_batches = new ArrayDeque<>();
+
+        private boolean m_isEnd;
+
+        @Override
+        public DataRow[] take() throws InterruptedException {
+            if (m_batches.isEmpty() && !m_isEnd) {
+                throw new IllegalStateException("Would block");
+            }
+            return m_batches.poll();
+        }
+
+        @Override
+        public void close() {
+            m_batches.clear();
+        }
+    }
+
+    private static DataRow[] createBatch(final String prefix, final int size) {
+        DataRow[] batch = new DataRow[size];
+        for (int i = 0; i < size; i++) {
+            batch[i] = new DefaultRow(prefix + i, new DataCell[0]);
+        }
+        return batch;
+    }
+
+    /** Rows of the current batch are returned without waiting for the next batch, also if the array isn't full. */
+    @Test
+    public void testPartialBatchDoesNotBlock() throws Exception {
+        QueuedSource source = new QueuedSource();
+        DataRow[] first = createBatch("a", 5);
+        source.m_batches.add(first);
+        StreamingRowInput input = new StreamingRowInput(new DataTableSpec(), source);
+        DataRow[] rows = new DataRow[3];
+        assertEquals(3, input.poll(rows));
+        assertSame(first[2], rows[2]);
+        assertEquals("Remainder of the batch", 2, input.poll(rows));
+        assertSame(first[3], rows[0]);
+        assertSame(first[4], rows[1]);
+
+        DataRow[] second = createBatch("b", 2);
+        source.m_batches.add(second);
+        assertEquals(2, input.poll(rows));
+        assertSame(second[0], rows[0]);
+    }
+
+    /** Mixing single and batched reads keeps the order; 0 is returned at the end of the stream. */
+    @Test
+    public void testEndOfStream() throws Exception {
+        QueuedSource source = new QueuedSource();
+        DataRow[] batch = createBatch("a", 3);
+        source.m_batches.add(batch);
+        source.m_isEnd = true;
+        StreamingRowInput input = new StreamingRowInput(new DataTableSpec(), source);
+        assertSame(batch[0], input.poll());
+        DataRow[] rows = new DataRow[8];
+        assertEquals(2, input.poll(rows));
+        assertSame(batch[1], rows[0]);
+        assertSame(batch[2], rows[1]);
+        assertEquals(0, input.poll(rows));
+        assertEquals(0, input.poll(rows));
+    }
+
+}
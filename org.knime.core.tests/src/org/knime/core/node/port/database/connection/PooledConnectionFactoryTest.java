@@ -0,0 +1,277 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.node.port.database.connection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.knime.core.node.port.database.DatabaseConnectionSettings;
+import org.knime.core.node.port.database.DatabaseUtility;
+import org.knime.core.node.port.database.aggregation.DBAggregationFunctionFactory;
+import org.knime.core.node.port.database.connection.PooledConnectionFactory.PoolStatistics;
+import org.knime.core.node.workflow.CredentialsProvider;
+
+/**
+ * Tests borrowing, returning, size limit, eviction and discarding of {@link PooledConnectionFactory} with simulated
+ * JDBC connections.
+ *
+ * @author agent
+ */
+public class PooledConnectionFactoryTest {
+
+    private static final DatabaseUtility UTILITY =
+        new DatabaseUtility(null, null, (DBAggregationFunctionFactory[])null);
+
+    /** Connections opened by {@link #m_delegate}, in order. */
+    private final List<PhysicalConnection> m_opened = new CopyOnWriteArrayList<>();
+
+    /** Time each validation of a connection takes, in ms. */
+    private volatile long m_validationMillis;
+
+    private final CachedConnectionFactory m_delegate = new CachedConnectionFactory(null) {
+        @Override
+        Connection openConnection(final CredentialsProvider cp, final DatabaseConnectionSettings settings) {
+            PhysicalConnection physical = new PhysicalConnection();
+            m_opened.add(physical);
+            return physical.m_proxy;
+        }
+    };
+
+    private final DatabaseConnectionSettings m_settings =
+        new DatabaseConnectionSettings("test.Driver", "jdbc:test://pool", "user", "pass", null) {
+            @Override
+            public DatabaseUtility getUtility() {
+                return UTILITY;
+            }
+        };
+
+    /** State of a simulated JDBC connection. */
+    private final class PhysicalConnection {
+
+        private final AtomicBoolean m_isClosed = new AtomicBoolean();
+
+        private volatile boolean m_isValid = true;
+
+        private volatile boolean m_autoCommit = true;
+
+        private final Connection m_proxy = (Connection)Proxy.newProxyInstance(Connection.class.getClassLoader(),
+            new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "close":
+                        m_isClosed.set(true);
+                        return null;
+                    case "isClosed":
+                        return m_isClosed.get();
+                    case "isValid":
+                        Thread.sleep(m_validationMillis);
+                        return m_isValid;
+                    case "getAutoCommit":
+                        return m_autoCommit;
+                    case "setAutoCommit":
+                        m_autoCommit = (Boolean)args[0];
+                        return null;
+                    case "isReadOnly":
+                        return false;
+                    case "getTransactionIsolation":
+                        return Connection.TRANSACTION_READ_COMMITTED;
+                    case "rollback":
+                    case "clearWarnings":
+                        return null;
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "equals":
+                        return proxy == args[0];
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            });
+    }
+
+    private PoolStatistics getStatistics(final PooledConnectionFactory factory) {
+        return factory.getStatistics().values().iterator().next();
+    }
+
+    /** A returned connection is reused, reset to its initial state and the returned handle can't be used anymore. */
+    @Test
+    public void testBorrowAndReturn() throws Exception {
+        PooledConnectionFactory factory = new PooledConnectionFactory(m_delegate, 2);
+        Connection first = factory.borrowConnection(null, m_settings);
+        first.setAutoCommit(false);
+        assertEquals(1, getStatistics(factory).getBorrowedCount());
+        first.close();
+        assertTrue("Handle not closed", first.isClosed());
+        assertFalse("Physical connection closed", m_opened.get(0).m_isClosed.get());
+        try {
+            first.getAutoCommit();
+            fail("Returned handle still usable");
+        } catch (SQLException e) {
+            // expected
+        }
+
+        Connection second = factory.borrowConnection(null, m_settings);
+        assertNotSame(first, second);
+        assertEquals("Connection not reused", 1, m_opened.size());
+        assertTrue("Auto commit not reset", second.getAutoCommit());
+        second.close();
+        second.close(); // no effect
+        PoolStatistics stats = getStatistics(factory);
+        assertEquals(1, stats.getSize());
+        assertEquals(1, stats.getIdleCount());
+        assertEquals(0, stats.getBorrowedCount());
+        assertEquals(2, stats.getBorrowCount());
+    }
+
+    /** Concurrent borrowers never get more connections than the maximum, also while the pool is maintained. */
+    @Test(timeout = 30000)
+    public void testMaxSizeUnderConcurrency() throws Exception {
+        final int maxSize = 2;
+        PooledConnectionFactory factory = new PooledConnectionFactory(m_delegate, maxSize);
+        m_validationMillis = 2;
+        final AtomicInteger borrowed = new AtomicInteger();
+        final AtomicInteger maxBorrowed = new AtomicInteger();
+        final AtomicBoolean isDone = new AtomicBoolean();
+        ExecutorService executor = Executors.newFixedThreadPool(9);
+        try {
+            Future<?> maintenance = executor.submit(() -> {
+                while (!isDone.get()) {
+                    factory.maintain();
+                }
+            });
+            List<Future<?>> borrowers = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                borrowers.add(executor.submit(() -> {
+                    for (int i = 0; i < 20; i++) {
+                        try (Connection conn = factory.borrowConnection(null, m_settings)) {
+                            maxBorrowed.accumulateAndGet(borrowed.incrementAndGet(), Math::max);
+                            Thread.sleep(1);
+                            borrowed.decrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> f : borrowers) {
+                f.get();
+            }
+            isDone.set(true);
+            maintenance.get();
+        } finally {
+            executor.shutdownNow();
+        }
+        assertTrue("More connections borrowed than allowed: " + maxBorrowed.get(), maxBorrowed.get() <= maxSize);
+        assertTrue("More connections opened than allowed: " + m_opened.size(), m_opened.size() <= maxSize);
+        PoolStatistics stats = getStatistics(factory);
+        assertEquals(160, stats.getBorrowCount());
+        assertEquals(0, stats.getBorrowedCount());
+        assertTrue(stats.getSize() <= maxSize);
+    }
+
+    /** Connections idle for longer than the timeout and invalid connections are closed by the maintenance. */
+    @Test
+    public void testEviction() throws Exception {
+        PooledConnectionFactory factory = new PooledConnectionFactory(m_delegate, 2, 100);
+        Connection first = factory.borrowConnection(null, m_settings);
+        Connection second = factory.borrowConnection(null, m_settings);
+        first.close();
+        second.close();
+        m_opened.get(0).m_isValid = false;
+        factory.maintain();
+        assertTrue("Invalid connection not closed", m_opened.get(0).m_isClosed.get());
+        assertFalse("Valid connection closed", m_opened.get(1).m_isClosed.get());
+        assertEquals(1, getStatistics(factory).getInvalidCount());
+        assertEquals(1, getStatistics(factory).getIdleCount());
+
+        Thread.sleep(200);
+        factory.maintain();
+        assertTrue("Idle connection not closed", m_opened.get(1).m_isClosed.get());
+        PoolStatistics stats = getStatistics(factory);
+        assertEquals(1, stats.getEvictedCount());
+        assertEquals(0, stats.getSize());
+
+        factory.borrowConnection(null, m_settings).close();
+        assertEquals("No new connection opened after eviction", 3, m_opened.size());
+    }
+
+    /** A discarded connection is closed and frees its slot in the pool. */
+    @Test(timeout = 30000)
+    public void testDiscard() throws Exception {
+        PooledConnectionFactory factory = new PooledConnectionFactory(m_delegate, 1);
+        Connection conn = factory.borrowConnection(null, m_settings);
+        factory.discardConnection(conn);
+        assertTrue("Physical connection not closed", m_opened.get(0).m_isClosed.get());
+        assertTrue("Handle not closed", conn.isClosed());
+        factory.discardConnection(conn); // no effect
+        conn.close(); // no effect
+        PoolStatistics stats = getStatistics(factory);
+        assertEquals(0, stats.getSize());
+        assertEquals(0, stats.getBorrowedCount());
+        assertEquals(1, stats.getInvalidCount());
+
+        // the single slot is free again
+        factory.borrowConnection(null, m_settings).close();
+        assertEquals(2, m_opened.size());
+        assertEquals(1, getStatistics(factory).getIdleCount());
+    }
+
+}
@@ -0,0 +1,171 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.node.port.database.reader;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+
+import org.junit.Test;
+
+/**
+ * Tests the computation of the partition bounds in {@link DBReaderImpl} with a simulated MIN/MAX result set.
+ *
+ * @author agent
+ */
+public class DBReaderImplTest {
+
+    /**
+     * Creates a result set positioned on a single row with the given minimum and maximum (null for missing).
+     *
+     * @param sqlType the {@link Types type} of both columns
+     */
+    private static ResultSet createMinMaxResultSet(final int sqlType, final Object min, final Object max) {
+        final ResultSetMetaData metaData = (ResultSetMetaData)Proxy.newProxyInstance(
+            ResultSetMetaData.class.getClassLoader(), new Class<?>[]{ResultSetMetaData.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "getColumnType":
+                        return sqlType;
+                    case "getColumnTypeName":
+                        return "TYPE_" + sqlType;
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            });
+        final Object[] values = new Object[]{min, max};
+        final boolean[] wasNull = new boolean[1];
+        return (ResultSet)Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "getMetaData":
+                        return metaData;
+                    case "wasNull":
+                        return wasNull[0];
+                    case "getLong":
+                    case "getDouble":
+                    case "getTimestamp":
+                        final Object value = values[(Integer)args[0] - 1];
+                        wasNull[0] = value == null;
+                        if (value != null) {
+                            return value;
+                        }
+                        return "getTimestamp".equals(method.getName()) ? null
+                            : ("getLong".equals(method.getName()) ? (Object)0L : (Object)0.0);
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            });
+    }
+
+    /** Integer columns are split into equally sized ranges. */
+    @Test
+    public void testIntegerBounds() throws Exception {
+        assertArrayEquals(new Object[]{25L, 50L, 75L},
+            DBReaderImpl.createPartitionBounds(createMinMaxResultSet(Types.INTEGER, 0L, 100L), "col", 4));
+        assertArrayEquals(new Object[]{-50L, 0L},
+            DBReaderImpl.createPartitionBounds(createMinMaxResultSet(Types.BIGINT, -100L, 50L), "col", 3));
+    }
+
+    /** Small integer ranges don't create repeated bounds (which would only result in empty partitions). */
+    @Test
+    public void testSmallIntegerRange() throws Exception {
+        assertArrayEquals(new Object[]{0L, 1L},
+            DBReaderImpl.createPartitionBounds(createMinMaxResultSet(Types.SMALLINT, 0L, 2L), "col", 4));
+    }
+
+    /** Decimal and floating point columns. */
+    @Test
+    public void testDecimalBounds() throws Exception {
+        assertArrayEquals(new Object[]{0.25, 0.5, 0.75},
+            DBReaderImpl.createPartitionBounds(createMinMaxResultSet(Types.DECIMAL, 0.0, 1.0), "col", 4));
+        assertArrayEquals(new Object[]{-1.0},
+            DBReaderImpl.createPartitionBounds(createMinMaxResultSet(Types.DOUBLE, -2.0, 0.0), "col", 2));
+    }
+
+    /** Date and time stamp columns are split on the milliseconds since the epoch. */
+    @Test
+    public void testTimestampBounds() throws Exception {
+        final long start = 1500000000000L;
+        assertArrayEquals(
+            new Object[]{new Timestamp(start + 1000), new Timestamp(start + 2000), new Timestamp(start + 3000)},
+            DBReaderImpl.createPartitionBounds(
+                createMinMaxResultSet(Types.TIMESTAMP, new Timestamp(start), new Timestamp(start + 4000)), "col", 4));
+    }
+
+    /** No bounds if the column has only missing values (everything is read by the first partition). */
+    @Test
+    public void testAllMissing() throws Exception {
+        assertArrayEquals(new Object[0],
+            DBReaderImpl.createPartitionBounds(createMinMaxResultSet(Types.INTEGER, null, null), "col", 4));
+        assertArrayEquals(new Object[0],
+            DBReaderImpl.createPartitionBounds(createMinMaxResultSet(Types.DOUBLE, null, null), "col", 4));
+        assertArrayEquals(new Object[0],
+            DBReaderImpl.createPartitionBounds(createMinMaxResultSet(Types.DATE, null, null), "col", 4));
+    }
+
+    /** A single bound if minimum and maximum are equal: missing values in the first, all others in the second. */
+    @Test
+    public void testMinEqualsMax() throws Exception {
+        assertArrayEquals(new Object[]{5L},
+            DBReaderImpl.createPartitionBounds(createMinMaxResultSet(Types.INTEGER, 5L, 5L), "col", 4));
+        assertArrayEquals(new Object[]{new Timestamp(1000L)}, DBReaderImpl.createPartitionBounds(
+            createMinMaxResultSet(Types.TIMESTAMP, new Timestamp(1000L), new Timestamp(1000L)), "col", 3));
+    }
+
+    /** Other column types are rejected. */
+    @Test(expected = SQLException.class)
+    public void testUnsupportedType() throws Exception {
+        DBReaderImpl.createPartitionBounds(createMinMaxResultSet(Types.VARCHAR, "a", "z"), "col", 4);
+    }
+
+}
@@ -0,0 +1,280 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.node.port.database.writer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Proxy;
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.port.database.DatabaseConnectionSettings;
+import org.knime.core.node.port.database.DatabaseUtility;
+import org.knime.core.node.port.database.aggregation.DBAggregationFunctionFactory;
+import org.knime.core.node.streamable.RowInput;
+
+/**
+ * Tests order, error handling and cancelation of {@link DBPipelinedInsert} with a simulated JDBC connection.
+ *
+ * @author agent
+ */
+public class DBPipelinedInsertTest {
+
+    private static final DatabaseUtility UTILITY =
+        new DatabaseUtility(null, null, (DBAggregationFunctionFactory[])null);
+
+    private static final DataTableSpec SPEC =
+        new DataTableSpec(new DataColumnSpecCreator("value", IntCell.TYPE).createSpec());
+
+    private final DatabaseConnectionSettings m_settings =
+        new DatabaseConnectionSettings("test.Driver", "jdbc:test://insert", "user", "pass", null) {
+            @Override
+            public DatabaseUtility getUtility() {
+                return UTILITY;
+            }
+        };
+
+    /** Value whose batch fails, -1 for none. */
+    private volatile int m_failingValue = -1;
+
+    /** Values of the current transaction. Guarded by this. */
+    private final List<Integer> m_uncommitted = new ArrayList<>();
+
+    /** Committed values in insert order. Guarded by this. */
+    private final List<Integer> m_committed = new ArrayList<>();
+
+    private int m_rollbackCount;
+
+    private boolean m_autoCommit = true;
+
+    /** A connection that executes the batches of its prepared statements on {@link #m_uncommitted}. */
+    private Connection createConnection() {
+        return (Connection)Proxy.newProxyInstance(Connection.class.getClassLoader(),
+            new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                synchronized (DBPipelinedInsertTest.this) {
+                    switch (method.getName()) {
+                        case "getAutoCommit":
+                            return m_autoCommit;
+                        case "setAutoCommit":
+                            m_autoCommit = (Boolean)args[0];
+                            return null;
+                        case "prepareStatement":
+                            return createStatement();
+                        case "commit":
+                            m_committed.addAll(m_uncommitted);
+                            m_uncommitted.clear();
+                            return null;
+                        case "rollback":
+                            m_uncommitted.clear();
+                            m_rollbackCount++;
+                            return null;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                }
+            });
+    }
+
+    private PreparedStatement createStatement() {
+        final List<Integer> batch = new ArrayList<>();
+        final Object[] current = new Object[1];
+        return (PreparedStatement)Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+            new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                final String name = method.getName();
+                if (name.startsWith("set")) {
+                    current[0] = args[1];
+                    return null;
+                }
+                switch (name) {
+                    case "addBatch":
+                        batch.add(current[0] instanceof Number ? ((Number)current[0]).intValue()
+                            : Integer.parseInt(String.valueOf(current[0])));
+                        return null;
+                    case "executeBatch":
+                        if (batch.contains(m_failingValue)) {
+                            throw new BatchUpdateException("Value " + m_failingValue + " rejected", new int[0]);
+                        }
+                        synchronized (DBPipelinedInsertTest.this) {
+                            m_uncommitted.addAll(batch);
+                        }
+                        return new int[batch.size()];
+                    case "clearBatch":
+                        batch.clear();
+                        return null;
+                    case "close":
+                        return null;
+                    default:
+                        throw new UnsupportedOperationException(name);
+                }
+            });
+    }
+
+    /** Input of the values 0 ... count-1, calls the argument when the given number of rows has been read. */
+    private static RowInput createInput(final int count, final int actionRow, final Runnable action) {
+        return new RowInput() {
+            private int m_index;
+
+            @Override
+            public DataTableSpec getDataTableSpec() {
+                return SPEC;
+            }
+
+            @Override
+            public DataRow poll() {
+                if (m_index == actionRow) {
+                    action.run();
+                }
+                if (m_index == count) {
+                    return null;
+                }
+                final int value = m_index++;
+                return new DefaultRow(RowKey.createRowKey((long)value), new IntCell(value));
+            }
+
+            @Override
+            public void close() {
+                // no op
+            }
+        };
+    }
+
+    private String write(final int rowCount, final boolean failOnError, final ExecutionMonitor exec,
+        final RowInput input) throws Exception {
+        DBPipelinedInsert insert = new DBPipelinedInsert(new DBWriterImpl(m_settings), m_settings, null,
+            "INSERT INTO t VALUES (?)", SPEC, new int[]{0}, false, new HashMap<>(), 10, failOnError);
+        return insert.write(createConnection(), input, rowCount, exec, 1);
+    }
+
+    private static List<Integer> range(final int from, final int to) {
+        return IntStream.range(from, to).boxed().collect(Collectors.toList());
+    }
+
+    /** With a single connection the rows are inserted in input order although conversions run concurrently. */
+    @Test(timeout = 60000)
+    public void testInsertOrder() throws Exception {
+        assertNull(write(5000, true, new ExecutionMonitor(), createInput(5000, -1, null)));
+        synchronized (this) {
+            assertEquals(range(0, 5000), m_committed);
+            assertTrue("Auto commit not restored", m_autoCommit);
+        }
+    }
+
+    /** Without failOnError a failing batch is reported and skipped, all other rows are committed in order. */
+    @Test(timeout = 60000)
+    public void testFailingBatch() throws Exception {
+        m_failingValue = 500;
+        String error = write(1000, false, new ExecutionMonitor(), createInput(1000, -1, null));
+        assertNotNull("Error not reported", error);
+        assertTrue(error, error.startsWith("Errors \"1\""));
+        synchronized (this) {
+            assertFalse("Rows of the failed batch inserted", m_committed.contains(500));
+            assertTrue("Rows of other batches missing", m_committed.size() < 1000 && m_committed.size() > 500);
+            List<Integer> sorted = new ArrayList<>(m_committed);
+            Collections.sort(sorted);
+            assertEquals("Rows not in input order", sorted, m_committed);
+            assertTrue("Auto commit not restored", m_autoCommit);
+        }
+    }
+
+    /** With failOnError a failing batch fails the insert and nothing is committed. */
+    @Test(timeout = 60000)
+    public void testFailingBatchFailOnError() throws Exception {
+        m_failingValue = 500;
+        try {
+            write(1000, true, new ExecutionMonitor(), createInput(1000, -1, null));
+            fail("Failing batch not reported");
+        } catch (Exception e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("Value 500 rejected"));
+        }
+        synchronized (this) {
+            assertTrue("Rows committed despite failure", m_committed.isEmpty());
+            assertEquals(1, m_rollbackCount);
+            assertTrue("Auto commit not restored", m_autoCommit);
+        }
+    }
+
+    /** Canceling during the insert rolls back what has been sent. */
+    @Test(timeout = 60000)
+    public void testCancel() throws Exception {
+        DefaultNodeProgressMonitor progress = new DefaultNodeProgressMonitor();
+        try {
+            write(1000, true, new ExecutionMonitor(progress), createInput(1000, 300, progress::setExecuteCanceled));
+            fail("Insert not canceled");
+        } catch (CanceledExecutionException e) {
+            // expected
+        }
+        synchronized (this) {
+            assertTrue("Rows committed despite cancelation", m_committed.isEmpty());
+            assertEquals(1, m_rollbackCount);
+            assertTrue("Auto commit not restored", m_autoCommit);
+        }
+    }
+
+}
@@ -0,0 +1,199 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.node.streamable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTable;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowIterator;
+import org.knime.core.data.def.DefaultRow;
+
+/**
+ * Tests the batched {@link RowInput#poll(DataRow[])} and {@link RowOutput#push(DataRow[], int)}.
+ *
+ * @author agent
+ */
+public class RowBatchTest {
+
+    private static final DataTableSpec SPEC = new DataTableSpec();
+
+    private static List<DataRow> createRows(final int count) {
+        List<DataRow> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            rows.add(new DefaultRow("Row" + i, new DataCell[0]));
+        }
+        return rows;
+    }
+
+    /** Input that hands out the given rows and fails if polled beyond the number of available rows. */
+    private static final class LimitedRowInput extends RowInput {
+
+        private final Iterator<DataRow> m_rows;
+
+        private int m_available;
+
+        LimitedRowInput(final List<DataRow> rows, final int available) {
+            m_rows = rows.iterator();
+            m_available = available;
+        }
+
+        @Override
+        public DataTableSpec getDataTableSpec() {
+            return SPEC;
+        }
+
+        @Override
+        public DataRow poll() throws InterruptedException {
+            if (m_available-- == 0) {
+                // a real input would block until the consumer's output is processed
+                throw new IllegalStateException("Polled more rows than available");
+            }
+            return m_rows.hasNext() ? m_rows.next() : null;
+        }
+
+        @Override
+        public void close() {
+            // no op
+        }
+    }
+
+    /** The default implementation returns after a single row so that it never waits for rows not produced yet. */
+    @Test
+    public void testDefaultPollReturnsSingleRow() throws Exception {
+        List<DataRow> rows = createRows(2);
+        DataRow[] batch = new DataRow[64];
+        RowInput input = new LimitedRowInput(rows, 1);
+        assertEquals(1, input.poll(batch));
+        assertSame(rows.get(0), batch[0]);
+    }
+
+    /** The default implementation returns 0 at the end of the stream. */
+    @Test
+    public void testDefaultPollEndOfStream() throws Exception {
+        List<DataRow> rows = createRows(2);
+        DataRow[] batch = new DataRow[64];
+        RowInput input = new LimitedRowInput(rows, 4);
+        assertEquals(1, input.poll(batch));
+        assertEquals(1, input.poll(batch));
+        assertSame(rows.get(1), batch[0]);
+        assertEquals(0, input.poll(batch));
+        assertEquals(0, input.poll(batch));
+    }
+
+    /** A table input fills complete batches, a partial last batch and then signals the end of the stream. */
+    @Test
+    public void testTableInputBatches() throws Exception {
+        List<DataRow> rows = createRows(10);
+        DataTable table = new DataTable() {
+            @Override
+            public DataTableSpec getDataTableSpec() {
+                return SPEC;
+            }
+
+            @Override
+            public RowIterator iterator() {
+                Iterator<DataRow> it = rows.iterator();
+                return new RowIterator() {
+                    @Override
+                    public boolean hasNext() {
+                        return it.hasNext();
+                    }
+
+                    @Override
+                    public DataRow next() {
+                        return it.next();
+                    }
+                };
+            }
+        };
+        DataTableRowInput input = new DataTableRowInput(table);
+        DataRow[] batch = new DataRow[4];
+        assertEquals(4, input.poll(batch));
+        assertEquals(rows.subList(0, 4), Arrays.asList(batch));
+        assertEquals(4, input.poll(batch));
+        assertEquals(rows.subList(4, 8), Arrays.asList(batch));
+        assertEquals("Partial batch", 2, input.poll(batch));
+        assertEquals(rows.subList(8, 10), Arrays.asList(batch).subList(0, 2));
+        assertEquals(0, input.poll(batch));
+        assertNull(input.poll());
+    }
+
+    /** The default batch push adds the first count rows in order. */
+    @Test
+    public void testDefaultPush() throws Exception {
+        List<DataRow> pushed = new ArrayList<>();
+        RowOutput output = new RowOutput() {
+            @Override
+            public void push(final DataRow row) throws InterruptedException {
+                pushed.add(row);
+            }
+
+            @Override
+            public void close() {
+                // no op
+            }
+        };
+        List<DataRow> rows = createRows(5);
+        DataRow[] batch = rows.toArray(new DataRow[0]);
+        output.push(batch, 3);
+        output.push(batch, 0);
+        assertEquals(rows.subList(0, 3), pushed);
+    }
+
+}
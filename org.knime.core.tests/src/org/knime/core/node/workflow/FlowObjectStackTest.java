@@ -0,0 +1,124 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.node.workflow;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import org.junit.Test;
+import org.knime.core.node.workflow.FlowVariable.Scope;
+
+/**
+ * Tests merging and sharing of {@link FlowObjectStack}.
+ * @author agent
+ */
+public class FlowObjectStackTest {
+
+    private static final NodeID BASE_ID = NodeID.fromString("0:1");
+
+    /** Successor stacks share the predecessor's content but are not affected by later modifications. */
+    @Test
+    public void testSuccessorIsIndependent() {
+        FlowObjectStack first = new FlowObjectStack(new NodeID(BASE_ID, 1));
+        first.push(new FlowVariable("a", 1));
+        FlowObjectStack second = new FlowObjectStack(new NodeID(BASE_ID, 2), new FlowObjectStack[] {first});
+        second.push(new FlowVariable("b", "foo"));
+        first.push(new FlowVariable("c", 2));
+
+        FlowObjectStack third = new FlowObjectStack(new NodeID(BASE_ID, 3), new FlowObjectStack[] {second});
+        Map<String, FlowVariable> vars = third.getAvailableFlowVariables();
+        assertThat("Variable from first node", vars.get("a").getIntValue(), is(1));
+        assertThat("Variable from second node", vars.get("b").getStringValue(), is("foo"));
+        assertThat("Variable pushed after successor was created", vars.containsKey("c"), is(false));
+        assertThat("Size of merged stack", third.size(), is(second.size()));
+
+        Iterator<FlowObject> it = third.iterator();
+        assertThat("Top of stack", ((FlowVariable)it.next()).getName(), is("b"));
+        assertThat("Second on stack", ((FlowVariable)it.next()).getName(), is("a"));
+    }
+
+    /** Local variables are not passed on to successors; duplicates are moved to the top. */
+    @Test
+    public void testMergeFiltersLocalAndDuplicates() {
+        FlowObjectStack first = new FlowObjectStack(new NodeID(BASE_ID, 1));
+        first.push(new FlowVariable("a", 1));
+        first.push(new FlowVariable("b", 2));
+        FlowObjectStack second = new FlowObjectStack(new NodeID(BASE_ID, 2), new FlowObjectStack[] {first});
+        int sizeBefore = second.size();
+        second.push(new FlowVariable("local", "x", Scope.Local));
+        second.push(new FlowVariable("a", 1));
+
+        FlowObjectStack third = new FlowObjectStack(new NodeID(BASE_ID, 3), new FlowObjectStack[] {second});
+        assertThat("Size of merged stack", third.size(), is(sizeBefore));
+        assertThat("Local variable visible in successor",
+            third.getAvailableFlowVariables().containsKey("local"), is(false));
+        FlowVariable top = (FlowVariable)third.iterator().next();
+        assertThat("Top of stack", top.getName(), is("a"));
+        assertThat("Owner of top of stack", top.getOwner(), equalTo(new NodeID(BASE_ID, 2)));
+        assertThat("Objects owned by first node", third.getFlowObjectsOwnedBy(new NodeID(BASE_ID, 1)).size(), is(1));
+    }
+
+    /** Stacks with the same content are equal, independent of whether they share entries. */
+    @Test
+    public void testEquals() {
+        FlowObjectStack first = new FlowObjectStack(new NodeID(BASE_ID, 1));
+        first.push(new FlowVariable("a", 1));
+        FlowObjectStack second = new FlowObjectStack(new NodeID(BASE_ID, 1));
+        second.push(new FlowVariable("a", 1));
+        assertThat("Stacks equal", first.equals(second), is(true));
+        assertThat("Hash codes equal", first.hashCode(), is(second.hashCode()));
+        second.push(new FlowVariable("b", 1));
+        assertThat("Stacks equal after push", first.equals(second), is(false));
+        second.pop(FlowVariable.class);
+        assertThat("Stacks equal after pop", first.equals(second), is(true));
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.node.workflow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+
+import java.io.File;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.FileNodePersistor;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.workflow.node.adapter.AdapterNodeFactory;
+import org.knime.core.util.FileUtil;
+
+/**
+ * Saves a workflow twice with {@link KNIMEConstants#PROPERTY_INCREMENTAL_WORKFLOW_SAVE} set and checks that the
+ * unchanged output data of a node is kept and that changed output data is rewritten.
+ *
+ * @author agent
+ */
+public class IncrementalWorkflowSaveTest {
+
+    private File m_workflowDirectory;
+
+    private WorkflowManager m_wfm;
+
+    private NodeID m_source;
+
+    /** Creates and executes a workflow with a source node and a successor. */
+    @Before
+    public void setUp() throws Exception {
+        System.setProperty(KNIMEConstants.PROPERTY_INCREMENTAL_WORKFLOW_SAVE, Boolean.TRUE.toString());
+        m_workflowDirectory = FileUtil.createTempDir(getClass().getSimpleName());
+        WorkflowCreationHelper creationHelper = new WorkflowCreationHelper();
+        creationHelper.setWorkflowContext(new WorkflowContext.Factory(m_workflowDirectory).createContext());
+        m_wfm = WorkflowManager.ROOT.createAndAddProject(getClass().getSimpleName(), creationHelper);
+        m_source = m_wfm.addNode(new AdapterNodeFactory(true));
+        NodeID successor = m_wfm.addNode(new AdapterNodeFactory());
+        m_wfm.addConnection(m_source, 1, successor, 1);
+        m_wfm.executeAllAndWaitUntilDone();
+        assertEquals(InternalNodeContainerState.EXECUTED, m_wfm.getInternalState());
+    }
+
+    /** Removes the workflow and clears the property. */
+    @After
+    public void tearDown() throws Exception {
+        System.clearProperty(KNIMEConstants.PROPERTY_INCREMENTAL_WORKFLOW_SAVE);
+        WorkflowManager.ROOT.removeNode(m_wfm.getID());
+        FileUtil.deleteRecursively(m_workflowDirectory);
+    }
+
+    /** Saving a dirty node with unchanged output keeps the data files, a new output is written again. */
+    @Test
+    public void testUnchangedDataIsKept() throws Exception {
+        m_wfm.save(m_workflowDirectory, new ExecutionMonitor(), true);
+        File portDir = new File(m_wfm.getNodeContainer(m_source).getNodeContainerDirectory().getFile(),
+            FileNodePersistor.PORT_FOLDER_PREFIX + 1);
+        Map<String, Long> firstSave = listModificationTimes(portDir);
+        assertFalse("No data files written", firstSave.isEmpty());
+
+        // make sure a rewrite would result in different modification times
+        Thread.sleep(1100);
+        m_wfm.getNodeContainer(m_source).setDirty();
+        m_wfm.save(m_workflowDirectory, new ExecutionMonitor(), true);
+        assertEquals("Data files after saving unchanged node", firstSave, listModificationTimes(portDir));
+
+        m_wfm.resetAndConfigureNode(m_source);
+        m_wfm.executeAllAndWaitUntilDone();
+        assertEquals(InternalNodeContainerState.EXECUTED, m_wfm.getInternalState());
+        m_wfm.save(m_workflowDirectory, new ExecutionMonitor(), true);
+        Map<String, Long> thirdSave = listModificationTimes(portDir);
+        assertEquals("Data files after re-execution", firstSave.keySet(), thirdSave.keySet());
+        assertNotEquals("Data files not rewritten after re-execution", firstSave, thirdSave);
+    }
+
+    private static Map<String, Long> listModificationTimes(final File dir) {
+        Map<String, Long> result = new TreeMap<>();
+        addModificationTimes(dir, "", result);
+        return result;
+    }
+
+    private static void addModificationTimes(final File dir, final String prefix, final Map<String, Long> result) {
+        File[] children = dir.listFiles();
+        if (children == null) {
+            return;
+        }
+        for (File child : children) {
+            if (child.isDirectory()) {
+                addModificationTimes(child, prefix + child.getName() + "/", result);
+            } else {
+                result.put(prefix + child.getName(), child.lastModified());
+            }
+        }
+    }
+
+}
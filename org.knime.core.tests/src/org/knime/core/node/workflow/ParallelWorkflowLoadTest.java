@@ -0,0 +1,118 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.node.workflow;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.After;
+import org.junit.Test;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.workflow.WorkflowPersistor.LoadResultEntry.LoadResultEntryType;
+import org.knime.core.node.workflow.WorkflowPersistor.WorkflowLoadResult;
+
+/**
+ * Loads a workflow containing a metanode with {@link KNIMEConstants#PROPERTY_PARALLEL_WORKFLOW_LOAD} set and checks
+ * that the result equals a sequential load and can be executed.
+ *
+ * @author agent
+ */
+public class ParallelWorkflowLoadTest extends WorkflowTestCase {
+
+    /** Restores the default (sequential) loading. */
+    @After
+    public void clearProperty() {
+        System.clearProperty(KNIMEConstants.PROPERTY_PARALLEL_WORKFLOW_LOAD);
+    }
+
+    /** Loads the workflow sequentially and in parallel and compares the node names and states. */
+    @Test
+    public void testParallelLoadEqualsSequentialLoad() throws Exception {
+        File workflowDir = getWorkflowDirectory("metawithsinglenode");
+
+        System.clearProperty(KNIMEConstants.PROPERTY_PARALLEL_WORKFLOW_LOAD);
+        WorkflowLoadResult loadResult = loadWorkflow(workflowDir, new ExecutionMonitor());
+        setManager(loadResult.getWorkflowManager());
+        LoadResultEntryType sequentialType = loadResult.getType();
+        Map<String, String> sequential = describe(getManager());
+        closeWorkflow();
+
+        System.setProperty(KNIMEConstants.PROPERTY_PARALLEL_WORKFLOW_LOAD, Boolean.TRUE.toString());
+        loadResult = loadWorkflow(workflowDir, new ExecutionMonitor());
+        setManager(loadResult.getWorkflowManager());
+        assertEquals("Load result type", sequentialType, loadResult.getType());
+        Map<String, String> parallel = describe(getManager());
+        assertEquals("Nodes after parallel load", sequential, parallel);
+
+        getManager().executeAllAndWaitUntilDone();
+        checkState(getManager(), InternalNodeContainerState.EXECUTED);
+    }
+
+    /** @return map from the node ID (relative to the project) to name and state of all nodes, recursively. */
+    private static Map<String, String> describe(final WorkflowManager project) {
+        Map<String, String> result = new TreeMap<>();
+        describe(project, project.getID().toString().length(), result);
+        return result;
+    }
+
+    private static void describe(final WorkflowManager wfm, final int prefixLength, final Map<String, String> result) {
+        for (NodeContainer nc : wfm.getNodeContainers()) {
+            result.put(nc.getID().toString().substring(prefixLength), nc.getName() + " " + nc.getInternalState());
+            if (nc instanceof WorkflowManager) {
+                describe((WorkflowManager)nc, prefixLength, result);
+            } else if (nc instanceof SubNodeContainer) {
+                describe(((SubNodeContainer)nc).getWorkflowManager(), prefixLength, result);
+            }
+        }
+    }
+
+}
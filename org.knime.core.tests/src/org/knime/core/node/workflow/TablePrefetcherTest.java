@@ -0,0 +1,140 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.node.workflow;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataRow;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.workflow.WorkflowPersistor.WorkflowLoadResult;
+import org.knime.core.node.workflow.node.adapter.AdapterNodeFactory;
+import org.knime.core.util.FileUtil;
+
+/**
+ * Tests {@link TablePrefetcher}: the restored output table of a loaded workflow is read in the background, the
+ * successor is executed afterwards and sees the complete data.
+ *
+ * @author agent
+ */
+public class TablePrefetcherTest {
+
+    private File m_workflowDirectory;
+
+    private WorkflowManager m_wfm;
+
+    private NodeID m_source;
+
+    private NodeID m_successor;
+
+    /** Saves an executed workflow (source node and successor) and loads it again. */
+    @Before
+    public void setUp() throws Exception {
+        m_workflowDirectory = FileUtil.createTempDir(getClass().getSimpleName());
+        WorkflowCreationHelper creationHelper = new WorkflowCreationHelper();
+        creationHelper.setWorkflowContext(new WorkflowContext.Factory(m_workflowDirectory).createContext());
+        WorkflowManager wm = WorkflowManager.ROOT.createAndAddProject(getClass().getSimpleName(), creationHelper);
+        NodeID source = wm.addNode(new AdapterNodeFactory(true));
+        NodeID successor = wm.addNode(new AdapterNodeFactory());
+        wm.addConnection(source, 1, successor, 1);
+        wm.executeAllAndWaitUntilDone();
+        assertEquals(InternalNodeContainerState.EXECUTED, wm.getInternalState());
+        wm.save(m_workflowDirectory, new ExecutionMonitor(), true);
+        WorkflowManager.ROOT.removeNode(wm.getID());
+
+        WorkflowLoadResult loadResult = WorkflowManager.ROOT.load(m_workflowDirectory, new ExecutionMonitor(),
+            new WorkflowLoadHelper(m_workflowDirectory), false);
+        m_wfm = loadResult.getWorkflowManager();
+        m_source = new NodeID(m_wfm.getID(), source.getIndex());
+        m_successor = new NodeID(m_wfm.getID(), successor.getIndex());
+    }
+
+    /** Removes the workflow. */
+    @After
+    public void tearDown() throws Exception {
+        if (m_wfm != null) {
+            WorkflowManager.ROOT.removeNode(m_wfm.getID());
+        }
+        FileUtil.deleteRecursively(m_workflowDirectory);
+    }
+
+    /** Prefetches the restored table of the source node, then executes the successor. */
+    @Test
+    public void testPrefetchThenExecute() throws Exception {
+        m_wfm.resetAndConfigureNode(m_successor);
+        NodeContainer successor = m_wfm.getNodeContainer(m_successor);
+        PortObject sourceOutput = m_wfm.getNodeContainer(m_source).getOutPort(1).getPortObject();
+        List<Future<?>> futures = TablePrefetcher.submit(successor, new PortObject[]{sourceOutput, null});
+        assertEquals("Number of scheduled reads", 1, futures.size());
+        for (Future<?> f : futures) {
+            f.get(30, TimeUnit.SECONDS);
+        }
+
+        m_wfm.executeAllAndWaitUntilDone();
+        assertEquals(InternalNodeContainerState.EXECUTED, successor.getInternalState());
+        BufferedDataTable result = (BufferedDataTable)successor.getOutPort(1).getPortObject();
+        assertEquals("Row count", 3, result.size());
+        int rowCount = 0;
+        for (DataRow row : result) {
+            assertEquals("Cells in row " + row.getKey(), 3, row.getNumCells());
+            rowCount++;
+        }
+        assertEquals("Iterated rows", 3, rowCount);
+        assertEquals("Column count", 3, result.getDataTableSpec().getNumColumns());
+    }
+
+}
@@ -0,0 +1,196 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.node.workflow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnDomain;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.container.ColumnRearranger;
+import org.knime.core.data.container.SingleCellFactory;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.workflow.WorkflowPersistor.WorkflowLoadResult;
+import org.knime.core.node.workflow.node.adapter.AdapterNodeFactory;
+import org.knime.core.node.workflow.node.adapter.AdapterNodeModel;
+import org.knime.core.util.FileUtil;
+
+/**
+ * Creates a table with virtual (lazily computed) columns through a {@link ColumnRearranger} whose factory opted in via
+ * {@link SingleCellFactory#setVirtualColumnsAllowed(boolean)}, saves and loads the workflow and compares rows and
+ * domain of the output before and after.
+ *
+ * @author agent
+ */
+public class VirtualColumnsSaveLoadTest {
+
+    private File m_workflowDirectory;
+
+    private WorkflowManager m_wfm;
+
+    /** Factory of a node appending the doubled "Int-Column" as virtual column. */
+    public static final class VirtualColumnNodeFactory extends AdapterNodeFactory {
+        /** {@inheritDoc} */
+        @Override
+        public AdapterNodeModel createNodeModel() {
+            return new AdapterNodeModel(1, 1) {
+                @Override
+                protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+                    return new DataTableSpec[]{createRearranger((DataTableSpec)inSpecs[0]).createSpec()};
+                }
+
+                @Override
+                protected PortObject[] execute(final PortObject[] inObjects, final ExecutionContext exec)
+                    throws Exception {
+                    BufferedDataTable in = (BufferedDataTable)inObjects[0];
+                    return new BufferedDataTable[]{
+                        exec.createColumnRearrangeTable(in, createRearranger(in.getDataTableSpec()), exec)};
+                }
+            };
+        }
+
+        private static ColumnRearranger createRearranger(final DataTableSpec spec) {
+            final int intColumn = spec.findColumnIndex("Int-Column");
+            SingleCellFactory factory =
+                new SingleCellFactory(new DataColumnSpecCreator("Doubled", IntCell.TYPE).createSpec()) {
+                    @Override
+                    public DataCell getCell(final DataRow row) {
+                        return new IntCell(2 * ((IntValue)row.getCell(intColumn)).getIntValue());
+                    }
+                };
+            factory.setVirtualColumnsAllowed(true);
+            ColumnRearranger rearranger = new ColumnRearranger(spec);
+            rearranger.append(factory);
+            return rearranger;
+        }
+    }
+
+    /** Creates the workflow directory. */
+    @Before
+    public void setUp() throws Exception {
+        m_workflowDirectory = FileUtil.createTempDir(getClass().getSimpleName());
+    }
+
+    /** Removes the workflow. */
+    @After
+    public void tearDown() throws Exception {
+        if (m_wfm != null) {
+            WorkflowManager.ROOT.removeNode(m_wfm.getID());
+        }
+        FileUtil.deleteRecursively(m_workflowDirectory);
+    }
+
+    /** Rows, spec and domain of the virtual columns survive save and load. */
+    @Test
+    public void testSaveLoadRoundTrip() throws Exception {
+        WorkflowCreationHelper creationHelper = new WorkflowCreationHelper();
+        creationHelper.setWorkflowContext(new WorkflowContext.Factory(m_workflowDirectory).createContext());
+        m_wfm = WorkflowManager.ROOT.createAndAddProject(getClass().getSimpleName(), creationHelper);
+        NodeID source = m_wfm.addNode(new AdapterNodeFactory(true));
+        NodeID virtual = m_wfm.addNode(new VirtualColumnNodeFactory());
+        m_wfm.addConnection(source, 1, virtual, 1);
+        m_wfm.executeAllAndWaitUntilDone();
+        assertEquals(InternalNodeContainerState.EXECUTED, m_wfm.getInternalState());
+
+        BufferedDataTable before = getOutput(virtual);
+        DataColumnDomain domain = before.getDataTableSpec().getColumnSpec("Doubled").getDomain();
+        assertEquals("Lower bound", new IntCell(24), domain.getLowerBound());
+        assertEquals("Upper bound", new IntCell(64), domain.getUpperBound());
+        List<String> rowsBefore = toStrings(before);
+        assertEquals("Row count", 3, rowsBefore.size());
+        DataTableSpec specBefore = before.getDataTableSpec();
+
+        m_wfm.save(m_workflowDirectory, new ExecutionMonitor(), true);
+        WorkflowManager.ROOT.removeNode(m_wfm.getID());
+        m_wfm = null;
+
+        WorkflowLoadResult loadResult = WorkflowManager.ROOT.load(m_workflowDirectory, new ExecutionMonitor(),
+            new WorkflowLoadHelper(m_workflowDirectory), false);
+        m_wfm = loadResult.getWorkflowManager();
+        NodeID loadedVirtual = new NodeID(m_wfm.getID(), virtual.getIndex());
+        assertTrue("Node not executed after load",
+            m_wfm.getNodeContainer(loadedVirtual).getNodeContainerState().isExecuted());
+        BufferedDataTable after = getOutput(loadedVirtual);
+        assertEquals("Spec (including domain) after load", specBefore, after.getDataTableSpec());
+        assertEquals("Rows after load", rowsBefore, toStrings(after));
+    }
+
+    private BufferedDataTable getOutput(final NodeID id) {
+        return (BufferedDataTable)m_wfm.getNodeContainer(id).getOutPort(1).getPortObject();
+    }
+
+    private static List<String> toStrings(final BufferedDataTable table) {
+        List<String> result = new ArrayList<>();
+        for (DataRow row : table) {
+            StringBuilder b = new StringBuilder(row.getKey().getString());
+            for (DataCell cell : row) {
+                b.append(", ").append(cell);
+            }
+            result.add(b.toString());
+        }
+        return result;
+    }
+
+}
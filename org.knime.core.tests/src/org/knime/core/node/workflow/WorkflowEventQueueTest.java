@@ -0,0 +1,150 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.node.workflow;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.knime.core.node.workflow.WorkflowEvent.Type;
+
+/**
+ * Tests batching and coalescing in {@link WorkflowEventQueue}.
+ *
+ * @author agent
+ */
+public class WorkflowEventQueueTest {
+
+    /** Collects the batches it receives. */
+    private static final class RecordingListener implements WorkflowListener {
+        private final List<List<WorkflowEvent>> m_batches = new ArrayList<>();
+
+        @Override
+        public void workflowChanged(final WorkflowEvent event) {
+            throw new AssertionError("Events expected to be delivered in batches");
+        }
+
+        @Override
+        public void workflowChangedBatch(final List<WorkflowEvent> events) {
+            m_batches.add(events);
+        }
+    }
+
+    /** Events queued while no drain ran are delivered as one batch, repeated events are merged. */
+    @Test
+    public void testBatchingAndCoalescing() {
+        final List<Runnable> tasks = new ArrayList<>();
+        WorkflowEventQueue queue = new WorkflowEventQueue(tasks::add);
+        RecordingListener listener = new RecordingListener();
+        WorkflowListener[] listeners = new WorkflowListener[]{listener};
+        Object annotation = new Object();
+
+        queue.enqueue(new WorkflowEvent(Type.WORKFLOW_DIRTY, null, null, null), listeners);
+        queue.enqueue(new WorkflowEvent(Type.WORKFLOW_DIRTY, null, null, null), listeners);
+        queue.enqueue(new WorkflowEvent(Type.ANNOTATION_ADDED, null, null, annotation), listeners);
+        queue.enqueue(new WorkflowEvent(Type.WORKFLOW_DIRTY, null, null, null), listeners);
+        assertThat("Number of drain tasks", tasks.size(), is(1));
+
+        tasks.remove(0).run();
+        assertThat("Number of batches", listener.m_batches.size(), is(1));
+        List<WorkflowEvent> batch = listener.m_batches.get(0);
+        assertThat("Events in batch", batch.size(), is(3));
+        assertThat("First event", batch.get(0).getType(), is(Type.WORKFLOW_DIRTY));
+        assertThat("Second event", batch.get(1).getType(), is(Type.ANNOTATION_ADDED));
+        assertThat("Third event", batch.get(2).getType(), is(Type.WORKFLOW_DIRTY));
+
+        queue.enqueue(new WorkflowEvent(Type.ANNOTATION_REMOVED, null, annotation, null), listeners);
+        assertThat("Number of drain tasks after drain", tasks.size(), is(1));
+        tasks.remove(0).run();
+        assertThat("Number of batches after second drain", listener.m_batches.size(), is(2));
+    }
+
+    /** A listener not overriding the batch method gets every event even if it fails on one of them. */
+    @Test
+    public void testFailingListenerGetsRemainingEvents() {
+        final List<Runnable> tasks = new ArrayList<>();
+        WorkflowEventQueue queue = new WorkflowEventQueue(tasks::add);
+        final List<Type> received = new ArrayList<>();
+        WorkflowListener failing = new WorkflowListener() {
+            @Override
+            public void workflowChanged(final WorkflowEvent event) {
+                received.add(event.getType());
+                if (received.size() == 1) {
+                    throw new IllegalStateException("Expected test failure");
+                }
+            }
+        };
+        WorkflowListener[] listeners = new WorkflowListener[]{failing};
+        queue.enqueue(new WorkflowEvent(Type.NODE_ADDED, null, null, null), listeners);
+        queue.enqueue(new WorkflowEvent(Type.NODE_REMOVED, null, null, null), listeners);
+        queue.enqueue(new WorkflowEvent(Type.WORKFLOW_DIRTY, null, null, null), listeners);
+        tasks.remove(0).run();
+        assertThat("Received events", received,
+            is(Arrays.asList(Type.NODE_ADDED, Type.NODE_REMOVED, Type.WORKFLOW_DIRTY)));
+    }
+
+    /** Events for the listeners of different workflows are delivered in the order they occurred. */
+    @Test
+    public void testOrderAcrossWorkflows() {
+        final List<Runnable> tasks = new ArrayList<>();
+        WorkflowEventQueue queue = new WorkflowEventQueue(tasks::add);
+        final List<String> received = new ArrayList<>();
+        WorkflowListener[] listenersA = new WorkflowListener[]{e -> received.add("A " + e.getType())};
+        WorkflowListener[] listenersB = new WorkflowListener[]{e -> received.add("B " + e.getType())};
+        queue.enqueue(new WorkflowEvent(Type.NODE_ADDED, null, null, null), listenersA);
+        queue.enqueue(new WorkflowEvent(Type.NODE_ADDED, null, null, null), listenersB);
+        queue.enqueue(new WorkflowEvent(Type.NODE_REMOVED, null, null, null), listenersA);
+        tasks.remove(0).run();
+        assertThat("Received events", received, is(Arrays.asList("A NODE_ADDED", "B NODE_ADDED", "A NODE_REMOVED")));
+    }
+
+}
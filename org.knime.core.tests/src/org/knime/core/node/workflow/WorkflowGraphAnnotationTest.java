@@ -0,0 +1,201 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.node.workflow;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.node.workflow.node.adapter.AdapterNodeFactory;
+import org.knime.core.node.workflow.node.adapter.AdapterNodeModel;
+import org.knime.core.util.FileUtil;
+
+/**
+ * Applies random sequences of node/connection additions and removals to a workflow and checks that the incrementally
+ * updated graph annotations (depth, scope stacks, connected ports) equal those of a complete analysis.
+ *
+ * @author agent
+ */
+public class WorkflowGraphAnnotationTest {
+
+    private File m_workflowDirectory;
+
+    private WorkflowManager m_wfm;
+
+    /** Node factory whose model is a loop start. */
+    public static final class LoopStartNodeFactory extends AdapterNodeFactory {
+        /** {@inheritDoc} */
+        @Override
+        public AdapterNodeModel createNodeModel() {
+            return new LoopStartModel();
+        }
+    }
+
+    /** Node factory whose model is a loop end. */
+    public static final class LoopEndNodeFactory extends AdapterNodeFactory {
+        /** {@inheritDoc} */
+        @Override
+        public AdapterNodeModel createNodeModel() {
+            return new LoopEndModel();
+        }
+    }
+
+    private static final class LoopStartModel extends AdapterNodeModel implements LoopStartNode {
+        LoopStartModel() {
+            super(1, 1);
+        }
+    }
+
+    private static final class LoopEndModel extends AdapterNodeModel implements LoopEndNode {
+        LoopEndModel() {
+            super(1, 1);
+        }
+    }
+
+    /** Creates an empty project. */
+    @Before
+    public void setUp() throws Exception {
+        m_workflowDirectory = FileUtil.createTempDir(getClass().getSimpleName());
+        WorkflowCreationHelper creationHelper = new WorkflowCreationHelper();
+        creationHelper.setWorkflowContext(new WorkflowContext.Factory(m_workflowDirectory).createContext());
+        m_wfm = WorkflowManager.ROOT.createAndAddProject(getClass().getSimpleName(), creationHelper);
+    }
+
+    /** Removes the project. */
+    @After
+    public void tearDown() throws Exception {
+        WorkflowManager.ROOT.removeNode(m_wfm.getID());
+        FileUtil.deleteRecursively(m_workflowDirectory);
+    }
+
+    /** Random edits (a few per round) compared against a complete re-analysis after each round. */
+    @Test
+    public void testIncrementalUpdateEqualsFullAnalysis() {
+        Random random = new Random(20261017L);
+        Workflow workflow = m_wfm.getWorkflow();
+        List<NodeID> nodes = new ArrayList<>();
+        for (int round = 0; round < 300; round++) {
+            int edits = 1 + random.nextInt(3);
+            for (int i = 0; i < edits; i++) {
+                applyRandomEdit(random, nodes);
+            }
+            Map<NodeID, TreeSet<String>> incremental = snapshot(workflow, nodes);
+            workflow.clearGraphAnnotationCache();
+            Map<NodeID, TreeSet<String>> full = snapshot(workflow, nodes);
+            assertEquals("Graph annotations after round " + round, full, incremental);
+        }
+    }
+
+    private void applyRandomEdit(final Random random, final List<NodeID> nodes) {
+        int action = nodes.size() < 3 ? 0 : random.nextInt(10);
+        if (action < 3) {
+            switch (random.nextInt(4)) {
+                case 0:
+                    nodes.add(m_wfm.addNode(new AdapterNodeFactory(true)));
+                    break;
+                case 1:
+                    nodes.add(m_wfm.addNode(new LoopStartNodeFactory()));
+                    break;
+                case 2:
+                    nodes.add(m_wfm.addNode(new LoopEndNodeFactory()));
+                    break;
+                default:
+                    nodes.add(m_wfm.addNode(new AdapterNodeFactory()));
+            }
+        } else if (action < 7) {
+            NodeID source = nodes.get(random.nextInt(nodes.size()));
+            NodeID dest = nodes.get(random.nextInt(nodes.size()));
+            if (m_wfm.canAddNewConnection(source, 1, dest, 1)) {
+                m_wfm.addConnection(source, 1, dest, 1);
+            }
+        } else if (action < 9) {
+            List<ConnectionContainer> connections = new ArrayList<>(m_wfm.getConnectionContainers());
+            if (!connections.isEmpty()) {
+                m_wfm.removeConnection(connections.get(random.nextInt(connections.size())));
+            }
+        } else {
+            m_wfm.removeNode(nodes.remove(random.nextInt(nodes.size())));
+        }
+    }
+
+    /** Descriptions of all annotations of the given nodes. The scope stacks are only compared in the absence of
+     * errors - the merge order (which differs between incremental and full analysis) decides which of two
+     * incompatible stacks is kept. */
+    private static Map<NodeID, TreeSet<String>> snapshot(final Workflow workflow, final List<NodeID> nodes) {
+        Map<NodeID, TreeSet<String>> result = new HashMap<>();
+        for (NodeID id : nodes) {
+            TreeSet<String> descriptions = new TreeSet<>();
+            for (NodeGraphAnnotation nga : workflow.getNodeGraphAnnotations(id)) {
+                StringBuilder b = new StringBuilder();
+                b.append(nga.getOutportIndex()).append(" depth=").append(nga.getDepth());
+                b.append(" role=").append(nga.getRole());
+                b.append(" in=").append(new TreeSet<>(nga.getConnectedInportIndices()));
+                b.append(" out=").append(new TreeSet<>(nga.getConnectedOutportIndices()));
+                if (nga.getError() == null) {
+                    b.append(" start=").append(nga.getStartNodeStackAsString());
+                    b.append(" end=").append(nga.getEndNodeStackAsString());
+                } else {
+                    b.append(" error");
+                }
+                descriptions.add(b.toString());
+            }
+            result.put(id, descriptions);
+        }
+        return result;
+    }
+
+}
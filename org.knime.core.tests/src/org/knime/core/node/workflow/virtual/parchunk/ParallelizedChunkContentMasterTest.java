@@ -0,0 +1,295 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.node.workflow.virtual.parchunk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.workflow.LoopEndParallelizeNode;
+import org.knime.core.node.workflow.LoopStartParallelizeNode;
+import org.knime.core.node.workflow.NodeContainer;
+import org.knime.core.node.workflow.NodeID;
+import org.knime.core.node.workflow.WorkflowContext;
+import org.knime.core.node.workflow.WorkflowCreationHelper;
+import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.core.node.workflow.node.adapter.AdapterNodeFactory;
+import org.knime.core.node.workflow.node.adapter.AdapterNodeModel;
+import org.knime.core.util.FileUtil;
+
+/**
+ * Runs a parallel chunk loop in adaptive mode, i.e. with a start node whose
+ * {@link LoopStartParallelizeNode#getMaxConcurrentRemoteChunks()} is smaller than
+ * {@link LoopStartParallelizeNode#getNrRemoteChunks()}, so that the {@link ParallelizedChunkContentMaster} creates
+ * chunks while others finish. Also cancels and resets the loop while chunks are created, which used to deadlock
+ * as canceling took the workflow lock while holding the master's chunk monitor.
+ *
+ * @author agent
+ */
+public class ParallelizedChunkContentMasterTest {
+
+    private static volatile int nrRemoteChunks;
+
+    private static volatile int maxConcurrentRemoteChunks;
+
+    private static volatile long bodySleepMS;
+
+    private static volatile ParallelizedChunkContentMaster chunkMaster;
+
+    /** Executed chunks as seen by the end node, -1 if it didn't finish. */
+    private static volatile int executedChunksAtEnd;
+
+    private File m_workflowDirectory;
+
+    private WorkflowManager m_wfm;
+
+    private NodeID m_start;
+
+    private NodeID m_end;
+
+    /** Factory of the stub parallel loop start. */
+    public static final class StartNodeFactory extends AdapterNodeFactory {
+        /** {@inheritDoc} */
+        @Override
+        public AdapterNodeModel createNodeModel() {
+            return new StartNodeModel();
+        }
+    }
+
+    /** Factory of the stub parallel loop end. */
+    public static final class EndNodeFactory extends AdapterNodeFactory {
+        /** {@inheritDoc} */
+        @Override
+        public AdapterNodeModel createNodeModel() {
+            return new EndNodeModel();
+        }
+    }
+
+    /** Factory of the loop body, passes its input through after sleeping {@link #bodySleepMS}. */
+    public static final class BodyNodeFactory extends AdapterNodeFactory {
+        /** {@inheritDoc} */
+        @Override
+        public AdapterNodeModel createNodeModel() {
+            return new AdapterNodeModel(1, 1) {
+                @Override
+                protected PortObject[] execute(final PortObject[] inObjects, final ExecutionContext exec)
+                    throws Exception {
+                    Thread.sleep(bodySleepMS);
+                    return inObjects;
+                }
+            };
+        }
+    }
+
+    /** Hands the full input to each remote chunk. */
+    private static final class StartNodeModel extends AdapterNodeModel implements LoopStartParallelizeNode {
+        private PortObject m_input;
+
+        private ParallelizedChunkContentMaster m_chunkMaster;
+
+        StartNodeModel() {
+            super(1, 1);
+        }
+
+        @Override
+        protected PortObject[] execute(final PortObject[] inObjects, final ExecutionContext exec) throws Exception {
+            m_input = inObjects[0];
+            return inObjects;
+        }
+
+        @Override
+        public VirtualParallelizedChunkNodeInput getVirtualNodeInput(final int chunkIndex) {
+            return new VirtualParallelizedChunkNodeInput(new PortObject[]{m_input}, chunkIndex);
+        }
+
+        @Override
+        public int getNrRemoteChunks() {
+            return nrRemoteChunks;
+        }
+
+        @Override
+        public int getMaxConcurrentRemoteChunks() {
+            return maxConcurrentRemoteChunks;
+        }
+
+        @Override
+        public void setChunkMaster(final ParallelizedChunkContentMaster pccm) {
+            m_chunkMaster = pccm;
+            chunkMaster = pccm;
+        }
+
+        @Override
+        protected void reset() {
+            if (m_chunkMaster != null) {
+                m_chunkMaster.cleanupChunks();
+                m_chunkMaster = null;
+            }
+            m_input = null;
+        }
+    }
+
+    /** Waits for all chunks, cancels them when canceled itself. */
+    private static final class EndNodeModel extends AdapterNodeModel implements LoopEndParallelizeNode {
+        private volatile ParallelizedChunkContentMaster m_chunkMaster;
+
+        EndNodeModel() {
+            super(1, 1);
+        }
+
+        @Override
+        protected PortObject[] execute(final PortObject[] inObjects, final ExecutionContext exec) throws Exception {
+            ParallelizedChunkContentMaster master = m_chunkMaster;
+            try {
+                while (master.nrExecutingChunks() > 0) {
+                    exec.checkCanceled();
+                    Thread.sleep(10);
+                }
+            } catch (CanceledExecutionException | InterruptedException e) {
+                master.cancelChunkExecution();
+                throw e;
+            }
+            if (master.nrFailedChunks() > 0) {
+                throw new Exception(master.nrFailedChunks() + " chunk(s) failed");
+            }
+            executedChunksAtEnd = master.nrExecutedChunks();
+            return inObjects;
+        }
+
+        @Override
+        public void setParallelChunkMaster(final ParallelizedChunkContentMaster pcm) {
+            m_chunkMaster = pcm;
+        }
+
+        @Override
+        public void updateStatus() {
+        }
+    }
+
+    /** Creates source -&gt; start -&gt; body -&gt; end. */
+    @Before
+    public void setUp() throws Exception {
+        chunkMaster = null;
+        executedChunksAtEnd = -1;
+        m_workflowDirectory = FileUtil.createTempDir(getClass().getSimpleName());
+        WorkflowCreationHelper creationHelper = new WorkflowCreationHelper();
+        creationHelper.setWorkflowContext(new WorkflowContext.Factory(m_workflowDirectory).createContext());
+        m_wfm = WorkflowManager.ROOT.createAndAddProject(getClass().getSimpleName(), creationHelper);
+        NodeID source = m_wfm.addNode(new AdapterNodeFactory(true));
+        m_start = m_wfm.addNode(new StartNodeFactory());
+        NodeID body = m_wfm.addNode(new BodyNodeFactory());
+        m_end = m_wfm.addNode(new EndNodeFactory());
+        m_wfm.addConnection(source, 1, m_start, 1);
+        m_wfm.addConnection(m_start, 1, body, 1);
+        m_wfm.addConnection(body, 1, m_end, 1);
+    }
+
+    /** Removes the project. */
+    @After
+    public void tearDown() throws Exception {
+        m_wfm.getParent().cancelExecution(m_wfm);
+        m_wfm.waitWhileInExecution(30, TimeUnit.SECONDS);
+        WorkflowManager.ROOT.removeNode(m_wfm.getID());
+        FileUtil.deleteRecursively(m_workflowDirectory);
+    }
+
+    /** All chunks are created and executed although only two run at a time; resetting removes them. */
+    @Test(timeout = 60000)
+    public void testAdaptiveExecution() throws Exception {
+        nrRemoteChunks = 6;
+        maxConcurrentRemoteChunks = 2;
+        bodySleepMS = 0;
+        m_wfm.executeAllAndWaitUntilDone();
+        assertTrue("Loop end not executed", m_wfm.getNodeContainer(m_end).getNodeContainerState().isExecuted());
+        assertEquals("Executed remote chunks", nrRemoteChunks, executedChunksAtEnd);
+        assertNotNull("No chunk metanode", findChunkMetaNode());
+
+        m_wfm.resetAndConfigureNode(m_start);
+        assertNull("Chunk metanode not removed on reset", findChunkMetaNode());
+    }
+
+    /** Canceling while the master creates further chunks neither deadlocks nor leaves chunks running. */
+    @Test(timeout = 60000)
+    public void testCancelWhileDispatching() throws Exception {
+        nrRemoteChunks = 50;
+        maxConcurrentRemoteChunks = 2;
+        bodySleepMS = 20;
+        m_wfm.executeAll();
+        while (chunkMaster == null || chunkMaster.nrExecutedChunks() < 4) {
+            Thread.sleep(10);
+        }
+        m_wfm.getParent().cancelExecution(m_wfm);
+        assertTrue("Workflow still executing after cancel (deadlock?)",
+            m_wfm.waitWhileInExecution(30, TimeUnit.SECONDS));
+        assertFalse("Loop end executed", m_wfm.getNodeContainer(m_end).getNodeContainerState().isExecuted());
+        assertEquals("Executing chunks after cancel", 0, chunkMaster.nrExecutingChunks());
+
+        m_wfm.resetAndConfigureAll();
+        assertNull("Chunk metanode not removed on reset", findChunkMetaNode());
+    }
+
+    private WorkflowManager findChunkMetaNode() {
+        for (NodeContainer nc : m_wfm.getNodeContainers()) {
+            if (nc instanceof WorkflowManager) {
+                return (WorkflowManager)nc;
+            }
+        }
+        return null;
+    }
+
+}
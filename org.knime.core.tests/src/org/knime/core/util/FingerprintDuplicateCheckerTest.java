@@ -0,0 +1,129 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.util;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Tests {@link FingerprintDuplicateChecker}.
+ *
+ * @author agent
+ */
+public class FingerprintDuplicateCheckerTest {
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    /** Many keys, spilled to disk, no duplicates. */
+    @Test
+    public void testNoDuplicates() throws Exception {
+        FingerprintDuplicateChecker dc = new FingerprintDuplicateChecker(1000, 7);
+        try {
+            for (int i = 0; i < 100000; i++) {
+                dc.addKey("Row" + i);
+            }
+            dc.checkForDuplicates();
+        } finally {
+            dc.clear();
+        }
+    }
+
+    /** Duplicate of a key that is still in memory is detected when added. */
+    @Test
+    public void testEarlyDuplicate() throws Exception {
+        FingerprintDuplicateChecker dc = new FingerprintDuplicateChecker();
+        dc.addKey("A");
+        expectedException.expect(DuplicateKeyException.class);
+        dc.addKey("A");
+    }
+
+    /** Duplicate of a key that is still in memory is detected when added, also after the buffer has grown. */
+    @Test
+    public void testEarlyDuplicateInGrownBuffer() throws Exception {
+        FingerprintDuplicateChecker dc = new FingerprintDuplicateChecker(10000, 7);
+        try {
+            for (int i = 0; i < 5000; i++) {
+                dc.addKey("Row" + i);
+            }
+            dc.addKey("Row3");
+            fail("No duplicate detected even though one is present");
+        } catch (DuplicateKeyException e) {
+            assertThat("Duplicate key", e.getKey(), is("Row3"));
+        } finally {
+            dc.clear();
+        }
+    }
+
+    /** Duplicate of a key that has been written to disk is detected in the final check. */
+    @Test
+    public void testSpilledDuplicate() throws IOException {
+        FingerprintDuplicateChecker dc = new FingerprintDuplicateChecker(1000, 7);
+        try {
+            for (int i = 0; i < 50000; i++) {
+                dc.addKey("Row" + i);
+            }
+            dc.addKey("Row17");
+            for (int i = 50000; i < 60000; i++) {
+                dc.addKey("Row" + i);
+            }
+            dc.checkForDuplicates();
+            fail("No duplicate detected even though one is present");
+        } catch (DuplicateKeyException e) {
+            assertThat("Duplicate key", e.getKey(), is("Row17"));
+        } finally {
+            dc.clear();
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.data;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cheap approximate statistics of the values of a (nominal) column with constant memory: the number of distinct
+ * values (HyperLogLog, relative standard error about 1.6%) and the most frequent values (Misra-Gries summary; the
+ * reported counts are lower bounds and underestimate the true counts by at most n / (capacity + 1)). Used by
+ * {@link DataTableDomainCreator} to keep some information about columns with too many possible values.
+ *
+ * <p>
+ * Not thread-safe.
+ *
+ * @author agent
+ */
+final class ApproximateColumnStatistics {
+
+    /** Number of index bits of the HyperLogLog sketch. */
+    private static final int PRECISION = 12;
+
+    private static final int NR_REGISTERS = 1 << PRECISION;
+
+    /** HyperLogLog registers, each holding the maximum rank (leading zeros + 1) seen for its bucket. */
+    private final byte[] m_registers = new byte[NR_REGISTERS];
+
+    /** Maximum number of counters of the frequent values summary. */
+    private final int m_capacity;
+
+    /** The frequent values summary (value to count). */
+    private final Map<DataCell, long[]> m_counters;
+
+    /**
+     * @param topK the number of most frequent values to report (the summary keeps ten times as many counters)
+     */
+    ApproximateColumnStatistics(final int topK) {
+        m_capacity = 10 * topK;
+        m_counters = new HashMap<>(2 * m_capacity);
+    }
+
+    /**
+     * Adds a (non-missing) value.
+     *
+     * @param cell the value
+     */
+    void add(final DataCell cell) {
+        addHash(hash(cell));
+        final long[] counter = m_counters.get(cell);
+        if (counter != null) {
+            counter[0]++;
+        } else if (m_counters.size() < m_capacity) {
+            m_counters.put(cell, new long[]{1L});
+        } else {
+            // decrement all counters (and the new value's count of 1), amortized constant time
+            for (Iterator<long[]> it = m_counters.values().iterator(); it.hasNext();) {
+                if (--it.next()[0] == 0L) {
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    private void addHash(final long hash) {
+        final int index = (int)(hash >>> (64 - PRECISION));
+        // guard bit so that the rank is bounded by 64 - PRECISION + 1
+        final long remainder = (hash << PRECISION) | (1L << (PRECISION - 1));
+        final byte rank = (byte)(Long.numberOfLeadingZeros(remainder) + 1);
+        if (rank > m_registers[index]) {
+            m_registers[index] = rank;
+        }
+    }
+
+    /**
+     * @return the estimated number of distinct values added
+     */
+    long getDistinctValuesEstimate() {
+        double sum = 0.0;
+        int zeroRegisters = 0;
+        for (byte register : m_registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeroRegisters++;
+            }
+        }
+        final double m = NR_REGISTERS;
+        double estimate = 0.7213 / (1.0 + 1.079 / m) * m * m / sum;
+        if (estimate <= 2.5 * m && zeroRegisters > 0) {
+            // small range correction (linear counting)
+            estimate = m * Math.log(m / zeroRegisters);
+        }
+        return Math.round(estimate);
+    }
+
+    /**
+     * @param k the maximum number of values
+     * @return the (at most) k most frequent values with their (lower bound) counts, most frequent first
+     */
+    List<Map.Entry<DataCell, Long>> getTopValues(final int k) {
+        final List<Map.Entry<DataCell, Long>> result = new ArrayList<>(m_counters.size());
+        for (Map.Entry<DataCell, long[]> e : m_counters.entrySet()) {
+            result.add(new AbstractMap.SimpleImmutableEntry<>(e.getKey(), e.getValue()[0]));
+        }
+        result.sort((e1, e2) -> Long.compare(e2.getValue(), e1.getValue()));
+        return result.size() > k ? result.subList(0, k) : result;
+    }
+
+    /** 64-bit hash of the cell, computed from the string for string values (their hash code has only 32 bits). */
+    private static long hash(final DataCell cell) {
+        long h;
+        if (cell instanceof StringValue) {
+            // FNV-1a
+            final String s = ((StringValue)cell).getStringValue();
+            h = 0xcbf29ce484222325L;
+            for (int i = 0; i < s.length(); i++) {
+                h ^= s.charAt(i);
+                h *= 0x100000001b3L;
+            }
+        } else {
+            h = cell.hashCode();
+        }
+        // MurmurHash3 finalizer
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
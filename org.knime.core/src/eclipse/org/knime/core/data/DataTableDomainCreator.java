@@ -46,9 +46,21 @@
  */
 package org.knime.core.data;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.knime.core.data.container.BlobWrapperDataCell;
 import org.knime.core.data.container.DataContainerSettings;
@@ -62,10 +74,63 @@
  * {@link #updateDomain(DataTable, ExecutionMonitor, int)}. Finally the resulting spec including updated domains is
  * created by calling {@link #createSpec()}.
  *
+ * <p>
+ * Optionally ({@link #setComputeApproximateStatistics(boolean)}) approximate statistics are kept for all columns
+ * whose possible values are computed, also after the number of values exceeded the maximum: an estimate of the number
+ * of distinct values and the most frequent values, which are added as column properties (see
+ * {@link #PROPERTY_APPROXIMATE_DISTINCT_VALUES} and {@link #PROPERTY_APPROXIMATE_TOP_VALUES}).
+ *
  * @author Heiko Hofer
  * @since 2.10
  */
 public class DataTableDomainCreator implements IDataTableDomainCreator {
+
+    /**
+     * Column property holding the estimated number of distinct values of the column (a decimal number).
+     *
+     * @since 3.8
+     */
+    public static final String PROPERTY_APPROXIMATE_DISTINCT_VALUES = "knime.domain.approximateDistinctValues";
+
+    /**
+     * Column property holding the most frequent values of the column, one value per line (most frequent first), each
+     * line consisting of a lower bound of the value's count, a tab and the value's string representation.
+     *
+     * @since 3.8
+     */
+    public static final String PROPERTY_APPROXIMATE_TOP_VALUES = "knime.domain.approximateTopValues";
+
+    /** Number of most frequent values reported in {@link #PROPERTY_APPROXIMATE_TOP_VALUES}. */
+    private static final int TOP_VALUES = 10;
+
+    /**
+     * Minimum number of cells for the domain to be updated in parallel. Cells of row batches are collected until this
+     * number is reached.
+     */
+    private static final int MIN_CELLS_PER_PARALLEL_BATCH = 10000;
+
+    private static final int NR_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors());
+
+    /**
+     * The threads updating column ranges of a batch. It's not the global thread pool as table writers wait for the
+     * results, which must not depend on other (node) jobs to finish.
+     */
+    private static final ThreadPoolExecutor DOMAIN_EXECUTORS = new ThreadPoolExecutor(NR_THREADS, NR_THREADS, 60L,
+        TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+            private final AtomicInteger m_threadCount = new AtomicInteger();
+
+            /** {@inheritDoc} */
+            @Override
+            public Thread newThread(final Runnable r) {
+                Thread t = new Thread(r, "KNIME-DomainCreator-" + m_threadCount.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            }
+        });
+
+    static {
+        DOMAIN_EXECUTORS.allowCoreThreadTimeOut(true);
+    }
     /** Defines columns to recreate or drop domain values. */
     private final DomainCreatorColumnSelection m_domainValuesColumnSelection;
 
@@ -85,6 +150,24 @@ public class DataTableDomainCreator implements IDataTableDomainCreator {
 
     private final DataValueComparator[] m_comparators;
 
+    /** Approximate statistics per column, null if not enabled or not a column with computed possible values. */
+    private ApproximateColumnStatistics[] m_approximateStatistics;
+
+    /**
+     * Whether a subclass overrides {@link #updateDomain(DataRow)}, in which case batches are passed row by row to that
+     * method and not processed in parallel.
+     */
+    private final boolean m_isRowUpdateOverridden;
+
+    /**
+     * Cells of rows passed to {@link #updateDomain(List)} that are not processed yet, lazily allocated; the entries of
+     * columns whose domain is not computed are null.
+     */
+    private DataCell[][] m_pendingCells;
+
+    /** Number of used entries in {@link #m_pendingCells}. */
+    private int m_pendingRowCount;
+
     /**
      * A new instance that recreates the domain of certains columns. Which columns are processed and if the domains
      * should be initialized with the domain from the incoming table can be controlled by the two
@@ -140,6 +223,15 @@ public DataTableDomainCreator(final DataTableSpec inputSpec,
             }
             i++;
         }
+        m_isRowUpdateOverridden = isRowUpdateOverridden(getClass());
+    }
+
+    private static boolean isRowUpdateOverridden(final Class<?> cl) {
+        try {
+            return cl.getMethod("updateDomain", DataRow.class).getDeclaringClass() != DataTableDomainCreator.class;
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
     }
 
     /**
@@ -180,9 +272,31 @@ public void setMaxPossibleValues(final int maxValues) {
         if (maxValues < 0) {
             throw new IllegalArgumentException("Maximum possible values must be >= 0 but is " + maxValues);
         }
+        flushPendingCells();
         m_maxPossibleValues = maxValues;
     }
 
+    /**
+     * Enables or disables the approximate statistics (distinct values estimate and most frequent values) of the
+     * columns whose possible values are computed. Must be called before the domain is updated.
+     *
+     * @param compute whether to compute approximate statistics
+     * @since 3.8
+     */
+    public void setComputeApproximateStatistics(final boolean compute) {
+        flushPendingCells();
+        if (!compute) {
+            m_approximateStatistics = null;
+            return;
+        }
+        m_approximateStatistics = new ApproximateColumnStatistics[m_inputSpec.getNumColumns()];
+        for (int i = 0; i < m_approximateStatistics.length; i++) {
+            if (m_domainValuesColumnSelection.createDomain(m_inputSpec.getColumnSpec(i))) {
+                m_approximateStatistics[i] = new ApproximateColumnStatistics(TOP_VALUES);
+            }
+        }
+    }
+
     /**
      * Updates the min and max value for an respective column. This method does nothing if the min and max values don't
      * need to be stored, e.g. the column at hand contains string values.
@@ -225,6 +339,7 @@ private boolean isNaN(final DataCell cell) {
      */
     @Override
     public DataTableSpec createSpec() {
+        flushPendingCells();
         DataColumnSpec[] outColSpecs = new DataColumnSpec[m_inputSpec.getNumColumns()];
         for (int i = 0; i < outColSpecs.length; i++) {
             DataColumnSpec original = m_inputSpec.getColumnSpec(i);
@@ -250,27 +365,153 @@ public DataTableSpec createSpec() {
 
             DataColumnSpecCreator specCreator = new DataColumnSpecCreator(original);
             specCreator.setDomain(domainCreator.createDomain());
+            if (m_approximateStatistics != null && m_approximateStatistics[i] != null) {
+                specCreator.setProperties(
+                    original.getProperties().cloneAndOverwrite(createApproximateProperties(m_approximateStatistics[i])));
+            }
             outColSpecs[i] = specCreator.createSpec();
         }
 
         return new DataTableSpec(m_inputSpec.getName(), outColSpecs);
     }
 
+    private static Map<String, String> createApproximateProperties(final ApproximateColumnStatistics stats) {
+        final Map<String, String> properties = new HashMap<>();
+        properties.put(PROPERTY_APPROXIMATE_DISTINCT_VALUES, Long.toString(stats.getDistinctValuesEstimate()));
+        final StringBuilder topValues = new StringBuilder();
+        for (Map.Entry<DataCell, Long> e : stats.getTopValues(TOP_VALUES)) {
+            if (topValues.length() > 0) {
+                topValues.append('\n');
+            }
+            topValues.append(e.getValue()).append('\t').append(e.getKey().toString().replace('\n', ' '));
+        }
+        properties.put(PROPERTY_APPROXIMATE_TOP_VALUES, topValues.toString());
+        return properties;
+    }
+
     /** {@inheritDoc} */
     @Override
     public void updateDomain(final DataRow row) {
+        // rows passed before must be processed first (order of possible values)
+        flushPendingCells();
         assert row.getNumCells() == m_inputSpec.getNumColumns() : "Unequal number of columns in spec and row: "
             + m_inputSpec.getNumColumns() + " vs. " + row.getNumCells();
 
         int i = 0;
         for (DataCell c : row) {
-            if (!c.isMissing() && m_possVals[i] != null) {
-                if (m_possVals[i].add(c) && (m_possVals[i].size() > m_maxPossibleValues)) {
-                    m_possVals[i] = null;
+            updateColumn(i, c);
+            i++;
+        }
+    }
+
+    private void updateColumn(final int i, final DataCell c) {
+        if (!c.isMissing()) {
+            if (m_possVals[i] != null && m_possVals[i].add(c) && (m_possVals[i].size() > m_maxPossibleValues)) {
+                m_possVals[i] = null;
+            }
+            if (m_approximateStatistics != null && m_approximateStatistics[i] != null) {
+                m_approximateStatistics[i].add(c);
+            }
+        }
+        updateMinMax(i, c, m_mins, m_maxs, m_comparators);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The cells of the rows are read on the calling thread only. They are collected until there are enough cells
+     * (across batches) to update the domain in parallel, each thread updating a range of columns; the remaining cells
+     * are processed when the spec is created or another row is passed to {@link #updateDomain(DataRow)}. Subclasses
+     * that override {@link #updateDomain(DataRow)} get all rows of the batch passed to that method, one by one on
+     * the calling thread.
+     *
+     * @since 3.8
+     */
+    @Override
+    public void updateDomain(final List<? extends DataRow> rows) {
+        final int nrColumns = m_inputSpec.getNumColumns();
+        if (m_isRowUpdateOverridden || Math.min(NR_THREADS, nrColumns) <= 1) {
+            for (DataRow row : rows) {
+                updateDomain(row);
+            }
+            return;
+        }
+        if (m_pendingCells == null) {
+            m_pendingCells = new DataCell[Math.max(1, MIN_CELLS_PER_PARALLEL_BATCH / nrColumns)][];
+        }
+        for (DataRow row : rows) {
+            assert row.getNumCells() == nrColumns : "Unequal number of columns in spec and row: " + nrColumns
+                + " vs. " + row.getNumCells();
+            final DataCell[] cells = new DataCell[nrColumns];
+            for (int i = 0; i < nrColumns; i++) {
+                if (isDomainColumn(i)) {
+                    final DataCell c = row.getCell(i);
+                    // unwrap here, the wrapper may read the blob (not thread-safe)
+                    cells[i] = c instanceof BlobWrapperDataCell ? ((BlobWrapperDataCell)c).getCell() : c;
+                }
+            }
+            m_pendingCells[m_pendingRowCount++] = cells;
+            if (m_pendingRowCount == m_pendingCells.length) {
+                flushPendingCells();
+            }
+        }
+    }
+
+    /** Whether any part of the domain (or statistics) of column i is computed. */
+    private boolean isDomainColumn(final int i) {
+        return m_possVals[i] != null || m_mins[i] != null
+            || (m_approximateStatistics != null && m_approximateStatistics[i] != null);
+    }
+
+    /** Updates the domain with the cells collected in {@link #updateDomain(List)}, in parallel if there are enough. */
+    private void flushPendingCells() {
+        final int nrRows = m_pendingRowCount;
+        if (nrRows == 0) {
+            return;
+        }
+        final DataCell[][] pending = m_pendingCells;
+        m_pendingRowCount = 0;
+        final int nrColumns = m_inputSpec.getNumColumns();
+        final int nrRanges = Math.min(NR_THREADS, nrColumns);
+        if ((long)nrRows * nrColumns < MIN_CELLS_PER_PARALLEL_BATCH) {
+            updateColumns(pending, nrRows, 0, nrColumns);
+            Arrays.fill(pending, 0, nrRows, null);
+            return;
+        }
+        final List<Future<?>> futures = new ArrayList<>(nrRanges);
+        for (int r = 0; r < nrRanges; r++) {
+            final int from = (int)((long)r * nrColumns / nrRanges);
+            final int to = (int)((long)(r + 1) * nrColumns / nrRanges);
+            futures.add(DOMAIN_EXECUTORS.submit(() -> updateColumns(pending, nrRows, from, to)));
+        }
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while updating domain", e);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            }
+            throw new IllegalStateException(cause.getMessage(), cause);
+        } finally {
+            Arrays.fill(pending, 0, nrRows, null);
+        }
+    }
+
+    /** Updates the domain of columns [from, to) with the pending cells; only accesses the state of these columns. */
+    private void updateColumns(final DataCell[][] pending, final int nrRows, final int from, final int to) {
+        for (int r = 0; r < nrRows; r++) {
+            final DataCell[] cells = pending[r];
+            for (int i = from; i < to; i++) {
+                if (cells[i] != null) {
+                    updateColumn(i, cells[i]);
                 }
             }
-            updateMinMax(i, c, m_mins, m_maxs, m_comparators);
-            i++;
         }
     }
 
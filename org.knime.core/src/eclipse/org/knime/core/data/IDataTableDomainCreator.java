@@ -48,6 +48,8 @@
  */
 package org.knime.core.data;
 
+import java.util.List;
+
 /**
  * Interface for classes used to create or recreate the domain of a data table.
  *
@@ -64,6 +66,18 @@ public interface IDataTableDomainCreator {
      */
     void updateDomain(DataRow row);
 
+    /**
+     * Updates the domain values with a batch of rows, equivalent to calling {@link #updateDomain(DataRow)} for each
+     * row. Implementations may process the batch in parallel.
+     *
+     * @param rows the data rows
+     */
+    default void updateDomain(final List<? extends DataRow> rows) {
+        for (DataRow row : rows) {
+            updateDomain(row);
+        }
+    }
+
     /**
      * Set the maximum number of possible values in the domain of a nominal value columns.
      *
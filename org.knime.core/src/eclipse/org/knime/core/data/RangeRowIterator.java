@@ -0,0 +1,119 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.data;
+
+import java.util.NoSuchElementException;
+
+import org.knime.core.data.container.CloseableRowIterator;
+
+/**
+ * Decorator for a row iterator that only returns a range of rows. Leading rows are skipped by reading them from the
+ * underlying iterator; used for tables that can't seek to a row.
+ *
+ * @author agent
+ * @since 3.8
+ * @see RowIteratorBuilder#fromIndex(long)
+ * @see RowIteratorBuilder#toIndex(long)
+ */
+public final class RangeRowIterator extends CloseableRowIterator {
+
+    private final RowIterator m_iterator;
+
+    /** Number of rows still to be returned. */
+    private long m_remaining;
+
+    /**
+     * Creates a new iterator, skips the leading rows.
+     *
+     * @param iterator the base iterator that should be decorated (closed when this iterator is closed, if closeable)
+     * @param fromIndex the index of the first row to return, inclusive
+     * @param toIndex the index of the last row to return, inclusive, {@link Long#MAX_VALUE} for all rows
+     */
+    public RangeRowIterator(final RowIterator iterator, final long fromIndex, final long toIndex) {
+        m_iterator = iterator;
+        m_remaining = toIndex == Long.MAX_VALUE ? Long.MAX_VALUE : Math.max(0L, toIndex - fromIndex + 1);
+        for (long i = 0; i < fromIndex && iterator.hasNext(); i++) {
+            iterator.next();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNext() {
+        if (m_remaining > 0 && m_iterator.hasNext()) {
+            return true;
+        }
+        close();
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DataRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("Iterator at end");
+        }
+        m_remaining--;
+        return m_iterator.next();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        m_remaining = 0;
+        if (m_iterator instanceof CloseableRowIterator) {
+            ((CloseableRowIterator)m_iterator).close();
+        }
+    }
+}
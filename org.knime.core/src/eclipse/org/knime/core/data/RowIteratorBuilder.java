@@ -89,6 +89,45 @@
      */
     RowIteratorBuilder<I> filterColumns(String... columns);
 
+    /**
+     * Iterate only over rows starting at the given (0-based) row index. Implementations that can't seek in the
+     * underlying storage skip the leading rows.
+     * <p>
+     * The default implementation returns a builder that skips the leading rows of the iterators built by this
+     * builder, callers must therefore continue with the returned builder. Implementations that can seek should
+     * override it.
+     *
+     * @param index the index of the first row to return, inclusive
+     * @return this {@link RowIteratorBuilder} or a builder wrapping it
+     * @throws IllegalArgumentException if the index is negative
+     * @since 3.8
+     */
+    default RowIteratorBuilder<I> fromIndex(final long index) {
+        CheckUtils.checkArgument(index >= 0, "Row index must not be negative: %d", index);
+        return index == 0L ? this : new SkippingRowIteratorBuilder<>(this, index);
+    }
+
+    /**
+     * Iterate only over rows up to the given (0-based) row index. The iterator ends early if the table has fewer rows.
+     * <p>
+     * The default implementation only accepts {@link Long#MAX_VALUE} (all rows) and throws an
+     * {@link UnsupportedOperationException} otherwise: ending early requires decorating the iterator, which can't be
+     * done for an arbitrary iterator type <code>I</code>. Implementations should override it.
+     *
+     * @param index the index of the last row to return, inclusive
+     * @return this {@link RowIteratorBuilder}
+     * @throws IllegalArgumentException if the index is negative
+     * @throws UnsupportedOperationException if the implementation doesn't support row ranges
+     * @since 3.8
+     */
+    default RowIteratorBuilder<I> toIndex(final long index) {
+        CheckUtils.checkArgument(index >= 0, "Row index must not be negative: %d", index);
+        if (index != Long.MAX_VALUE) {
+            throw new UnsupportedOperationException(getClass().getName() + " does not support row ranges");
+        }
+        return this;
+    }
+
     /**
      * Build a new row iterator with the behavior specified via methods invoked in this builder.
      *
@@ -106,19 +145,45 @@
      */
     public static class DefaultRowIteratorBuilder<I extends RowIterator> implements RowIteratorBuilder<I> {
 
-        private final Supplier<I> m_iteratorSupplier;
+        private final RangeIteratorSupplier<I> m_iteratorSupplier;
 
         private final DataTableSpec m_spec;
 
+        /** Whether created with a {@link RangeIteratorSupplier}, i.e. whether {@link #toIndex(long)} is supported. */
+        private final boolean m_supportsEndIndex;
+
+        private long m_fromIndex = 0L;
+
+        private long m_toIndex = Long.MAX_VALUE;
+
         /**
-         * Constructs a new {@link org.knime.core.data.RowIteratorBuilder.DefaultRowIteratorBuilder}.
+         * Constructs a new {@link org.knime.core.data.RowIteratorBuilder.DefaultRowIteratorBuilder}. Iterators built
+         * with a {@link #fromIndex(long) start index} skip the leading rows; an {@link #toIndex(long) end index} is
+         * not supported (use {@link #DefaultRowIteratorBuilder(RangeIteratorSupplier, DataTableSpec)} instead).
          *
          * @param iteratorSupplier the supplier default iterators that are to be returned when
          *            {@link org.knime.core.data.RowIteratorBuilder.DefaultRowIteratorBuilder#build()} is invoked
          * @param spec the specification of the table over which to iterate
          */
         public DefaultRowIteratorBuilder(final Supplier<I> iteratorSupplier, final DataTableSpec spec) {
+            CheckUtils.checkArgumentNotNull(iteratorSupplier, "Argument must not be null");
+            m_iteratorSupplier = (fromIndex, toIndex) -> SkippingRowIteratorBuilder.skip(iteratorSupplier.get(), fromIndex);
+            m_supportsEndIndex = false;
+            m_spec = CheckUtils.checkArgumentNotNull(spec, "Spec must not be null");
+        }
+
+        /**
+         * Constructs a new {@link org.knime.core.data.RowIteratorBuilder.DefaultRowIteratorBuilder} that supports
+         * row ranges.
+         *
+         * @param iteratorSupplier the supplier of iterators over the requested row range that are to be returned when
+         *            {@link org.knime.core.data.RowIteratorBuilder.DefaultRowIteratorBuilder#build()} is invoked
+         * @param spec the specification of the table over which to iterate
+         * @since 3.8
+         */
+        public DefaultRowIteratorBuilder(final RangeIteratorSupplier<I> iteratorSupplier, final DataTableSpec spec) {
             m_iteratorSupplier = CheckUtils.checkArgumentNotNull(iteratorSupplier, "Argument must not be null");
+            m_supportsEndIndex = true;
             m_spec = CheckUtils.checkArgumentNotNull(spec, "Spec must not be null");
         }
 
@@ -139,14 +204,71 @@ public RowIteratorBuilder<I> filterColumns(final String... columns) {
             return filterColumns(m_spec.columnsToIndices(columns));
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public RowIteratorBuilder<I> fromIndex(final long index) {
+            CheckUtils.checkArgument(index >= 0, "Row index must not be negative: %d", index);
+            m_fromIndex = index;
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public RowIteratorBuilder<I> toIndex(final long index) {
+            CheckUtils.checkArgument(index >= 0, "Row index must not be negative: %d", index);
+            if (!m_supportsEndIndex && index != Long.MAX_VALUE) {
+                throw new UnsupportedOperationException("An end index requires a builder created with a "
+                    + RangeIteratorSupplier.class.getSimpleName());
+            }
+            m_toIndex = index;
+            return this;
+        }
+
+        /**
+         * @return the index of the first row to iterate, 0 if not set
+         * @since 3.8
+         */
+        protected final long getFromIndex() {
+            return m_fromIndex;
+        }
+
+        /**
+         * @return the index of the last row to iterate (inclusive), {@link Long#MAX_VALUE} if not set
+         * @since 3.8
+         */
+        protected final long getToIndex() {
+            return m_toIndex;
+        }
+
         /**
          * {@inheritDoc}
          */
         @Override
         public I build() {
-            return m_iteratorSupplier.get();
+            return m_iteratorSupplier.get(m_fromIndex, m_toIndex);
         }
 
     }
 
+    /**
+     * Supplies iterators over a range of rows.
+     *
+     * @param <I> the row iterator to be supplied
+     * @since 3.8
+     */
+    @FunctionalInterface
+    public interface RangeIteratorSupplier<I extends RowIterator> {
+
+        /**
+         * @param fromIndex the index of the first row to return, inclusive, not negative
+         * @param toIndex the index of the last row to return, inclusive, {@link Long#MAX_VALUE} for all rows
+         * @return a new iterator over the range
+         */
+        I get(long fromIndex, long toIndex);
+    }
+
 }
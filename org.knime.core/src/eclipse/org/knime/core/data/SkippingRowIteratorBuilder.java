@@ -0,0 +1,118 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.data;
+
+import org.knime.core.node.util.CheckUtils;
+
+/**
+ * Builder returned by the default {@link RowIteratorBuilder#fromIndex(long)}: builds iterators with the wrapped
+ * builder and skips their leading rows.
+ *
+ * @param <I> the row iterator to be built
+ * @author agent
+ */
+final class SkippingRowIteratorBuilder<I extends RowIterator> implements RowIteratorBuilder<I> {
+
+    private final RowIteratorBuilder<I> m_delegate;
+
+    private long m_fromIndex;
+
+    SkippingRowIteratorBuilder(final RowIteratorBuilder<I> delegate, final long fromIndex) {
+        m_delegate = delegate;
+        m_fromIndex = fromIndex;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RowIteratorBuilder<I> filterColumns(final int... indices) {
+        m_delegate.filterColumns(indices);
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RowIteratorBuilder<I> filterColumns(final String... columns) {
+        m_delegate.filterColumns(columns);
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RowIteratorBuilder<I> fromIndex(final long index) {
+        CheckUtils.checkArgument(index >= 0, "Row index must not be negative: %d", index);
+        m_fromIndex = index;
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RowIteratorBuilder<I> toIndex(final long index) {
+        m_delegate.toIndex(index);
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public I build() {
+        return skip(m_delegate.build(), m_fromIndex);
+    }
+
+    /**
+     * Skips the given number of rows (or all if there are fewer).
+     *
+     * @param iterator the iterator to advance
+     * @param count the number of rows to skip
+     * @return the argument iterator
+     */
+    static <I extends RowIterator> I skip(final I iterator, final long count) {
+        for (long i = 0; i < count && iterator.hasNext(); i++) {
+            iterator.next();
+        }
+        return iterator;
+    }
+}
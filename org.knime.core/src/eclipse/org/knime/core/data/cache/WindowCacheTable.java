@@ -365,10 +365,11 @@ public List<DataRow> getRows(final long start, final int length, final Execution
         }
 
         /* not all rows in cache */
-        // some rows already released from cache
-        if (start < (m_rowCountOfInterestInIterator - cacheSize)) {
-            // clear cache, init new iterator
-            clearCacheAndInitIterator();
+        // some rows already released from cache or all cached rows would be evicted anyway: clear cache,
+        // init new iterator starting shortly before the requested rows (tables seek to that row if they can)
+        if (start < (m_rowCountOfInterestInIterator - cacheSize)
+                || (hasRowCount() && start > m_rowCountOfInterestInIterator + cacheSize)) {
+            clearCacheAndInitIterator(Math.max(0, start - m_lookAheadSize));
         }
         assert (start + length >= m_rowCountOfInterestInIterator - 1);
 
@@ -434,9 +435,12 @@ private boolean cacheNextRow() {
      * Get new iterator, only to be called when data is set. If predicates are set those are tried to push down to
      * the iterator.
      */
-    private RowIterator getNewDataIterator() {
+    private RowIterator getNewDataIterator(final long fromRow) {
         assert hasData();
         RowIteratorBuilder<? extends RowIterator> iteratorBuilder = m_table.iteratorBuilder();
+        if (fromRow > 0) {
+            iteratorBuilder = iteratorBuilder.fromIndex(fromRow);
+        }
         if (m_includedColumnIndices != null) {
             iteratorBuilder.filterColumns(m_includedColumnIndices.stream().toArray(String[]::new));
         }
@@ -447,16 +451,25 @@ private RowIterator getNewDataIterator() {
      * Clears cache, instantiates a new iterator.
      */
     private void clearCacheAndInitIterator() {
+        clearCacheAndInitIterator(0L);
+    }
+
+    /**
+     * Clears cache, instantiates a new iterator that starts at the given row.
+     *
+     * @param fromRow the index of the first row returned by the new iterator
+     */
+    private void clearCacheAndInitIterator(final long fromRow) {
         if (!hasData()) {
             return;
         }
         if (m_tableIterator instanceof CloseableRowIterator) {
             ((CloseableRowIterator)m_tableIterator).close();
         }
-        m_tableIterator = getNewDataIterator();
-        m_rowCountInIterator = 0;
+        m_tableIterator = getNewDataIterator(fromRow);
+        m_rowCountInIterator = fromRow;
         // all updated in nextBlock()
-        m_rowCountOfInterestInIterator = 0;
+        m_rowCountOfInterestInIterator = fromRow;
         // clear cache
         Arrays.fill(m_cachedRows, null);
     }
@@ -80,6 +80,8 @@ public abstract class AbstractCellFactory implements CellFactory {
 
     private FileStoreFactory m_factory;
 
+    private boolean m_isVirtualColumnsAllowed;
+
     /** Creates instance, which will produce content for the columns as
      * specified by the array argument. The calculation is done sequentially
      * (no parallel processing of input).
@@ -226,6 +228,28 @@ public final int getMaxQueueSize() {
         return m_maxQueueSize;
     }
 
+    /** Allows the framework to not store the cells created by this factory but to compute them whenever the output
+     * table is iterated (and to only write them when the table is saved). This avoids writing a temporary file for
+     * the new columns and should be enabled for factories whose computation is cheap compared to I/O. It must only be
+     * enabled if (i) {@link #getCells(org.knime.core.data.DataRow)} returns the same cells for the same input row
+     * whenever it is called, (ii) it can be called concurrently and after {@link #afterProcessing()}, and (iii) it
+     * doesn't use the {@link #getFileStoreFactory() file store factory}. The setting is only used if all factories
+     * of a {@link ColumnRearranger} allow it and the rearranger doesn't convert columns. Disabled by default.
+     * @param value If to allow the lazy computation of the new columns.
+     * @since 3.8
+     */
+    public final void setVirtualColumnsAllowed(final boolean value) {
+        m_isVirtualColumnsAllowed = value;
+    }
+
+    /** Whether the new columns may be computed lazily, see {@link #setVirtualColumnsAllowed(boolean)}.
+     * @return that property
+     * @since 3.8
+     */
+    public final boolean isVirtualColumnsAllowed() {
+        return m_isVirtualColumnsAllowed;
+    }
+
     /** {@inheritDoc} */
     @Override
     public DataColumnSpec[] getColumnSpecs() {
@@ -367,6 +367,17 @@ public class Buffer implements KNIMEStreamConstants {
     /** A cache for holding tables in memory. */
     private static final BufferCache CACHE = new BufferCache();
 
+    /**
+     * Returns the statistics of the cache that holds tables in memory (hit rate, evictions, bytes held).
+     *
+     * @return a snapshot of the cache statistics
+     * @since 3.8
+     * @noreference This method is not intended to be referenced by clients.
+     */
+    public static BufferCacheStatistics getCacheStatistics() {
+        return CACHE.getStatistics();
+    }
+
     /** A thread pool for asynchronous disk I/O threads. */
     static final ExecutorService ASYNC_EXECUTORS = Executors.newSingleThreadExecutor(new ThreadFactory() {
         private final AtomicInteger m_threadCount = new AtomicInteger();
@@ -568,6 +579,7 @@ static boolean isUseCompressionForBlobs(final CellClassInfo cellClassInfo) {
             m_lifecycle = new MemorizeIfSmallLifecycle(maxRowsInMemory);
         }
         CACHE.setLRUCacheSize(m_bufferSettings.getLRUCacheSize());
+        CACHE.setLRUCacheMaxBytes(m_bufferSettings.getLRUCacheMaxBytes());
         /**
          * independent of the lifecycle, if maxRowsInMemory is zero, the buffer is expected to flush to disk (e.g, see
          * {@link org.knime.core.data.sort.DataTableSorter#createDataContainer(DataTableSpec, boolean)}).
@@ -643,6 +655,7 @@ static boolean isUseCompressionForBlobs(final CellClassInfo cellClassInfo) {
         m_bufferSettings = settings;
         m_lifecycle = m_bufferSettings.useLRU() ? new SoftRefLRUSyncWriteLifecycle() : new MemorizeIfSmallLifecycle(0);
         CACHE.setLRUCacheSize(m_bufferSettings.getLRUCacheSize());
+        CACHE.setLRUCacheMaxBytes(m_bufferSettings.getLRUCacheMaxBytes());
         try {
             readMetaFromFile(metaIn, fileStoreDir);
         } catch (InvalidSettingsException ise) {
@@ -1101,8 +1114,8 @@ synchronized void close(final DataTableSpec spec) {
     void closeInternal() {
         assert Thread.holdsLock(this);
         if (m_listWhileAddRow != null) {
-            // buffer still held in memory; can be cached
-            CACHE.put(Buffer.this, m_listWhileAddRow);
+            // buffer still held in memory; can be cached (with primitive columns in arrays)
+            CACHE.put(Buffer.this, PrimitiveColumnRowList.compact(m_listWhileAddRow));
             m_listWhileAddRow = null;
             m_lifecycle.onCloseIfCached();
         } else {
@@ -1505,17 +1518,16 @@ public final synchronized RowIteratorBuilder<? extends CloseableRowIterator> ite
                 BackIntoMemoryIterator backIntoMemoryIterator =
                     new BackIntoMemoryIterator(m_outputReader.iteratorBuilder().build(), size());
                 m_backIntoMemoryIteratorRef = new WeakReference<BackIntoMemoryIterator>(backIntoMemoryIterator);
-                // we never store more than 2^31 rows in memory, therefore it's safe to cast to int
-                return new DefaultRowIteratorBuilder<>(
-                    () -> new FromListIterator(backIntoMemoryIterator.getList(), backIntoMemoryIterator),
-                    getTableSpec());
+                return new DefaultRowIteratorBuilder<>((fromIndex, toIndex) -> new FromListIterator(
+                    backIntoMemoryIterator.getList(), backIntoMemoryIterator, fromIndex, toIndex), getTableSpec());
             }
             RowIteratorBuilder<? extends TableStoreCloseableRowIterator> iteratorBuilder =
                 m_outputReader.iteratorBuilder();
             return iteratorBuilder;
         } else {
-            return new DefaultRowIteratorBuilder<>(() -> new FromListIterator(list,
-                m_backIntoMemoryIteratorRef != null ? m_backIntoMemoryIteratorRef.get() : null), getTableSpec());
+            return new DefaultRowIteratorBuilder<>((fromIndex, toIndex) -> new FromListIterator(list,
+                m_backIntoMemoryIteratorRef != null ? m_backIntoMemoryIteratorRef.get() : null, fromIndex, toIndex),
+                getTableSpec());
         }
     }
 
@@ -1890,11 +1902,13 @@ private boolean hasNext() {
             return m_iterator.hasNext();
         }
 
-        private DataRow next() {
-            DataRow next = m_iterator.next();
+        /** Reads the next row and appends it to the list. */
+        private BlobSupportDataRow next() {
+            BlobSupportDataRow next = (BlobSupportDataRow)m_iterator.next();
+            m_listWhileBackIntoMemory.add(next);
             if (!hasNext()) {
                 // ... we put the table back into the cache
-                CACHE.put(Buffer.this, m_listWhileBackIntoMemory);
+                CACHE.put(Buffer.this, PrimitiveColumnRowList.compact(m_listWhileBackIntoMemory));
                 m_lifecycle.onAllRowsReadBackIntoMemory();
             }
             return next;
@@ -1918,11 +1932,19 @@ private class FromListIterator extends CloseableRowIterator {
         private List<BlobSupportDataRow> m_list;
 
         // do not use iterator here, see inner class comment
-        private int m_nextIndex = 0;
+        private int m_nextIndex;
+
+        /** Index of the row after the last row to return. */
+        private int m_end;
 
-        FromListIterator(final List<BlobSupportDataRow> list, final BackIntoMemoryIterator backIntoMemoryIterator) {
+        FromListIterator(final List<BlobSupportDataRow> list, final BackIntoMemoryIterator backIntoMemoryIterator,
+            final long fromIndex, final long toIndex) {
             m_list = list;
             m_backIntoMemoryIterator = backIntoMemoryIterator;
+            // we never store more than 2^31 rows in memory, therefore it's safe to cast to int
+            final int size = (int)size();
+            m_nextIndex = (int)Math.min(fromIndex, size);
+            m_end = toIndex == Long.MAX_VALUE ? size : (int)Math.min(size, toIndex + 1);
         }
 
         /**
@@ -1930,7 +1952,7 @@ private class FromListIterator extends CloseableRowIterator {
          */
         @Override
         public boolean hasNext() {
-            return m_nextIndex < size();
+            return m_nextIndex < m_end;
         }
 
         /**
@@ -1953,16 +1975,22 @@ public DataRow next() {
                     throw new InternalError("DataRow list contains fewer elements than buffer ("
                             + m_list.size() + " vs. " + size() + ")");
                 }
-                BlobSupportDataRow next = (BlobSupportDataRow)m_backIntoMemoryIterator.next();
-                if (next == null) {
-                    throw new InternalError("Unable to restore data row from disk");
-                }
-                m_list.add(next);
+                // rows before the start of a range are restored, too (they are still needed in the list)
+                BlobSupportDataRow next;
+                do {
+                    // appends the row to m_list
+                    next = m_backIntoMemoryIterator.next();
+                    if (next == null) {
+                        throw new InternalError("Unable to restore data row from disk");
+                    }
+                } while (m_nextIndex >= m_list.size());
                 // once we've read all rows back into memory, ...
-                if (++m_nextIndex >= size()) {
+                if (m_list.size() >= size()) {
                     assert !m_backIntoMemoryIterator.hasNext() : "File iterator returns more rows than buffer contains";
                     m_backIntoMemoryIterator = null;
-
+                }
+                m_nextIndex++;
+                if (m_nextIndex >= m_end) {
                     m_list = null;
                 }
                 return next;
@@ -1972,7 +2000,7 @@ public DataRow next() {
         /** {@inheritDoc} */
         @Override
         public void close() {
-            m_nextIndex = (int) size();
+            m_nextIndex = m_end;
         }
     }
 
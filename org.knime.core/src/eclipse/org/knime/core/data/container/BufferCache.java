@@ -51,13 +51,22 @@
 import java.lang.ref.ReferenceQueue;
 import java.lang.ref.SoftReference;
 import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.WeakHashMap;
 
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataType;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.util.CheckUtils;
 import org.knime.core.util.LRUCache;
@@ -71,6 +80,12 @@
  * tables are cleared for garbage collection before they have been flushed to disk. How this cache is used by the
  * {@link Buffer} class is specified by means of a Lifecycle.
  *
+ * <p>
+ * The lower level is bounded by the number of tables and by their (estimated) size in bytes. If the byte budget is
+ * exceeded, least recently used tables are demoted to weak references, unless they have been used more frequently than
+ * the table that is to be added, in which case this table is demoted instead (frequency-aware admission as in TinyLFU,
+ * which prevents a single large table from pushing out many small, frequently used ones).
+ *
  * @author Marc Bux, KNIME GmbH, Berlin, Germany
  */
 final class BufferCache {
@@ -85,6 +100,12 @@ final class BufferCache {
      */
     private static final int STATISTICS_OUTPUT_INTERVAL = 300;
 
+    /** Number of rows sampled to estimate the size of a table. */
+    private static final int SIZE_ESTIMATION_SAMPLE_ROWS = 64;
+
+    /** The access frequencies are halved after this many accesses so that they reflect recent usage. */
+    private static final int FREQUENCY_AGING_PERIOD = 1000;
+
     /**
      * A map of hard references to tables held in this cache. Caution: the garbage collector will not clear these
      * automatically. We use the buffer itself as key, since multiple buffers can have the same id. The Map has to have
@@ -105,6 +126,21 @@ final class BufferCache {
     private LRUCache<Buffer, SoftReference<List<BlobSupportDataRow>>> m_LRUCache =
         new LRUCache<>(m_LRUCacheSize, m_LRUCacheSize);
 
+    /**
+     * The (estimated) number of bytes of tables in the LRU cache that are not hard-referenced, above which tables are
+     * demoted to weak references.
+     */
+    private long m_LRUCacheMaxBytes = DataContainerSettings.getDefault().getBufferSettings().getLRUCacheMaxBytes();
+
+    /** The estimated size in bytes of the tables in this cache. */
+    private final Map<Buffer, Long> m_weights = new WeakHashMap<>();
+
+    /** The number of accesses of the tables in this cache (halved periodically). */
+    private final Map<Buffer, Integer> m_frequencies = new WeakHashMap<>();
+
+    /** Number of frequency increments since the last aging. */
+    private int m_frequencyIncrements = 0;
+
     /**
      * A map of weak references to tables evicted from the LRU cache.
      */
@@ -132,6 +168,10 @@ final class BufferCache {
 
     private long m_nMisses = 0;
 
+    private long m_nEvictions = 0;
+
+    private long m_nRejections = 0;
+
     private long timeOfLastLog = System.currentTimeMillis();
 
     private void logStatistics() {
@@ -158,6 +198,9 @@ private void logStatistics() {
             LOGGER.debugWithFormat("\t%d cache hits (softly referenced)", m_nSoftHits);
             LOGGER.debugWithFormat("\t%d cache hits (weakly referenced)", m_nWeakHits);
             LOGGER.debugWithFormat("\t%d cache misses", m_nMisses);
+            LOGGER.debugWithFormat("\t%d tables evicted from LRU cache", m_nEvictions);
+            LOGGER.debugWithFormat("\t%d tables not admitted to LRU cache", m_nRejections);
+            LOGGER.debugWithFormat("\t%d of %d bytes in LRU cache", getLRUCacheBytes(), m_LRUCacheMaxBytes);
 
             timeOfLastLog = time;
             assert m_nAccesses == m_nHardHits + m_nSoftHits + m_nWeakHits + m_nMisses;
@@ -177,6 +220,8 @@ synchronized void put(final Buffer buffer, final List<BlobSupportDataRow> list)
         /** disallow modification */
         final List<BlobSupportDataRow> undmodifiableList = Collections.unmodifiableList(list);
         m_hardMap.put(buffer, undmodifiableList);
+        m_weights.put(buffer, estimateSizeInBytes(list));
+        incrementFrequency(buffer);
         /**
          * We already fill the soft cache here to keep track of how recently the table has been used. Note that soft and
          * weak references won't be cleared while there is still a hard reference on the object.
@@ -202,7 +247,9 @@ synchronized void clearForGarbageCollection(final Buffer buffer) {
 
         assert buffer.isFlushedToDisk();
 
-        m_hardMap.remove(buffer);
+        if (m_hardMap.remove(buffer) != null && m_LRUCache.containsKey(buffer)) {
+            enforceByteBudget(buffer);
+        }
     }
 
     /**
@@ -256,6 +303,7 @@ private Optional<List<BlobSupportDataRow>> getInternal(final Buffer buffer, fina
         }
 
         m_nAccesses++;
+        incrementFrequency(buffer);
         boolean hit = false;
 
         if (m_hardMap.get(buffer) != null) {
@@ -281,6 +329,9 @@ private Optional<List<BlobSupportDataRow>> getInternal(final Buffer buffer, fina
             /** Make sure to put the accessed table back into the LRU cache. */
             if (!m_LRUCache.containsKey(buffer)) {
                 m_LRUCache.put(buffer, new SoftReference<List<BlobSupportDataRow>>(list));
+                if (!m_hardMap.containsKey(buffer)) {
+                    enforceByteBudget(buffer);
+                }
             }
             if (!hit) {
                 m_nWeakHits++;
@@ -309,6 +360,8 @@ private Optional<List<BlobSupportDataRow>> getInternal(final Buffer buffer, fina
     synchronized void invalidate(final Buffer buffer) {
         m_hardMap.remove(buffer);
         m_LRUCache.remove(buffer);
+        m_weights.remove(buffer);
+        m_frequencies.remove(buffer);
         final WeakReference<List<BlobSupportDataRow>> previousValue = m_weakCache.remove(buffer);
 
         if (previousValue != null && previousValue.get() != null) {
@@ -339,4 +392,165 @@ synchronized void setLRUCacheSize(final int newSize) {
         m_LRUCache = cache;
     }
 
+    /**
+     * Can be used to adjust the byte budget of the LRU cache at runtime.
+     *
+     * @param maxBytes the new maximum number of bytes of (not hard-referenced) tables in the LRU cache
+     */
+    synchronized void setLRUCacheMaxBytes(final long maxBytes) {
+        if (maxBytes == m_LRUCacheMaxBytes) {
+            return;
+        }
+        m_LRUCacheMaxBytes = maxBytes;
+        enforceByteBudget(null);
+    }
+
+    /**
+     * Returns the current statistics of this cache.
+     *
+     * @return a snapshot of the statistics
+     */
+    synchronized BufferCacheStatistics getStatistics() {
+        while (m_weakCacheRefQueue.poll() != null) {
+            m_nGCedTables++;
+        }
+        int tablesHeld = 0;
+        long bytesHeld = 0;
+        for (Entry<Buffer, WeakReference<List<BlobSupportDataRow>>> entry : m_weakCache.entrySet()) {
+            if (entry.getValue().get() != null) {
+                tablesHeld++;
+                bytesHeld += getWeight(entry.getKey());
+            }
+        }
+        return new BufferCacheStatistics(m_nAccesses, m_nHardHits + m_nSoftHits + m_nWeakHits, m_nEvictions,
+            m_nRejections, m_nGCedTables, tablesHeld, bytesHeld, getLRUCacheBytes(), m_LRUCacheMaxBytes);
+    }
+
+    /**
+     * Demotes tables from the LRU cache (least recently used first) until the tables in it that are not
+     * hard-referenced fit into the byte budget. If one of these tables was accessed more frequently than the
+     * candidate, the candidate is demoted instead.
+     *
+     * @param candidate the table that has just become subject to the budget or null (then only tables are evicted)
+     */
+    private void enforceByteBudget(final Buffer candidate) {
+        long bytes = getLRUCacheBytes();
+        if (bytes <= m_LRUCacheMaxBytes) {
+            return;
+        }
+        final int candidateFrequency = candidate != null ? getFrequency(candidate) : Integer.MAX_VALUE;
+        boolean rejectCandidate = candidate != null && getWeight(candidate) > m_LRUCacheMaxBytes;
+        final List<Buffer> victims = new ArrayList<>();
+        // iteration order of the LRU cache is from least to most recently used
+        for (Iterator<Buffer> it = m_LRUCache.keySet().iterator(); !rejectCandidate && bytes > m_LRUCacheMaxBytes
+            && it.hasNext();) {
+            final Buffer buffer = it.next();
+            if (buffer == candidate || m_hardMap.containsKey(buffer)) {
+                continue;
+            }
+            if (getFrequency(buffer) > candidateFrequency) {
+                rejectCandidate = true;
+            } else {
+                victims.add(buffer);
+                bytes -= getWeight(buffer);
+            }
+        }
+        if (rejectCandidate) {
+            m_LRUCache.remove(candidate);
+            m_nRejections++;
+        } else {
+            for (Buffer victim : victims) {
+                m_LRUCache.remove(victim);
+                m_nEvictions++;
+            }
+        }
+    }
+
+    /** The bytes of tables in the LRU cache that are not hard-referenced. */
+    private long getLRUCacheBytes() {
+        long bytes = 0;
+        for (Buffer buffer : m_LRUCache.keySet()) {
+            if (!m_hardMap.containsKey(buffer)) {
+                bytes += getWeight(buffer);
+            }
+        }
+        return bytes;
+    }
+
+    private long getWeight(final Buffer buffer) {
+        final Long weight = m_weights.get(buffer);
+        return weight != null ? weight : 0L;
+    }
+
+    private int getFrequency(final Buffer buffer) {
+        final Integer frequency = m_frequencies.get(buffer);
+        return frequency != null ? frequency : 0;
+    }
+
+    private void incrementFrequency(final Buffer buffer) {
+        m_frequencies.merge(buffer, 1, Integer::sum);
+        if (++m_frequencyIncrements >= FREQUENCY_AGING_PERIOD) {
+            m_frequencyIncrements = 0;
+            m_frequencies.replaceAll((b, f) -> f / 2);
+        }
+    }
+
+    /**
+     * Estimates the heap usage of a table by sampling rows.
+     *
+     * @param list the table
+     * @return estimated size in bytes
+     */
+    static long estimateSizeInBytes(final List<BlobSupportDataRow> list) {
+        if (list instanceof PrimitiveColumnRowList) {
+            return ((PrimitiveColumnRowList)list).estimateSizeInBytes();
+        }
+        final int size = list.size();
+        if (size == 0) {
+            return 0L;
+        }
+        final int step = Math.max(1, size / SIZE_ESTIMATION_SAMPLE_ROWS);
+        long sampleBytes = 0;
+        int sampleRows = 0;
+        for (int i = 0; i < size; i += step) {
+            final BlobSupportDataRow row = list.get(i);
+            // row object, cell array, row key
+            long rowBytes = 24 + 16 + 4L * row.getNumCells() + estimateStringSize(row.getKey().getString()) + 16;
+            for (int c = 0; c < row.getNumCells(); c++) {
+                rowBytes += estimateCellSize(row.getRawCell(c));
+            }
+            sampleBytes += rowBytes;
+            sampleRows++;
+        }
+        // plus the reference in the list
+        return size * (sampleBytes / sampleRows + 4);
+    }
+
+    /**
+     * Estimates the heap usage of a single cell (shared instances count 0).
+     *
+     * @param cell the cell
+     * @return estimated size in bytes
+     */
+    static long estimateCellSize(final DataCell cell) {
+        if (cell == null || cell == DataType.getMissingCell() || cell instanceof BooleanCell) {
+            return 0;
+        }
+        final Class<? extends DataCell> cellClass = cell.getClass();
+        if (cellClass == IntCell.class) {
+            return 16;
+        } else if (cellClass == LongCell.class || cellClass == DoubleCell.class) {
+            return 24;
+        } else if (cellClass == StringCell.class) {
+            return 16 + estimateStringSize(((StringCell)cell).getStringValue());
+        }
+        // unknown, assume a few fields
+        return 32;
+    }
+
+    /** Object plus char array. */
+    private static long estimateStringSize(final String s) {
+        return 24 + 16 + 2L * s.length();
+    }
+
 }
@@ -0,0 +1,152 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+/**
+ * Snapshot of the statistics of the cache that keeps tables in memory, see {@link Buffer#getCacheStatistics()}.
+ * Byte counts are estimates.
+ *
+ * @author agent
+ * @since 3.8
+ * @noreference This class is not intended to be referenced by clients.
+ * @noinstantiate This class is not intended to be instantiated by clients.
+ */
+public final class BufferCacheStatistics {
+
+    private final long m_accesses;
+
+    private final long m_hits;
+
+    private final long m_evictions;
+
+    private final long m_rejections;
+
+    private final long m_gcedTables;
+
+    private final int m_tablesHeld;
+
+    private final long m_bytesHeld;
+
+    private final long m_bytesInLRUCache;
+
+    private final long m_maxBytesInLRUCache;
+
+    BufferCacheStatistics(final long accesses, final long hits, final long evictions, final long rejections,
+        final long gcedTables, final int tablesHeld, final long bytesHeld, final long bytesInLRUCache,
+        final long maxBytesInLRUCache) {
+        m_accesses = accesses;
+        m_hits = hits;
+        m_evictions = evictions;
+        m_rejections = rejections;
+        m_gcedTables = gcedTables;
+        m_tablesHeld = tablesHeld;
+        m_bytesHeld = bytesHeld;
+        m_bytesInLRUCache = bytesInLRUCache;
+        m_maxBytesInLRUCache = maxBytesInLRUCache;
+    }
+
+    /** @return number of (non-silent) lookups of tables in the cache */
+    public long getAccesses() {
+        return m_accesses;
+    }
+
+    /** @return number of lookups that found the table in memory */
+    public long getHits() {
+        return m_hits;
+    }
+
+    /** @return fraction of lookups that found the table in memory, 0 if there were no lookups */
+    public double getHitRate() {
+        return m_accesses == 0 ? 0.0 : m_hits / (double)m_accesses;
+    }
+
+    /** @return number of tables demoted from the LRU cache to make room for others (due to the byte budget) */
+    public long getEvictions() {
+        return m_evictions;
+    }
+
+    /** @return number of tables not kept in the LRU cache as they were used less frequently than the tables in it */
+    public long getRejections() {
+        return m_rejections;
+    }
+
+    /** @return number of tables dropped by the garbage collector */
+    public long getGarbageCollectedTables() {
+        return m_gcedTables;
+    }
+
+    /** @return number of tables currently in memory */
+    public int getTablesHeld() {
+        return m_tablesHeld;
+    }
+
+    /** @return bytes of all tables currently in memory */
+    public long getBytesHeld() {
+        return m_bytesHeld;
+    }
+
+    /** @return bytes of the tables in the LRU cache that are not (or no longer) guaranteed to stay in memory */
+    public long getBytesInLRUCache() {
+        return m_bytesInLRUCache;
+    }
+
+    /** @return the budget for {@link #getBytesInLRUCache()} */
+    public long getMaxBytesInLRUCache() {
+        return m_maxBytesInLRUCache;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return String.format(
+            "%d tables (%d bytes) in memory, %d bytes of %d in LRU cache; hit rate %.3f (%d accesses), "
+                + "%d evictions, %d rejections, %d tables dropped by garbage collector",
+            m_tablesHeld, m_bytesHeld, m_bytesInLRUCache, m_maxBytesInLRUCache, getHitRate(), m_accesses, m_evictions,
+            m_rejections, m_gcedTables);
+    }
+}
@@ -56,6 +56,7 @@
 import java.util.NoSuchElementException;
 import java.util.zip.GZIPInputStream;
 
+import org.apache.commons.io.IOUtils;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataCellSerializer;
 import org.knime.core.data.DataType;
@@ -83,7 +84,10 @@ public final class BufferFromFileIteratorVersion20 extends FromFileIterator {
     private final DefaultTableStoreReader m_tableFormatReader;
 
     /** Row pointer. */
-    private int m_pointer;
+    private long m_pointer;
+
+    /** Index of the row after the last row to return. */
+    private final long m_end;
 
     /** Content of the rows that get returned in {@link #next()} when the
      * table is {@link #close()}'d. Will be instantiated lazy. */
@@ -106,6 +110,17 @@ public final class BufferFromFileIteratorVersion20 extends FromFileIterator {
      * @throws IOException If stream reading fails.
      */
     BufferFromFileIteratorVersion20(final DefaultTableStoreReader tableFormatReader) throws IOException {
+        this(tableFormatReader, 0L, Long.MAX_VALUE);
+    }
+
+    /** Inits iterator on a range of rows, opens input stream and seeks to the first row of the range.
+     * @param tableFormatReader The associated buffer.
+     * @param fromIndex index of the first row to return, inclusive
+     * @param toIndex index of the last row to return, inclusive ({@link Long#MAX_VALUE} for all rows)
+     * @throws IOException If stream reading fails.
+     */
+    BufferFromFileIteratorVersion20(final DefaultTableStoreReader tableFormatReader, final long fromIndex,
+        final long toIndex) throws IOException {
         // init the pointer
         m_pointer = 0;
 
@@ -119,16 +134,59 @@ public final class BufferFromFileIteratorVersion20 extends FromFileIterator {
         assert m_tableFormatReader.getReadVersion() >= 6 : "Iterator is not backward compatible, use instead "
             + BufferFromFileIteratorVersion1x.class.getSimpleName();
 
+        final long size = tableFormatReader.size();
+        m_end = toIndex == Long.MAX_VALUE ? size : Math.min(size, toIndex + 1);
+
         // open the input stream
         m_dataCellStreamReader = new DataCellStreamReader(tableFormatReader);
-        m_inStream = new BlockableDCObjectInputVersion2(getInputStream(tableFormatReader), m_dataCellStreamReader);
+        final InputStream in = getInputStream(tableFormatReader);
+        final long[] rowOffsetIndex = tableFormatReader.getRowOffsetIndex();
+        final long from = Math.min(fromIndex, size);
+        if (rowOffsetIndex != null && from > 0) {
+            final int interval = tableFormatReader.getRowOffsetIndexInterval();
+            final int entry = (int)Math.min(rowOffsetIndex.length - 1, from / interval);
+            try {
+                // for uncompressed files that's a seek, otherwise it at least spares the deserialization
+                IOUtils.skipFully(in, rowOffsetIndex[entry]);
+            } catch (IOException ioe) {
+                in.close();
+                throw ioe;
+            }
+            m_pointer = (long)entry * interval;
+        }
+        m_inStream = new BlockableDCObjectInputVersion2(in, m_dataCellStreamReader);
+        try {
+            while (m_pointer < from) {
+                skipRow();
+            }
+        } catch (IOException ioe) {
+            m_inStream.close();
+            throw ioe;
+        }
+    }
+
+    /** Skips the next row in the stream without deserializing its content.
+     * @throws IOException If stream reading fails. */
+    private void skipRow() throws IOException {
+        final BlockableDCObjectInputVersion2 inStream = m_inStream;
+        if (m_tableFormatReader.isReadRowKey()) {
+            inStream.endBlock();
+        }
+        for (int i = m_tableFormatReader.getTableSpec().getNumColumns(); --i >= 0;) {
+            inStream.endBlock();
+        }
+        byte eoRow = inStream.readControlByte();
+        if (eoRow != BYTE_ROW_SEPARATOR) {
+            throw new IOException("Expected end of row byte, got '" + eoRow + "', (byte " + (int)eoRow + ")");
+        }
+        m_pointer++;
     }
 
 
     /** {@inheritDoc} */
     @Override
     public synchronized boolean hasNext() {
-        boolean hasNext = m_pointer < m_tableFormatReader.size();
+        boolean hasNext = m_pointer < m_end;
         if (!hasNext && (m_inStream != null)) {
             close();
         }
@@ -77,12 +77,18 @@ public final class BufferSettings {
     /** The default number of tables that can be kept in the soft-references LRU cache before being weak-referenced. */
     static final int DEF_LRU_CACHE_SIZE = 32;
 
+    /** The default (estimated) number of bytes of tables kept in the soft-references LRU cache. */
+    static final long DEF_LRU_CACHE_MAX_BYTES = Runtime.getRuntime().maxMemory() / 4;
+
     /** The enable LRU caching flag. */
     private final boolean m_enableLRU;
 
     /** The LRU cache size. */
     private final int m_lruCacheSize;
 
+    /** The maximum number of bytes in the LRU cache. */
+    private final long m_lruCacheMaxBytes;
+
     /** The output table store format. */
     private final TableStoreFormat m_outputFormat;
 
@@ -92,6 +98,7 @@ public final class BufferSettings {
     BufferSettings() {
         m_enableLRU = initLRU();
         m_lruCacheSize = DEF_LRU_CACHE_SIZE;
+        m_lruCacheMaxBytes = initLRUCacheMaxBytes();
         m_outputFormat = TableStoreFormatRegistry.getInstance().getInstanceTableStoreFormat();
     }
 
@@ -100,15 +107,40 @@ public final class BufferSettings {
      *
      * @param enableLRU the enable LRU flag
      * @param lruCacheSize the LRU cache size
+     * @param lruCacheMaxBytes the maximum number of bytes in the LRU cache
      * @param outputFormat the output format
      * @noreference This constructor is not intended to be referenced by clients.
      */
-    private BufferSettings(final boolean enableLRU, final int lruCacheSize, final TableStoreFormat outputFormat) {
+    private BufferSettings(final boolean enableLRU, final int lruCacheSize, final long lruCacheMaxBytes,
+        final TableStoreFormat outputFormat) {
         m_enableLRU = enableLRU;
         m_lruCacheSize = lruCacheSize;
+        m_lruCacheMaxBytes = lruCacheMaxBytes;
         m_outputFormat = outputFormat;
     }
 
+    /**
+     * Initializes the maximum number of bytes in the LRU cache w.r.t. the defined properties.
+     *
+     * @return the maximum number of bytes in the LRU cache
+     */
+    private static long initLRUCacheMaxBytes() {
+        final String valMaxBytes = System.getProperty(KNIMEConstants.PROPERTY_TABLE_CACHE_MAX_BYTES);
+        if (valMaxBytes != null) {
+            try {
+                final long maxBytes = Long.parseLong(valMaxBytes.trim());
+                if (maxBytes > 0) {
+                    return maxBytes;
+                }
+            } catch (NumberFormatException e) {
+                // warning below
+            }
+            LOGGER.warn("Unable to parse property " + KNIMEConstants.PROPERTY_TABLE_CACHE_MAX_BYTES + " (\""
+                + valMaxBytes + "\"), using default (" + DEF_LRU_CACHE_MAX_BYTES + ")");
+        }
+        return DEF_LRU_CACHE_MAX_BYTES;
+    }
+
     /**
      * Initializes the LRU caching flag w.r.t. the defined properties.
      *
@@ -148,6 +180,15 @@ int getLRUCacheSize() {
         return m_lruCacheSize;
     }
 
+    /**
+     * Returns the maximum (estimated) number of bytes of tables in the LRU cache.
+     *
+     * @return the maximum number of bytes in the LRU cache
+     */
+    long getLRUCacheMaxBytes() {
+        return m_lruCacheMaxBytes;
+    }
+
     /**
      * Returns the {@link TableStoreFormat} used to read and write the {@link Buffer Buffer's} content.
      *
@@ -174,7 +215,7 @@ TableStoreFormat getOutputFormat(final DataTableSpec spec) {
      * @return a new instance of {@code BufferSettings}
      */
     public BufferSettings withLRU(final boolean enableLRU) {
-        return new BufferSettings(enableLRU, m_lruCacheSize, m_outputFormat);
+        return new BufferSettings(enableLRU, m_lruCacheSize, m_lruCacheMaxBytes, m_outputFormat);
     }
 
     /**
@@ -185,7 +226,19 @@ public BufferSettings withLRU(final boolean enableLRU) {
      * @return a new instance of {@code BufferSettings}
      */
     public BufferSettings withLRUCacheSize(final int lruCacheSize) {
-        return new BufferSettings(m_enableLRU, lruCacheSize, m_outputFormat);
+        return new BufferSettings(m_enableLRU, lruCacheSize, m_lruCacheMaxBytes, m_outputFormat);
+    }
+
+    /**
+     * Creates a new <code>BufferSettings</code> object by replicating the current <code>BufferSettings</code> instance
+     * and solely changes the maximum number of bytes in the LRU cache.
+     *
+     * @param lruCacheMaxBytes the new maximum number of bytes in the LRU cache
+     * @return a new instance of {@code BufferSettings}
+     * @since 3.8
+     */
+    public BufferSettings withLRUCacheMaxBytes(final long lruCacheMaxBytes) {
+        return new BufferSettings(m_enableLRU, m_lruCacheSize, lruCacheMaxBytes, m_outputFormat);
     }
 
     /**
@@ -196,7 +249,7 @@ public BufferSettings withLRUCacheSize(final int lruCacheSize) {
      * @return a new instance of {@code BufferSettings}
      */
     public BufferSettings withOutputFormat(final TableStoreFormat outputFormat) {
-        return new BufferSettings(m_enableLRU, m_lruCacheSize, outputFormat);
+        return new BufferSettings(m_enableLRU, m_lruCacheSize, m_lruCacheMaxBytes, outputFormat);
     }
 
 }
@@ -0,0 +1,159 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.IDataRepository;
+import org.knime.core.data.container.storage.AbstractTableStoreReader;
+import org.knime.core.data.container.storage.AbstractTableStoreWriter;
+import org.knime.core.data.container.storage.TableStoreFormat;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettingsRO;
+
+/**
+ * A table store format that writes the data column by column. Rows are collected into chunks of
+ * {@link #CHUNK_SIZE} rows; each chunk stores the row keys and each of the columns in separate blocks, preceded by a
+ * header listing the length of each block. Columns whose cells are all {@link org.knime.core.data.def.DoubleCell},
+ * {@link org.knime.core.data.def.IntCell}, {@link org.knime.core.data.def.LongCell},
+ * {@link org.knime.core.data.def.BooleanCell} or {@link org.knime.core.data.def.StringCell} (or missing) are encoded as
+ * primitive arrays (strings are dictionary-encoded per chunk), all other columns fall back to the standard cell
+ * serialization.
+ *
+ * <p>
+ * The reader honors {@link org.knime.core.data.RowIteratorBuilder#filterColumns(int...)}: blocks of columns that
+ * are not requested are skipped on disc and never decoded. Blocks are stored uncompressed so that they can be
+ * skipped without reading them.
+ *
+ * @author agent
+ * @since 3.8
+ * @noextend This class is not intended to be subclassed by clients.
+ * @noreference This class is not intended to be referenced by clients.
+ */
+public final class ColumnarTableStoreFormat implements TableStoreFormat {
+
+    /** Number of rows per chunk. */
+    static final int CHUNK_SIZE = 4096;
+
+    /** Block encoding: each cell is serialized individually (length-prefixed). */
+    static final byte KIND_GENERIC = 0;
+
+    /** Block encoding: missing bitmap followed by primitive doubles. */
+    static final byte KIND_DOUBLE = 1;
+
+    /** Block encoding: missing bitmap followed by primitive ints. */
+    static final byte KIND_INT = 2;
+
+    /** Block encoding: missing bitmap followed by primitive longs. */
+    static final byte KIND_LONG = 3;
+
+    /** Block encoding: missing bitmap followed by value bitmap. */
+    static final byte KIND_BOOLEAN = 4;
+
+    /** Block encoding: dictionary of distinct strings followed by one int code per row (-1 for missing). */
+    static final byte KIND_STRING = 5;
+
+    /** Version of the format as persisted and validated in {@link #validateVersion(String)}. */
+    private static final String VERSION = "1";
+
+    @Override
+    public String getName() {
+        return "Columnar";
+    }
+
+    @Override
+    public String getFilenameSuffix() {
+        return ".bin.col";
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean accepts(final DataTableSpec spec) {
+        // non-primitive columns use the standard cell serialization
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractTableStoreWriter createWriter(final File binFile, final DataTableSpec spec,
+        final boolean writeRowKey) throws IOException {
+        return createWriter(new FileOutputStream(binFile), spec, writeRowKey);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractTableStoreWriter createWriter(final OutputStream output, final DataTableSpec spec,
+        final boolean writeRowKey) throws IOException {
+        return new ColumnarTableStoreWriter(spec, output, writeRowKey);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractTableStoreReader createReader(final File binFile, final DataTableSpec spec,
+        final IDataRepository dataRepository, final NodeSettingsRO settings, final int version,
+        final boolean isReadRowKey) throws IOException, InvalidSettingsException {
+        return new ColumnarTableStoreReader(binFile, spec, settings, version, isReadRowKey);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getVersion() {
+        return VERSION;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean validateVersion(final String versionString) {
+        return VERSION.equals(versionString);
+    }
+
+}
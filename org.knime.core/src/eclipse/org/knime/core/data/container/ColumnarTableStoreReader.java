@@ -0,0 +1,455 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import static org.knime.core.data.container.ColumnarTableStoreFormat.KIND_BOOLEAN;
+import static org.knime.core.data.container.ColumnarTableStoreFormat.KIND_DOUBLE;
+import static org.knime.core.data.container.ColumnarTableStoreFormat.KIND_INT;
+import static org.knime.core.data.container.ColumnarTableStoreFormat.KIND_LONG;
+import static org.knime.core.data.container.ColumnarTableStoreFormat.KIND_STRING;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowIteratorBuilder;
+import org.knime.core.data.RowIteratorBuilder.DefaultRowIteratorBuilder;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.UnmaterializedCell;
+import org.knime.core.data.container.BufferFromFileIteratorVersion20.DataCellStreamReader;
+import org.knime.core.data.container.storage.AbstractTableStoreReader;
+import org.knime.core.data.container.storage.AbstractTableStoreWriter;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.NodeSettingsRO;
+
+/**
+ * Reader for the {@link ColumnarTableStoreFormat}. Iterators created via {@link #iteratorBuilder()} with a column
+ * filter only read and decode the blocks of the selected columns.
+ *
+ * @author agent
+ */
+final class ColumnarTableStoreReader extends AbstractTableStoreReader {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ColumnarTableStoreReader.class);
+
+    private final boolean m_isReadRowKey;
+
+    /**
+     * @param binFile the local file from which to read
+     * @param spec the specification of the data table
+     * @param settings The settings (written by
+     *            {@link AbstractTableStoreWriter#writeMetaInfoAfterWrite(org.knime.core.node.NodeSettingsWO)})
+     * @param version The version as defined in the {@link Buffer} class
+     * @param isReadRowKey whether or not row keys are to be read
+     * @throws IOException any type of I/O problem
+     * @throws InvalidSettingsException if the settings are invalid
+     */
+    ColumnarTableStoreReader(final File binFile, final DataTableSpec spec, final NodeSettingsRO settings,
+        final int version, final boolean isReadRowKey) throws IOException, InvalidSettingsException {
+        super(binFile, spec, settings, version);
+        readCellClassInfoArrayFromMetaVersion2(settings);
+        m_isReadRowKey = isReadRowKey;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TableStoreCloseableRowIterator iterator() {
+        return createIterator(null, 0L, Long.MAX_VALUE);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected TableStoreCloseableRowIterator iterator(final long fromIndex, final long toIndex) {
+        return createIterator(null, fromIndex, toIndex);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RowIteratorBuilder<? extends TableStoreCloseableRowIterator> iteratorBuilder() {
+        return new DefaultRowIteratorBuilder<TableStoreCloseableRowIterator>(
+                (fromIndex, toIndex) -> iterator(fromIndex, toIndex), getSpec()) {
+
+            private boolean[] m_materializeColumns;
+
+            @Override
+            public RowIteratorBuilder<TableStoreCloseableRowIterator> filterColumns(final int... indices) {
+                super.filterColumns(indices);
+                m_materializeColumns = new boolean[getSpec().getNumColumns()];
+                for (int index : indices) {
+                    m_materializeColumns[index] = true;
+                }
+                return this;
+            }
+
+            @Override
+            public TableStoreCloseableRowIterator build() {
+                TableStoreCloseableRowIterator iterator =
+                    createIterator(m_materializeColumns, getFromIndex(), getToIndex());
+                registerNewIteratorInstance(iterator);
+                return iterator;
+            }
+        };
+    }
+
+    private TableStoreCloseableRowIterator createIterator(final boolean[] materializeColumns, final long fromIndex,
+        final long toIndex) {
+        try {
+            return new ColumnarFromFileIterator(this, materializeColumns, fromIndex, toIndex);
+        } catch (IOException ioe) {
+            checkAndReportOpenFiles(ioe);
+            throw new RuntimeException("Cannot read file \"" + getFile().getName() + "\"", ioe);
+        }
+    }
+
+    /** Iterator reading chunk by chunk, skipping the blocks of columns that are not materialized. */
+    private static final class ColumnarFromFileIterator extends TableStoreCloseableRowIterator {
+
+        private final ColumnarTableStoreReader m_reader;
+
+        /** Columns to decode, null for all. */
+        private final boolean[] m_materializeColumns;
+
+        private final DataCellStreamReader m_dataCellStreamReader;
+
+        /** Index of the row after the last row to return. */
+        private final long m_end;
+
+        private FileChannel m_channel;
+
+        /** Position of the next chunk in the file. */
+        private long m_filePosition;
+
+        /** Row pointer (over all chunks). */
+        private long m_pointer;
+
+        private int m_rowsInChunk;
+
+        private int m_rowInChunk;
+
+        private String[] m_keys;
+
+        private ColumnBlock[] m_blocks;
+
+        private boolean m_hasThrownReadException;
+
+        ColumnarFromFileIterator(final ColumnarTableStoreReader reader, final boolean[] materializeColumns,
+            final long fromIndex, final long toIndex) throws IOException {
+            if (reader.getFile() == null) {
+                throw new IOException("Unable to read table from file, table has been cleared.");
+            }
+            m_reader = reader;
+            m_materializeColumns = materializeColumns;
+            m_dataCellStreamReader = new DataCellStreamReader(reader);
+            final long size = reader.getBuffer().size();
+            m_end = toIndex == Long.MAX_VALUE ? size : Math.min(size, toIndex + 1);
+            m_channel = FileChannel.open(reader.getFile().toPath(), StandardOpenOption.READ);
+            if (fromIndex > 0 && fromIndex < m_end) {
+                try {
+                    seek(fromIndex);
+                } catch (IOException ioe) {
+                    m_channel.close();
+                    throw ioe;
+                }
+            }
+        }
+
+        /** Skips all chunks before the argument row (only reading their headers) and positions in the chunk
+         * containing it. */
+        private void seek(final long fromIndex) throws IOException {
+            while (true) {
+                ByteBuffer header = ByteBuffer.wrap(readFully(m_channel, m_filePosition, 8));
+                final int nrRows = header.getInt(0);
+                if (m_pointer + nrRows > fromIndex) {
+                    readChunk();
+                    m_rowInChunk = (int)(fromIndex - m_pointer);
+                    m_pointer = fromIndex;
+                    return;
+                }
+                final int nrBlocks = header.getInt(4);
+                ByteBuffer lengths = ByteBuffer.wrap(readFully(m_channel, m_filePosition + 8, 8 * nrBlocks));
+                long position = m_filePosition + 8 + 8L * nrBlocks;
+                for (int b = 0; b < nrBlocks; b++) {
+                    position += lengths.getLong(8 * b);
+                }
+                m_filePosition = position;
+                m_pointer += nrRows;
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public synchronized boolean hasNext() {
+            boolean hasNext = m_pointer < m_end;
+            if (!hasNext && m_channel != null) {
+                close();
+            }
+            return hasNext;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public synchronized BlobSupportDataRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("Iterator at end");
+            }
+            final int colCount = m_reader.getSpec().getNumColumns();
+            if (m_channel == null) { // iterator was closed
+                DataCell[] missings = new DataCell[colCount];
+                Arrays.fill(missings, DataType.getMissingCell());
+                RowKey key = new RowKey("INVALID_ROW (table is closed) - (Row " + m_pointer + ")");
+                m_pointer++;
+                return new BlobSupportDataRow(key, missings);
+            }
+            if (m_rowInChunk == m_rowsInChunk) {
+                try {
+                    readChunk();
+                } catch (IOException ioe) {
+                    throw new RuntimeException("Errors while reading row " + (m_pointer + 1) + " from file \""
+                        + m_reader.getFile().getName() + "\": " + ioe.getMessage(), ioe);
+                }
+            }
+            final int row = m_rowInChunk++;
+            m_pointer++;
+            RowKey key = m_keys != null ? new RowKey(m_keys[row]) : DUMMY_ROW_KEY;
+            DataCell[] cells = new DataCell[colCount];
+            for (int i = 0; i < colCount; i++) {
+                cells[i] = m_blocks[i] != null ? m_blocks[i].getCell(row) : UnmaterializedCell.getInstance();
+            }
+            return new BlobSupportDataRow(key, cells);
+        }
+
+        /** Reads the header of the next chunk and decodes the row keys and all materialized columns. */
+        private void readChunk() throws IOException {
+            final FileChannel channel = m_channel;
+            ByteBuffer header = ByteBuffer.wrap(readFully(channel, m_filePosition, 8));
+            final int nrRows = header.getInt(0);
+            final int nrBlocks = header.getInt(4);
+            ByteBuffer lengths = ByteBuffer.wrap(readFully(channel, m_filePosition + 8, 8 * nrBlocks));
+            long position = m_filePosition + 8 + 8L * nrBlocks;
+            final int colCount = m_reader.getSpec().getNumColumns();
+            int b = 0;
+            m_keys = null;
+            if (m_reader.m_isReadRowKey) {
+                long length = lengths.getLong(0);
+                m_keys = decodeRowKeys(readFully(channel, position, (int)length), nrRows);
+                position += length;
+                b++;
+            }
+            m_blocks = new ColumnBlock[colCount];
+            for (int i = 0; i < colCount; i++, b++) {
+                long length = lengths.getLong(8 * b);
+                if (m_materializeColumns == null || m_materializeColumns[i]) {
+                    m_blocks[i] = decodeBlock(readFully(channel, position, (int)length), nrRows);
+                }
+                position += length;
+            }
+            m_filePosition = position;
+            m_rowsInChunk = nrRows;
+            m_rowInChunk = 0;
+        }
+
+        private static String[] decodeRowKeys(final byte[] bytes, final int nrRows) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            String[] keys = new String[nrRows];
+            int offset = 0;
+            for (int r = 0; r < nrRows; r++) {
+                int length = buffer.getInt(offset);
+                keys[r] = new String(bytes, offset + 4, length, StandardCharsets.UTF_8);
+                offset += 4 + length;
+            }
+            return keys;
+        }
+
+        private ColumnBlock decodeBlock(final byte[] bytes, final int nrRows) {
+            final byte kind = bytes[0];
+            switch (kind) {
+                case KIND_DOUBLE:
+                case KIND_INT:
+                case KIND_LONG:
+                case KIND_BOOLEAN:
+                    return new ColumnBlock(kind, bytes, 1 + (nrRows + 7) / 8, null);
+                case KIND_STRING:
+                    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+                    int dictSize = buffer.getInt(1);
+                    DataCell[] dictionary = new DataCell[dictSize];
+                    int offset = 5;
+                    for (int d = 0; d < dictSize; d++) {
+                        int length = buffer.getInt(offset);
+                        dictionary[d] = new StringCell(new String(bytes, offset + 4, length, StandardCharsets.UTF_8));
+                        offset += 4 + length;
+                    }
+                    return new ColumnBlock(kind, bytes, offset, dictionary);
+                default:
+                    ByteBuffer genericBuffer = ByteBuffer.wrap(bytes);
+                    DataCell[] cells = new DataCell[nrRows];
+                    int genericOffset = 1;
+                    for (int r = 0; r < nrRows; r++) {
+                        int length = genericBuffer.getInt(genericOffset);
+                        DCObjectInputVersion2 in = new DCObjectInputVersion2(
+                            new ByteArrayInputStream(bytes, genericOffset + 4, length), m_dataCellStreamReader);
+                        try {
+                            cells[r] = m_dataCellStreamReader.readDataCell(in);
+                        } catch (Exception e) {
+                            handleReadThrowable(e);
+                            cells[r] = DataType.getMissingCell();
+                        }
+                        genericOffset += 4 + length;
+                    }
+                    return new ColumnBlock(kind, bytes, 0, cells);
+            }
+        }
+
+        /** Handle exceptions, make sure to issue errors only once. */
+        private void handleReadThrowable(final Throwable throwable) {
+            String warnMessage = "Errors while reading row " + m_pointer + " from file \""
+                + m_reader.getFile().getName() + "\": " + throwable.getMessage();
+            if (!m_hasThrownReadException) {
+                LOGGER.error(warnMessage + "; Suppressing further warnings.", throwable);
+            } else {
+                LOGGER.debug(warnMessage, throwable);
+            }
+            m_hasThrownReadException = true;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public synchronized boolean performClose() throws IOException {
+            if (m_channel == null) {
+                return false;
+            }
+            FileChannel channel = m_channel;
+            m_channel = null;
+            m_keys = null;
+            m_blocks = null;
+            channel.close();
+            return true;
+        }
+
+    }
+
+    /** Reads <code>length</code> bytes starting at the given file position (doesn't change the channel position). */
+    static byte[] readFully(final FileChannel channel, final long position, final int length) throws IOException {
+        byte[] result = new byte[length];
+        ByteBuffer buffer = ByteBuffer.wrap(result);
+        long pos = position;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, pos);
+            if (read < 0) {
+                throw new EOFException("Unexpected end of file at position " + pos);
+            }
+            pos += read;
+        }
+        return result;
+    }
+
+    /** A decoded block of a single column in a chunk; cells of primitive blocks are created on access. */
+    private static final class ColumnBlock {
+
+        private final byte m_kind;
+
+        private final ByteBuffer m_data;
+
+        /** Offset of the values (primitive kinds) or of the codes (string kind) in the data array. */
+        private final int m_valueOffset;
+
+        /** Dictionary cells (string kind) or all cells (generic kind), null otherwise. */
+        private final DataCell[] m_cells;
+
+        ColumnBlock(final byte kind, final byte[] data, final int valueOffset, final DataCell[] cells) {
+            m_kind = kind;
+            m_data = ByteBuffer.wrap(data);
+            m_valueOffset = valueOffset;
+            m_cells = cells;
+        }
+
+        private boolean isMissing(final int row) {
+            return (m_data.get(1 + (row >> 3)) & (1 << (row & 7))) != 0;
+        }
+
+        DataCell getCell(final int row) {
+            switch (m_kind) {
+                case KIND_DOUBLE:
+                    return isMissing(row) ? DataType.getMissingCell()
+                        : new DoubleCell(m_data.getDouble(m_valueOffset + 8 * row));
+                case KIND_INT:
+                    return isMissing(row) ? DataType.getMissingCell()
+                        : new IntCell(m_data.getInt(m_valueOffset + 4 * row));
+                case KIND_LONG:
+                    return isMissing(row) ? DataType.getMissingCell()
+                        : new LongCell(m_data.getLong(m_valueOffset + 8 * row));
+                case KIND_BOOLEAN:
+                    if (isMissing(row)) {
+                        return DataType.getMissingCell();
+                    }
+                    return BooleanCell.get((m_data.get(m_valueOffset + (row >> 3)) & (1 << (row & 7))) != 0);
+                case KIND_STRING:
+                    int code = m_data.getInt(m_valueOffset + 4 * row);
+                    return code < 0 ? DataType.getMissingCell() : m_cells[code];
+                default:
+                    return m_cells[row];
+            }
+        }
+    }
+
+}
@@ -0,0 +1,314 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import static org.knime.core.data.container.ColumnarTableStoreFormat.CHUNK_SIZE;
+import static org.knime.core.data.container.ColumnarTableStoreFormat.KIND_BOOLEAN;
+import static org.knime.core.data.container.ColumnarTableStoreFormat.KIND_DOUBLE;
+import static org.knime.core.data.container.ColumnarTableStoreFormat.KIND_GENERIC;
+import static org.knime.core.data.container.ColumnarTableStoreFormat.KIND_INT;
+import static org.knime.core.data.container.ColumnarTableStoreFormat.KIND_LONG;
+import static org.knime.core.data.container.ColumnarTableStoreFormat.KIND_STRING;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.container.storage.AbstractTableStoreWriter;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+
+/**
+ * Writer for the {@link ColumnarTableStoreFormat}. Rows are collected until a chunk is full, then each column of the
+ * chunk is encoded into a separate block.
+ *
+ * @author agent
+ */
+final class ColumnarTableStoreWriter extends AbstractTableStoreWriter {
+
+    private final DataOutputStream m_out;
+
+    /** Row keys of the current chunk, null if row keys are not written. */
+    private final String[] m_keys;
+
+    /** Cells of the current chunk, indexed by column first. */
+    private final DataCell[][] m_columns;
+
+    /** Number of rows in the current chunk. */
+    private int m_rowsInChunk;
+
+    /** Reused to serialize blocks of the current chunk. */
+    private final ByteArrayOutputStream m_blockBytes = new ByteArrayOutputStream();
+
+    /** Reused to serialize a single cell in a {@link ColumnarTableStoreFormat#KIND_GENERIC} block. */
+    private final ByteArrayOutputStream m_cellBytes = new ByteArrayOutputStream();
+
+    private final DCObjectOutputVersion2 m_cellOut;
+
+    /**
+     * @param spec the specification of the KNIME table to write to disk
+     * @param outputStream to write to, closed by {@link #close()}
+     * @param writeRowKey whether to persist the row keys
+     */
+    ColumnarTableStoreWriter(final DataTableSpec spec, final OutputStream outputStream, final boolean writeRowKey) {
+        super(spec, writeRowKey);
+        m_out = new DataOutputStream(new BufferedOutputStream(outputStream));
+        m_keys = writeRowKey ? new String[CHUNK_SIZE] : null;
+        m_columns = new DataCell[spec.getNumColumns()][CHUNK_SIZE];
+        m_cellOut = new DCObjectOutputVersion2(m_cellBytes, this);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeRow(final DataRow row) throws IOException {
+        if (m_keys != null) {
+            m_keys[m_rowsInChunk] = row.getKey().getString();
+        }
+        final boolean isBlobRow = row instanceof BlobSupportDataRow;
+        for (int i = 0; i < m_columns.length; i++) {
+            m_columns[i][m_rowsInChunk] = isBlobRow ? ((BlobSupportDataRow)row).getRawCell(i) : row.getCell(i);
+        }
+        m_rowsInChunk++;
+        if (m_rowsInChunk == CHUNK_SIZE) {
+            writeChunk();
+        }
+    }
+
+    /**
+     * Writes the current chunk. Layout: number of rows, number of blocks, length of each block, followed by the blocks
+     * (row keys first, if written, then one block per column).
+     */
+    private void writeChunk() throws IOException {
+        final int nrRows = m_rowsInChunk;
+        final int nrBlocks = m_columns.length + (m_keys != null ? 1 : 0);
+        final byte[][] blocks = new byte[nrBlocks][];
+        int b = 0;
+        if (m_keys != null) {
+            blocks[b++] = encodeRowKeys(nrRows);
+        }
+        for (int i = 0; i < m_columns.length; i++) {
+            blocks[b++] = encodeColumn(m_columns[i], nrRows);
+        }
+        m_out.writeInt(nrRows);
+        m_out.writeInt(nrBlocks);
+        for (byte[] block : blocks) {
+            m_out.writeLong(block.length);
+        }
+        for (byte[] block : blocks) {
+            m_out.write(block);
+        }
+        for (DataCell[] column : m_columns) {
+            Arrays.fill(column, 0, nrRows, null);
+        }
+        m_rowsInChunk = 0;
+    }
+
+    private byte[] encodeRowKeys(final int nrRows) throws IOException {
+        m_blockBytes.reset();
+        DataOutputStream out = new DataOutputStream(m_blockBytes);
+        for (int r = 0; r < nrRows; r++) {
+            writeString(m_keys[r], out);
+            m_keys[r] = null;
+        }
+        out.flush();
+        return m_blockBytes.toByteArray();
+    }
+
+    private byte[] encodeColumn(final DataCell[] cells, final int nrRows) throws IOException {
+        m_blockBytes.reset();
+        DataOutputStream out = new DataOutputStream(m_blockBytes);
+        final byte kind = determineKind(cells, nrRows);
+        out.writeByte(kind);
+        switch (kind) {
+            case KIND_DOUBLE:
+                out.write(missingBitmap(cells, nrRows));
+                for (int r = 0; r < nrRows; r++) {
+                    out.writeDouble(isMissing(cells[r]) ? 0.0 : ((DoubleCell)cells[r]).getDoubleValue());
+                }
+                break;
+            case KIND_INT:
+                out.write(missingBitmap(cells, nrRows));
+                for (int r = 0; r < nrRows; r++) {
+                    out.writeInt(isMissing(cells[r]) ? 0 : ((IntCell)cells[r]).getIntValue());
+                }
+                break;
+            case KIND_LONG:
+                out.write(missingBitmap(cells, nrRows));
+                for (int r = 0; r < nrRows; r++) {
+                    out.writeLong(isMissing(cells[r]) ? 0L : ((LongCell)cells[r]).getLongValue());
+                }
+                break;
+            case KIND_BOOLEAN:
+                out.write(missingBitmap(cells, nrRows));
+                byte[] values = new byte[(nrRows + 7) / 8];
+                for (int r = 0; r < nrRows; r++) {
+                    if (!isMissing(cells[r]) && ((BooleanCell)cells[r]).getBooleanValue()) {
+                        values[r >> 3] |= 1 << (r & 7);
+                    }
+                }
+                out.write(values);
+                break;
+            case KIND_STRING:
+                Map<String, Integer> dictionary = new HashMap<>();
+                int[] codes = new int[nrRows];
+                for (int r = 0; r < nrRows; r++) {
+                    if (isMissing(cells[r])) {
+                        codes[r] = -1;
+                    } else {
+                        String s = ((StringCell)cells[r]).getStringValue();
+                        Integer code = dictionary.get(s);
+                        if (code == null) {
+                            code = dictionary.size();
+                            dictionary.put(s, code);
+                        }
+                        codes[r] = code;
+                    }
+                }
+                String[] entries = new String[dictionary.size()];
+                for (Map.Entry<String, Integer> e : dictionary.entrySet()) {
+                    entries[e.getValue()] = e.getKey();
+                }
+                out.writeInt(entries.length);
+                for (String s : entries) {
+                    writeString(s, out);
+                }
+                for (int code : codes) {
+                    out.writeInt(code);
+                }
+                break;
+            default:
+                for (int r = 0; r < nrRows; r++) {
+                    m_cellBytes.reset();
+                    writeDataCell(cells[r], m_cellOut);
+                    m_cellOut.flush();
+                    out.writeInt(m_cellBytes.size());
+                    m_cellBytes.writeTo(out);
+                }
+        }
+        out.flush();
+        return m_blockBytes.toByteArray();
+    }
+
+    /**
+     * Determines the encoding of a column block: a primitive encoding if all non-missing cells are of the same of the
+     * supported cell classes, otherwise {@link ColumnarTableStoreFormat#KIND_GENERIC}.
+     */
+    private static byte determineKind(final DataCell[] cells, final int nrRows) {
+        Class<?> cellClass = null;
+        for (int r = 0; r < nrRows; r++) {
+            if (isMissing(cells[r])) {
+                continue;
+            }
+            Class<?> c = cells[r].getClass();
+            if (cellClass == null) {
+                cellClass = c;
+            } else if (cellClass != c) {
+                return KIND_GENERIC;
+            }
+        }
+        if (cellClass == DoubleCell.class) {
+            return KIND_DOUBLE;
+        } else if (cellClass == IntCell.class) {
+            return KIND_INT;
+        } else if (cellClass == LongCell.class) {
+            return KIND_LONG;
+        } else if (cellClass == BooleanCell.class) {
+            return KIND_BOOLEAN;
+        } else if (cellClass == StringCell.class) {
+            return KIND_STRING;
+        }
+        return KIND_GENERIC;
+    }
+
+    /** Only the singleton missing cell is encoded in the bitmap, missing cells with error cause are written generic. */
+    private static boolean isMissing(final DataCell cell) {
+        return cell == DataType.getMissingCell();
+    }
+
+    private static byte[] missingBitmap(final DataCell[] cells, final int nrRows) {
+        byte[] bitmap = new byte[(nrRows + 7) / 8];
+        for (int r = 0; r < nrRows; r++) {
+            if (isMissing(cells[r])) {
+                bitmap[r >> 3] |= 1 << (r & 7);
+            }
+        }
+        return bitmap;
+    }
+
+    private static void writeString(final String s, final DataOutputStream out) throws IOException {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (m_rowsInChunk > 0) {
+                writeChunk();
+            }
+        } finally {
+            m_out.close();
+        }
+    }
+
+}
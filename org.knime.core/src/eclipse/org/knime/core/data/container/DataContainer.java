@@ -54,7 +54,9 @@
 import java.lang.ref.WeakReference;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
@@ -201,6 +203,9 @@ public Thread newThread(final Runnable r) {
             });
     }
 
+    /** Number of row batches the write queue holds before the adding thread blocks. */
+    private static final int ASYNC_QUEUED_BATCHES = 4;
+
     /** Put into write queue to signal end of writing process. */
     private static final Object CONTAINER_CLOSE = new Object();
 
@@ -237,9 +242,15 @@ public Thread newThread(final Runnable r) {
      */
     private final boolean m_isSynchronousWrite;
 
-    /** The asynchronous queue holding the most recently added rows. */
+    /** The asynchronous queue holding batches of the most recently added rows (in order). */
     private final BlockingQueue<Object> m_rowBuffer;
 
+    /** The rows added since the last batch was handed to {@link #m_rowBuffer}, null if writing synchronously. */
+    private List<DataRow> m_rowBatch;
+
+    /** Number of rows in a batch handed to the write thread (the async cache size). */
+    private final int m_rowBatchSize;
+
     private int m_maxRowsInMemory;
 
     /** Holds the keys of the added rows to check for duplicates. */
@@ -350,10 +361,15 @@ public DataContainer(final DataTableSpec spec, final DataContainerSettings setti
         m_isSynchronousWrite = isSynchronousWrite;
         if (m_isSynchronousWrite) {
             m_rowBuffer = null;
+            m_rowBatch = null;
+            m_rowBatchSize = 0;
             m_writeThrowable = null;
             m_asyncAddFuture = null;
         } else {
-            m_rowBuffer = new ArrayBlockingQueue<>(settings.getAsyncCacheSize());
+            // rows are handed over in batches, which reduces the synchronization overhead per row
+            m_rowBatchSize = Math.max(1, settings.getAsyncCacheSize());
+            m_rowBatch = new ArrayList<>(m_rowBatchSize);
+            m_rowBuffer = new ArrayBlockingQueue<>(ASYNC_QUEUED_BATCHES);
             m_writeThrowable = new AtomicReference<Throwable>();
             m_asyncAddFuture = ASYNC_EXECUTORS.submit(new ASyncWriteCallable(this, NodeContext.getContext()));
         }
@@ -367,6 +383,29 @@ public DataContainer(final DataTableSpec spec, final DataContainerSettings setti
     }
 
     private void addRowToTableWrite(final DataRow row) {
+        checkRowStructure(row);
+        m_domainCreator.updateDomain(row);
+        addRowKeyForDuplicateCheck(row.getKey());
+        m_buffer.addRow(row, false, m_forceCopyOfBlobs);
+    }
+
+    /**
+     * Adds a batch of rows, the domain is updated for the whole batch at once (potentially in parallel).
+     *
+     * @param rows the rows
+     */
+    private void addRowBatchToTableWrite(final List<DataRow> rows) {
+        for (DataRow row : rows) {
+            checkRowStructure(row);
+        }
+        m_domainCreator.updateDomain(rows);
+        for (DataRow row : rows) {
+            addRowKeyForDuplicateCheck(row.getKey());
+            m_buffer.addRow(row, false, m_forceCopyOfBlobs);
+        }
+    }
+
+    private void checkRowStructure(final DataRow row) {
         // let's do every possible sanity check
         int numCells = row.getNumCells();
         RowKey key = row.getKey();
@@ -402,9 +441,6 @@ private void addRowToTableWrite(final DataRow row) {
                     + "not comply with its supposed superclass " + columnClass.toString());
             }
         } // for all cells
-        m_domainCreator.updateDomain(row);
-        addRowKeyForDuplicateCheck(key);
-        m_buffer.addRow(row, false, m_forceCopyOfBlobs);
     }
 
     private void checkAsyncWriteThrowable() {
@@ -520,6 +556,7 @@ public void close() {
         }
         if (!m_isSynchronousWrite) {
             try {
+                offerRowBatchToAsynchronousQueue();
                 offerToAsynchronousQueue(CONTAINER_CLOSE);
                 m_asyncAddFuture.get();
                 checkAsyncWriteThrowable();
@@ -551,8 +588,17 @@ public void close() {
         m_size = -1;
     }
 
+    /** Hands the current batch of rows (if not empty) to the write thread. */
+    private void offerRowBatchToAsynchronousQueue() {
+        if (!m_rowBatch.isEmpty()) {
+            offerToAsynchronousQueue(m_rowBatch);
+            m_rowBatch = new ArrayList<>(m_rowBatchSize);
+        }
+    }
+
     /**
-     * Adds the argument object (which will be a DataRow unless when called from close()) to the data row queue.
+     * Adds the argument object (which will be a batch of rows unless when called from close()) to the data row
+     * queue.
      *
      * @param object the object to add.
      */
@@ -678,9 +724,13 @@ public void addRowToTable(final DataRow row) {
             addRowToTableWrite(row);
         } else {
             if (MemoryAlertSystem.getInstance().isMemoryLow()) {
+                offerRowBatchToAsynchronousQueue();
                 offerToAsynchronousQueue(FLUSH_CACHE);
             }
-            offerToAsynchronousQueue(row);
+            m_rowBatch.add(row);
+            if (m_rowBatch.size() >= m_rowBatchSize) {
+                offerRowBatchToAsynchronousQueue();
+            }
         }
         m_size += 1;
     } // addRowToTable(DataRow)
@@ -1142,9 +1192,10 @@ private Void callWithContext() throws Exception {
                         // memory consumption critical; buffer should be flushed
                         d.m_buffer.flushBuffer();
                     } else {
-                        // fetch and handle / write data row
-                        final DataRow row = (DataRow)obj;
-                        d.addRowToTableWrite(row);
+                        // fetch and handle / write batch of data rows
+                        @SuppressWarnings("unchecked")
+                        final List<DataRow> rows = (List<DataRow>)obj;
+                        d.addRowBatchToTableWrite(rows);
                     }
                 }
                 // m_containerRef.get() returned null -> close() was never called on the container
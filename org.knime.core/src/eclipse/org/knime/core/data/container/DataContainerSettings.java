@@ -63,6 +63,7 @@
 import org.knime.core.node.workflow.WorkflowContext;
 import org.knime.core.node.workflow.WorkflowManager;
 import org.knime.core.util.DuplicateChecker;
+import org.knime.core.util.FingerprintDuplicateChecker;
 import org.knime.core.util.IDuplicateChecker;
 
 /**
@@ -100,6 +101,10 @@ public final class DataContainerSettings {
     /** The default initialize domain flag. */
     private static final boolean DEF_INIT_DOMAIN = false;
 
+    /** Whether the domain creator keeps approximate statistics of nominal columns. */
+    private static final boolean APPROXIMATE_DOMAIN_STATISTICS =
+        Boolean.getBoolean(KNIMEConstants.PROPERTY_DOMAIN_APPROXIMATE_STATISTICS);
+
     /**
      * Builder pattern.
      *
@@ -250,8 +255,13 @@ private DataContainerSettings() {
         m_asyncCacheSize = initAsyncCacheSize();
         m_initDomain = initDomain();
         m_maxDomainValues = initMaxDomainValues();
-        m_duplicateCheckerCreator = () -> new DuplicateChecker();
-        m_tableDomainCreatorFunction = (spec, initDomain) -> new DataTableDomainCreator(spec, initDomain);
+        m_duplicateCheckerCreator = Boolean.getBoolean(KNIMEConstants.PROPERTY_FINGERPRINT_DUPLICATE_CHECK)
+            ? () -> new FingerprintDuplicateChecker() : () -> new DuplicateChecker();
+        m_tableDomainCreatorFunction = (spec, initDomain) -> {
+            final DataTableDomainCreator domainCreator = new DataTableDomainCreator(spec, initDomain);
+            domainCreator.setComputeApproximateStatistics(APPROXIMATE_DOMAIN_STATISTICS);
+            return domainCreator;
+        };
         m_bufferSettings = DEFAULT_BUFFER_INSTANCE;
     }
 
@@ -125,10 +125,14 @@ public static enum CompressionFormat {
                 i -> new BufferedInputStream(i), //
                 o -> o),
 
-            /** GZip compression. */
+            /**
+             * GZip compression (optionally on multiple threads, see
+             * {@link KNIMEConstants#PROPERTY_TABLE_PARALLEL_COMPRESSION}).
+             */
             GZIP(".bin.gz", //
                 i -> new BufferedInputStream(new GZIPInputStream(i)), //
-                o -> new BufferedOutputStream(new GZIPOutputStream(o))),
+                o -> ParallelGZIPOutputStream.isEnabled() ? new ParallelGZIPOutputStream(o)
+                    : new BufferedOutputStream(new GZIPOutputStream(o))),
 
             /** LZ4 compression. */
             LZ4(".bin.lz4", //
@@ -213,6 +217,22 @@ InputStream getInputStream(final File file) throws IOException {
             }
         }
 
+        /**
+         * Returns the uncompressed input stream reading from the argument stream.
+         *
+         * @param in the (compressed) stream to read from
+         * @return the uncompressed input stream
+         * @throws IOException - If GZip decompression fails
+         */
+        InputStream getInputStream(final InputStream in) throws IOException {
+            try {
+                return m_inFunc.apply(in);
+            } catch (final IOException e) {
+                in.close();
+                throw e;
+            }
+        }
+
         static CompressionFormat loadSettings(final NodeSettingsRO settings) throws InvalidSettingsException {
             String compFormat = settings.getString(DefaultTableStoreFormat.CFG_COMPRESSION, DEF_COMPRESSION.name());
             try {
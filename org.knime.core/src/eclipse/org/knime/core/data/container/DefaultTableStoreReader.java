@@ -50,13 +50,20 @@
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.StandardOpenOption;
 
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.container.DefaultTableStoreFormat.CompressionFormat;
 import org.knime.core.data.container.storage.AbstractTableStoreReader;
 import org.knime.core.data.container.storage.AbstractTableStoreWriter;
 import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.util.CheckUtils;
 
 /**
  *
@@ -72,6 +79,19 @@ final class DefaultTableStoreReader extends AbstractTableStoreReader {
 
     private final boolean m_isReadRowKey;
 
+    /** Whether to read the file via a memory mapping, see {@link KNIMEConstants#PROPERTY_TABLE_MMAP_READ}. */
+    private final boolean m_isUseMemoryMapping;
+
+    /** Uncompressed byte offsets of every {@link #m_rowOffsetIndexInterval}th row or null if not available (files
+     * written with 3.7 and before). */
+    private final long[] m_rowOffsetIndex;
+
+    /** Every how many rows an entry is stored in {@link #m_rowOffsetIndex}. */
+    private final int m_rowOffsetIndexInterval;
+
+    /** The regions of the memory mapped file, shared by all iterators. Lazily created, null if not mapped (yet). */
+    private MappedByteBuffer[] m_mappedRegions;
+
     /**
      * Constructs a reader for materializing serialized KNIME tables.
      *
@@ -108,6 +128,16 @@ final class DefaultTableStoreReader extends AbstractTableStoreReader {
             cF = CompressionFormat.GZIP;
         }
         m_compressionFormat = cF;
+        m_isUseMemoryMapping = Boolean.getBoolean(KNIMEConstants.PROPERTY_TABLE_MMAP_READ);
+        if (version > 5 && settings.containsKey(DefaultTableStoreWriter.CFG_ROW_OFFSET_INDEX)) {
+            m_rowOffsetIndexInterval = settings.getInt(DefaultTableStoreWriter.CFG_ROW_OFFSET_INDEX_INTERVAL);
+            CheckUtils.checkSetting(m_rowOffsetIndexInterval > 0, "Invalid row offset index interval: %d",
+                m_rowOffsetIndexInterval);
+            m_rowOffsetIndex = settings.getLongArray(DefaultTableStoreWriter.CFG_ROW_OFFSET_INDEX);
+        } else {
+            m_rowOffsetIndexInterval = -1;
+            m_rowOffsetIndex = null;
+        }
     }
 
     @Override
@@ -127,6 +157,83 @@ public TableStoreCloseableRowIterator iterator() {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected TableStoreCloseableRowIterator iterator(final long fromIndex, final long toIndex) {
+        if (getReadVersion() <= 5) {
+            return super.iterator(fromIndex, toIndex);
+        }
+        try {
+            return new BufferFromFileIteratorVersion20(this, fromIndex, toIndex);
+        } catch (IOException ioe) {
+            StringBuilder b = new StringBuilder("Cannot read file \"");
+            b.append(m_binFile != null ? m_binFile.getName() : "<unknown>");
+            b.append("\"");
+            checkAndReportOpenFiles(ioe);
+            throw new RuntimeException(b.toString(), ioe);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void clearIteratorInstances() {
+        super.clearIteratorInstances();
+        synchronized (this) {
+            // the mapping itself is released by the garbage collector once no stream references it anymore
+            m_mappedRegions = null;
+        }
+    }
+
+    /** @return Whether the file is read via a (shared) memory mapping instead of file input streams. */
+    boolean isUseMemoryMapping() {
+        return m_isUseMemoryMapping;
+    }
+
+    /**
+     * Maps the bin file into memory, if not done before. Files larger than 2GB are mapped in multiple regions.
+     *
+     * @return the mapped regions, shared among all iterators (callers must only work on duplicates)
+     * @throws IOException If the file can't be mapped
+     */
+    synchronized MappedByteBuffer[] getMappedRegions() throws IOException {
+        if (m_mappedRegions == null) {
+            m_mappedRegions = mapRegions(m_binFile, Integer.MAX_VALUE);
+        }
+        return m_mappedRegions;
+    }
+
+    /**
+     * Maps the given file read-only into consecutive regions of at most the given size.
+     *
+     * @param file the file to map
+     * @param regionSize the maximum size of a region, positive
+     * @return the regions, at least one (which is empty for an empty file)
+     * @throws IOException If the file can't be mapped
+     */
+    static MappedByteBuffer[] mapRegions(final File file, final int regionSize) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            final long size = channel.size();
+            final int nrRegions = (int)Math.max(1, (size + regionSize - 1) / regionSize);
+            MappedByteBuffer[] regions = new MappedByteBuffer[nrRegions];
+            for (int i = 0; i < nrRegions; i++) {
+                long offset = (long)i * regionSize;
+                regions[i] = channel.map(MapMode.READ_ONLY, offset, Math.min(regionSize, size - offset));
+            }
+            return regions;
+        }
+    }
+
+    /** @return The uncompressed byte offsets of every {@link #getRowOffsetIndexInterval()}th row or null if the file
+     *          has no such index (written with 3.7 and before). Not to be modified. */
+    long[] getRowOffsetIndex() {
+        return m_rowOffsetIndex;
+    }
+
+    /** @return Every how many rows an entry is stored in the {@link #getRowOffsetIndex() row offset index}. */
+    int getRowOffsetIndexInterval() {
+        return m_rowOffsetIndexInterval;
+    }
+
     /** @return Whether stream is zipped. */
     CompressionFormat getBinFileCompressionFormat() {
         return m_compressionFormat;
@@ -182,10 +289,94 @@ static final InputStream getInputStream(final DefaultTableStoreReader tableForma
             throws IOException {
             // get the decompression format
             final CompressionFormat cType = tableFormatReader.getBinFileCompressionFormat();
+            if (tableFormatReader.isUseMemoryMapping()) {
+                final InputStream mappedIn = new MappedRegionsInputStream(tableFormatReader.getMappedRegions());
+                // no need to buffer uncompressed content, it's read right from the mapping
+                return cType == CompressionFormat.NONE ? mappedIn : cType.getInputStream(mappedIn);
+            }
             // return the (decompressed) stream
             return cType.getInputStream(tableFormatReader.getBinFile());
         }
 
     }
 
+    /**
+     * Input stream reading sequentially from (independent duplicates of) the regions of a memory mapped file. Closing
+     * the stream only drops the references, the mapping itself is shared.
+     */
+    static final class MappedRegionsInputStream extends InputStream {
+
+        private ByteBuffer[] m_regions;
+
+        private int m_regionIndex;
+
+        /** @param regions the shared regions, not modified */
+        MappedRegionsInputStream(final ByteBuffer[] regions) {
+            m_regions = new ByteBuffer[regions.length];
+            for (int i = 0; i < regions.length; i++) {
+                m_regions[i] = regions[i].duplicate();
+            }
+        }
+
+        /** @return the region to read from or null if at end of file */
+        private ByteBuffer currentRegion() throws IOException {
+            if (m_regions == null) {
+                throw new IOException("Stream closed");
+            }
+            while (m_regionIndex < m_regions.length && !m_regions[m_regionIndex].hasRemaining()) {
+                m_regionIndex++;
+            }
+            return m_regionIndex < m_regions.length ? m_regions[m_regionIndex] : null;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int read() throws IOException {
+            final ByteBuffer region = currentRegion();
+            return region == null ? -1 : region.get() & 0xFF;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            final ByteBuffer region = currentRegion();
+            if (region == null) {
+                return -1;
+            }
+            final int count = Math.min(len, region.remaining());
+            region.get(b, off, count);
+            return count;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public long skip(final long n) throws IOException {
+            long skipped = 0;
+            ByteBuffer region;
+            while (skipped < n && (region = currentRegion()) != null) {
+                final int count = (int)Math.min(n - skipped, region.remaining());
+                region.position(region.position() + count);
+                skipped += count;
+            }
+            return skipped;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int available() throws IOException {
+            final ByteBuffer region = currentRegion();
+            return region == null ? 0 : region.remaining();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void close() {
+            m_regions = null;
+        }
+
+    }
+
 }
@@ -50,7 +50,9 @@
 import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.Arrays;
 
+import org.apache.commons.io.output.CountingOutputStream;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
@@ -66,6 +68,15 @@
  */
 final class DefaultTableStoreWriter extends AbstractTableStoreWriter implements KNIMEStreamConstants {
 
+    /** Every how many rows the (uncompressed) byte offset is remembered, allows readers to seek to a row. */
+    static final int ROW_OFFSET_INDEX_INTERVAL = 8192;
+
+    /** Config key for {@link #ROW_OFFSET_INDEX_INTERVAL}. */
+    static final String CFG_ROW_OFFSET_INDEX_INTERVAL = "container.rowOffsetIndexInterval";
+
+    /** Config key for the row offset index (absent in files written with 3.7 and before). */
+    static final String CFG_ROW_OFFSET_INDEX = "container.rowOffsetIndex";
+
     /**
      * the stream that writes to the file, it's a special object output stream, in which we can mark the end of an entry
      * (to figure out when a cell implementation reads too many or too few bytes).
@@ -75,6 +86,19 @@ final class DefaultTableStoreWriter extends AbstractTableStoreWriter implements
     /** The compression format. */
     private final CompressionFormat m_compFormat;
 
+    /** Counts the (uncompressed) bytes written so far, used to fill the row offset index. */
+    private CountingOutputStream m_countingStream;
+
+    /** Uncompressed byte offsets of every {@link #ROW_OFFSET_INDEX_INTERVAL}th row, only first
+     * {@link #m_rowOffsetIndexLength} entries are valid. */
+    private long[] m_rowOffsetIndex = new long[16];
+
+    /** Number of valid entries in {@link #m_rowOffsetIndex}. */
+    private int m_rowOffsetIndexLength;
+
+    /** Number of rows written so far. */
+    private long m_rowCount;
+
     /**
      * Constructs a writer for writing KNIME tables to disk using the given compression format.
      *
@@ -98,6 +122,13 @@ public DefaultTableStoreWriter(final DataTableSpec spec, final OutputStream outp
      */
     @Override
     public void writeRow(final DataRow row) throws IOException {
+        if (m_rowCount++ % ROW_OFFSET_INDEX_INTERVAL == 0) {
+            if (m_rowOffsetIndexLength == m_rowOffsetIndex.length) {
+                m_rowOffsetIndex = Arrays.copyOf(m_rowOffsetIndex, 2 * m_rowOffsetIndexLength);
+            }
+            // the blockable stream doesn't buffer, all bytes of the previous row have been passed on
+            m_rowOffsetIndex[m_rowOffsetIndexLength++] = m_countingStream.getByteCount();
+        }
         RowKey id = row.getKey();
         writeRowKey(id, m_outStream);
         for (int i = 0; i < row.getNumCells(); i++) {
@@ -129,7 +160,8 @@ void writeRowKey(final RowKey key, final BlockableDCObjectOutputVersion2 outStre
      */
     @SuppressWarnings("resource")
     private BlockableDCObjectOutputVersion2 initOutFile(final OutputStream outStream) throws IOException {
-        final OutputStream out = m_compFormat.getOutputStream(outStream);
+        m_countingStream = new CountingOutputStream(m_compFormat.getOutputStream(outStream));
+        final OutputStream out = m_countingStream;
         return new BlockableDCObjectOutputVersion2(out, this);
     }
 
@@ -137,6 +169,8 @@ private BlockableDCObjectOutputVersion2 initOutFile(final OutputStream outStream
     @Override
     public void writeMetaInfoAfterWrite(final NodeSettingsWO settings) {
         m_compFormat.saveSettings(settings);
+        settings.addInt(CFG_ROW_OFFSET_INDEX_INTERVAL, ROW_OFFSET_INDEX_INTERVAL);
+        settings.addLongArray(CFG_ROW_OFFSET_INDEX, Arrays.copyOf(m_rowOffsetIndex, m_rowOffsetIndexLength));
         super.writeMetaInfoAfterWrite(settings);
     }
 
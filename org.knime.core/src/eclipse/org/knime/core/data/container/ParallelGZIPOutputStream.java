@@ -0,0 +1,236 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+import org.knime.core.node.KNIMEConstants;
+
+/**
+ * Output stream that compresses its content on multiple threads. The content is cut into blocks of
+ * {@link #BLOCK_SIZE} bytes, each block is compressed as an independent GZIP member and the members are written to
+ * the underlying stream in order by the thread writing to this stream. A sequence of GZIP members is a valid GZIP
+ * stream, it's read by {@link java.util.zip.GZIPInputStream} like a single member.
+ *
+ * <p>
+ * The number of blocks in flight is bounded, writers block when all compression threads are busy.
+ *
+ * @author agent
+ * @see KNIMEConstants#PROPERTY_TABLE_PARALLEL_COMPRESSION
+ */
+final class ParallelGZIPOutputStream extends OutputStream {
+
+    /** Size of the uncompressed blocks, large enough to not notably harm the compression ratio. */
+    static final int BLOCK_SIZE = 1 << 20;
+
+    private static final int NR_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors());
+
+    /**
+     * The compression threads. It's not the global thread pool as writers wait for results, which must not depend on
+     * other (node) jobs to finish.
+     */
+    private static final ThreadPoolExecutor COMPRESSION_EXECUTORS = new ThreadPoolExecutor(NR_THREADS, NR_THREADS,
+        60L, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+            private final AtomicInteger m_threadCount = new AtomicInteger();
+
+            /** {@inheritDoc} */
+            @Override
+            public Thread newThread(final Runnable r) {
+                Thread t = new Thread(r, "KNIME-TableCompression-" + m_threadCount.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            }
+        });
+
+    static {
+        COMPRESSION_EXECUTORS.allowCoreThreadTimeOut(true);
+    }
+
+    private final OutputStream m_out;
+
+    /** Compressed blocks in the order they need to be written. */
+    private final Deque<Future<byte[]>> m_pendingBlocks = new ArrayDeque<>();
+
+    private byte[] m_block = new byte[BLOCK_SIZE];
+
+    private int m_blockLength;
+
+    /** Whether any block has been handed to the compression threads. */
+    private boolean m_hasSubmittedBlock;
+
+    private boolean m_isClosed;
+
+    /** @param out the stream to write the compressed content to */
+    ParallelGZIPOutputStream(final OutputStream out) {
+        m_out = out;
+    }
+
+    /** @return whether parallel compression is enabled via {@link KNIMEConstants#PROPERTY_TABLE_PARALLEL_COMPRESSION} */
+    static boolean isEnabled() {
+        return Boolean.getBoolean(KNIMEConstants.PROPERTY_TABLE_PARALLEL_COMPRESSION);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void write(final int b) throws IOException {
+        if (m_blockLength == BLOCK_SIZE) {
+            submitBlock();
+        }
+        m_block[m_blockLength++] = (byte)b;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        int offset = off;
+        int remaining = len;
+        while (remaining > 0) {
+            if (m_blockLength == BLOCK_SIZE) {
+                submitBlock();
+            }
+            final int count = Math.min(remaining, BLOCK_SIZE - m_blockLength);
+            System.arraycopy(b, offset, m_block, m_blockLength, count);
+            m_blockLength += count;
+            offset += count;
+            remaining -= count;
+        }
+    }
+
+    /** Hands the current block to the compression threads, writes finished blocks if too many are in flight. */
+    private void submitBlock() throws IOException {
+        if (m_isClosed) {
+            throw new IOException("Stream closed");
+        }
+        if (m_blockLength == 0) {
+            return;
+        }
+        final byte[] block = m_block;
+        final int length = m_blockLength;
+        m_pendingBlocks.add(COMPRESSION_EXECUTORS.submit(() -> compress(block, length)));
+        m_hasSubmittedBlock = true;
+        m_block = new byte[BLOCK_SIZE];
+        m_blockLength = 0;
+        while (m_pendingBlocks.size() > 2 * NR_THREADS) {
+            writeNextPendingBlock();
+        }
+    }
+
+    private static byte[] compress(final byte[] block, final int length) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(length / 2);
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(bytes, 64 * 1024)) {
+            gzipOut.write(block, 0, length);
+        }
+        return bytes.toByteArray();
+    }
+
+    /** Waits for the oldest block to be compressed and writes it. */
+    private void writeNextPendingBlock() throws IOException {
+        final Future<byte[]> next = m_pendingBlocks.removeFirst();
+        try {
+            m_out.write(next.get());
+        } catch (InterruptedException ie) {
+            m_pendingBlocks.forEach(f -> f.cancel(true));
+            m_pendingBlocks.clear();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for compression threads");
+        } catch (ExecutionException ee) {
+            final Throwable cause = ee.getCause();
+            throw cause instanceof IOException ? (IOException)cause
+                : new IOException("Compressing table content failed: " + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Only flushes the underlying stream. The current block is not compressed prematurely (like
+     * {@link GZIPOutputStream} doesn't flush the deflater), as flushes are issued frequently, e.g. for each java
+     * serialized cell.
+     */
+    @Override
+    public void flush() throws IOException {
+        m_out.flush();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws IOException {
+        if (m_isClosed) {
+            return;
+        }
+        try {
+            if (!m_hasSubmittedBlock) {
+                // an empty stream still needs a (empty) GZIP member
+                m_out.write(compress(m_block, m_blockLength));
+            } else {
+                submitBlock();
+                while (!m_pendingBlocks.isEmpty()) {
+                    writeNextPendingBlock();
+                }
+            }
+        } finally {
+            m_isClosed = true;
+            m_block = null;
+            m_pendingBlocks.forEach(f -> f.cancel(true));
+            m_pendingBlocks.clear();
+            m_out.close();
+        }
+    }
+
+}
@@ -0,0 +1,328 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import java.util.AbstractList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.RandomAccess;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+
+/**
+ * An unmodifiable list of rows held in memory by a {@link Buffer} that stores columns consisting only of
+ * {@link DoubleCell}, {@link IntCell}, {@link LongCell} or {@link BooleanCell} (and plain missing cells) in primitive
+ * arrays. All other columns keep their cell objects. Rows and primitive cells are created on access, i.e. a double
+ * value takes 8 bytes instead of a cell object plus reference.
+ *
+ * @author agent
+ */
+final class PrimitiveColumnRowList extends AbstractList<BlobSupportDataRow> implements RandomAccess {
+
+    private final RowKey[] m_keys;
+
+    private final Column[] m_columns;
+
+    private PrimitiveColumnRowList(final RowKey[] keys, final Column[] columns) {
+        m_keys = keys;
+        m_columns = columns;
+    }
+
+    /**
+     * Converts the argument rows if any of the columns can be stored in a primitive array.
+     *
+     * @param rows the (fully written) rows, not modified
+     * @return a {@link PrimitiveColumnRowList} or the argument list if no column can be stored more compactly
+     */
+    static List<BlobSupportDataRow> compact(final List<BlobSupportDataRow> rows) {
+        if (rows.isEmpty() || rows instanceof PrimitiveColumnRowList) {
+            return rows;
+        }
+        final int nrRows = rows.size();
+        final int nrColumns = rows.get(0).getNumCells();
+        final Column[] columns = new Column[nrColumns];
+        boolean hasPrimitiveColumn = false;
+        for (int c = 0; c < nrColumns; c++) {
+            columns[c] = createColumn(rows, c);
+            hasPrimitiveColumn |= columns[c] != null;
+        }
+        if (!hasPrimitiveColumn) {
+            return rows;
+        }
+        final RowKey[] keys = new RowKey[nrRows];
+        for (int r = 0; r < nrRows; r++) {
+            keys[r] = rows.get(r).getKey();
+        }
+        for (int c = 0; c < nrColumns; c++) {
+            if (columns[c] == null) {
+                columns[c] = new ObjectColumn(nrRows);
+            }
+            for (int r = 0; r < nrRows; r++) {
+                columns[c].set(r, rows.get(r).getRawCell(c));
+            }
+        }
+        return new PrimitiveColumnRowList(keys, columns);
+    }
+
+    /** Returns a primitive column if all cells in column c have the same primitive type (or are missing). */
+    private static Column createColumn(final List<BlobSupportDataRow> rows, final int c) {
+        Class<? extends DataCell> cellClass = null;
+        for (BlobSupportDataRow row : rows) {
+            final DataCell cell = row.getRawCell(c);
+            if (cell == DataType.getMissingCell()) {
+                continue;
+            }
+            if (cellClass == null) {
+                cellClass = cell.getClass();
+            } else if (cellClass != cell.getClass()) {
+                return null;
+            }
+        }
+        final int nrRows = rows.size();
+        if (cellClass == DoubleCell.class) {
+            return new DoubleColumn(nrRows);
+        } else if (cellClass == IntCell.class) {
+            return new IntColumn(nrRows);
+        } else if (cellClass == LongCell.class) {
+            return new LongColumn(nrRows);
+        } else if (cellClass == BooleanCell.class) {
+            return new BooleanColumn(nrRows);
+        }
+        // unsupported type or only missing cells
+        return null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public BlobSupportDataRow get(final int index) {
+        final DataCell[] cells = new DataCell[m_columns.length];
+        for (int c = 0; c < cells.length; c++) {
+            cells[c] = m_columns[c].get(index);
+        }
+        return new BlobSupportDataRow(m_keys[index], cells);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int size() {
+        return m_keys.length;
+    }
+
+    /**
+     * @return an estimate of the heap usage of this list, see {@link BufferCache#estimateSizeInBytes(List)}
+     */
+    long estimateSizeInBytes() {
+        long bytes = 16 + 4L * m_keys.length;
+        for (RowKey key : m_keys) {
+            bytes += 16 + 24 + 16 + 2L * key.getString().length();
+        }
+        for (Column column : m_columns) {
+            bytes += column.estimateSizeInBytes();
+        }
+        return bytes;
+    }
+
+    /** The values of one column. */
+    private abstract static class Column {
+
+        /** Rows containing the missing cell, null if there are none. */
+        private BitSet m_missing;
+
+        final void set(final int row, final DataCell cell) {
+            if (cell == DataType.getMissingCell() && !(this instanceof ObjectColumn)) {
+                if (m_missing == null) {
+                    m_missing = new BitSet();
+                }
+                m_missing.set(row);
+            } else {
+                setValue(row, cell);
+            }
+        }
+
+        final DataCell get(final int row) {
+            if (m_missing != null && m_missing.get(row)) {
+                return DataType.getMissingCell();
+            }
+            return getValue(row);
+        }
+
+        long estimateSizeInBytes() {
+            return m_missing != null ? m_missing.size() / 8 : 0;
+        }
+
+        abstract void setValue(int row, DataCell cell);
+
+        abstract DataCell getValue(int row);
+    }
+
+    private static final class DoubleColumn extends Column {
+        private final double[] m_values;
+
+        DoubleColumn(final int size) {
+            m_values = new double[size];
+        }
+
+        @Override
+        long estimateSizeInBytes() {
+            return super.estimateSizeInBytes() + 16 + 8L * m_values.length;
+        }
+
+        @Override
+        void setValue(final int row, final DataCell cell) {
+            m_values[row] = ((DoubleCell)cell).getDoubleValue();
+        }
+
+        @Override
+        DataCell getValue(final int row) {
+            return new DoubleCell(m_values[row]);
+        }
+    }
+
+    private static final class IntColumn extends Column {
+        private final int[] m_values;
+
+        IntColumn(final int size) {
+            m_values = new int[size];
+        }
+
+        @Override
+        long estimateSizeInBytes() {
+            return super.estimateSizeInBytes() + 16 + 4L * m_values.length;
+        }
+
+        @Override
+        void setValue(final int row, final DataCell cell) {
+            m_values[row] = ((IntCell)cell).getIntValue();
+        }
+
+        @Override
+        DataCell getValue(final int row) {
+            return new IntCell(m_values[row]);
+        }
+    }
+
+    private static final class LongColumn extends Column {
+        private final long[] m_values;
+
+        LongColumn(final int size) {
+            m_values = new long[size];
+        }
+
+        @Override
+        long estimateSizeInBytes() {
+            return super.estimateSizeInBytes() + 16 + 8L * m_values.length;
+        }
+
+        @Override
+        void setValue(final int row, final DataCell cell) {
+            m_values[row] = ((LongCell)cell).getLongValue();
+        }
+
+        @Override
+        DataCell getValue(final int row) {
+            return new LongCell(m_values[row]);
+        }
+    }
+
+    private static final class BooleanColumn extends Column {
+        private final BitSet m_values;
+
+        BooleanColumn(final int size) {
+            m_values = new BitSet(size);
+        }
+
+        @Override
+        long estimateSizeInBytes() {
+            return super.estimateSizeInBytes() + 16 + m_values.size() / 8;
+        }
+
+        @Override
+        void setValue(final int row, final DataCell cell) {
+            m_values.set(row, ((BooleanCell)cell).getBooleanValue());
+        }
+
+        @Override
+        DataCell getValue(final int row) {
+            return BooleanCell.get(m_values.get(row));
+        }
+    }
+
+    /** Column that keeps the cells as they are. */
+    private static final class ObjectColumn extends Column {
+        private final DataCell[] m_cells;
+
+        ObjectColumn(final int size) {
+            m_cells = new DataCell[size];
+        }
+
+        @Override
+        long estimateSizeInBytes() {
+            long bytes = 16 + 4L * m_cells.length;
+            for (DataCell cell : m_cells) {
+                bytes += BufferCache.estimateCellSize(cell);
+            }
+            return bytes;
+        }
+
+        @Override
+        void setValue(final int row, final DataCell cell) {
+            m_cells[row] = cell;
+        }
+
+        @Override
+        DataCell getValue(final int row) {
+            return m_cells[row];
+        }
+    }
+}
@@ -67,11 +67,13 @@
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTable;
+import org.knime.core.data.DataTableDomainCreator;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.IDataRepository;
 import org.knime.core.data.RowIterator;
 import org.knime.core.data.RowKey;
 import org.knime.core.data.container.ColumnRearranger.SpecAndFactoryObject;
+import org.knime.core.data.container.storage.TableStoreFormat;
 import org.knime.core.data.def.DefaultRow;
 import org.knime.core.data.filestore.FileStoreFactory;
 import org.knime.core.data.filestore.internal.IWriteFileStoreHandler;
@@ -145,17 +147,33 @@ public void close() {
 
     private final ContainerTable m_appendTable;
 
+    /** The factories computing the new columns during iteration if the table has virtual columns, otherwise null
+     * (the new columns are then in m_appendTable). See {@link AbstractCellFactory#setVirtualColumnsAllowed(boolean)}.
+     */
+    private final NewColumnsProducerMapping m_virtualColumnsMapping;
+
+    /** The spec of the virtual columns (including domain) or null. */
+    private final DataTableSpec m_virtualColumnsSpec;
+
     /*
      * Used from the factory method, see below.
      * @see #create(ColumnRearranger, BufferedDataTable, ExecutionMonitor)
      */
     private RearrangeColumnsTable(final BufferedDataTable reference, final int[] map, final boolean[] isFromRefTable,
         final DataTableSpec spec, final ContainerTable appendTbl) {
+        this(reference, map, isFromRefTable, spec, appendTbl, null, null);
+    }
+
+    private RearrangeColumnsTable(final BufferedDataTable reference, final int[] map, final boolean[] isFromRefTable,
+        final DataTableSpec spec, final ContainerTable appendTbl, final NewColumnsProducerMapping virtualColumnsMapping,
+        final DataTableSpec virtualColumnsSpec) {
         m_spec = spec;
         m_reference = reference;
         m_appendTable = appendTbl;
         m_map = map;
         m_isFromRefTable = isFromRefTable;
+        m_virtualColumnsMapping = virtualColumnsMapping;
+        m_virtualColumnsSpec = virtualColumnsSpec;
     }
 
     /**
@@ -185,6 +203,8 @@ public RearrangeColumnsTable(final ReferencedFile f, final NodeSettingsRO settin
         m_reference = BufferedDataTable.getDataTable(tblRep, refTableID, dataRepository);
         m_map = subSettings.getIntArray(CFG_MAP);
         m_isFromRefTable = subSettings.getBooleanArray(CFG_FLAGS);
+        m_virtualColumnsMapping = null;
+        m_virtualColumnsSpec = null;
         DataColumnSpec[] appendColSpecs;
         int appendColCount = 0;
         for (int i = 0; i < m_isFromRefTable.length; i++) {
@@ -271,6 +291,9 @@ public DataTableSpec getDataTableSpec() {
      */
     @Override
     public CloseableRowIterator iterator() {
+        if (m_virtualColumnsMapping != null) {
+            return createVirtualColumnsIterator();
+        }
         CloseableRowIterator appendIt;
         if (m_appendTable != null) {
             int[] appendIndices =
@@ -335,7 +358,16 @@ public static RearrangeColumnsTable create(final ColumnRearranger rearranger, fi
         // for a pure filter (a table that just hides some columns from
         // the reference table but does not add any new column we avoid to scan
         // the entire table (nothing is written anyway))
-        if (newColCount > 0) {
+        if (newColCount > 0 && isVirtualColumnsAllowed(newColsProducerMapping)) {
+            final DataTableSpec virtualColumnsSpec;
+            try {
+                virtualColumnsSpec =
+                    calcVirtualColsDomain(table, subProgress, newColsProducerMapping, new DataTableSpec(newColSpecs));
+            } finally {
+                finishProcessing(newColsProducerMapping);
+            }
+            return createVirtual(includes, originalSpec, table, newColsProducerMapping, virtualColumnsSpec);
+        } else if (newColCount > 0) {
             DataContainer container = context.createDataContainer(new DataTableSpec(newColSpecs));
             container.setBufferCreator(new NoKeyBufferCreator());
             assert newColumnFactoryList.size() == newColCount;
@@ -384,6 +416,132 @@ public static RearrangeColumnsTable create(final ColumnRearranger rearranger, fi
         return new RearrangeColumnsTable(table, includesIndex, isFromRefTable, spec, appendTable);
     }
 
+    /** Whether the new columns can be virtual, see {@link AbstractCellFactory#setVirtualColumnsAllowed(boolean)}. */
+    private static boolean isVirtualColumnsAllowed(final NewColumnsProducerMapping mapping) {
+        if (!mapping.getConverterToIndexMap().isEmpty()) {
+            return false;
+        }
+        for (CellFactory factory : mapping.getUniqueCellFactoryMap().keySet()) {
+            if (!(factory instanceof AbstractCellFactory)
+                || !((AbstractCellFactory)factory).isVirtualColumnsAllowed()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Computes the new cells once (without storing them) to determine the domain of the virtual columns. */
+    private static DataTableSpec calcVirtualColsDomain(final BufferedDataTable table,
+        final ExecutionMonitor subProgress, final NewColumnsProducerMapping newColsProducerMapping,
+        final DataTableSpec newColsSpec) throws CanceledExecutionException {
+        final long finalRowCount = table.size();
+        final DataTableDomainCreator domainCreator = new DataTableDomainCreator(newColsSpec, true);
+        long r = 0;
+        try (CloseableRowIterator it = table.iterator()) {
+            while (it.hasNext()) {
+                DataRow row = it.next();
+                domainCreator.updateDomain(calcNewCellsForRow(row, newColsProducerMapping));
+                subProgress.checkCanceled();
+                final long rowIndex = ++r;
+                subProgress.setProgress(rowIndex / (double)finalRowCount,
+                    () -> "Processed row " + rowIndex + "/" + finalRowCount + " (\"" + row.getKey() + "\")");
+            }
+        }
+        return domainCreator.createSpec();
+    }
+
+    /** Creates the table with virtual columns, whose cells are computed during iteration. */
+    private static RearrangeColumnsTable createVirtual(final Vector<SpecAndFactoryObject> includes,
+        final DataTableSpec originalSpec, final BufferedDataTable table,
+        final NewColumnsProducerMapping newColsProducerMapping, final DataTableSpec virtualColumnsSpec) {
+        final int size = includes.size();
+        boolean[] isFromRefTable = new boolean[size];
+        int[] includesIndex = new int[size];
+        DataColumnSpec[] colSpecs = new DataColumnSpec[size];
+        int newColIndex = 0;
+        for (int i = 0; i < size; i++) {
+            SpecAndFactoryObject c = includes.get(i);
+            if (c.isNewColumn()) {
+                includesIndex[i] = newColIndex;
+                colSpecs[i] = virtualColumnsSpec.getColumnSpec(newColIndex);
+                newColIndex++;
+            } else {
+                isFromRefTable[i] = true;
+                includesIndex[i] = c.getOriginalIndex();
+                colSpecs[i] = originalSpec.getColumnSpec(c.getOriginalIndex());
+            }
+        }
+        return new RearrangeColumnsTable(table, includesIndex, isFromRefTable, new DataTableSpec(colSpecs), null,
+            newColsProducerMapping, virtualColumnsSpec);
+    }
+
+    /** Iterator on the reference table computing the virtual columns for each row. */
+    private CloseableRowIterator createVirtualColumnsIterator() {
+        final CloseableRowIterator refIt = m_reference.iterator();
+        return new CloseableRowIterator() {
+            @Override
+            public boolean hasNext() {
+                return refIt.hasNext();
+            }
+
+            @Override
+            public DataRow next() {
+                final DataRow row = refIt.next();
+                return JoinTableIterator.createOutputRow(row, calcNewCellsForRow(row, m_virtualColumnsMapping), m_map,
+                    m_isFromRefTable);
+            }
+
+            @Override
+            public void close() {
+                refIt.close();
+            }
+        };
+    }
+
+    /** Writes the virtual columns into a (temporary) container in the format of the append table so that the saved
+     * table is read like any other rearranged table. */
+    private ContainerTable materializeVirtualColumns(final ExecutionMonitor exec) throws CanceledExecutionException {
+        final DataContainer container = new DataContainer(m_virtualColumnsSpec, true);
+        container.setBufferCreator(new NoKeyBufferCreator());
+        final long rowCount = m_reference.size();
+        long r = 0;
+        try (CloseableRowIterator it = m_reference.iterator()) {
+            while (it.hasNext()) {
+                exec.checkCanceled();
+                container.addRowToTable(calcNewCellsForRow(it.next(), m_virtualColumnsMapping));
+                exec.setProgress(++r / (double)rowCount);
+            }
+        } finally {
+            container.close();
+        }
+        return container.getBufferedTable();
+    }
+
+    /** The format the new columns are stored in, i.e. the format of the append table or, for virtual columns, the
+     * format they will be written in when saved.
+     * @return that format or null if the table has no new columns
+     * @since 3.8
+     * @noreference This method is not intended to be referenced by clients.
+     */
+    public TableStoreFormat getAppendTableStoreFormat() {
+        if (m_appendTable != null) {
+            return m_appendTable.getTableStoreFormat();
+        } else if (m_virtualColumnsMapping != null) {
+            return DataContainerSettings.getDefault().getBufferSettings().getOutputFormat(m_virtualColumnsSpec);
+        }
+        return null;
+    }
+
+    /** Whether this table computes its new columns during iteration (instead of reading them from a file).
+     * @return that property
+     * @see AbstractCellFactory#setVirtualColumnsAllowed(boolean)
+     * @since 3.8
+     * @noreference This method is not intended to be referenced by clients.
+     */
+    public boolean hasVirtualColumns() {
+        return m_virtualColumnsMapping != null;
+    }
+
     /** Set a file store factory on the {@link AbstractCellFactory}.
      * See {@link AbstractCellFactory#getFileStoreFactory()} for details.
      * @param newColumnFactoryList To work on.
@@ -620,6 +778,13 @@ public void saveToFile(final File f, final NodeSettingsWO s, final ExecutionMoni
         if (m_appendTable != null) {
             // subSettings argument is ignored in ContainerTable
             m_appendTable.saveToFile(f, subSettings, exec);
+        } else if (m_virtualColumnsMapping != null) {
+            ContainerTable appendTable = materializeVirtualColumns(exec.createSubProgress(0.5));
+            try {
+                appendTable.saveToFile(f, subSettings, exec.createSubProgress(0.5));
+            } finally {
+                appendTable.clear();
+            }
         }
     }
 
@@ -63,10 +63,12 @@
 import org.apache.commons.io.IOUtils;
 import org.eclipse.core.runtime.Platform;
 import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DataType;
 import org.knime.core.data.DataTypeRegistry;
 import org.knime.core.data.IDataRepository;
+import org.knime.core.data.RangeRowIterator;
 import org.knime.core.data.RowIteratorBuilder;
 import org.knime.core.data.RowIteratorBuilder.DefaultRowIteratorBuilder;
 import org.knime.core.data.container.BlobDataCell.BlobAddress;
@@ -190,6 +192,23 @@ public final BlobWrapperDataCell createBlobWrapperCell(final BlobAddress address
      */
     public abstract TableStoreCloseableRowIterator iterator();
 
+    /**
+     * Returns a row iterator which returns the rows in the given range. The default implementation reads and skips the
+     * leading rows of {@link #iterator()}, implementations that can seek to a row should override it.
+     *
+     * @param fromIndex the index of the first row to return, inclusive
+     * @param toIndex the index of the last row to return, inclusive, {@link Long#MAX_VALUE} for all rows
+     * @return row iterator over the range
+     * @since 3.8
+     */
+    protected TableStoreCloseableRowIterator iterator(final long fromIndex, final long toIndex) {
+        final TableStoreCloseableRowIterator iterator = iterator();
+        if (fromIndex == 0L && toIndex == Long.MAX_VALUE) {
+            return iterator;
+        }
+        return new RangeTableStoreCloseableRowIterator(iterator, fromIndex, toIndex);
+    }
+
     /**
      * Returns a {@link RowIteratorBuilder} that can be used to assemble more complex
      * {@link TableStoreCloseableRowIterator}s that only iterate over parts of a table.
@@ -199,7 +218,8 @@ public final BlobWrapperDataCell createBlobWrapperCell(final BlobAddress address
      * @since 3.7
      */
     public RowIteratorBuilder<? extends TableStoreCloseableRowIterator> iteratorBuilder() {
-        return new DefaultRowIteratorBuilder<TableStoreCloseableRowIterator>(() -> iterator(), m_spec) {
+        return new DefaultRowIteratorBuilder<TableStoreCloseableRowIterator>(
+                (fromIndex, toIndex) -> iterator(fromIndex, toIndex), m_spec) {
             @Override
             public TableStoreCloseableRowIterator build() {
                 TableStoreCloseableRowIterator iterator = super.build();
@@ -394,6 +414,45 @@ protected static void checkAndReportOpenFiles(final IOException ex) {
         }
     }
 
+    /** Iterator returning a range of rows of another (unregistered) iterator, see {@link RangeRowIterator}. */
+    private static final class RangeTableStoreCloseableRowIterator extends TableStoreCloseableRowIterator {
+
+        private final TableStoreCloseableRowIterator m_iterator;
+
+        private final RangeRowIterator m_rangeIterator;
+
+        RangeTableStoreCloseableRowIterator(final TableStoreCloseableRowIterator iterator, final long fromIndex,
+            final long toIndex) {
+            m_iterator = iterator;
+            m_rangeIterator = new RangeRowIterator(iterator, fromIndex, toIndex);
+        }
+
+        /** Also sets the reader on the decorated iterator as it closes itself when exhausted. */
+        @Override
+        public void setReader(final AbstractTableStoreReader reader) {
+            super.setReader(reader);
+            m_iterator.setReader(reader);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean hasNext() {
+            return m_rangeIterator.hasNext();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public DataRow next() {
+            return m_rangeIterator.next();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean performClose() throws IOException {
+            return m_iterator.performClose();
+        }
+    }
+
     public static abstract class TableStoreCloseableRowIterator extends CloseableRowIterator {
         private AbstractTableStoreReader m_reader;
 
@@ -59,9 +59,11 @@
 import java.util.LinkedList;
 import java.util.List;
 import java.util.NoSuchElementException;
-import java.util.PriorityQueue;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
@@ -71,6 +73,7 @@
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DataType;
 import org.knime.core.data.DataValueComparator;
+import org.knime.core.data.container.CloseableRowIterator;
 import org.knime.core.data.container.DataContainer;
 import org.knime.core.data.def.StringCell;
 import org.knime.core.data.util.memory.MemoryAlertSystem;
@@ -78,7 +81,9 @@
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeLogger;
+import org.knime.core.util.ThreadPool;
 
 /**
  * Class to sort a table. See <a href="package.html">package description</a> for details.
@@ -98,6 +103,15 @@ abstract class AbstractTableSorter {
      */
     public static final int DEF_MAX_OPENCONTAINER = 40;
 
+    /** Minimum number of rows in a run that is sorted by a separate thread (parallel mode only). */
+    private static final int MIN_ROWS_PER_PARALLEL_RUN = 10000;
+
+    /** Number of rows read ahead from a run while merging (parallel mode only). */
+    private static final int PREFETCH_BLOCK_SIZE = 1024;
+
+    /** Default for {@link #setParallelism(int)}, see {@link KNIMEConstants#PROPERTY_SORTER_THREADS}. */
+    private static final int DEFAULT_PARALLELISM = initDefaultParallelism();
+
     private MemoryAlertSystem m_memService = MemoryAlertSystem.getInstance();
 
     private final DataTable m_inputTable;
@@ -118,6 +132,15 @@ abstract class AbstractTableSorter {
 
     private boolean m_sortInMemory = false;
 
+    /** Number of threads used for run generation and prefetching while merging, 1 = no parallelism. */
+    private int m_parallelism = DEFAULT_PARALLELISM;
+
+    /** Minimum number of rows per run in parallel mode, only changed in unit tests. */
+    private int m_minRowsPerParallelRun = MIN_ROWS_PER_PARALLEL_RUN;
+
+    /** Thread pool used if {@link #m_parallelism} &gt; 1, created lazily. */
+    private ThreadPool m_executor;
+
     /** The RowComparator to compare two DataRows (inner class). */
     private Comparator<DataRow> m_rowComparator;
 
@@ -372,6 +395,16 @@ void setMaxRows(final int maxRows) {
         m_maxRowsPerChunk = maxRows;
     }
 
+    /**
+     * Set the minimum number of rows in a run that is sorted by a separate thread (parallel mode only),
+     * defaults to 10000. This field is modified from the testing framework.
+     *
+     * @param minRows the minimum number of rows per run, at least 1
+     */
+    void setMinRowsPerParallelRun(final int minRows) {
+        m_minRowsPerParallelRun = minRows;
+    }
+
     /**
      * Set memory service. Used in unit test.
      *
@@ -405,6 +438,63 @@ public void setSortInMemory(final boolean sortInMemory) {
         m_sortInMemory = sortInMemory;
     }
 
+    /**
+     * @return the number of threads used for sorting, see {@link #setParallelism(int)}.
+     * @since 3.8
+     */
+    public int getParallelism() {
+        return m_parallelism;
+    }
+
+    /**
+     * Sets the number of threads used when sorting on disk. If larger than 1, each chunk of rows that fits into memory
+     * is split into several runs, which are sorted on separate threads (taken from the
+     * {@link KNIMEConstants#GLOBAL_THREAD_POOL global thread pool}) and written on the calling thread, and rows of the runs are read ahead on
+     * background threads while merging. The row comparator must then be thread-safe (the comparator created from
+     * sort columns is).
+     *
+     * <p>
+     * The default value is taken from the system property {@link KNIMEConstants#PROPERTY_SORTER_THREADS}; if unset
+     * it is 1, that is, all work is done on the calling thread.
+     *
+     * @param parallelism the number of threads
+     * @throws IllegalArgumentException If argument is smaller than 1.
+     * @since 3.8
+     */
+    public void setParallelism(final int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Invalid parallelism: " + parallelism);
+        }
+        m_parallelism = parallelism;
+    }
+
+    private static int initDefaultParallelism() {
+        final String threads = System.getProperty(KNIMEConstants.PROPERTY_SORTER_THREADS);
+        if (threads != null) {
+            try {
+                final int count = Integer.parseInt(threads);
+                if (count >= 1) {
+                    LOGGER.debug("Table sorter threads: " + count);
+                    return count;
+                }
+                LOGGER.warn("Table sorter threads set via system property not valid (< 1) '" + threads
+                    + "', sorting on the calling thread.");
+            } catch (NumberFormatException nfe) {
+                LOGGER.warn("Table sorter threads set via system property not valid '" + threads
+                    + "', sorting on the calling thread.");
+            }
+        }
+        return 1;
+    }
+
+    /** @return the thread pool used in parallel mode, created lazily */
+    private synchronized ThreadPool getExecutor() {
+        if (m_executor == null) {
+            m_executor = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(m_parallelism);
+        }
+        return m_executor;
+    }
+
     /**
      * Sorts the table passed in the constructor according to the settings and returns the sorted output table.
      *
@@ -451,7 +541,7 @@ private DataTable sortInMemory(final ExecutionMonitor exec) throws CanceledExecu
         }
 
         exec.setMessage("Sorting");
-        Collections.sort(rowList, m_rowComparator);
+        sortRows(rowList);
 
         exec.setMessage("Creating sorted table");
 
@@ -553,7 +643,7 @@ Iterator<DataRow> mergeChunks(final ExecutionMonitor exec, final boolean mergeCo
                 containersToMerge.add(new MergeEntry(m_chunksContainer.poll(), i, m_rowComparator));
             }
 
-            MergingIterator mergingIterator = new MergingIterator(containersToMerge);
+            MergingIterator mergingIterator = new MergingIterator(containersToMerge, m_rowComparator);
 
             if (m_chunksContainer.isEmpty() && (!mergeCompletely || containersToMerge.size() == 1)) {
                 return mergingIterator;
@@ -571,6 +661,8 @@ Iterator<DataRow> mergeChunks(final ExecutionMonitor exec, final boolean mergeCo
                         exec.checkCanceled();
                     }
                 } finally {
+                    // releases the runs if the merge was canceled
+                    mergingIterator.close();
                     closeChunk();
                 }
             }
@@ -609,9 +701,16 @@ private long createInitialChunks(final ExecutionMonitor exec, final DataTable da
                     long estimatedIncrements = m_rowsInInputTable - counter + buffer.size();
                     m_incProgress = (0.5 - m_progress) / estimatedIncrements;
                 }
+                if (m_parallelism > 1) {
+                    writeRunsInParallel(exec, buffer);
+                    LOGGER.debug("Wrote chunk [" + chunkStartRow + ":" + counter + "] - mem usage: " + getMemUsage());
+                    chunkStartRow = counter + 1;
+                    rowsInCurrentChunk = 0;
+                    continue;
+                }
                 exec.setMessage("Sorting temporary buffer");
                 // sort buffer
-                Collections.sort(buffer, m_rowComparator);
+                sortRows(buffer);
                 // write buffer to disk
                 openChunk();
                 final int totalBufferSize = buffer.size();
@@ -638,13 +737,92 @@ private long createInitialChunks(final ExecutionMonitor exec, final DataTable da
         // Add buffer to the chunks
         if (!buffer.isEmpty()) {
             // sort buffer
-            Collections.sort(buffer, m_rowComparator);
+            sortRows(buffer);
             m_chunksContainer.add(buffer);
         }
         outerCounter = counter;
         return outerCounter;
     }
 
+    /**
+     * Splits the argument buffer into runs, which are sorted on separate threads and written to temporary tables on
+     * the calling thread (data containers register their tables in the execution context, which is not thread-safe).
+     * The tables are added to the chunk list in order. The buffer is cleared afterwards.
+     *
+     * @param exec for progress and cancelation
+     * @param buffer the unsorted rows
+     * @throws CanceledExecutionException if canceled
+     */
+    private void writeRunsInParallel(final ExecutionMonitor exec, final ArrayList<DataRow> buffer)
+        throws CanceledExecutionException {
+        final int bufferSize = buffer.size();
+        final int nrRuns = Math.max(1, Math.min(m_parallelism, bufferSize / m_minRowsPerParallelRun));
+        exec.setMessage("Sorting " + nrRuns + " temporary buffers");
+        final ThreadPool executor = getExecutor();
+        final List<Future<List<DataRow>>> futures = new ArrayList<>(nrRuns);
+        for (int r = 0; r < nrRuns; r++) {
+            // own copy of the (row references of the) run so that the buffer can be cleared
+            final List<DataRow> run =
+                new ArrayList<>(buffer.subList(r * bufferSize / nrRuns, (r + 1) * bufferSize / nrRuns));
+            futures.add(executor.enqueue(() -> {
+                sortRows(run);
+                return run;
+            }));
+        }
+        buffer.clear();
+        try {
+            for (int r = 0; r < nrRuns; r++) {
+                exec.checkCanceled();
+                // later runs are still sorted while this one is written
+                final List<DataRow> run = futures.get(r).get();
+                futures.set(r, null);
+                exec.setMessage("Writing temporary table " + (r + 1) + "/" + nrRuns);
+                openChunk();
+                final int size = run.size();
+                for (int i = 0; i < size; i++) {
+                    addRowToChunk(run.set(i, null));
+                    exec.checkCanceled();
+                    if (m_rowsInInputTable > 0) {
+                        m_progress += m_incProgress;
+                        exec.setProgress(m_progress);
+                    }
+                }
+                closeChunk();
+            }
+        } catch (InterruptedException | ExecutionException e) {
+            cancelAll(futures);
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException)e.getCause();
+            }
+            throw new RuntimeException("Execution has been interrupted!", e);
+        } catch (CanceledExecutionException e) {
+            cancelAll(futures);
+            throw e;
+        }
+    }
+
+    private static void cancelAll(final List<? extends Future<?>> futures) {
+        futures.stream().filter(f -> f != null).forEach(f -> f.cancel(true));
+    }
+
+    /**
+     * The normalized key encoder of the sort columns, if the sort columns were set via
+     * {@link #setSortColumns(Collection, boolean[], boolean)} and all of them support it, otherwise null.
+     */
+    private NormalizedKeys getNormalizedKeys() {
+        return m_rowComparator instanceof RowComparator ? ((RowComparator)m_rowComparator).m_normalizedKeys : null;
+    }
+
+    /** Sorts the argument list (stable), using the normalized keys if available. */
+    private void sortRows(final List<DataRow> rows) {
+        final NormalizedKeys normalizedKeys = getNormalizedKeys();
+        if (normalizedKeys != null) {
+            normalizedKeys.sort(rows);
+        } else {
+            Collections.sort(rows, m_rowComparator);
+        }
+    }
+
     /**
      * Opens a chunk data container to accept rows using {@link #addRowToChunk(DataRow)}, {@link #closeChunk()} closes
      * the current container and adds it to the chunk list.
@@ -696,6 +874,11 @@ private String getMemUsage() {
     private final class MergeEntry implements Comparable<MergeEntry>, Iterator<DataRow> {
         private DataRow m_row;
 
+        /** Normalized key of m_row, only set if {@link #m_normalizedKeys} is non-null. */
+        private byte[] m_key;
+
+        private final NormalizedKeys m_normalizedKeys;
+
         private Iterable<DataRow> m_iterable;
 
         private Iterator<DataRow> m_iterator;
@@ -713,13 +896,24 @@ private final class MergeEntry implements Comparable<MergeEntry>, Iterator<DataR
             m_iterable = iterable;
             m_index = index;
             m_comparator = comparator;
+            m_normalizedKeys = getNormalizedKeys();
+        }
+
+        /** Sets the current row and its key. */
+        private void setRow(final DataRow row) {
+            m_row = row;
+            m_key = row != null && m_normalizedKeys != null ? m_normalizedKeys.encode(row) : null;
         }
 
         private void open() {
             if (m_iterator == null) {
-                m_iterator = m_iterable.iterator();
+                if (m_parallelism > 1 && m_iterable instanceof DataTable) {
+                    m_iterator = new PrefetchingIterator(m_iterable.iterator(), getExecutor());
+                } else {
+                    m_iterator = m_iterable.iterator();
+                }
                 if (m_iterator.hasNext()) {
-                    m_row = m_iterator.next();
+                    setRow(m_iterator.next());
                 }
             }
         }
@@ -731,6 +925,7 @@ private void open() {
         public boolean hasNext() {
             // open the file lazily
             if (m_row == null) {
+                close();
                 if (m_iterable instanceof DataTable) {
                     clearTable((DataTable)m_iterable);
                 }
@@ -739,6 +934,15 @@ public boolean hasNext() {
             return true;
         }
 
+        /** Closes the underlying iterator (if opened and closeable), also stops prefetching. */
+        private void close() {
+            if (m_iterator instanceof PrefetchingIterator) {
+                ((PrefetchingIterator)m_iterator).close();
+            } else if (m_iterator instanceof CloseableRowIterator) {
+                ((CloseableRowIterator)m_iterator).close();
+            }
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -749,7 +953,7 @@ public DataRow next() {
                 throw new NoSuchElementException();
             }
             DataRow toReturn = m_row;
-            m_row = m_iterator.hasNext() ? m_iterator.next() : null;
+            setRow(m_iterator.hasNext() ? m_iterator.next() : null);
             return toReturn;
         }
 
@@ -806,21 +1010,63 @@ public boolean equals(final Object obj) {
     }
 
     /**
-     * Lazily opens the given MergeEntry's (The runs of this merging step) and returns the rows.
+     * Lazily opens the given MergeEntry's (The runs of this merging step) and returns the rows. The runs are merged
+     * using a tournament (loser) tree, which needs about log2(k) comparisons per row for k runs.
      *
      * @author Marcel Hanser
      */
     private static final class MergingIterator implements Iterator<DataRow> {
-        private Queue<MergeEntry> m_containerToMerge;
+        private final MergeEntry[] m_entries;
 
-        private boolean m_opened = false;
+        private final Comparator<DataRow> m_comparator;
+
+        /**
+         * The tournament tree: index 0 holds the index of the entry with the smallest current row, the inner nodes
+         * 1..k-1 hold the index of the entry that lost the comparison at that node. Leaf i is (virtual) node k+i.
+         */
+        private int[] m_tree;
 
         /**
          * @param containerToMerge
+         * @param comparator the row comparator
          */
-        private MergingIterator(final Queue<MergeEntry> containerToMerge) {
+        private MergingIterator(final Queue<MergeEntry> containerToMerge, final Comparator<DataRow> comparator) {
             super();
-            m_containerToMerge = containerToMerge;
+            m_entries = containerToMerge.toArray(new MergeEntry[containerToMerge.size()]);
+            m_comparator = comparator;
+        }
+
+        /** Whether the current row of entry a is to be returned before the current row of entry b. */
+        private boolean isBefore(final int a, final int b) {
+            final DataRow rowA = m_entries[a].m_row;
+            final DataRow rowB = m_entries[b].m_row;
+            if (rowA == null) {
+                return false;
+            }
+            if (rowB == null) {
+                return true;
+            }
+            final byte[] keyA = m_entries[a].m_key;
+            final int value = keyA != null ? NormalizedKeys.compare(keyA, m_entries[b].m_key)
+                : m_comparator.compare(rowA, rowB);
+            // ties are resolved by the index of the run to keep the sort stable
+            return value < 0 || (value == 0 && m_entries[a].m_index < m_entries[b].m_index);
+        }
+
+        /** Plays the tournament in the subtree of the argument node, returns the index of the winning entry. */
+        private int build(final int node) {
+            final int k = m_entries.length;
+            if (node >= k) {
+                return node - k;
+            }
+            final int left = build(2 * node);
+            final int right = build(2 * node + 1);
+            if (isBefore(left, right)) {
+                m_tree[node] = right;
+                return left;
+            }
+            m_tree[node] = left;
+            return right;
         }
 
         /**
@@ -828,16 +1074,19 @@ private MergingIterator(final Queue<MergeEntry> containerToMerge) {
          */
         @Override
         public boolean hasNext() {
-            if (!m_opened) {
-                Queue<MergeEntry> sortedEntries = new PriorityQueue<>();
-                for (MergeEntry entry : m_containerToMerge) {
+            if (m_tree == null) {
+                for (MergeEntry entry : m_entries) {
                     entry.open();
-                    sortedEntries.add(entry);
+                    // clears the table if the run is empty
+                    entry.hasNext();
                 }
-                m_containerToMerge = sortedEntries;
-                m_opened = true;
+                m_tree = new int[Math.max(1, m_entries.length)];
+                if (m_entries.length == 0) {
+                    return false;
+                }
+                m_tree[0] = build(1);
             }
-            return !m_containerToMerge.isEmpty();
+            return m_entries.length > 0 && m_entries[m_tree[0]].m_row != null;
         }
 
         /**
@@ -845,16 +1094,24 @@ public boolean hasNext() {
          */
         @Override
         public DataRow next() {
-            if (hasNext()) {
-                MergeEntry first = m_containerToMerge.poll();
-                DataRow currentCell = first.next();
-                if (first.hasNext()) {
-                    m_containerToMerge.offer(first);
-                }
-                return currentCell;
-            } else {
+            if (!hasNext()) {
                 throw new NoSuchElementException();
             }
+            int winner = m_tree[0];
+            final MergeEntry first = m_entries[winner];
+            final DataRow currentRow = first.next();
+            // clears the table if the run is exhausted
+            first.hasNext();
+            // replay the matches on the path from the leaf of the winner to the root
+            for (int node = (winner + m_entries.length) / 2; node > 0; node /= 2) {
+                if (isBefore(m_tree[node], winner)) {
+                    final int loser = winner;
+                    winner = m_tree[node];
+                    m_tree[node] = loser;
+                }
+            }
+            m_tree[0] = winner;
+            return currentRow;
         }
 
         /**
@@ -864,13 +1121,117 @@ public DataRow next() {
         public void remove() {
             throw new UnsupportedOperationException();
         }
+
+        /** Closes the iterators of all runs, used when the merge ends early (e.g. canceled). */
+        void close() {
+            for (MergeEntry entry : m_entries) {
+                entry.close();
+            }
+        }
+    }
+
+    /**
+     * Iterator reading blocks of rows from a run on a background thread while the rows of the previous block are
+     * consumed. At most one block is read ahead.
+     */
+    private static final class PrefetchingIterator implements Iterator<DataRow> {
+
+        private final Iterator<DataRow> m_source;
+
+        private final ThreadPool m_executor;
+
+        /** The block that is currently consumed. */
+        private List<DataRow> m_block = Collections.emptyList();
+
+        private int m_indexInBlock;
+
+        /** The block being read ahead, null if the source is exhausted. */
+        private Future<List<DataRow>> m_nextBlock;
+
+        PrefetchingIterator(final Iterator<DataRow> source, final ThreadPool executor) {
+            m_source = source;
+            m_executor = executor;
+            m_nextBlock = m_executor.enqueue(this::readBlock);
+        }
+
+        /** Whether {@link #close()} was called, accessed by the reading thread. */
+        private volatile boolean m_isClosed;
+
+        /** Reads the next block from the source, called on a thread of the executor. */
+        private List<DataRow> readBlock() {
+            final List<DataRow> block = new ArrayList<>(PREFETCH_BLOCK_SIZE);
+            while (!m_isClosed && block.size() < PREFETCH_BLOCK_SIZE && m_source.hasNext()) {
+                block.add(m_source.next());
+            }
+            return block;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (m_indexInBlock < m_block.size()) {
+                return true;
+            }
+            if (m_nextBlock == null) {
+                return false;
+            }
+            try {
+                m_block = m_nextBlock.get();
+            } catch (InterruptedException e) {
+                m_nextBlock.cancel(true);
+                m_nextBlock = null;
+                throw new RuntimeException("Execution has been interrupted!", e);
+            } catch (ExecutionException e) {
+                m_nextBlock = null;
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException)e.getCause();
+                }
+                throw new RuntimeException("Reading temporary table failed: " + e.getCause().getMessage(), e);
+            }
+            m_indexInBlock = 0;
+            // a partial block indicates the end of the run
+            m_nextBlock = m_block.size() == PREFETCH_BLOCK_SIZE ? m_executor.enqueue(this::readBlock) : null;
+            return !m_block.isEmpty();
+        }
+
+        @Override
+        public DataRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            // release the reference as early as possible
+            return m_block.set(m_indexInBlock++, null);
+        }
+
+        /** Stops reading ahead and closes the source (if closeable). Waits for a block currently being read. */
+        void close() {
+            if (m_isClosed) {
+                return;
+            }
+            m_isClosed = true;
+            final Future<List<DataRow>> nextBlock = m_nextBlock;
+            m_nextBlock = null;
+            m_block = Collections.emptyList();
+            if (nextBlock != null && !nextBlock.cancel(false)) {
+                // already running (or done) - don't close the source under its feet
+                try {
+                    nextBlock.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException | CancellationException e) {
+                    // ignore, closing anyway
+                }
+            }
+            if (m_source instanceof CloseableRowIterator) {
+                ((CloseableRowIterator)m_source).close();
+            }
+        }
     }
 
     /**
-     * The private class RowComparator is used to compare two DataRows. It implements the Comparator-interface, so we
-     * can use the Arrays.sort method to sort an array of DataRows.
+     * The class RowComparator is used to compare two DataRows. It implements the Comparator-interface, so we can use
+     * the Arrays.sort method to sort an array of DataRows. Package scope for unit tests.
      */
-    private static final class RowComparator implements Comparator<DataRow> {
+    static final class RowComparator implements Comparator<DataRow> {
 
         /**
          * The included column indices.
@@ -893,6 +1254,12 @@ private static final class RowComparator implements Comparator<DataRow> {
          */
         private final boolean m_sortMissingsToEnd;
 
+        /**
+         * Binary-comparable encoding of the sort columns, used by the sorter instead of this comparator if all sort
+         * columns are int, long, double or string columns (or the row key); null otherwise.
+         */
+        private final NormalizedKeys m_normalizedKeys;
+
         /**
          * @param indices Array of sort column indices.
          * @param sortAscending Sort order.
@@ -914,6 +1281,7 @@ private static final class RowComparator implements Comparator<DataRow> {
             }
             m_sortAscending = sortAscending;
             m_sortMissingsToEnd = sortMissingsToEnd;
+            m_normalizedKeys = NormalizedKeys.create(indices, sortAscending, sortMissingsToEnd, spec);
         }
 
         /** {@inheritDoc} */
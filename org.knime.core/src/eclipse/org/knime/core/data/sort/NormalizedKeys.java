@@ -0,0 +1,296 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.data.sort;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataValueComparator;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.DoubleValueComparator;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.IntValueComparator;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.LongValueComparator;
+import org.knime.core.data.StringValue;
+import org.knime.core.data.StringValueComparator;
+
+/**
+ * Encodes the sort columns of a row into a byte array ("normalized key") whose unsigned lexicographic order is the
+ * order defined by the sort columns. Keys are computed once per row, comparing them is much cheaper than comparing
+ * the cells via their {@link DataValueComparator}. Only available if all sort columns are compared as int, long,
+ * double or string values (or sorted by row key).
+ *
+ * <p>
+ * Each column is encoded as a flag byte (missing or not) followed by the value (omitted for missing cells): ints and
+ * longs big-endian with flipped sign bit, doubles as their (sign-adjusted) bit pattern, strings as their UTF-16 chars
+ * with a terminator. The bytes of descending columns are inverted.
+ *
+ * @author agent
+ */
+final class NormalizedKeys {
+
+    /** Type of an encoded column. */
+    private enum Kind {
+        INT, LONG, DOUBLE, STRING, ROW_KEY
+    }
+
+    private static final byte FLAG_MISSING_FIRST = 0;
+
+    private static final byte FLAG_VALUE = 1;
+
+    private static final byte FLAG_MISSING_LAST = 2;
+
+    private final int[] m_indices;
+
+    private final Kind[] m_kinds;
+
+    private final boolean[] m_sortAscending;
+
+    private final boolean m_sortMissingsToEnd;
+
+    private NormalizedKeys(final int[] indices, final Kind[] kinds, final boolean[] sortAscending,
+        final boolean sortMissingsToEnd) {
+        m_indices = indices;
+        m_kinds = kinds;
+        m_sortAscending = sortAscending;
+        m_sortMissingsToEnd = sortMissingsToEnd;
+    }
+
+    /**
+     * Creates the key encoder for the given sort columns, if all of them can be encoded.
+     *
+     * @param indices the sort column indices, -1 for the row key
+     * @param sortAscending sort order per column
+     * @param sortMissingsToEnd whether missing cells are sorted to the end (regardless of the sort order)
+     * @param spec the spec of the table
+     * @return the encoder or null if any of the columns can't be encoded
+     */
+    static NormalizedKeys create(final int[] indices, final boolean[] sortAscending, final boolean sortMissingsToEnd,
+        final DataTableSpec spec) {
+        Kind[] kinds = new Kind[indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            if (indices[i] == -1) {
+                kinds[i] = Kind.ROW_KEY;
+                continue;
+            }
+            // the encoding must match the comparator that is used otherwise (exactly, no subclasses)
+            final Class<? extends DataValueComparator> compClass =
+                spec.getColumnSpec(indices[i]).getType().getComparator().getClass();
+            if (compClass == IntValueComparator.class) {
+                kinds[i] = Kind.INT;
+            } else if (compClass == LongValueComparator.class) {
+                kinds[i] = Kind.LONG;
+            } else if (compClass == DoubleValueComparator.class) {
+                kinds[i] = Kind.DOUBLE;
+            } else if (compClass == StringValueComparator.class) {
+                kinds[i] = Kind.STRING;
+            } else {
+                return null;
+            }
+        }
+        return new NormalizedKeys(indices, kinds, sortAscending, sortMissingsToEnd);
+    }
+
+    /**
+     * Encodes the sort columns of the argument row. Thread-safe.
+     *
+     * @param row the row
+     * @return the normalized key
+     */
+    byte[] encode(final DataRow row) {
+        int length = 0;
+        for (int i = 0; i < m_indices.length; i++) {
+            length += 1 + valueLength(row, i);
+        }
+        final byte[] key = new byte[length];
+        int offset = 0;
+        for (int i = 0; i < m_indices.length; i++) {
+            final int start = offset;
+            if (m_kinds[i] != Kind.ROW_KEY && row.getCell(m_indices[i]).isMissing()) {
+                key[offset++] = m_sortMissingsToEnd || !m_sortAscending[i] ? FLAG_MISSING_LAST : FLAG_MISSING_FIRST;
+                continue;
+            }
+            key[offset++] = FLAG_VALUE;
+            offset = encodeValue(row, i, key, offset);
+            if (!m_sortAscending[i]) {
+                for (int b = start + 1; b < offset; b++) {
+                    key[b] = (byte)~key[b];
+                }
+            }
+        }
+        assert offset == length;
+        return key;
+    }
+
+    /** Number of bytes of the value of column i (0 if missing). */
+    private int valueLength(final DataRow row, final int i) {
+        if (m_kinds[i] == Kind.ROW_KEY) {
+            return stringLength(row.getKey().getString());
+        }
+        final DataCell cell = row.getCell(m_indices[i]);
+        if (cell.isMissing()) {
+            return 0;
+        }
+        switch (m_kinds[i]) {
+            case INT:
+                return 4;
+            case LONG:
+            case DOUBLE:
+                return 8;
+            default:
+                return stringLength(((StringValue)cell).getStringValue());
+        }
+    }
+
+    /** Chars are encoded in two bytes, the zero char in three; the terminator takes three bytes. */
+    private static int stringLength(final String s) {
+        int length = 3;
+        for (int c = 0; c < s.length(); c++) {
+            length += s.charAt(c) == 0 ? 3 : 2;
+        }
+        return length;
+    }
+
+    private int encodeValue(final DataRow row, final int i, final byte[] key, final int offset) {
+        if (m_kinds[i] == Kind.ROW_KEY) {
+            return encodeString(row.getKey().getString(), key, offset);
+        }
+        final DataCell cell = row.getCell(m_indices[i]);
+        switch (m_kinds[i]) {
+            case INT:
+                return encodeInt(((IntValue)cell).getIntValue() ^ Integer.MIN_VALUE, key, offset);
+            case LONG:
+                return encodeLong(((LongValue)cell).getLongValue() ^ Long.MIN_VALUE, key, offset);
+            case DOUBLE:
+                // same total order as Double#compare: -0.0 < 0.0, NaN largest
+                long bits = Double.doubleToLongBits(((DoubleValue)cell).getDoubleValue());
+                return encodeLong(bits < 0 ? ~bits : bits ^ Long.MIN_VALUE, key, offset);
+            default:
+                return encodeString(((StringValue)cell).getStringValue(), key, offset);
+        }
+    }
+
+    private static int encodeInt(final int value, final byte[] key, final int offset) {
+        key[offset] = (byte)(value >>> 24);
+        key[offset + 1] = (byte)(value >>> 16);
+        key[offset + 2] = (byte)(value >>> 8);
+        key[offset + 3] = (byte)value;
+        return offset + 4;
+    }
+
+    private static int encodeLong(final long value, final byte[] key, final int offset) {
+        encodeInt((int)(value >>> 32), key, offset);
+        return encodeInt((int)value, key, offset + 4);
+    }
+
+    /**
+     * Encodes the chars as in {@link String#compareTo(String)}: a char c &gt; 0 as two bytes (big-endian), the zero
+     * char as 0x00 0x00 0xFF and the end of the string as 0x00 0x00 0x00, which sorts before any char.
+     */
+    private static int encodeString(final String s, final byte[] key, final int offset) {
+        int o = offset;
+        for (int i = 0; i < s.length(); i++) {
+            final char c = s.charAt(i);
+            key[o++] = (byte)(c >>> 8);
+            key[o++] = (byte)c;
+            if (c == 0) {
+                key[o++] = (byte)0xFF;
+            }
+        }
+        key[o++] = 0;
+        key[o++] = 0;
+        key[o++] = 0;
+        return o;
+    }
+
+    /**
+     * Compares two keys byte by byte (unsigned), a key that is a prefix of the other one is smaller.
+     *
+     * @param a first key
+     * @param b second key
+     * @return negative, zero or positive as in {@link Comparator#compare(Object, Object)}
+     */
+    static int compare(final byte[] a, final byte[] b) {
+        final int length = Math.min(a.length, b.length);
+        for (int i = 0; i < length; i++) {
+            if (a[i] != b[i]) {
+                return (a[i] & 0xFF) - (b[i] & 0xFF);
+            }
+        }
+        return a.length - b.length;
+    }
+
+    /**
+     * Sorts the rows according to their normalized keys (stable), each key is computed once.
+     *
+     * @param rows the rows to sort, modified in place
+     */
+    void sort(final List<DataRow> rows) {
+        final int size = rows.size();
+        final byte[][] keys = new byte[size][];
+        final Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = encode(rows.get(i));
+            order[i] = i;
+        }
+        Arrays.sort(order, (i1, i2) -> compare(keys[i1], keys[i2]));
+        final DataRow[] sorted = new DataRow[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = rows.get(order[i]);
+        }
+        for (int i = 0; i < size; i++) {
+            rows.set(i, sorted[i]);
+        }
+    }
+
+}
@@ -313,6 +313,19 @@ public static long getUsedMemory() {
         return OLD_GEN_POOL.getUsage().getUsed();
     }
 
+    /**
+     * Returns the amount of memory used in the old generation memory pool right after the most recent garbage
+     * collection, i.e. memory that is actually referenced (at that time). Falls back to {@link #getUsedMemory()} if
+     * the JVM doesn't provide this information.
+     *
+     * @return the used memory in bytes
+     * @since 3.8
+     */
+    public static long getUsedMemoryAfterLastCollection() {
+        MemoryUsage collectionUsage = OLD_GEN_POOL.getCollectionUsage();
+        return collectionUsage != null ? collectionUsage.getUsed() : getUsedMemory();
+    }
+
     /**
      * Returns the maximum amount of memory available in the old generation memory pool.
      *
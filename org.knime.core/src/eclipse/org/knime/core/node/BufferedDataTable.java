@@ -71,6 +71,7 @@
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DataType;
 import org.knime.core.data.IDataRepository;
+import org.knime.core.data.RangeRowIterator;
 import org.knime.core.data.RowIteratorBuilder;
 import org.knime.core.data.RowIteratorBuilder.DefaultRowIteratorBuilder;
 import org.knime.core.data.RowKey;
@@ -379,14 +380,29 @@ public RowIteratorBuilder<? extends CloseableRowIterator> iteratorBuilder() {
      *          method is called or while the iteration is in progress).
      */
     public CloseableRowIterator iteratorFailProve() {
+        return iteratorFailProve(0L);
+    }
+
+    /**
+     * Get an iterator instance like {@link #iteratorFailProve()} that starts at the given row index. Tables that
+     * support it will seek to that row rather than reading all leading rows.
+     *
+     * @param fromIndex the index of the first row to return
+     * @return A new iterator instance that will return missing values and fake row ids in case the table is cleared.
+     * @see RowIteratorBuilder#fromIndex(long)
+     * @since 3.8
+     */
+    public CloseableRowIterator iteratorFailProve(final long fromIndex) {
         synchronized (m_isCleared) {
             CloseableRowIterator baseIterator;
             if (m_isCleared.booleanValue()) {
                 baseIterator = null;
-            } else {
+            } else if (fromIndex == 0L) {
                 baseIterator = iterator();
+            } else {
+                baseIterator = iteratorBuilder().fromIndex(fromIndex).build();
             }
-            return new CloseableFailProveRowIterator(baseIterator);
+            return new CloseableFailProveRowIterator(baseIterator, fromIndex);
         }
 
     }
@@ -430,10 +446,11 @@ public Integer getBufferedTableId() {
         private final CloseableRowIterator m_it;
         private long m_rowIndex;
 
-        private CloseableFailProveRowIterator(final CloseableRowIterator it) {
+        private CloseableFailProveRowIterator(final CloseableRowIterator it, final long fromIndex) {
             m_it = it;
             m_cellCount = getDataTableSpec().getNumColumns();
             m_maxRows = size();
+            m_rowIndex = fromIndex;
         }
 
         @Override
@@ -535,13 +552,12 @@ void save(final File dir, final Set<Integer> savedTableIDs, final ExecutionMonit
             m_delegate.saveToFile(outFile, s, exec);
         } else {
             if (m_delegate instanceof RearrangeColumnsTable) {
-                ContainerTable appendTable = ((RearrangeColumnsTable)m_delegate).getAppendTable();
-                if (appendTable != null
-                    && !DefaultTableStoreFormat.class.equals(appendTable.getTableStoreFormat().getClass())) {
+                TableStoreFormat appendFormat = ((RearrangeColumnsTable)m_delegate).getAppendTableStoreFormat();
+                if (appendFormat != null && !DefaultTableStoreFormat.class.equals(appendFormat.getClass())) {
                     // use different identifier to cause old versions of KNIME to fail loading newer workflows
                     s.addString(CFG_TABLE_TYPE, TABLE_TYPE_REARRANGE_COLUMN_CUSTOM);
-                    s.addString(CFG_TABLE_CONTAINER_FORMAT, appendTable.getTableStoreFormat().getClass().getName());
-                    s.addString(CFG_TABLE_CONTAINER_FORMAT_VERSION, appendTable.getTableStoreFormat().getVersion());
+                    s.addString(CFG_TABLE_CONTAINER_FORMAT, appendFormat.getClass().getName());
+                    s.addString(CFG_TABLE_CONTAINER_FORMAT_VERSION, appendFormat.getVersion());
                 } else {
                     s.addString(CFG_TABLE_TYPE, TABLE_TYPE_REARRANGE_COLUMN);
                 }
@@ -940,7 +956,8 @@ void saveToFile(final File f, final NodeSettingsWO settings,
          */
         @Override
         default RowIteratorBuilder<? extends CloseableRowIterator> iteratorBuilder() {
-            return new DefaultRowIteratorBuilder<CloseableRowIterator>(() -> iterator(), getDataTableSpec());
+            return new DefaultRowIteratorBuilder<CloseableRowIterator>(
+                (fromIndex, toIndex) -> new RangeRowIterator(iterator(), fromIndex, toIndex), getDataTableSpec());
         }
 
         /** Reference to the underlying tables, if any. A reference
@@ -53,6 +53,7 @@
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -1196,20 +1197,64 @@ public static void save(final NativeNodeContainer nnc, final NodeSettingsWO sett
          * table is returned in multiple outputs or if an output table is used
          * as "internal" held table. See bug 2117. */
         final Set<Integer> savedTableIDs = new HashSet<Integer>();
+        final File nodeDir = nodeDirRef.getFile();
+        SavedNodeDataSnapshot reusableSnapshot = getReusableDataSnapshot(node, nodeDir, isSaveData);
+        if (reusableSnapshot != null) {
+            NodeLogger.getLogger(FileNodePersistor.class).debugWithFormat(
+                "Data of node \"%s\" unchanged since last save, not writing it again", nnc.getNameWithID());
+            reusableSnapshot.copyDataSettingsTo(settings);
+            execMon.setProgress(1.0);
+            return;
+        }
+        node.setSavedDataSnapshot(nodeDir, null);
+        NodeSettings dataSettings = new NodeSettings("data");
         execMon.setMessage("Ports");
-        savePorts(node, nodeDirRef, settings, savedTableIDs, portMon, isSaveData);
+        savePorts(node, nodeDirRef, dataSettings, savedTableIDs, portMon, isSaveData);
         portMon.setProgress(1.0);
         execMon.setMessage("Internal Tables");
-        saveInternalHeldTables(node, nodeDirRef, settings, savedTableIDs, internalMon, isSaveData);
+        saveInternalHeldTables(node, nodeDirRef, dataSettings, savedTableIDs, internalMon, isSaveData);
         intTblsMon.setProgress(1.0);
         // save them last as now all tables have been saved (all cells ran through persistor) and all
         // FileStore#getFile() have been called and saved
         execMon.setMessage("File Store Objects");
-        saveFileStoreObjects(node, nodeDirRef, settings, fileStoreMon, isSaveData);
+        saveFileStoreObjects(node, nodeDirRef, dataSettings, fileStoreMon, isSaveData);
         fileStoreMon.setProgress(1.0);
+        dataSettings.copyTo(settings);
+        if (isSaveData && Boolean.getBoolean(KNIMEConstants.PROPERTY_INCREMENTAL_WORKFLOW_SAVE)) {
+            node.setSavedDataSnapshot(nodeDir, SavedNodeDataSnapshot.create(node, nodeDir, dataSettings));
+        }
         execMon.setProgress(1.0);
     }
 
+    /**
+     * Names of the direct children of the node directory that hold data, which is unchanged since the node was last
+     * saved into that directory and which therefore is reused by
+     * {@link #save(NativeNodeContainer, NodeSettingsWO, ExecutionMonitor, ReferencedFile, boolean)}. Callers must
+     * not delete these children prior saving. Only non-empty if
+     * {@link KNIMEConstants#PROPERTY_INCREMENTAL_WORKFLOW_SAVE} is set.
+     *
+     * @param nnc The node container to be saved.
+     * @param nodeDirRef The directory it's going to be saved to.
+     * @param isSaveData Whether data is going to be saved (same argument as passed to the save method).
+     * @return The names of the reused children, possibly empty but not null.
+     * @since 3.8
+     * @noreference This method is not intended to be referenced by clients.
+     */
+    public static Set<String> getReusableDataDirectories(final NativeNodeContainer nnc,
+        final ReferencedFile nodeDirRef, final boolean isSaveData) {
+        SavedNodeDataSnapshot snapshot = getReusableDataSnapshot(nnc.getNode(), nodeDirRef.getFile(), isSaveData);
+        return snapshot == null ? Collections.emptySet() : snapshot.getDataDirNames();
+    }
+
+    private static SavedNodeDataSnapshot getReusableDataSnapshot(final Node node, final File nodeDir,
+        final boolean isSaveData) {
+        if (!isSaveData || !Boolean.getBoolean(KNIMEConstants.PROPERTY_INCREMENTAL_WORKFLOW_SAVE)) {
+            return null;
+        }
+        SavedNodeDataSnapshot snapshot = node.getSavedDataSnapshot(nodeDir);
+        return snapshot != null && snapshot.isReusableFor(node, nodeDir) ? snapshot : null;
+    }
+
     private static void savePorts(final Node node, final ReferencedFile nodeDirRef, final NodeSettingsWO settings,
         final Set<Integer> savedTableIDs, final ExecutionMonitor exec, final boolean saveData) throws IOException,
         CanceledExecutionException {
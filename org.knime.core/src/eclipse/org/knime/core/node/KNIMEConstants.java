@@ -169,6 +169,27 @@ public final class KNIMEConstants {
      */
     public static final String PROPERTY_TABLE_CACHE = "knime.table.cache";
 
+    /**
+     * Java property to specify the maximum number of bytes (estimated) of tables that are kept in the soft-references
+     * LRU table cache, see {@link #PROPERTY_TABLE_CACHE}. Tables exceeding this budget are only weakly referenced and
+     * thus dropped on the next garbage collection. Rarely used tables are not admitted to the cache if that would evict
+     * more frequently used tables. The default is a quarter of the maximum heap size.
+     *
+     * @since 3.8
+     */
+    public static final String PROPERTY_TABLE_CACHE_MAX_BYTES = "knime.table.cache.maxbytes";
+
+    /**
+     * Java property to keep approximate statistics of nominal columns when creating the domain of new tables: an
+     * estimate of the number of distinct values and the most frequent values, which are stored as column properties
+     * (see {@link org.knime.core.data.DataTableDomainCreator#PROPERTY_APPROXIMATE_DISTINCT_VALUES}). Unlike the
+     * possible values of the domain they are also available for columns with many distinct values. Disabled by
+     * default.
+     *
+     * @since 3.8
+     */
+    public static final String PROPERTY_DOMAIN_APPROXIMATE_STATISTICS = "knime.domain.approximatestatistics";
+
     /**
      * Java property to enable/disable table stream compression. Compression results in smaller temp-file sizes but also
      * (sometimes significant) longer runtime. By default {@code Gzip} is used.
@@ -179,6 +200,24 @@ public final class KNIMEConstants {
      */
     public static final String PROPERTY_TABLE_COMPRESSION = "knime.compress.io";
 
+    /**
+     * Java property to read table files by mapping them into memory ({@link java.nio.channels.FileChannel#map})
+     * instead of reading them through file input streams. All iterators on the same table share one mapping. Mapped
+     * files can only be released by the garbage collector, so this option is most useful for large tables that are
+     * iterated many times. Disabled by default.
+     * @since 3.8
+     */
+    public static final String PROPERTY_TABLE_MMAP_READ = "knime.table.mmap";
+
+    /**
+     * Java property to compress GZIP table files on multiple threads. The uncompressed stream is cut into blocks that
+     * are compressed in parallel and written in order as consecutive GZIP members, which any GZIP reader (including
+     * older versions of KNIME) decodes as one stream. Useful if table writing is bound by the compression speed of a
+     * single core. Disabled by default.
+     * @since 3.8
+     */
+    public static final String PROPERTY_TABLE_PARALLEL_COMPRESSION = "knime.table.parallelcompression";
+
     /**
      * @see #PROPERTY_TABLE_COMPRESSION
      * @deprecated replaced by {@link #PROPERTY_TABLE_COMPRESSION}
@@ -186,6 +225,14 @@ public final class KNIMEConstants {
     @Deprecated
     public static final String PROPERTY_TABLE_GZIP_COMPRESSION = PROPERTY_TABLE_COMPRESSION;
 
+    /**
+     * Java property to set the number of threads used by the table sorter (e.g. in the Sorter node) when sorting
+     * large tables on disk: chunks of rows are sorted on several threads and the rows of the temporary tables are
+     * read ahead in the background while merging. Unset or 1 (default) sorts on the executing thread.
+     * @since 3.8
+     */
+    public static final String PROPERTY_SORTER_THREADS = "knime.sort.threads";
+
     /** Java property to enable/disable row ID duplicate checks on tables.
      * Tables in KNIME are supposed to have unique IDs, whereby the uniqueness
      * is asserted using a duplicate checker. This property will disable this
@@ -195,6 +242,18 @@ public final class KNIMEConstants {
     public static final String PROPERTY_DISABLE_ROWID_DUPLICATE_CHECK =
         "knime.disable.rowid.duplicatecheck";
 
+    /**
+     * Java property to check row IDs for duplicates using the
+     * {@link org.knime.core.util.FingerprintDuplicateChecker}, which keeps
+     * hashes of the row IDs off-heap, holds only a bounded number of row IDs
+     * on the heap before writing them to disk and only reads row IDs back
+     * from disk if two hashes are equal. Meant for tables with billions of
+     * rows. Disabled by default.
+     * @since 3.8
+     */
+    public static final String PROPERTY_FINGERPRINT_DUPLICATE_CHECK =
+        "knime.rowid.duplicatecheck.fingerprint";
+
     /** Java property to enable/disable workflow locks. As of KNIME v2.4
      * workflows will be locked when opened; this property will disable the
      * locking (allowing multiple instances to have the same workflow open).
@@ -204,6 +263,40 @@ public final class KNIMEConstants {
     public static final String PROPERTY_DISABLE_VM_FILE_LOCK =
         "knime.disable.vmfilelock";
 
+    /** Java property to read and parse the settings files of the nodes of a
+     * workflow (or metanode) concurrently in the {@link #GLOBAL_THREAD_POOL}
+     * when the workflow is loaded. Node factories are still instantiated and
+     * nodes are still connected and loaded one after another. Disabled by
+     * default.
+     * @since 3.8 */
+    public static final String PROPERTY_PARALLEL_WORKFLOW_LOAD =
+        "knime.workflow.load.parallel";
+
+    /** Java property to skip rewriting the data (output port objects, internally held objects and file stores) of
+     * a node when it is saved into the directory it was last saved to and neither the node's objects nor the files
+     * written back then have changed. This mostly affects nodes that are saved because of changes to their
+     * annotation or other metadata. Disabled by default.
+     * @since 3.8 */
+    public static final String PROPERTY_INCREMENTAL_WORKFLOW_SAVE =
+        "knime.workflow.save.incremental";
+
+    /** Java property to keep the data of a loaded workflow in the workflow directory until it is actually needed.
+     * Without it the tables and file stores of a node are read (copied to the temp directory) as soon as the node is
+     * modified in any way, e.g. moved or annotated; with it they are read when they are accessed or right before the
+     * node directory is overwritten on save. Additionally, the input tables of queued nodes are read in the background
+     * so that the data is available when the node starts executing. Disabled by default.
+     * @since 3.8 */
+    public static final String PROPERTY_LAZY_TABLE_DATA =
+        "knime.workflow.data.lazy";
+
+    /** Java property to delay the local execution of nodes while the nodes already executing are expected to use
+     * up the heap space available before the memory alert threshold is reached. The expected memory usage of a node
+     * is learned from previous executions of nodes of the same type. Delayed nodes are queued in the job manager
+     * and don't occupy a thread of the pool. Disabled by default.
+     * @since 3.8 */
+    public static final String PROPERTY_MEMORY_ADMISSION_CONTROL =
+        "knime.execution.memoryadmission";
+
     /** Java property to add a context menu entry on metanodes to allow the
      * user to lock the workflow. This feature is likely to be a KNIME.com
      * extension and is in beta stage - the action will eventually be moved
@@ -284,6 +377,26 @@ public final class KNIMEConstants {
      * @since 2.8 */
     public static final String PROPERTY_DATABASE_CONCURRENCY = "knime.database.enable.concurrency";
 
+    /** Java property to set the maximum number of connections that are opened concurrently to the same database
+     * (same URL and user) when executing statements. Values larger than 1 enable the pooling of connections; the
+     * default of 1 keeps one shared connection per database.
+     * @since 3.8 */
+    public static final String PROPERTY_DATABASE_POOL_SIZE = "knime.database.pool.size";
+
+    /** Java property to write rows into a database table in a pipelined fashion: the rows are converted into
+     * statement parameters in background threads while up to the given number of connections send batches
+     * concurrently, the batch size is adapted to the measured round-trip time. More than one connection requires
+     * connection pooling ({@link #PROPERTY_DATABASE_POOL_SIZE}) and is only used if the writer doesn't fail on
+     * errors, as commits on several connections are not atomic. Unset or 0 (default) writes sequentially.
+     * @since 3.8 */
+    public static final String PROPERTY_DATABASE_WRITER_THREADS = "knime.database.writer.threads";
+
+    /** Java property to set the number of rows that are read ahead from a database in a background thread, so that
+     * fetching and cell creation overlap with writing the rows into the table. Unset or 0 (default) reads in the
+     * executing thread.
+     * @since 3.8 */
+    public static final String PROPERTY_DATABASE_READER_PREFETCH = "knime.database.reader.prefetch";
+
     /** @deprecated Use #PROPERTY_DATABASE_FETCHSIZE instead. */
     @Deprecated
     // obsolete as of v2.3
@@ -58,6 +58,7 @@
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -233,6 +234,16 @@ static class Input {
      * Set null on reset. */
     private IFileStoreHandler m_fileStoreHandler;
 
+    /** Data written by the last save(s), keyed by node directory (working and auto-save directory), used to skip
+     * rewriting unchanged data. Guarded by itself. */
+    private final Map<File, SavedNodeDataSnapshot> m_savedDataSnapshots =
+        new LinkedHashMap<File, SavedNodeDataSnapshot>(4, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<File, SavedNodeDataSnapshot> eldest) {
+                return size() > 2;
+            }
+        };
+
     // lock that prevents a possible deadlock if a node is currently configuring
     // (e.g. because inportHasNodeModelContent has been called)
     // and the WFM is asking if the node isExecutable(), which it is in most
@@ -329,9 +340,38 @@ public void load(final NodePersistor loader, final ExecutionMonitor exec,
      */
     public NodeExecutionResult createNodeExecutionResult(
             final ExecutionMonitor exec) throws CanceledExecutionException {
+        PortObject[] pos = new PortObject[getNrOutPorts()];
+        for (int i = 0; i < pos.length; i++) {
+            pos[i] = getOutputObject(i);
+        }
+        return createNodeExecutionResult(pos, hasContent(), exec);
+    }
+
+    /**
+     * Creates an execution result for a node whose model was run by an executor other than
+     * {@link #execute(PortObject[], ExecutionEnvironment, ExecutionContext)}, for instance by means of its
+     * {@link org.knime.core.node.streamable.StreamableOperator}. The output of such an execution is not set in this
+     * node, it's passed as argument instead. The internals of the model are always saved.
+     *
+     * @param rawOutData The output objects, including the flow variable port.
+     * @param exec For progress information.
+     * @return A new execution result containing the argument output.
+     * @throws CanceledExecutionException If canceled
+     * @noreference This method is not intended to be referenced by clients.
+     * @since 3.8
+     */
+    public NodeExecutionResult createNodeExecutionResult(final PortObject[] rawOutData, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        CheckUtils.checkArgument(rawOutData.length == getNrOutPorts(), "Invalid output array length: %d, expected %d",
+            rawOutData.length, getNrOutPorts());
+        return createNodeExecutionResult(rawOutData, true, exec);
+    }
+
+    private NodeExecutionResult createNodeExecutionResult(final PortObject[] rawOutData, final boolean saveInternals,
+        final ExecutionMonitor exec) throws CanceledExecutionException {
         NodeExecutionResult result = new NodeExecutionResult();
         result.setWarningMessage(m_model.getWarningMessage());
-        if (hasContent()) {
+        if (saveInternals) {
             File internTempDir;
             try {
                 internTempDir = FileUtil.createTempDir("knime_node_internDir");
@@ -350,7 +390,7 @@ public NodeExecutionResult createNodeExecutionResult(
         PortObject[] pos = new PortObject[getNrOutPorts()];
         PortObjectSpec[] poSpecs = new PortObjectSpec[getNrOutPorts()];
         for (int i = 0; i < pos.length; i++) {
-            PortObject po = getOutputObject(i);
+            PortObject po = rawOutData[i];
             if (po != null) {
                 pos[i] = po;
                 poSpecs[i] = po.getSpec();
@@ -1314,6 +1354,30 @@ public void setFileStoreHandler(final IFileStoreHandler fileStoreHandler) {
         m_fileStoreHandler = fileStoreHandler;
     }
 
+    /**
+     * @param nodeDir The node directory.
+     * @return the snapshot of the data last saved into the given directory or null.
+     */
+    SavedNodeDataSnapshot getSavedDataSnapshot(final File nodeDir) {
+        synchronized (m_savedDataSnapshots) {
+            return m_savedDataSnapshots.get(nodeDir);
+        }
+    }
+
+    /**
+     * @param nodeDir The node directory.
+     * @param snapshot The snapshot of the data just saved into the given directory (null to remove).
+     */
+    void setSavedDataSnapshot(final File nodeDir, final SavedNodeDataSnapshot snapshot) {
+        synchronized (m_savedDataSnapshots) {
+            if (snapshot == null) {
+                m_savedDataSnapshots.remove(nodeDir);
+            } else {
+                m_savedDataSnapshots.put(nodeDir, snapshot);
+            }
+        }
+    }
+
     /**
      * @return the file store handler for the current execution (or null if not executed or run with 3rd party executor)
      * @since 2.6
@@ -1540,6 +1604,9 @@ public void cleanOutPorts(final boolean isLoopRestart) {
             }
         }
         LOGGER.debug("clean output ports.");
+        synchronized (m_savedDataSnapshots) {
+            m_savedDataSnapshots.clear();
+        }
         Set<BufferedDataTable> disposableTables =
             new LinkedHashSet<BufferedDataTable>();
         for (int i = 0; i < m_outputs.length; i++) {
@@ -0,0 +1,211 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.node;
+
+import java.io.File;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.knime.core.data.filestore.internal.IFileStoreHandler;
+import org.knime.core.node.port.PortObject;
+
+/**
+ * Describes the data (port objects, internally held objects and file stores) a {@link Node} has written into its
+ * node directory during the last save. If the node still holds the very same objects when it is saved again into
+ * the same directory and the files written back then are unchanged, the data does not need to be written again; only
+ * the corresponding settings entries, which are kept in this object, are restored.
+ *
+ * <p>The objects are only weakly referenced so that a snapshot doesn't prevent tables from being cleared after a
+ * reset. Port objects are immutable, so object identity is a sufficient fingerprint of their content; the files are
+ * fingerprinted by their relative path, size and modification time.
+ *
+ * @author agent
+ */
+final class SavedNodeDataSnapshot {
+
+    private final File m_nodeDir;
+
+    private final boolean m_isInactive;
+
+    private final List<WeakReference<PortObject>> m_outputObjects;
+
+    private final List<WeakReference<PortObject>> m_internalHeldObjects;
+
+    private final WeakReference<IFileStoreHandler> m_fileStoreHandler;
+
+    private final NodeSettings m_dataSettings;
+
+    private final Set<String> m_dataDirNames;
+
+    private final long m_filesFingerprint;
+
+    private SavedNodeDataSnapshot(final Node node, final File nodeDir, final NodeSettings dataSettings,
+        final Set<String> dataDirNames) {
+        m_nodeDir = nodeDir;
+        m_isInactive = node.isInactive();
+        m_outputObjects = new ArrayList<>(node.getNrOutPorts());
+        for (int i = 0; i < node.getNrOutPorts(); i++) {
+            m_outputObjects.add(new WeakReference<>(node.getOutputObject(i)));
+        }
+        PortObject[] internalObjects = node.getInternalHeldPortObjects();
+        if (internalObjects == null) {
+            m_internalHeldObjects = null;
+        } else {
+            m_internalHeldObjects = new ArrayList<>(internalObjects.length);
+            for (PortObject o : internalObjects) {
+                m_internalHeldObjects.add(new WeakReference<>(o));
+            }
+        }
+        m_fileStoreHandler = new WeakReference<>(node.getFileStoreHandler());
+        m_dataSettings = dataSettings;
+        m_dataDirNames = Collections.unmodifiableSet(dataDirNames);
+        m_filesFingerprint = computeFilesFingerprint(nodeDir, dataDirNames);
+    }
+
+    /**
+     * Creates a snapshot of the data that has just been saved.
+     *
+     * @param node The node that was saved.
+     * @param nodeDir The node directory it was saved to.
+     * @param dataSettings The settings entries written along with the data (ports, internal objects, file stores)
+     * @return A new snapshot.
+     */
+    static SavedNodeDataSnapshot create(final Node node, final File nodeDir, final NodeSettings dataSettings) {
+        Set<String> dataDirNames = new LinkedHashSet<>();
+        for (int i = 1; i < node.getNrOutPorts(); i++) {
+            dataDirNames.add(FileNodePersistor.PORT_FOLDER_PREFIX + i);
+        }
+        dataDirNames.add(FileNodePersistor.INTERNAL_TABLE_FOLDER_PREFIX);
+        dataDirNames.add(FileNodePersistor.FILESTORE_FOLDER_PREFIX);
+        dataDirNames.removeIf(name -> !new File(nodeDir, name).exists());
+        return new SavedNodeDataSnapshot(node, nodeDir, dataSettings, dataDirNames);
+    }
+
+    /**
+     * Checks whether the data described by this snapshot can be reused when saving the argument node into the given
+     * directory, i.e. the node still holds the same objects and the files on disc are unchanged.
+     *
+     * @param node The node to be saved.
+     * @param nodeDir The target directory.
+     * @return That property.
+     */
+    boolean isReusableFor(final Node node, final File nodeDir) {
+        if (!m_nodeDir.equals(nodeDir) || m_isInactive != node.isInactive()
+            || m_outputObjects.size() != node.getNrOutPorts()
+            || m_fileStoreHandler.get() != node.getFileStoreHandler()) {
+            return false;
+        }
+        for (int i = 0; i < m_outputObjects.size(); i++) {
+            if (m_outputObjects.get(i).get() != node.getOutputObject(i)) {
+                return false;
+            }
+        }
+        PortObject[] internalObjects = node.getInternalHeldPortObjects();
+        if (internalObjects == null || m_internalHeldObjects == null) {
+            if (internalObjects != null || m_internalHeldObjects != null) {
+                return false;
+            }
+        } else {
+            if (internalObjects.length != m_internalHeldObjects.size()) {
+                return false;
+            }
+            for (int i = 0; i < internalObjects.length; i++) {
+                if (m_internalHeldObjects.get(i).get() != internalObjects[i]) {
+                    return false;
+                }
+            }
+        }
+        return m_filesFingerprint == computeFilesFingerprint(nodeDir, m_dataDirNames);
+    }
+
+    /** @return names of the direct children of the node directory that hold the data, not null. */
+    Set<String> getDataDirNames() {
+        return m_dataDirNames;
+    }
+
+    /** Copies the settings entries written along with the data into the argument.
+     * @param settings To copy to. */
+    void copyDataSettingsTo(final NodeSettingsWO settings) {
+        m_dataSettings.copyTo(settings);
+    }
+
+    /** Combines relative path, size and modification time of all files in the data directories. */
+    private static long computeFilesFingerprint(final File nodeDir, final Set<String> dataDirNames) {
+        long hash = 17L;
+        for (String name : dataDirNames) {
+            hash = addToFingerprint(hash, new File(nodeDir, name), name);
+        }
+        return hash;
+    }
+
+    private static long addToFingerprint(final long hash, final File file, final String relativePath) {
+        long result = 31L * hash + relativePath.hashCode();
+        if (!file.exists()) {
+            return 31L * result - 1L;
+        }
+        if (file.isDirectory()) {
+            String[] children = file.list();
+            if (children == null) {
+                return 31L * result - 2L;
+            }
+            Arrays.sort(children);
+            for (String child : children) {
+                result = addToFingerprint(result, new File(file, child), relativePath + "/" + child);
+            }
+            return result;
+        }
+        result = 31L * result + file.length();
+        return 31L * result + file.lastModified();
+    }
+
+}
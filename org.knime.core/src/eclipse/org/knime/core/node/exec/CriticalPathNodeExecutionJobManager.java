@@ -0,0 +1,275 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.node.exec;
+
+import java.net.URL;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.workflow.AbstractNodeExecutionJobManager;
+import org.knime.core.node.workflow.ConnectionContainer;
+import org.knime.core.node.workflow.NodeContainer;
+import org.knime.core.node.workflow.NodeExecutionJob;
+import org.knime.core.node.workflow.NodeTimer;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Job manager that executes nodes in a thread pool like the {@link ThreadNodeExecutionJobManager} but, if more nodes
+ * are queued than threads are available, starts the node with the longest remaining critical path first. The remaining
+ * critical path of a node is the maximum, over all paths to the end of the workflow, of the summed estimated execution
+ * durations of the nodes on the path (see {@link NodeTimer#getEstimatedExecutionDuration()}). Nodes that were never
+ * executed count with a small constant duration so that long chains of such nodes are still preferred over short
+ * side branches.
+ *
+ * <p>Jobs are handed to the pool only when it has a free thread; otherwise they are held back in a priority queue
+ * (while at least one job of this manager is kept in the pool's queue so that jobs proceed even if the threads are
+ * occupied by other tasks). With memory admission control enabled (see
+ * {@link KNIMEConstants#PROPERTY_MEMORY_ADMISSION_CONTROL}) a job enters this queue only once it is admitted.
+ *
+ * @author agent
+ * @since 3.8
+ */
+public class CriticalPathNodeExecutionJobManager extends AbstractNodeExecutionJobManager {
+
+    /** The instance using the {@link KNIMEConstants#GLOBAL_THREAD_POOL}. */
+    public static final CriticalPathNodeExecutionJobManager INSTANCE = new CriticalPathNodeExecutionJobManager();
+
+    /** Duration assumed for nodes without any timing information, in ms. */
+    private static final long UNKNOWN_DURATION = 100L;
+
+    private final ThreadPool m_pool;
+
+    private final AtomicLong m_sequence = new AtomicLong();
+
+    /** Jobs not yet handed to the pool, longest critical path first. Guarded by this. */
+    private final PriorityQueue<CriticalPathJob> m_pendingJobs = new PriorityQueue<>();
+
+    /** Number of jobs handed to the pool that haven't finished yet. Guarded by this. */
+    private int m_jobsInPool;
+
+    /** Creates a new instance using the {@link KNIMEConstants#GLOBAL_THREAD_POOL}. */
+    public CriticalPathNodeExecutionJobManager() {
+        this(KNIMEConstants.GLOBAL_THREAD_POOL);
+    }
+
+    /**
+     * Creates a new instance using the given pool.
+     *
+     * @param pool the pool to run the jobs in, not null
+     */
+    public CriticalPathNodeExecutionJobManager(final ThreadPool pool) {
+        if (pool == null) {
+            throw new NullPointerException("arg must not be null");
+        }
+        m_pool = pool;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public NodeExecutionJob submitJob(final NodeContainer nc, final PortObject[] data) {
+        if (!(nc instanceof SingleNodeContainer)) {
+            throw new IllegalStateException(getClass().getSimpleName()
+                    + " is not able to execute a metanode: " + nc.getNameWithID());
+        }
+        long criticalPath = getRemainingCriticalPath(nc, new IdentityHashMap<>());
+        CriticalPathJob job =
+            new CriticalPathJob((SingleNodeContainer)nc, data, criticalPath, m_sequence.incrementAndGet());
+        job.dispatchWhenAdmitted(() -> {
+            synchronized (this) {
+                m_pendingJobs.add(job);
+                dispatch();
+            }
+        });
+        return job;
+    }
+
+    /** Hands pending jobs to the pool as long as it has free threads. */
+    private synchronized void dispatch() {
+        while (!m_pendingJobs.isEmpty()) {
+            CriticalPathJob job = m_pendingJobs.peek();
+            Future<?> future = m_pool.trySubmit(job::runInPool);
+            if (future == null) {
+                if (m_jobsInPool > 0) {
+                    // a job of ours will finish and dispatch again
+                    return;
+                }
+                future = m_pool.enqueue(job::runInPool);
+            }
+            m_pendingJobs.poll();
+            m_jobsInPool++;
+            job.m_isDispatched = true;
+            job.setFuture(future);
+        }
+    }
+
+    private synchronized void jobFinished() {
+        m_jobsInPool--;
+        dispatch();
+    }
+
+    /**
+     * Sum of the estimated durations along the longest path starting at the argument node. Connections leaving a
+     * metanode are followed into its parent workflow (but not beyond the project).
+     */
+    private static long getRemainingCriticalPath(final NodeContainer nc, final Map<NodeContainer, Long> memo) {
+        Long cached = memo.get(nc);
+        if (cached != null) {
+            return cached;
+        }
+        memo.put(nc, 0L); // guards against (illegal) cycles
+        long duration = nc instanceof SingleNodeContainer ? nc.getNodeTimer().getEstimatedExecutionDuration() : -1L;
+        long maxSuccessorPath = 0L;
+        WorkflowManager parent = nc.getParent();
+        if (parent != null) {
+            for (ConnectionContainer cc : parent.getOutgoingConnectionsFor(nc.getID())) {
+                NodeContainer successor;
+                if (cc.getDest().equals(parent.getID())) {
+                    // leaves the metanode
+                    boolean isMetanode = parent.getDirectNCParent() instanceof WorkflowManager && !parent.isProject();
+                    successor = isMetanode ? parent : null;
+                } else {
+                    successor = parent.getNodeContainer(cc.getDest());
+                }
+                if (successor != null) {
+                    maxSuccessorPath = Math.max(maxSuccessorPath, getRemainingCriticalPath(successor, memo));
+                }
+            }
+        }
+        long result = (duration >= 0 ? duration : UNKNOWN_DURATION) + maxSuccessorPath;
+        memo.put(nc, result);
+        return result;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getID() {
+        return CriticalPathNodeExecutionJobManagerFactory.INSTANCE.getID();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "Critical Path Job Manager";
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public URL getIcon() {
+        return null;
+    }
+
+    /** A local job that may wait in this manager's queue before it's handed to the pool. */
+    private final class CriticalPathJob extends LocalNodeExecutionJob implements Comparable<CriticalPathJob> {
+
+        private final long m_criticalPath;
+
+        private final long m_sequenceNumber;
+
+        private volatile boolean m_isStarted;
+
+        /** Whether handed to the pool (and counted in m_jobsInPool). Guarded by the manager. */
+        private boolean m_isDispatched;
+
+        private final AtomicBoolean m_isFinished = new AtomicBoolean();
+
+        CriticalPathJob(final SingleNodeContainer snc, final PortObject[] data, final long criticalPath,
+            final long sequenceNumber) {
+            super(snc, data);
+            m_criticalPath = criticalPath;
+            m_sequenceNumber = sequenceNumber;
+        }
+
+        /** Runs the job in the pool thread and dispatches the next one afterwards. */
+        private void runInPool() {
+            m_isStarted = true;
+            try {
+                runAndRelease();
+            } finally {
+                if (m_isFinished.compareAndSet(false, true)) {
+                    jobFinished();
+                }
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean cancel() {
+            final boolean isDispatched;
+            synchronized (CriticalPathNodeExecutionJobManager.this) {
+                if (m_pendingJobs.remove(this)) {
+                    cancelUndispatched();
+                    return true;
+                }
+                isDispatched = m_isDispatched;
+            }
+            boolean isCanceled = super.cancel();
+            // a job canceled before it started is never run by the pool (a job still waiting for memory admission
+            // was never counted)
+            if (isCanceled && isDispatched && !m_isStarted && m_isFinished.compareAndSet(false, true)) {
+                jobFinished();
+            }
+            return isCanceled;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int compareTo(final CriticalPathJob o) {
+            int c = Long.compare(o.m_criticalPath, m_criticalPath);
+            return c != 0 ? c : Long.compare(m_sequenceNumber, o.m_sequenceNumber);
+        }
+    }
+
+}
@@ -48,8 +48,11 @@
 package org.knime.core.node.exec;
 
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.knime.core.node.exec.MemoryAdmissionController.Ticket;
 import org.knime.core.node.port.PortObject;
+import org.knime.core.node.workflow.NativeNodeContainer;
 import org.knime.core.node.workflow.NodeExecutionJob;
 import org.knime.core.node.workflow.SingleNodeContainer;
 import org.knime.core.node.workflow.execresult.NodeContainerExecutionStatus;
@@ -60,7 +63,18 @@
  */
 public class LocalNodeExecutionJob extends NodeExecutionJob {
 
-    private Future<?> m_future;
+    private volatile Future<?> m_future;
+
+    /** Memory admission of the job, null if admission control doesn't apply. */
+    private volatile Ticket m_ticket;
+
+    private volatile boolean m_isCanceled;
+
+    private final AtomicBoolean m_isRunStarted = new AtomicBoolean();
+
+    private final AtomicBoolean m_isTicketReleased = new AtomicBoolean();
+
+    private volatile boolean m_isSuccess;
 
     /** Creates new local job.
      * @param snc The node container to execute.
@@ -74,10 +88,79 @@ public LocalNodeExecutionJob(final SingleNodeContainer snc, final PortObject[] d
     /** {@inheritDoc} */
     @Override
     public boolean cancel() {
-        if (m_future == null) {
+        m_isCanceled = true;
+        final Future<?> future = m_future;
+        if (future == null) {
+            final Ticket ticket = m_ticket;
+            if (ticket != null) {
+                // waiting for admission (removed from the queue) or being dispatched concurrently; a dispatched job
+                // of a canceled node doesn't execute
+                MemoryAdmissionController.getInstance().cancel(ticket);
+                return true;
+            }
             throw new IllegalStateException("Future that represents the execution has not been set.");
         }
-        return m_future.cancel(true);
+        final boolean result = future.cancel(true);
+        if (m_isRunStarted.compareAndSet(false, true)) {
+            // the pool will not run this job anymore
+            releaseTicket();
+        }
+        return result;
+    }
+
+    /**
+     * Calls the argument dispatcher, which hands the job to the thread pool, once the
+     * {@link MemoryAdmissionController} admits the job. The dispatcher is called immediately if admission control is
+     * disabled or doesn't apply to the node, otherwise possibly later from a different thread (not at all if the job
+     * is canceled before). The dispatcher must run the job via {@link #runAndRelease()}.
+     *
+     * @param dispatcher submits the job to the pool and {@link #setFuture(Future) sets the future}
+     */
+    void dispatchWhenAdmitted(final Runnable dispatcher) {
+        if (!MemoryAdmissionController.IS_ENABLED || !(getNodeContainer() instanceof NativeNodeContainer)) {
+            dispatcher.run();
+            return;
+        }
+        NativeNodeContainer nnc = (NativeNodeContainer)getNodeContainer();
+        m_ticket = MemoryAdmissionController.getInstance().submit(nnc.getNameWithID(),
+            nnc.getNode().getFactory().getClass().getName(), t -> {
+                if (m_isCanceled) {
+                    // canceled while the admission was granted
+                    m_isRunStarted.set(true);
+                    releaseTicket();
+                } else {
+                    dispatcher.run();
+                }
+            });
+    }
+
+    /** Cancels an admitted job that was not handed to the pool and never will be; releases its admission. */
+    void cancelUndispatched() {
+        m_isCanceled = true;
+        if (m_isRunStarted.compareAndSet(false, true)) {
+            releaseTicket();
+        }
+    }
+
+    /** Runs the job in the pool thread and releases its memory admission afterwards. */
+    void runAndRelease() {
+        if (!m_isRunStarted.compareAndSet(false, true)) {
+            // canceled before the pool got to it
+            return;
+        }
+        try {
+            run();
+        } finally {
+            releaseTicket();
+        }
+    }
+
+    /** Releases the memory admission (once), if any. */
+    private void releaseTicket() {
+        final Ticket ticket = m_ticket;
+        if (ticket != null && m_isTicketReleased.compareAndSet(false, true)) {
+            MemoryAdmissionController.getInstance().release(ticket, m_isSuccess);
+        }
     }
 
     /**
@@ -92,7 +175,13 @@ void setFuture(final Future<?> future) {
     @Override
     public NodeContainerExecutionStatus mainExecute() {
         SingleNodeContainer snc = (SingleNodeContainer)getNodeContainer();
-        return snc.performExecuteNode(getPortObjects());
+        final Ticket ticket = m_ticket;
+        if (ticket != null) {
+            MemoryAdmissionController.getInstance().started(ticket);
+        }
+        NodeContainerExecutionStatus status = snc.performExecuteNode(getPortObjects());
+        m_isSuccess = status.isSuccess();
+        return status;
     }
 
     /**
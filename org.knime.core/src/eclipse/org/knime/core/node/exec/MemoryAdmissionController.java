@@ -0,0 +1,335 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.node.exec;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+import org.knime.core.data.util.memory.MemoryAlertSystem;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Admits the local execution of native nodes only as long as the heap usage predicted from the nodes currently
+ * executing stays below the {@link MemoryAlertSystem#DEFAULT_USAGE_THRESHOLD memory alert threshold}. The expected
+ * footprint of a node is learned per node type (factory class) from the increase of used memory during previous
+ * executions.
+ *
+ * <p>Jobs are {@link #submit(String, String, Consumer) submitted} before they are handed to a thread pool; jobs that
+ * don't fit are kept in a FIFO queue (and hence don't occupy a pool thread) and are passed to their callback as soon
+ * as running jobs {@link #release(Ticket, boolean) release} their reservation. At least one job is always admitted.
+ * To not stall a workflow because of a wrong estimate, the head of the queue is admitted regardless of the prediction
+ * once it has waited for {@value #MAX_WAIT_MS}ms -- but only one job per such period, so that a long wait doesn't
+ * end with all queued jobs being started at once.
+ *
+ * <p>Only active if {@link KNIMEConstants#PROPERTY_MEMORY_ADMISSION_CONTROL} is set.
+ *
+ * @author agent
+ */
+final class MemoryAdmissionController {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(MemoryAdmissionController.class);
+
+    static final boolean IS_ENABLED = Boolean.getBoolean(KNIMEConstants.PROPERTY_MEMORY_ADMISSION_CONTROL);
+
+    /** Footprint assumed for node types that haven't been executed yet. */
+    static final long DEFAULT_FOOTPRINT = 32L << 20;
+
+    /** Interval in which queued jobs re-check the memory situation. */
+    private static final long POLL_INTERVAL_MS = 500;
+
+    /** Time the head of the queue is held back before it is admitted anyway. */
+    private static final long MAX_WAIT_MS = 60000;
+
+    /** Weight of the most recent observation in the learned footprint (exponentially weighted moving average). */
+    private static final double LEARN_WEIGHT = 0.5;
+
+    /** Re-checks queued jobs; a task is only scheduled while jobs are queued. */
+    private static final ScheduledExecutorService POLL_EXECUTOR = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "KNIME Memory Admission");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private static final MemoryAdmissionController INSTANCE = new MemoryAdmissionController(
+        () -> (long)(MemoryAlertSystem.getMaximumMemory() * MemoryAlertSystem.DEFAULT_USAGE_THRESHOLD),
+        MemoryAlertSystem::getUsedMemoryAfterLastCollection, MemoryAlertSystem::getUsedMemory, MAX_WAIT_MS);
+
+    private final Map<String, Long> m_footprintMap = new ConcurrentHashMap<>();
+
+    private final LongSupplier m_budget;
+
+    private final LongSupplier m_usedMemoryAfterCollection;
+
+    private final LongSupplier m_usedMemory;
+
+    private final long m_maxWaitMS;
+
+    /** Jobs waiting for admission, in submission order. Guarded by this. */
+    private final Deque<Ticket> m_queue = new ArrayDeque<>();
+
+    /** Guarded by this. */
+    private long m_reservedBytes;
+
+    /** Guarded by this. */
+    private int m_admittedCount;
+
+    /** Time of the last admission, the wait time of the queue head is counted from here. Guarded by this. */
+    private long m_lastAdmissionTime;
+
+    /** Whether a re-check of the queue is scheduled. Guarded by this. */
+    private boolean m_isPollScheduled;
+
+    /**
+     * @param budget the heap usage that admitted nodes must not exceed (predicted)
+     * @param usedMemoryAfterCollection heap usage after the last garbage collection, base of the prediction
+     * @param usedMemory current heap usage, used to learn the footprint
+     * @param maxWaitMS the time after which the head of the queue is admitted regardless of the prediction
+     */
+    MemoryAdmissionController(final LongSupplier budget, final LongSupplier usedMemoryAfterCollection,
+        final LongSupplier usedMemory, final long maxWaitMS) {
+        m_budget = budget;
+        m_usedMemoryAfterCollection = usedMemoryAfterCollection;
+        m_usedMemory = usedMemory;
+        m_maxWaitMS = maxWaitMS;
+    }
+
+    /** @return the singleton instance. */
+    static MemoryAdmissionController getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Requests the admission of a job. The callback is invoked exactly once when the job is admitted, either
+     * immediately in the calling thread or later in the thread that releases a reservation or re-checks the queue;
+     * it's not invoked if the ticket is {@link #cancel(Ticket) canceled} before. It is never invoked while holding a
+     * lock of this controller and should return quickly, usually by handing the job to a thread pool.
+     *
+     * @param nodeName name of the node to execute, for logging
+     * @param nodeType the key under which the footprint is learned, usually the node factory class name
+     * @param onAdmit called with the returned ticket when the job is admitted
+     * @return a ticket that must be passed to {@link #release(Ticket, boolean)} once the admitted job is done
+     */
+    Ticket submit(final String nodeName, final String nodeType, final Consumer<Ticket> onAdmit) {
+        final Ticket ticket = new Ticket(nodeType, getExpectedFootprint(nodeType), onAdmit);
+        synchronized (this) {
+            if (m_queue.isEmpty() && isAdmissible(ticket.m_footprint)) {
+                admit(ticket);
+            } else {
+                LOGGER.debugWithFormat("Delaying execution of %s, expected memory footprint %dMB", nodeName,
+                    ticket.m_footprint >> 20);
+                if (m_queue.isEmpty()) {
+                    m_lastAdmissionTime = System.currentTimeMillis();
+                }
+                m_queue.add(ticket);
+                schedulePoll();
+                return ticket;
+            }
+        }
+        onAdmit.accept(ticket);
+        return ticket;
+    }
+
+    /**
+     * Removes a job from the queue.
+     *
+     * @param ticket the ticket as returned by {@link #submit(String, String, Consumer)}
+     * @return true if the job was still queued (its callback won't be called and it must not be released), false if
+     *         it has been admitted already
+     */
+    boolean cancel(final Ticket ticket) {
+        final List<Ticket> admitted;
+        synchronized (this) {
+            if (!m_queue.remove(ticket)) {
+                return false;
+            }
+            admitted = admitQueued();
+        }
+        notifyAdmitted(admitted);
+        return true;
+    }
+
+    /**
+     * Called when the admitted job actually starts executing; the memory used at this point is the base for learning
+     * the footprint.
+     *
+     * @param ticket the ticket of the admitted job
+     */
+    void started(final Ticket ticket) {
+        ticket.m_usedMemoryAtStart = m_usedMemory.getAsLong();
+    }
+
+    /**
+     * Releases the memory reserved by the argument ticket, updates the learned footprint of the node type and admits
+     * queued jobs that fit now.
+     *
+     * @param ticket the ticket of an admitted job
+     * @param isSuccess whether the execution was successful (only those are used to learn the footprint)
+     */
+    void release(final Ticket ticket, final boolean isSuccess) {
+        if (isSuccess && ticket.m_usedMemoryAtStart >= 0L) {
+            final long observed = Math.max(0L, m_usedMemory.getAsLong() - ticket.m_usedMemoryAtStart);
+            m_footprintMap.merge(ticket.m_nodeType, observed,
+                (old, now) -> (long)(LEARN_WEIGHT * now + (1.0 - LEARN_WEIGHT) * old));
+        }
+        final List<Ticket> admitted;
+        synchronized (this) {
+            m_reservedBytes -= ticket.m_footprint;
+            m_admittedCount -= 1;
+            admitted = admitQueued();
+        }
+        notifyAdmitted(admitted);
+    }
+
+    /**
+     * @param nodeType the node type
+     * @return the footprint learned for the node type or {@link #DEFAULT_FOOTPRINT} if none was learned yet
+     */
+    long getExpectedFootprint(final String nodeType) {
+        return m_footprintMap.getOrDefault(nodeType, DEFAULT_FOOTPRINT);
+    }
+
+    /** Re-checks the queue, run by {@link #POLL_EXECUTOR}. */
+    private void poll() {
+        final List<Ticket> admitted;
+        synchronized (this) {
+            m_isPollScheduled = false;
+            admitted = admitQueued();
+            if (!m_queue.isEmpty()) {
+                schedulePoll();
+            }
+        }
+        notifyAdmitted(admitted);
+    }
+
+    /** Schedules {@link #poll()} unless already scheduled. Caller holds the lock. */
+    private void schedulePoll() {
+        if (!m_isPollScheduled) {
+            m_isPollScheduled = true;
+            POLL_EXECUTOR.schedule(this::poll, Math.min(POLL_INTERVAL_MS, m_maxWaitMS), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Admits jobs from the head of the queue as long as they fit, or the head alone if it waited for the maximum
+     * time. Caller holds the lock.
+     *
+     * @return the admitted tickets, to be passed to {@link #notifyAdmitted(List)} after releasing the lock
+     */
+    private List<Ticket> admitQueued() {
+        List<Ticket> result = new ArrayList<>();
+        Ticket head;
+        while ((head = m_queue.peek()) != null) {
+            if (isAdmissible(head.m_footprint)) {
+                admit(m_queue.poll());
+                result.add(head);
+            } else if (System.currentTimeMillis() - m_lastAdmissionTime >= m_maxWaitMS) {
+                LOGGER.debugWithFormat("Admitting node with expected memory footprint %dMB after waiting %dms",
+                    head.m_footprint >> 20, m_maxWaitMS);
+                admit(m_queue.poll());
+                result.add(head);
+                break;
+            } else {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /** Whether a node with the given footprint fits into the budget (or no node runs). Caller holds the lock. */
+    private boolean isAdmissible(final long footprint) {
+        return m_admittedCount == 0
+            || m_usedMemoryAfterCollection.getAsLong() + m_reservedBytes + footprint <= m_budget.getAsLong();
+    }
+
+    /** Reserves the footprint. Caller holds the lock. */
+    private void admit(final Ticket ticket) {
+        m_reservedBytes += ticket.m_footprint;
+        m_admittedCount += 1;
+        m_lastAdmissionTime = System.currentTimeMillis();
+    }
+
+    /** Invokes the callbacks of admitted tickets, must not be called while holding the lock. */
+    private static void notifyAdmitted(final List<Ticket> admitted) {
+        for (Ticket t : admitted) {
+            try {
+                t.m_onAdmit.accept(t);
+            } catch (RuntimeException e) {
+                LOGGER.coding("Admission callback failed: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /** Handle to a submitted job, see {@link MemoryAdmissionController#submit(String, String, Consumer)}. */
+    static final class Ticket {
+
+        private final String m_nodeType;
+
+        private final long m_footprint;
+
+        private final Consumer<Ticket> m_onAdmit;
+
+        /** Set when the job starts, -1 if it never started (nothing is learned then). */
+        private volatile long m_usedMemoryAtStart = -1L;
+
+        private Ticket(final String nodeType, final long footprint, final Consumer<Ticket> onAdmit) {
+            m_nodeType = nodeType;
+            m_footprint = footprint;
+            m_onAdmit = onAdmit;
+        }
+    }
+}
@@ -88,8 +88,10 @@ public NodeExecutionJob submitJob(final NodeContainer nc, final PortObject[] dat
                     + " is not able to execute a metanode: " + nc.getNameWithID());
         }
         LocalNodeExecutionJob job = new LocalNodeExecutionJob((SingleNodeContainer)nc, data);
-        Future<?> future = m_pool.enqueue(job);
-        job.setFuture(future);
+        job.dispatchWhenAdmitted(() -> {
+            Future<?> future = m_pool.enqueue(job::runAndRelease);
+            job.setFuture(future);
+        });
         return job;
     }
 
@@ -0,0 +1,242 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.node.exec.streaming;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.node.streamable.RowOutput;
+
+/**
+ * Distributes the batches of a single input among the partitions of a streamed node and re-assembles the output of
+ * the partitions in input order. Each batch taken by a partition gets a sequence number; the rows the partition pushes
+ * while processing that batch are buffered and emitted to the real outputs once all preceding batches are done. The
+ * number of batches in flight is bounded so that a slow partition doesn't cause unbounded buffering.
+ *
+ * @author agent
+ */
+final class PartitionCoordinator {
+
+    private final RowBatchSource m_source;
+
+    /** Real outputs by port, null for ports that are not distributed. */
+    private final RowOutput[] m_outputs;
+
+    /** Limits the number of batches taken but not yet emitted. */
+    private final Semaphore m_window;
+
+    private final Object m_takeLock = new Object();
+
+    /** Guarded by m_takeLock. */
+    private long m_nextSequence;
+
+    /** Batches done but waiting for their predecessors, guarded by this. */
+    private final Map<Long, List<List<DataRow>>> m_completedBatches = new HashMap<>();
+
+    /** Guarded by this. */
+    private long m_nextToEmit;
+
+    private final List<Partition> m_partitions = new ArrayList<>();
+
+    private int m_openPartitionCount;
+
+    /**
+     * @param source The source of the distributed input.
+     * @param outputs The real outputs by port, null for ports not distributed.
+     * @param partitionCount The number of partitions, used to bound the number of batches in flight.
+     */
+    PartitionCoordinator(final RowBatchSource source, final RowOutput[] outputs, final int partitionCount) {
+        m_source = source;
+        m_outputs = outputs;
+        m_window = new Semaphore(2 * partitionCount);
+    }
+
+    /** @return a new partition, all partitions are to be created before the execution starts. */
+    synchronized Partition createPartition() {
+        Partition partition = new Partition();
+        m_partitions.add(partition);
+        m_openPartitionCount++;
+        return partition;
+    }
+
+    /**
+     * Emits the rows that partitions pushed outside of any batch (e.g. in the end of their execution), in partition
+     * order. To be called once all partitions have finished.
+     *
+     * @throws InterruptedException If interrupted while pushing to the outputs
+     */
+    synchronized void finish() throws InterruptedException {
+        for (Partition partition : m_partitions) {
+            partition.completeBatch();
+        }
+        for (Partition partition : m_partitions) {
+            emit(partition.m_trailingRows);
+        }
+    }
+
+    private synchronized void complete(final long sequence, final List<List<DataRow>> rows)
+        throws InterruptedException {
+        m_completedBatches.put(sequence, rows);
+        List<List<DataRow>> next;
+        while ((next = m_completedBatches.remove(m_nextToEmit)) != null) {
+            m_nextToEmit++;
+            m_window.release();
+            emit(next);
+        }
+    }
+
+    private synchronized void partitionClosed() {
+        if (--m_openPartitionCount == 0) {
+            m_source.close();
+        }
+    }
+
+    private void emit(final List<List<DataRow>> rows) throws InterruptedException {
+        for (int port = 0; port < m_outputs.length; port++) {
+            if (m_outputs[port] != null && !rows.get(port).isEmpty()) {
+                List<DataRow> portRows = rows.get(port);
+                m_outputs[port].push(portRows.toArray(new DataRow[portRows.size()]), portRows.size());
+            }
+        }
+    }
+
+    private List<List<DataRow>> newRowLists() {
+        List<List<DataRow>> rows = new ArrayList<>(m_outputs.length);
+        for (int port = 0; port < m_outputs.length; port++) {
+            rows.add(new ArrayList<>());
+        }
+        return rows;
+    }
+
+    /** The view of a single partition, source of its distributed input and factory for its outputs. */
+    final class Partition implements RowBatchSource {
+
+        /** Sequence number of the batch currently processed, -1 if none. */
+        private long m_sequence = -1L;
+
+        private List<List<DataRow>> m_rows = newRowLists();
+
+        /** Rows pushed outside of any batch. */
+        private final List<List<DataRow>> m_trailingRows = newRowLists();
+
+        private boolean m_isClosed;
+
+        /** {@inheritDoc} */
+        @Override
+        public DataRow[] take() throws InterruptedException {
+            completeBatch();
+            if (m_isClosed) {
+                return null;
+            }
+            m_window.acquire();
+            DataRow[] batch;
+            synchronized (m_takeLock) {
+                batch = m_source.take();
+                if (batch != null) {
+                    m_sequence = m_nextSequence++;
+                }
+            }
+            if (batch == null) {
+                m_window.release();
+            }
+            return batch;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void close() {
+            if (!m_isClosed) {
+                m_isClosed = true;
+                partitionClosed();
+            }
+        }
+
+        /**
+         * @param port The port of the output.
+         * @return the output the partition's operator writes to.
+         */
+        RowOutput createOutput(final int port) {
+            return new RowOutput() {
+                @Override
+                public void push(final DataRow row) {
+                    (m_sequence >= 0L ? m_rows : m_trailingRows).get(port).add(row);
+                }
+
+                @Override
+                public void push(final DataRow[] rows, final int count) {
+                    List<DataRow> portRows = (m_sequence >= 0L ? m_rows : m_trailingRows).get(port);
+                    portRows.addAll(Arrays.asList(rows).subList(0, count));
+                }
+
+                @Override
+                public void close() {
+                    // closed by the coordinator
+                }
+            };
+        }
+
+        /** Hands the rows of the current batch to the coordinator. Called by the partition's thread after the
+         * execution of its operator and by the coordinator on {@link PartitionCoordinator#finish()}.
+         * @throws InterruptedException If interrupted while pushing to the outputs */
+        void completeBatch() throws InterruptedException {
+            if (m_sequence >= 0L) {
+                long sequence = m_sequence;
+                List<List<DataRow>> rows = m_rows;
+                m_sequence = -1L;
+                m_rows = newRowLists();
+                complete(sequence, rows);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.node.exec.streaming;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.knime.core.data.DataRow;
+
+/**
+ * Bounded queue of row batches that connects the output of a streamed node with one input port of a consuming node.
+ * The producer blocks while the queue is full, the consumer while it's empty. A consumer that doesn't need any more
+ * input closes the queue, any further batches are then dropped.
+ *
+ * <p>The queue can be read by multiple threads (partitions of a distributed node); each batch is then delivered to
+ * exactly one of them.
+ *
+ * @author agent
+ */
+final class RowBatchQueue implements RowBatchSource {
+
+    /** Marker for the end of the stream, never handed to the consumer. */
+    private static final DataRow[] END = new DataRow[0];
+
+    private final BlockingQueue<DataRow[]> m_queue;
+
+    private volatile boolean m_isClosed;
+
+    private volatile boolean m_isEndReached;
+
+    /** @param capacity Number of batches that can be queued until the producer blocks, &gt; 0. */
+    RowBatchQueue(final int capacity) {
+        m_queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * Adds a batch, blocks while the queue is full.
+     *
+     * @param batch The batch, not empty and not modified afterwards.
+     * @return false if the consumer has closed the queue (the batch is dropped)
+     * @throws InterruptedException If interrupted while waiting
+     */
+    boolean put(final DataRow[] batch) throws InterruptedException {
+        while (!m_isClosed) {
+            // time out regularly in order to notice that the consumer has closed the queue
+            if (m_queue.offer(batch, 100L, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Signals the end of the stream; no more batches are added afterwards.
+     *
+     * @throws InterruptedException If interrupted while waiting
+     */
+    void putEnd() throws InterruptedException {
+        put(END);
+    }
+
+    /** @return whether the consumer has closed the queue. */
+    boolean isClosed() {
+        return m_isClosed;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DataRow[] take() throws InterruptedException {
+        if (m_isEndReached) {
+            return null;
+        }
+        DataRow[] batch = m_queue.take();
+        if (batch == END) {
+            m_isEndReached = true;
+            // wake up other threads reading this queue; there is space as the producer doesn't add anything after END
+            m_queue.offer(END);
+            return null;
+        }
+        return batch;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        m_isClosed = true;
+        m_queue.clear();
+    }
+
+}
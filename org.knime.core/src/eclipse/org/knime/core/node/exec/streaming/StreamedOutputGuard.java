@@ -0,0 +1,161 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.node.exec.streaming;
+
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.workflow.ConnectionContainer;
+import org.knime.core.node.workflow.NodeID;
+import org.knime.core.node.workflow.WorkflowEvent;
+import org.knime.core.node.workflow.WorkflowListener;
+import org.knime.core.node.workflow.WorkflowManager;
+
+/**
+ * Listener on the workflow of a streamed component that resets nodes whose output was only streamed (and is
+ * represented by an empty table) once another node is connected to that output, so that the new consumer gets the
+ * real data on the next execution rather than the empty placeholder.
+ *
+ * @author agent
+ */
+final class StreamedOutputGuard implements WorkflowListener {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(StreamedOutputGuard.class);
+
+    /** The guard installed per component workflow, guarded by the class. */
+    private static final Map<WorkflowManager, StreamedOutputGuard> GUARDS = new WeakHashMap<>();
+
+    /** Weak as the guard is also the value of {@link #GUARDS}. */
+    private final WeakReference<WorkflowManager> m_wfmRef;
+
+    /** Placeholder table IDs by node and raw output port, guarded by this. */
+    private final Map<NodeID, Map<Integer, Integer>> m_tableIds;
+
+    private StreamedOutputGuard(final WorkflowManager wfm, final Map<NodeID, Map<Integer, Integer>> tableIds) {
+        m_wfmRef = new WeakReference<>(wfm);
+        m_tableIds = new HashMap<>(tableIds);
+    }
+
+    /**
+     * Installs a guard on the workflow, replacing the guard of a previous execution.
+     *
+     * @param wfm The workflow of the component.
+     * @param tableIds IDs of the placeholder tables by node and raw output port, not empty.
+     */
+    static void install(final WorkflowManager wfm, final Map<NodeID, Map<Integer, Integer>> tableIds) {
+        StreamedOutputGuard guard = new StreamedOutputGuard(wfm, tableIds);
+        synchronized (StreamedOutputGuard.class) {
+            StreamedOutputGuard old = GUARDS.put(wfm, guard);
+            if (old != null) {
+                wfm.removeListener(old);
+            }
+        }
+        wfm.addListener(guard);
+    }
+
+    private void uninstall(final WorkflowManager wfm) {
+        synchronized (StreamedOutputGuard.class) {
+            GUARDS.remove(wfm, this);
+        }
+        wfm.removeListener(this);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void workflowChanged(final WorkflowEvent event) {
+        if (event.getType() != WorkflowEvent.Type.CONNECTION_ADDED) {
+            return;
+        }
+        WorkflowManager wfm = m_wfmRef.get();
+        if (wfm == null) {
+            return;
+        }
+        ConnectionContainer cc = (ConnectionContainer)event.getNewValue();
+        NodeID source = cc.getSource();
+        boolean isReset;
+        boolean isEmpty;
+        synchronized (this) {
+            Map<Integer, Integer> ports = m_tableIds.get(source);
+            Integer tableId = ports == null ? null : ports.get(cc.getSourcePort());
+            if (tableId == null) {
+                return;
+            }
+            // the node may have been re-executed (or removed) meanwhile
+            isReset = isPlaceholderOutput(wfm, source, cc.getSourcePort(), tableId);
+            m_tableIds.remove(source);
+            isEmpty = m_tableIds.isEmpty();
+        }
+        if (isReset) {
+            if (wfm.canResetNode(source)) {
+                LOGGER.debug("Resetting " + source + " as its output was only streamed and another node was "
+                    + "connected to it");
+                wfm.resetAndConfigureNode(source);
+            } else {
+                LOGGER.debug("Output of " + source + " was only streamed but the node can't be reset");
+            }
+        }
+        if (isEmpty) {
+            uninstall(wfm);
+        }
+    }
+
+    private static boolean isPlaceholderOutput(final WorkflowManager wfm, final NodeID id, final int port,
+        final Integer tableId) {
+        if (!wfm.containsNodeContainer(id)) {
+            return false;
+        }
+        PortObject po = wfm.getNodeContainer(id).getOutPort(port).getPortObject();
+        return po instanceof BufferedDataTable && tableId.equals(((BufferedDataTable)po).getBufferedTableId());
+    }
+
+}
@@ -0,0 +1,838 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.node.exec.streaming;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.port.flowvariable.FlowVariablePortObject;
+import org.knime.core.node.port.inactive.InactiveBranchConsumer;
+import org.knime.core.node.port.inactive.InactiveBranchPortObject;
+import org.knime.core.node.port.inactive.InactiveBranchPortObjectSpec;
+import org.knime.core.node.streamable.DataTableRowInput;
+import org.knime.core.node.streamable.InputPortRole;
+import org.knime.core.node.streamable.MergeOperator;
+import org.knime.core.node.streamable.OutputPortRole;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortObjectInput;
+import org.knime.core.node.streamable.PortObjectOutput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.core.node.streamable.StreamableOperator;
+import org.knime.core.node.streamable.StreamableOperatorInternals;
+import org.knime.core.node.workflow.ExecutionEnvironment;
+import org.knime.core.node.workflow.FlowScopeContext;
+import org.knime.core.node.workflow.NativeNodeContainer;
+import org.knime.core.node.workflow.NodeContext;
+import org.knime.core.node.workflow.execresult.NativeNodeContainerExecutionResult;
+import org.knime.core.node.workflow.execresult.NodeExecutionResult;
+
+/**
+ * A node inside a component that is executed by the {@link StreamingNodeExecutionJob}. Holds the execution plan of
+ * the node (whether it's streamed, which of its inputs are streamed, number of partitions) and the state of its
+ * execution.
+ *
+ * <p>A streamed node runs its {@link StreamableOperator} as soon as all non-streamed inputs are available and all
+ * streamed producers have started (are 'activated'). All other nodes are executed as usual once all inputs are
+ * available.
+ *
+ * @author agent
+ */
+final class StreamingNode {
+
+    /** Number of batches queued per streamed connection. */
+    private static final int QUEUE_CAPACITY = 4;
+
+    private final StreamingNodeExecutionJob m_job;
+
+    private final NativeNodeContainer m_nnc;
+
+    private final Node m_node;
+
+    /** Whether the node was executed before the job started (its output is just reused). */
+    private final boolean m_isExecuted;
+
+    /** Incoming connections by raw input port index (including the flow variable port), null if not connected. */
+    private final Edge[] m_inEdges;
+
+    /** Outgoing connections by raw output port index. */
+    private final List<List<Edge>> m_outEdges;
+
+    private boolean m_isStreamed;
+
+    /** Input specs (model ports) as per last configure. */
+    private PortObjectSpec[] m_inSpecs;
+
+    /** Final output specs (model ports), only for streamed nodes. */
+    private PortObjectSpec[] m_outSpecs;
+
+    private StreamableOperatorInternals m_initialInternals;
+
+    private int m_partitionCount = 1;
+
+    /** Model input port index that is distributed among the partitions, -1 if not partitioned. */
+    private int m_distributedInPort = -1;
+
+    /** Streamed nodes upstream of this node, including the node itself if streamed. */
+    private Set<StreamingNode> m_streamedAncestors;
+
+    /** Set when the node's execution starts or is aborted before it started, so that only one of both happens. */
+    private final AtomicBoolean m_isStarted = new AtomicBoolean();
+
+    private final CountDownLatch m_activationLatch = new CountDownLatch(1);
+
+    private final CountDownLatch m_doneLatch = new CountDownLatch(1);
+
+    private volatile boolean m_isInactive;
+
+    private volatile boolean m_isSuccess;
+
+    private volatile Throwable m_failure;
+
+    private ExecutionContext m_exec;
+
+    private PortObject[] m_rawOutput;
+
+    /** Tables created by the streamed execution, cleared if the component fails. */
+    private final List<BufferedDataTable> m_createdTables = new ArrayList<>();
+
+    /** Table IDs of the empty placeholder tables by raw output port, for outputs that were only streamed. */
+    private final Map<Integer, Integer> m_streamedOnlyTableIds = new LinkedHashMap<>();
+
+    private NativeNodeContainerExecutionResult m_executionResult;
+
+    /**
+     * @param job The job executing the component.
+     * @param nnc The node.
+     */
+    StreamingNode(final StreamingNodeExecutionJob job, final NativeNodeContainer nnc) {
+        m_job = job;
+        m_nnc = nnc;
+        m_node = nnc.getNode();
+        m_isExecuted = nnc.getNodeContainerState().isExecuted();
+        m_inEdges = new Edge[m_node.getNrInPorts()];
+        m_outEdges = new ArrayList<>(m_node.getNrOutPorts());
+        for (int i = 0; i < m_node.getNrOutPorts(); i++) {
+            m_outEdges.add(new ArrayList<>());
+        }
+    }
+
+    /** @return the node container. */
+    NativeNodeContainer getNodeContainer() {
+        return m_nnc;
+    }
+
+    /** @return whether the node's operator is run in streaming mode. */
+    boolean isStreamed() {
+        return m_isStreamed;
+    }
+
+    /** @return the number of partitions the node is run in, 1 if not partitioned. */
+    int getPartitionCount() {
+        return m_partitionCount;
+    }
+
+    /** @return the failure of the node's execution or null. */
+    Throwable getFailure() {
+        return m_failure;
+    }
+
+    /**
+     * Connects two nodes.
+     *
+     * @param source The source node.
+     * @param sourcePort The raw output port of the source.
+     * @param dest The destination node.
+     * @param destPort The raw input port of the destination.
+     */
+    static void connect(final StreamingNode source, final int sourcePort, final StreamingNode dest,
+        final int destPort) {
+        Edge edge = new Edge(source, sourcePort, dest, destPort);
+        source.m_outEdges.get(sourcePort).add(edge);
+        dest.m_inEdges[destPort] = edge;
+    }
+
+    /**
+     * Determines whether the node is streamed and which of its inputs are streamed. To be called in topological
+     * order, i.e. after all upstream nodes are planned.
+     *
+     * @param partitionCount Maximum number of partitions
+     */
+    void plan(final int partitionCount) {
+        NodeContext.pushContext(m_nnc);
+        try {
+            m_inSpecs = new PortObjectSpec[m_node.getNrInPorts() - 1];
+            for (int i = 0; i < m_inSpecs.length; i++) {
+                Edge e = m_inEdges[i + 1];
+                m_inSpecs[i] = e == null ? null
+                    : e.m_source.m_nnc.getOutPort(e.m_sourcePort).getPortObjectSpec();
+            }
+            m_isStreamed = canStream();
+            planInputs();
+            if (m_isStreamed && partitionCount > 1) {
+                planPartitions(partitionCount);
+            }
+        } finally {
+            NodeContext.removeLastContext();
+        }
+    }
+
+    private boolean canStream() {
+        NodeModel model = m_node.getNodeModel();
+        if (m_isExecuted || model instanceof InactiveBranchConsumer) {
+            return false;
+        }
+        if (Arrays.stream(m_inSpecs).anyMatch(s -> s instanceof InactiveBranchPortObjectSpec)) {
+            // node will be inactive, nothing to stream
+            return false;
+        }
+        InputPortRole[] roles = model.getInputPortRoles();
+        boolean hasStreamableInput = false;
+        for (int i = 0; i < roles.length; i++) {
+            hasStreamableInput |= roles[i].isStreamable() && isData(m_node.getInputType(i + 1).getPortObjectClass());
+        }
+        if (!hasStreamableInput) {
+            return false;
+        }
+        StreamableOperatorInternals internals = model.createInitialStreamableOperatorInternals();
+        if (internals != null && model.iterate(internals)) {
+            // requires several passes over the data
+            return false;
+        }
+        PortObjectSpec[] outSpecs;
+        try {
+            outSpecs = model.computeFinalOutputSpecs(internals, m_inSpecs);
+        } catch (InvalidSettingsException e) {
+            return false;
+        }
+        if (outSpecs == null || outSpecs.length != m_node.getNrOutPorts() - 1) {
+            return false;
+        }
+        for (int j = 0; j < outSpecs.length; j++) {
+            if (isData(m_node.getOutputType(j + 1).getPortObjectClass()) && !(outSpecs[j] instanceof DataTableSpec)) {
+                // final spec not known upfront
+                return false;
+            }
+        }
+        m_initialInternals = internals;
+        m_outSpecs = outSpecs;
+        return true;
+    }
+
+    /** Determines the streamed inputs. An input stream is demoted to a full table if it shares a streamed ancestor
+     * with another input of the node as otherwise the shared ancestor would block on one of the outputs while this
+     * node waits for the other input. */
+    private void planInputs() {
+        InputPortRole[] roles = m_node.getNodeModel().getInputPortRoles();
+        for (int i = 1; i < m_inEdges.length; i++) {
+            Edge e = m_inEdges[i];
+            if (e != null) {
+                e.m_isStreamed = m_isStreamed && roles[i - 1].isStreamable() && e.m_source.m_isStreamed
+                    && isData(m_node.getInputType(i).getPortObjectClass());
+            }
+        }
+        boolean isChanged;
+        do {
+            isChanged = false;
+            Set<StreamingNode> blocking = new HashSet<>();
+            for (Edge e : m_inEdges) {
+                if (e != null && !e.m_isStreamed) {
+                    blocking.addAll(e.m_source.m_streamedAncestors);
+                }
+            }
+            Set<StreamingNode> streamedUpstream = new HashSet<>();
+            for (Edge e : m_inEdges) {
+                if (e != null && e.m_isStreamed) {
+                    Set<StreamingNode> ancestors = e.m_source.m_streamedAncestors;
+                    if (!Collections.disjoint(ancestors, blocking)
+                        || !Collections.disjoint(ancestors, streamedUpstream)) {
+                        e.m_isStreamed = false;
+                        isChanged = true;
+                        break;
+                    }
+                    streamedUpstream.addAll(ancestors);
+                }
+            }
+        } while (isChanged);
+        m_streamedAncestors = new HashSet<>();
+        if (m_isStreamed) {
+            m_streamedAncestors.add(this);
+        }
+        for (Edge e : m_inEdges) {
+            if (e != null) {
+                m_streamedAncestors.addAll(e.m_source.m_streamedAncestors);
+                if (e.m_isStreamed) {
+                    e.m_queue = new RowBatchQueue(QUEUE_CAPACITY);
+                }
+            }
+        }
+    }
+
+    /** Partitions the node if exactly one (streamable, distributable) input is shared among the partitions and the
+     * outputs are either distributed or can be computed with a merge operator. */
+    private void planPartitions(final int partitionCount) {
+        NodeModel model = m_node.getNodeModel();
+        InputPortRole[] roles = model.getInputPortRoles();
+        int distributedInPort = -1;
+        for (int i = 0; i < roles.length; i++) {
+            Edge e = m_inEdges[i + 1];
+            if (e == null) {
+                continue;
+            }
+            if (roles[i].isDistributable() && roles[i].isStreamable()
+                && isData(m_node.getInputType(i + 1).getPortObjectClass())) {
+                if (distributedInPort >= 0) {
+                    return;
+                }
+                distributedInPort = i;
+            } else if (e.m_isStreamed) {
+                // a non-distributed stream can't be shared by partitions
+                return;
+            }
+        }
+        if (distributedInPort < 0) {
+            return;
+        }
+        OutputPortRole[] outRoles = model.getOutputPortRoles();
+        boolean isAllDistributed = true;
+        for (int j = 0; j < outRoles.length; j++) {
+            isAllDistributed &= isDistributedOutput(outRoles, j);
+        }
+        if (!isAllDistributed && model.createMergeOperator() == null) {
+            return;
+        }
+        m_partitionCount = partitionCount;
+        m_distributedInPort = distributedInPort;
+    }
+
+    private boolean isDistributedOutput(final OutputPortRole[] outRoles, final int port) {
+        return outRoles[port].isDistributable() && isData(m_node.getOutputType(port + 1).getPortObjectClass());
+    }
+
+    private static boolean isData(final Class<? extends PortObject> portObjectClass) {
+        return BufferedDataTable.class.isAssignableFrom(portObjectClass);
+    }
+
+    /** Executes the node, called in a separate thread. Never throws an exception, failures are reported to the
+     * job. Does nothing if the node was {@linkplain #abort() aborted}. */
+    void run() {
+        if (!m_isStarted.compareAndSet(false, true)) {
+            return;
+        }
+        NodeContext.pushContext(m_nnc);
+        try {
+            if (m_isExecuted) {
+                m_rawOutput = new PortObject[m_node.getNrOutPorts()];
+                for (int i = 0; i < m_rawOutput.length; i++) {
+                    m_rawOutput[i] = m_node.getOutputObject(i);
+                }
+                m_isInactive = m_node.isInactive();
+            } else {
+                m_exec = m_nnc.createExecutionContext();
+                m_node.openFileStoreHandler(m_exec);
+                if (m_isStreamed) {
+                    executeStreamed();
+                } else {
+                    executeClassic();
+                }
+            }
+            m_isSuccess = true;
+        } catch (Throwable t) {
+            m_failure = t;
+            m_job.nodeFailed(this, t);
+        } finally {
+            closeStreamedInputs();
+            m_activationLatch.countDown();
+            m_doneLatch.countDown();
+            NodeContext.removeLastContext();
+        }
+    }
+
+    /** Marks the node as failed if its execution hasn't started yet; called when the job is canceled, as the task
+     * running the node may then be canceled before it starts, leaving waiting nodes (and the job) blocked. */
+    void abort() {
+        if (m_isStarted.compareAndSet(false, true)) {
+            m_failure = new CanceledExecutionException("Execution canceled");
+            closeStreamedInputs();
+            m_activationLatch.countDown();
+            m_doneLatch.countDown();
+        }
+    }
+
+    private void executeClassic() throws Exception {
+        PortObject[] rawIn = new PortObject[m_node.getNrInPorts()];
+        rawIn[0] = FlowVariablePortObject.INSTANCE;
+        for (int i = 0; i < rawIn.length; i++) {
+            Edge e = m_inEdges[i];
+            if (e != null) {
+                rawIn[i] = e.m_source.awaitOutput(e.m_sourcePort);
+            }
+        }
+        m_exec.checkCanceled();
+        if (!m_node.execute(rawIn, new ExecutionEnvironment(), m_exec)) {
+            // the node has already set its error message
+            throw new IllegalStateException(m_nnc.getNodeMessage().getMessage());
+        }
+        m_rawOutput = new PortObject[m_node.getNrOutPorts()];
+        for (int i = 0; i < m_rawOutput.length; i++) {
+            m_rawOutput[i] = m_node.getOutputObject(i);
+        }
+        m_isInactive = m_node.isInactive();
+        // the node is in state EXECUTINGREMOTELY, which the container treats as not executed
+        m_executionResult = m_nnc.createExecutionResult(m_exec);
+        m_executionResult.setSuccess(true);
+    }
+
+    private void executeStreamed() throws Exception {
+        PortObject[] rawIn = new PortObject[m_node.getNrInPorts()];
+        rawIn[0] = FlowVariablePortObject.INSTANCE;
+        boolean isInactive = false;
+        for (int i = 0; i < rawIn.length; i++) {
+            Edge e = m_inEdges[i];
+            if (e == null) {
+                continue;
+            }
+            if (e.m_isStreamed) {
+                isInactive |= e.m_source.awaitActivation();
+            } else {
+                rawIn[i] = e.m_source.awaitOutput(e.m_sourcePort);
+                isInactive |= rawIn[i] instanceof InactiveBranchPortObject;
+            }
+        }
+        FlowScopeContext scopeContext = m_node.getFlowObjectStack().peek(FlowScopeContext.class);
+        if (isInactive || (scopeContext != null && scopeContext.isInactiveScope())) {
+            setInactive();
+            return;
+        }
+        m_activationLatch.countDown();
+
+        NodeModel model = m_node.getNodeModel();
+        int nrOuts = m_node.getNrOutPorts() - 1;
+        StreamingRowOutput[] rowOutputs = new StreamingRowOutput[nrOuts];
+        PortOutput[] outputs = new PortOutput[nrOuts];
+        for (int j = 0; j < nrOuts; j++) {
+            if (m_outSpecs[j] instanceof DataTableSpec) {
+                List<RowBatchQueue> queues = new ArrayList<>();
+                boolean isMaterialize = false;
+                for (Edge e : m_outEdges.get(j + 1)) {
+                    if (e.m_isStreamed) {
+                        queues.add(e.m_queue);
+                    } else {
+                        isMaterialize = true;
+                    }
+                }
+                rowOutputs[j] = new StreamingRowOutput((DataTableSpec)m_outSpecs[j], queues, isMaterialize,
+                    m_job.getChunkSize(), m_exec);
+                outputs[j] = rowOutputs[j];
+            } else {
+                outputs[j] = new PortObjectOutput();
+            }
+        }
+        if (m_partitionCount > 1) {
+            runPartitioned(model, rawIn, outputs);
+        } else {
+            runSingle(model, rawIn, outputs);
+        }
+        for (StreamingRowOutput o : rowOutputs) {
+            if (o != null) {
+                o.close();
+            }
+        }
+        closeStreamedInputs();
+
+        m_rawOutput = new PortObject[nrOuts + 1];
+        m_rawOutput[0] = FlowVariablePortObject.INSTANCE;
+        for (int j = 0; j < nrOuts; j++) {
+            if (rowOutputs[j] != null) {
+                BufferedDataTable table = rowOutputs[j].getTable();
+                if (table == null) {
+                    // only consumed by streams, the node gets a warning and is reset once another consumer connects
+                    BufferedDataContainer c = m_exec.createDataContainer(rowOutputs[j].getSpec());
+                    c.close();
+                    table = c.getTable();
+                    m_createdTables.add(table);
+                    m_streamedOnlyTableIds.put(j + 1, table.getBufferedTableId());
+                } else if (rowOutputs[j].isTableCreated()) {
+                    m_createdTables.add(table);
+                }
+                m_rawOutput[j + 1] = table;
+            } else {
+                PortObject po = ((PortObjectOutput)outputs[j]).getPortObject();
+                if (po == null) {
+                    throw new IllegalStateException("No output object set at port " + j);
+                }
+                m_rawOutput[j + 1] = po;
+            }
+        }
+        m_node.assignInternalHeldObjects(rawIn, null, m_exec, m_rawOutput);
+        NodeExecutionResult nodeResult = m_node.createNodeExecutionResult(m_rawOutput, m_exec);
+        if (!m_streamedOnlyTableIds.isEmpty()) {
+            nodeResult.setWarningMessage(createStreamedOnlyWarning(nodeResult.getWarningMessage()));
+        }
+        NativeNodeContainerExecutionResult result = new NativeNodeContainerExecutionResult();
+        result.setNodeExecutionResult(nodeResult);
+        result.setSuccess(true);
+        m_executionResult = result;
+    }
+
+    private String createStreamedOnlyWarning(final String modelWarning) {
+        StringBuilder b = new StringBuilder();
+        if (modelWarning != null && !modelWarning.isEmpty()) {
+            b.append(modelWarning).append('\n');
+        }
+        b.append("Output at port(s) ");
+        b.append(m_streamedOnlyTableIds.keySet().stream().map(p -> Integer.toString(p - 1))
+            .collect(Collectors.joining(", ")));
+        b.append(" was only streamed to downstream nodes and is not available (the table shown is empty); ");
+        b.append("the node is reset when another node is connected to it");
+        return b.toString();
+    }
+
+    private void setInactive() {
+        m_isInactive = true;
+        m_rawOutput = new PortObject[m_node.getNrOutPorts()];
+        Arrays.fill(m_rawOutput, InactiveBranchPortObject.INSTANCE);
+        m_rawOutput[0] = FlowVariablePortObject.INSTANCE;
+        NativeNodeContainerExecutionResult result = new NativeNodeContainerExecutionResult();
+        result.setNodeExecutionResult(m_node.createInactiveNodeExecutionResult());
+        result.setSuccess(true);
+        m_executionResult = result;
+        // active producers must not block on the queues of this node
+        closeStreamedInputs();
+    }
+
+    private void runSingle(final NodeModel model, final PortObject[] rawIn, final PortOutput[] outputs)
+        throws Exception {
+        StreamableOperator op = model.createStreamableOperator(new PartitionInfo(0, 1), m_inSpecs);
+        if (m_initialInternals != null) {
+            op.loadInternals(m_initialInternals);
+        }
+        op.runFinal(createInputs(rawIn, null), outputs, m_exec);
+        MergeOperator mergeOperator = model.createMergeOperator();
+        if (mergeOperator != null) {
+            StreamableOperatorInternals internals =
+                mergeOperator.mergeFinal(new StreamableOperatorInternals[]{op.saveInternals()});
+            model.finishStreamableExecution(internals, m_exec, outputs);
+        }
+    }
+
+    private void runPartitioned(final NodeModel model, final PortObject[] rawIn, final PortOutput[] outputs)
+        throws Exception {
+        final int count = m_partitionCount;
+        Edge distributedEdge = m_inEdges[m_distributedInPort + 1];
+        RowBatchSource source = distributedEdge.m_isStreamed ? distributedEdge.m_queue
+            : new TableBatchSource((BufferedDataTable)rawIn[m_distributedInPort + 1], m_job.getChunkSize());
+        OutputPortRole[] outRoles = model.getOutputPortRoles();
+        RowOutput[] distributedOutputs = new RowOutput[outputs.length];
+        for (int j = 0; j < outputs.length; j++) {
+            if (isDistributedOutput(outRoles, j)) {
+                distributedOutputs[j] = (RowOutput)outputs[j];
+            }
+        }
+        PartitionCoordinator coordinator = new PartitionCoordinator(source, distributedOutputs, count);
+        StreamableOperator[] ops = new StreamableOperator[count];
+        List<Runnable> runnables = new ArrayList<>(count);
+        for (int p = 0; p < count; p++) {
+            ops[p] = model.createStreamableOperator(new PartitionInfo(p, count), m_inSpecs);
+            if (m_initialInternals != null) {
+                ops[p].loadInternals(m_initialInternals);
+            }
+            PartitionCoordinator.Partition partition = coordinator.createPartition();
+            PortInput[] inputs = createInputs(rawIn, partition);
+            PortOutput[] partitionOutputs = new PortOutput[outputs.length];
+            for (int j = 0; j < outputs.length; j++) {
+                if (distributedOutputs[j] != null) {
+                    partitionOutputs[j] = partition.createOutput(j);
+                }
+            }
+            StreamableOperator op = ops[p];
+            ExecutionContext subExec = m_exec.createSubExecutionContext(1.0 / count);
+            runnables.add(() -> {
+                NodeContext.pushContext(m_nnc);
+                try {
+                    op.runFinal(inputs, partitionOutputs, subExec);
+                    partition.completeBatch();
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new PartitionException(e);
+                } finally {
+                    partition.close();
+                    NodeContext.removeLastContext();
+                }
+            });
+        }
+        List<Future<?>> futures = new ArrayList<>(count - 1);
+        try {
+            for (int p = 1; p < count; p++) {
+                futures.add(m_job.submit(runnables.get(p)));
+            }
+            runnables.get(0).run();
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } catch (ExecutionException ee) {
+            throw unwrap(ee.getCause());
+        } catch (PartitionException pe) {
+            throw unwrap(pe);
+        } finally {
+            futures.forEach(f -> f.cancel(true));
+        }
+        coordinator.finish();
+        MergeOperator mergeOperator = model.createMergeOperator();
+        if (mergeOperator != null) {
+            StreamableOperatorInternals[] internals = new StreamableOperatorInternals[count];
+            for (int p = 0; p < count; p++) {
+                internals[p] = ops[p].saveInternals();
+            }
+            model.finishStreamableExecution(mergeOperator.mergeFinal(internals), m_exec, outputs);
+        }
+    }
+
+    private static Exception unwrap(final Throwable t) {
+        Throwable cause = t instanceof PartitionException ? t.getCause() : t;
+        if (cause instanceof Exception) {
+            return (Exception)cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error)cause;
+        }
+        return new Exception(cause);
+    }
+
+    private PortInput[] createInputs(final PortObject[] rawIn, final RowBatchSource distributedSource) {
+        InputPortRole[] roles = m_node.getNodeModel().getInputPortRoles();
+        PortInput[] inputs = new PortInput[rawIn.length - 1];
+        for (int i = 0; i < inputs.length; i++) {
+            Edge e = m_inEdges[i + 1];
+            if (e == null) {
+                continue;
+            }
+            if (i == m_distributedInPort && distributedSource != null) {
+                inputs[i] = new StreamingRowInput(e.getSpec(m_inSpecs[i]), distributedSource);
+            } else if (e.m_isStreamed) {
+                inputs[i] = new StreamingRowInput(e.getSpec(m_inSpecs[i]), e.m_queue);
+            } else if (roles[i].isStreamable() && rawIn[i + 1] instanceof BufferedDataTable) {
+                inputs[i] = new DataTableRowInput((BufferedDataTable)rawIn[i + 1]);
+            } else {
+                inputs[i] = new PortObjectInput(rawIn[i + 1]);
+            }
+        }
+        return inputs;
+    }
+
+    private void closeStreamedInputs() {
+        for (Edge e : m_inEdges) {
+            if (e != null && e.m_isStreamed) {
+                e.m_queue.close();
+            }
+        }
+    }
+
+    /** Waits until the node has started its streamed execution (or is done).
+     * @return whether the node is inactive */
+    private boolean awaitActivation() throws InterruptedException, CanceledExecutionException {
+        m_activationLatch.await();
+        if (m_failure != null) {
+            throw new CanceledExecutionException("Upstream node failed");
+        }
+        return m_isInactive;
+    }
+
+    /** Waits until the node is done.
+     * @return the output at the given raw port */
+    private PortObject awaitOutput(final int rawPort) throws InterruptedException, CanceledExecutionException {
+        m_doneLatch.await();
+        if (!m_isSuccess) {
+            throw new CanceledExecutionException("Upstream node failed");
+        }
+        return m_rawOutput[rawPort];
+    }
+
+    /** Waits until the node is done, ignoring interrupts.
+     * @return whether the node finished successfully */
+    boolean awaitDoneUninterruptibly() {
+        boolean isInterrupted = false;
+        try {
+            while (true) {
+                try {
+                    m_doneLatch.await();
+                    return m_isSuccess;
+                } catch (InterruptedException ie) {
+                    isInterrupted = true;
+                }
+            }
+        } finally {
+            if (isInterrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * @param exec For the creation of results of nodes executed before the job started.
+     * @return the execution result of the node, to be called after successful execution of all nodes
+     * @throws CanceledExecutionException If canceled
+     */
+    NativeNodeContainerExecutionResult createExecutionResult(final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        if (m_isExecuted) {
+            return m_nnc.createExecutionResult(exec);
+        }
+        return m_executionResult;
+    }
+
+    /**
+     * @return IDs of the empty placeholder tables by raw output port for outputs that were only streamed to
+     *         downstream nodes, empty if there are none
+     */
+    Map<Integer, Integer> getStreamedOnlyTableIds() {
+        return Collections.unmodifiableMap(m_streamedOnlyTableIds);
+    }
+
+    /** Makes the output tables of the node available in the global repository (after the result was loaded). */
+    void putOutputTablesIntoGlobalRepository() {
+        if (!m_isExecuted && m_exec != null) {
+            m_nnc.putOutputTablesIntoGlobalRepository(m_exec);
+        }
+    }
+
+    /** Discards the output of the node after the execution of the component failed. */
+    void discardOutput() {
+        if (m_isExecuted || m_rawOutput == null) {
+            return;
+        }
+        NodeContext.pushContext(m_nnc);
+        try {
+            if (m_isStreamed) {
+                m_createdTables.forEach(m_exec::clearTable);
+            } else {
+                m_node.cleanOutPorts(false);
+            }
+            m_node.reset();
+        } finally {
+            NodeContext.removeLastContext();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return m_nnc.getNameWithID();
+    }
+
+    /** Wraps checked exceptions thrown by a partition. */
+    @SuppressWarnings("serial")
+    private static final class PartitionException extends RuntimeException {
+        PartitionException(final Exception cause) {
+            super(cause);
+        }
+    }
+
+    /** Connection between two nodes. */
+    static final class Edge {
+
+        private final StreamingNode m_source;
+
+        private final int m_sourcePort;
+
+        private final StreamingNode m_dest;
+
+        private final int m_destPort;
+
+        private boolean m_isStreamed;
+
+        private RowBatchQueue m_queue;
+
+        private Edge(final StreamingNode source, final int sourcePort, final StreamingNode dest,
+            final int destPort) {
+            m_source = source;
+            m_sourcePort = sourcePort;
+            m_dest = dest;
+            m_destPort = destPort;
+        }
+
+        /** @return spec of the rows; the final spec of a streamed producer, otherwise the configured spec */
+        private DataTableSpec getSpec(final PortObjectSpec configuredSpec) {
+            if (m_source.m_isStreamed) {
+                return (DataTableSpec)m_source.m_outSpecs[m_sourcePort - 1];
+            }
+            return (DataTableSpec)configuredSpec;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public String toString() {
+            return m_source + ":" + m_sourcePort + (m_isStreamed ? " ~> " : " -> ") + m_dest + ":" + m_destPort;
+        }
+    }
+
+}
@@ -0,0 +1,394 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.node.exec.streaming;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.workflow.ConnectionContainer;
+import org.knime.core.node.workflow.LoopEndNode;
+import org.knime.core.node.workflow.LoopStartNode;
+import org.knime.core.node.workflow.NativeNodeContainer;
+import org.knime.core.node.workflow.NodeContainer;
+import org.knime.core.node.workflow.NodeExecutionJob;
+import org.knime.core.node.workflow.NodeID;
+import org.knime.core.node.workflow.NodeMessage;
+import org.knime.core.node.workflow.ScopeEndNode;
+import org.knime.core.node.workflow.ScopeStartNode;
+import org.knime.core.node.workflow.SubNodeContainer;
+import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.core.node.workflow.WorkflowPersistor.LoadResult;
+import org.knime.core.node.workflow.WorkflowPersistor.LoadResultEntry.LoadResultEntryType;
+import org.knime.core.node.workflow.execresult.NodeContainerExecutionResult;
+import org.knime.core.node.workflow.execresult.NodeContainerExecutionStatus;
+import org.knime.core.node.workflow.execresult.SubnodeContainerExecutionResult;
+import org.knime.core.node.workflow.execresult.WorkflowExecutionResult;
+import org.knime.core.util.ThreadPool;
+import org.knime.core.util.ThreadUtils;
+
+/**
+ * Executes the content of a component ({@link SubNodeContainer}) as a pipeline: all inner nodes run concurrently,
+ * each in its own thread, and rows are handed between streamable nodes in batches instead of being written into
+ * intermediate tables. The component is executed like a remote job, the result is assembled as
+ * {@link SubnodeContainerExecutionResult} and loaded into the component.
+ *
+ * @author agent
+ */
+final class StreamingNodeExecutionJob extends NodeExecutionJob {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(StreamingNodeExecutionJob.class);
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    /** Runs the inner nodes and partitions; these block on each other so they can't run in the bounded pool. */
+    private static final ExecutorService EXECUTOR =
+        ThreadUtils.executorServiceWithContext(Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "KNIME-Streaming-" + THREAD_COUNTER.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }));
+
+    private final ExecutorService m_executor;
+
+    private final int m_chunkSize;
+
+    private final int m_partitionCount;
+
+    private Future<?> m_future;
+
+    private volatile boolean m_isCanceled;
+
+    /** Guarded by this. */
+    private final List<Future<?>> m_nodeFutures = new ArrayList<>();
+
+    /** Guarded by this. */
+    private final List<StreamingNode> m_nodes = new ArrayList<>();
+
+    /** The node that failed first (the others are canceled), guarded by this. */
+    private StreamingNode m_failedNode;
+
+    /**
+     * @param snc The component to execute.
+     * @param data Its input.
+     * @param chunkSize Number of rows handed between nodes at once.
+     * @param partitionCount Maximum number of partitions for distributable nodes.
+     */
+    StreamingNodeExecutionJob(final SubNodeContainer snc, final PortObject[] data, final int chunkSize,
+        final int partitionCount) {
+        this(snc, data, chunkSize, partitionCount, EXECUTOR);
+    }
+
+    /**
+     * @param snc The component to execute.
+     * @param data Its input.
+     * @param chunkSize Number of rows handed between nodes at once.
+     * @param partitionCount Maximum number of partitions for distributable nodes.
+     * @param executor Runs the inner nodes and partitions (must not bound the number of threads, only changed in
+     *            tests).
+     */
+    StreamingNodeExecutionJob(final SubNodeContainer snc, final PortObject[] data, final int chunkSize,
+        final int partitionCount, final ExecutorService executor) {
+        super(snc, data);
+        m_executor = executor;
+        m_chunkSize = chunkSize;
+        m_partitionCount = partitionCount;
+    }
+
+    /** @param future the future representing the execution in the pool */
+    void setFuture(final Future<?> future) {
+        m_future = future;
+    }
+
+    /** @return number of rows handed between nodes at once */
+    int getChunkSize() {
+        return m_chunkSize;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean isReConnecting() {
+        return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected NodeContainerExecutionStatus mainExecute() {
+        SubNodeContainer snc = (SubNodeContainer)getNodeContainer();
+        WorkflowManager wfm = snc.getWorkflowManager();
+        Map<NodeID, StreamingNode> nodes;
+        try {
+            nodes = createPlan(wfm);
+        } catch (IllegalStateException ise) {
+            LOGGER.warn("Unable to stream " + snc.getNameWithID() + ": " + ise.getMessage());
+            return loadResult(snc, wfm, null, ise.getMessage());
+        }
+        synchronized (this) {
+            if (m_isCanceled) {
+                return loadResult(snc, wfm, null, "Execution canceled");
+            }
+            for (StreamingNode node : nodes.values()) {
+                m_nodes.add(node);
+                m_nodeFutures.add(m_executor.submit(node::run));
+            }
+        }
+        boolean isSuccess = awaitNodes(nodes.values());
+        String errorMessage = null;
+        if (!isSuccess) {
+            synchronized (this) {
+                errorMessage = m_failedNode == null ? "Execution canceled"
+                    : ("Execute failed in " + m_failedNode + ": " + m_failedNode.getFailure().getMessage());
+            }
+            nodes.values().forEach(StreamingNode::discardOutput);
+        }
+        return loadResult(snc, wfm, isSuccess ? nodes : null, errorMessage);
+    }
+
+    /** Creates the nodes in topological order and determines their execution plan. */
+    private Map<NodeID, StreamingNode> createPlan(final WorkflowManager wfm) {
+        Map<NodeID, StreamingNode> nodes = new LinkedHashMap<>();
+        Map<NodeID, Integer> inDegrees = new HashMap<>();
+        Deque<NodeID> ready = new ArrayDeque<>();
+        for (NodeContainer nc : wfm.getNodeContainers()) {
+            if (!(nc instanceof NativeNodeContainer)) {
+                throw new IllegalStateException("Nested metanodes and components are not supported ("
+                    + nc.getNameWithID() + "), use the default job manager instead");
+            }
+            NativeNodeContainer nnc = (NativeNodeContainer)nc;
+            if (nnc.getNode().isModelCompatibleTo(LoopStartNode.class)
+                || nnc.getNode().isModelCompatibleTo(LoopEndNode.class)
+                || nnc.getNode().isModelCompatibleTo(ScopeStartNode.class)
+                || nnc.getNode().isModelCompatibleTo(ScopeEndNode.class)) {
+                throw new IllegalStateException("Loops and scopes are not supported (" + nc.getNameWithID()
+                    + "), use the default job manager instead");
+            }
+            if (!nc.getNodeContainerState().isExecuted() && !nc.getNodeContainerState().isExecutingRemotely()) {
+                throw new IllegalStateException("Node " + nc.getNameWithID() + " is not executable");
+            }
+            int inDegree = 0;
+            for (ConnectionContainer cc : wfm.getIncomingConnectionsFor(nc.getID())) {
+                if (!cc.getSource().equals(wfm.getID())) {
+                    inDegree++;
+                }
+            }
+            inDegrees.put(nc.getID(), inDegree);
+            if (inDegree == 0) {
+                ready.add(nc.getID());
+            }
+        }
+        while (!ready.isEmpty()) {
+            NodeID id = ready.poll();
+            NativeNodeContainer nnc = (NativeNodeContainer)wfm.getNodeContainer(id);
+            StreamingNode node = new StreamingNode(this, nnc);
+            for (ConnectionContainer cc : wfm.getIncomingConnectionsFor(id)) {
+                StreamingNode source = nodes.get(cc.getSource());
+                if (source != null) {
+                    StreamingNode.connect(source, cc.getSourcePort(), node, cc.getDestPort());
+                }
+            }
+            node.plan(m_partitionCount);
+            nodes.put(id, node);
+            for (ConnectionContainer cc : wfm.getOutgoingConnectionsFor(id)) {
+                if (!cc.getDest().equals(wfm.getID()) && inDegrees.merge(cc.getDest(), -1, Integer::sum) == 0) {
+                    ready.add(cc.getDest());
+                }
+            }
+        }
+        if (nodes.size() != inDegrees.size()) {
+            throw new IllegalStateException("Workflow contains cycles");
+        }
+        if (LOGGER.isDebugEnabled()) {
+            nodes.values().forEach(n -> LOGGER.debug(n + (n.isStreamed()
+                ? (" streamed in " + n.getPartitionCount() + " partition(s)") : " executed fully")));
+        }
+        return nodes;
+    }
+
+    /** Waits for all nodes to finish (also when the job is canceled meanwhile).
+     * @return whether all succeeded */
+    private static boolean awaitNodes(final Collection<StreamingNode> nodes) {
+        ThreadPool pool = ThreadPool.currentPool();
+        if (pool != null) {
+            try {
+                // don't occupy a pool slot while the nodes run in separate threads
+                return pool.runInvisible(() -> awaitNodesUninterruptibly(nodes));
+            } catch (ExecutionException ee) {
+                LOGGER.coding("Unexpected failure waiting for streamed nodes", ee.getCause());
+            }
+        }
+        return awaitNodesUninterruptibly(nodes);
+    }
+
+    private static boolean awaitNodesUninterruptibly(final Collection<StreamingNode> nodes) {
+        boolean isSuccess = true;
+        for (StreamingNode node : nodes) {
+            isSuccess &= node.awaitDoneUninterruptibly();
+        }
+        return isSuccess;
+    }
+
+    /**
+     * Assembles the execution result and loads it into the component.
+     *
+     * @param nodes The nodes if all succeeded, otherwise null
+     * @param errorMessage Error in case of failure
+     */
+    private NodeContainerExecutionStatus loadResult(final SubNodeContainer snc, final WorkflowManager wfm,
+        final Map<NodeID, StreamingNode> nodes, final String errorMessage) {
+        boolean isSuccess = nodes != null;
+        SubnodeContainerExecutionResult result = new SubnodeContainerExecutionResult(snc.getID());
+        WorkflowExecutionResult wfmResult = new WorkflowExecutionResult(wfm.getID());
+        ExecutionMonitor exec = new ExecutionMonitor();
+        try {
+            for (NodeContainer nc : wfm.getNodeContainers()) {
+                NodeContainerExecutionResult ncResult;
+                if (isSuccess) {
+                    ncResult = nodes.get(nc.getID()).createExecutionResult(exec);
+                } else {
+                    ncResult = nc.createExecutionResult(exec);
+                    ncResult.setSuccess(nc.getNodeContainerState().isExecuted());
+                }
+                wfmResult.addNodeExecutionResult(nc.getID(), ncResult);
+            }
+        } catch (CanceledExecutionException cee) {
+            // not possible with an unconnected monitor
+            throw new IllegalStateException(cee);
+        }
+        wfmResult.setSuccess(isSuccess);
+        result.setWorkflowExecutionResult(wfmResult);
+        result.setSuccess(isSuccess);
+        if (!isSuccess) {
+            result.setMessage(new NodeMessage(NodeMessage.Type.ERROR, errorMessage));
+        }
+        LoadResult lR = new LoadResult("load streamed execution result");
+        snc.loadExecutionResult(result, new ExecutionMonitor(), lR);
+        if (lR.hasErrors()) {
+            LOGGER.error("Errors loading streamed execution result into " + snc.getNameWithID() + ":\n"
+                + lR.getFilteredError("", LoadResultEntryType.Warning));
+        }
+        if (isSuccess) {
+            nodes.values().forEach(StreamingNode::putOutputTablesIntoGlobalRepository);
+            Map<NodeID, Map<Integer, Integer>> streamedOnlyTableIds = new HashMap<>();
+            for (Map.Entry<NodeID, StreamingNode> e : nodes.entrySet()) {
+                if (!e.getValue().getStreamedOnlyTableIds().isEmpty()) {
+                    streamedOnlyTableIds.put(e.getKey(), e.getValue().getStreamedOnlyTableIds());
+                }
+            }
+            if (!streamedOnlyTableIds.isEmpty()) {
+                StreamedOutputGuard.install(wfm, streamedOnlyTableIds);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Runs a partition of a streamed node in a separate thread; canceled along with the job.
+     *
+     * @param runnable The partition's work.
+     * @return its future
+     */
+    synchronized Future<?> submit(final Runnable runnable) {
+        Future<?> future = m_executor.submit(runnable);
+        m_nodeFutures.add(future);
+        if (m_isCanceled) {
+            future.cancel(true);
+        }
+        return future;
+    }
+
+    /**
+     * Called by a node whose execution failed, cancels all other nodes.
+     *
+     * @param node The failed node.
+     * @param t The cause.
+     */
+    void nodeFailed(final StreamingNode node, final Throwable t) {
+        synchronized (this) {
+            if (m_failedNode != null || m_isCanceled) {
+                // consequence of the cancelation
+                return;
+            }
+            m_failedNode = node;
+        }
+        LOGGER.debug("Streamed execution failed in " + node + ": " + t.getMessage(), t);
+        cancelNodes();
+    }
+
+    private synchronized void cancelNodes() {
+        m_isCanceled = true;
+        m_nodeFutures.forEach(f -> f.cancel(true));
+        // nodes whose task was canceled before it started would never count down their latches
+        m_nodes.forEach(StreamingNode::abort);
+        m_nodes.forEach(n -> n.getNodeContainer().getProgressMonitor().setExecuteCanceled());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean cancel() {
+        cancelNodes();
+        if (m_future == null) {
+            throw new IllegalStateException("Future that represents the execution has not been set.");
+        }
+        return m_future.cancel(true);
+    }
+
+}
@@ -0,0 +1,195 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.node.exec.streaming;
+
+import java.net.URL;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.util.CheckUtils;
+import org.knime.core.node.workflow.AbstractNodeExecutionJobManager;
+import org.knime.core.node.workflow.NodeContainer;
+import org.knime.core.node.workflow.NodeExecutionJob;
+import org.knime.core.node.workflow.SubNodeContainer;
+
+/**
+ * Job manager for components ({@link SubNodeContainer}) that executes the content of the component in streaming
+ * mode. All nodes of the component run concurrently; nodes that support streaming (see
+ * {@link org.knime.core.node.NodeModel#createStreamableOperator(org.knime.core.node.streamable.PartitionInfo,
+ * org.knime.core.node.port.PortObjectSpec[]) NodeModel#createStreamableOperator}) hand their output in chunks of rows
+ * directly to streamable downstream nodes, without writing intermediate tables. Nodes with a distributable input are
+ * run in multiple partitions; the order of the output is retained. Nodes that don't support streaming are executed as
+ * usual once their input is fully available.
+ *
+ * <p>An output that is only consumed by streaming nodes is never materialized. The producing node is shown as executed
+ * with a warning and an empty table at that port; it is reset once another node is connected to that output so the
+ * new consumer gets the real data on the next execution.
+ *
+ * <p>Components containing loops, scopes, metanodes or other components can't be executed by this job manager.
+ *
+ * @author agent
+ * @since 3.8
+ */
+public class StreamingNodeExecutionJobManager extends AbstractNodeExecutionJobManager {
+
+    /** Default for {@link #getChunkSize()}. */
+    public static final int DEFAULT_CHUNK_SIZE = 50;
+
+    /** Default for {@link #getPartitionCount()}. */
+    public static final int DEFAULT_PARTITION_COUNT = Math.min(4, Runtime.getRuntime().availableProcessors());
+
+    private static final String CFG_CHUNK_SIZE = "chunk_size";
+
+    private static final String CFG_PARTITION_COUNT = "partition_count";
+
+    private int m_chunkSize = DEFAULT_CHUNK_SIZE;
+
+    private int m_partitionCount = DEFAULT_PARTITION_COUNT;
+
+    /** Runs the inner nodes instead of the default executor if not null, only set in tests. */
+    private ExecutorService m_executor;
+
+    /** Creates a new instance with default settings. */
+    public StreamingNodeExecutionJobManager() {
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param chunkSize Number of rows handed between nodes at once, &gt; 0.
+     * @param partitionCount Maximum number of partitions of distributable nodes, &gt; 0 (1 to disable partitioning).
+     */
+    public StreamingNodeExecutionJobManager(final int chunkSize, final int partitionCount) {
+        CheckUtils.checkArgument(chunkSize > 0, "Chunk size must be positive: %d", chunkSize);
+        CheckUtils.checkArgument(partitionCount > 0, "Partition count must be positive: %d", partitionCount);
+        m_chunkSize = chunkSize;
+        m_partitionCount = partitionCount;
+    }
+
+    /** @return number of rows handed between nodes at once. */
+    public int getChunkSize() {
+        return m_chunkSize;
+    }
+
+    /** @return maximum number of partitions of distributable nodes. */
+    public int getPartitionCount() {
+        return m_partitionCount;
+    }
+
+    /**
+     * Sets the executor that runs the inner nodes and partitions, used in tests to control when they start.
+     *
+     * @param executor the executor, null for the default
+     */
+    void setExecutor(final ExecutorService executor) {
+        m_executor = executor;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public NodeExecutionJob submitJob(final NodeContainer nc, final PortObject[] data) {
+        if (!(nc instanceof SubNodeContainer)) {
+            throw new IllegalStateException(getClass().getSimpleName()
+                    + " is only able to execute components: " + nc.getNameWithID());
+        }
+        StreamingNodeExecutionJob job = m_executor == null
+            ? new StreamingNodeExecutionJob((SubNodeContainer)nc, data, m_chunkSize, m_partitionCount)
+            : new StreamingNodeExecutionJob((SubNodeContainer)nc, data, m_chunkSize, m_partitionCount, m_executor);
+        Future<?> future = KNIMEConstants.GLOBAL_THREAD_POOL.enqueue(job);
+        job.setFuture(future);
+        return job;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean canExecute(final NodeContainer nc) {
+        return nc instanceof SubNodeContainer;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void save(final NodeSettingsWO settings) {
+        settings.addInt(CFG_CHUNK_SIZE, m_chunkSize);
+        settings.addInt(CFG_PARTITION_COUNT, m_partitionCount);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void load(final NodeSettingsRO settings) throws InvalidSettingsException {
+        int chunkSize = settings.getInt(CFG_CHUNK_SIZE, DEFAULT_CHUNK_SIZE);
+        int partitionCount = settings.getInt(CFG_PARTITION_COUNT, DEFAULT_PARTITION_COUNT);
+        CheckUtils.checkSetting(chunkSize > 0, "Chunk size must be positive: %d", chunkSize);
+        CheckUtils.checkSetting(partitionCount > 0, "Partition count must be positive: %d", partitionCount);
+        m_chunkSize = chunkSize;
+        m_partitionCount = partitionCount;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getID() {
+        return StreamingNodeExecutionJobManagerFactory.INSTANCE.getID();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "Streaming Job Manager";
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public URL getIcon() {
+        return null;
+    }
+
+}
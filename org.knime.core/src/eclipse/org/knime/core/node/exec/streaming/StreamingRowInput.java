@@ -0,0 +1,130 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.node.exec.streaming;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.node.streamable.RowInput;
+
+/**
+ * Row input of a streamed node, reading batches from a {@link RowBatchSource} (the queue of the connection or the
+ * partition of a distributed input).
+ *
+ * @author agent
+ */
+final class StreamingRowInput extends RowInput {
+
+    private final DataTableSpec m_spec;
+
+    private final RowBatchSource m_source;
+
+    private DataRow[] m_batch;
+
+    private int m_index;
+
+    /**
+     * @param spec The spec of the rows (the final output spec of the producer).
+     * @param source The source of the row batches.
+     */
+    StreamingRowInput(final DataTableSpec spec, final RowBatchSource source) {
+        m_spec = spec;
+        m_source = source;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DataTableSpec getDataTableSpec() {
+        return m_spec;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DataRow poll() throws InterruptedException {
+        if (m_batch == null || m_index == m_batch.length) {
+            m_batch = m_source.take();
+            m_index = 0;
+            if (m_batch == null) {
+                return null;
+            }
+        }
+        return m_batch[m_index++];
+    }
+
+    /** Copies the remainder of the current batch, only waits for the next batch if the current one is used up.
+     * {@inheritDoc} */
+    @Override
+    public int poll(final DataRow[] rows) throws InterruptedException {
+        int count = 0;
+        while (count < rows.length) {
+            if (m_batch == null || m_index == m_batch.length) {
+                if (count > 0) {
+                    // don't block while there are rows to process
+                    break;
+                }
+                m_batch = m_source.take();
+                m_index = 0;
+                if (m_batch == null) {
+                    break;
+                }
+            }
+            int length = Math.min(rows.length - count, m_batch.length - m_index);
+            System.arraycopy(m_batch, m_index, rows, count, length);
+            m_index += length;
+            count += length;
+        }
+        return count;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        m_batch = null;
+        m_source.close();
+    }
+
+}
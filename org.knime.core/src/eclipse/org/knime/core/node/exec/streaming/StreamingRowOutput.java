@@ -0,0 +1,261 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.node.exec.streaming;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.streamable.RowOutput;
+
+/**
+ * Row output of a streamed node. Rows are collected into batches and handed to the queues of all streamed
+ * connections. If any consumer needs the full table (the connection is not streamed) the rows are also written
+ * into a table, which is available via {@link #getTable()} once the output is closed.
+ *
+ * <p>Rows are dropped if there are no streamed consumers or all of them have closed their input.
+ *
+ * @author agent
+ */
+final class StreamingRowOutput extends RowOutput {
+
+    private final DataTableSpec m_spec;
+
+    private final List<RowBatchQueue> m_queues;
+
+    private final boolean m_isMaterialize;
+
+    private final int m_batchSize;
+
+    private final ExecutionContext m_exec;
+
+    private DataRow[] m_batch;
+
+    private int m_batchLength;
+
+    private BufferedDataContainer m_container;
+
+    private BufferedDataTable m_table;
+
+    /** Whether m_table was created by this output (and not passed in via {@link #setFully(BufferedDataTable)}). */
+    private boolean m_isTableCreated;
+
+    private long m_rowCount;
+
+    private boolean m_isClosed;
+
+    /**
+     * @param spec The (final) spec of the output.
+     * @param queues The queues of the streamed connections, possibly empty.
+     * @param isMaterialize Whether to also write all rows into a table.
+     * @param batchSize Number of rows per batch, &gt; 0.
+     * @param exec To create the table.
+     */
+    StreamingRowOutput(final DataTableSpec spec, final List<RowBatchQueue> queues, final boolean isMaterialize,
+        final int batchSize, final ExecutionContext exec) {
+        m_spec = spec;
+        m_queues = queues;
+        m_isMaterialize = isMaterialize;
+        m_batchSize = batchSize;
+        m_exec = exec;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void push(final DataRow row) throws InterruptedException {
+        checkNotClosed();
+        if (m_isMaterialize) {
+            if (m_container == null) {
+                m_container = m_exec.createDataContainer(m_spec);
+            }
+            m_container.addRowToTable(row);
+        }
+        addToBatch(row);
+        m_rowCount++;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void push(final DataRow[] rows, final int count) throws InterruptedException {
+        checkNotClosed();
+        if (m_isMaterialize) {
+            if (m_container == null) {
+                m_container = m_exec.createDataContainer(m_spec);
+            }
+            for (int i = 0; i < count; i++) {
+                m_container.addRowToTable(rows[i]);
+            }
+        }
+        m_rowCount += count;
+        if (!hasOpenQueue()) {
+            return;
+        }
+        int offset = 0;
+        while (offset < count) {
+            if (m_batch == null) {
+                m_batch = new DataRow[m_batchSize];
+            }
+            int length = Math.min(count - offset, m_batchSize - m_batchLength);
+            System.arraycopy(rows, offset, m_batch, m_batchLength, length);
+            m_batchLength += length;
+            offset += length;
+            if (m_batchLength == m_batchSize) {
+                flush();
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setFully(final BufferedDataTable table) throws InterruptedException {
+        checkNotClosed();
+        if (m_rowCount > 0) {
+            throw new IllegalStateException("Rows have already been added to the output");
+        }
+        if (m_isMaterialize) {
+            m_table = table;
+        }
+        for (DataRow row : table) {
+            if (!addToBatch(row)) {
+                break;
+            }
+        }
+        m_rowCount = table.size();
+        closeQueues();
+        m_isClosed = true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws InterruptedException {
+        if (m_isClosed) {
+            return;
+        }
+        closeQueues();
+        if (m_isMaterialize && m_table == null) {
+            if (m_container == null) {
+                m_container = m_exec.createDataContainer(m_spec);
+            }
+            m_container.close();
+            m_table = m_container.getTable();
+            m_isTableCreated = true;
+            m_container = null;
+        }
+        m_isClosed = true;
+    }
+
+    /** @return the table containing all rows if materialized and closed, otherwise null. */
+    BufferedDataTable getTable() {
+        return m_table;
+    }
+
+    /** @return whether {@link #getTable()} was created by this output (as opposed to a table set fully). */
+    boolean isTableCreated() {
+        return m_isTableCreated;
+    }
+
+    /** @return the final spec of the output. */
+    DataTableSpec getSpec() {
+        return m_spec;
+    }
+
+    /** Adds the row to the current batch and flushes it once full.
+     * @return false if no streamed consumer is interested in the row (anymore). */
+    private boolean addToBatch(final DataRow row) throws InterruptedException {
+        if (!hasOpenQueue()) {
+            return false;
+        }
+        if (m_batch == null) {
+            m_batch = new DataRow[m_batchSize];
+        }
+        m_batch[m_batchLength++] = row;
+        if (m_batchLength == m_batchSize) {
+            flush();
+        }
+        return true;
+    }
+
+    private boolean hasOpenQueue() {
+        for (RowBatchQueue queue : m_queues) {
+            if (!queue.isClosed()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void flush() throws InterruptedException {
+        if (m_batchLength == 0) {
+            return;
+        }
+        DataRow[] batch = m_batchLength == m_batch.length ? m_batch : Arrays.copyOf(m_batch, m_batchLength);
+        m_batch = null;
+        m_batchLength = 0;
+        for (RowBatchQueue queue : m_queues) {
+            queue.put(batch);
+        }
+    }
+
+    private void closeQueues() throws InterruptedException {
+        flush();
+        for (RowBatchQueue queue : m_queues) {
+            queue.putEnd();
+        }
+    }
+
+    private void checkNotClosed() {
+        if (m_isClosed) {
+            throw new IllegalStateException("Output has already been closed");
+        }
+    }
+
+}
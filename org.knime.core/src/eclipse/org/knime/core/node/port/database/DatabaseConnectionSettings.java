@@ -68,6 +68,8 @@
 import org.knime.core.node.config.ConfigWO;
 import org.knime.core.node.port.database.connection.CachedConnectionFactory;
 import org.knime.core.node.port.database.connection.CachedConnectionFactory.ConnectionKey;
+import org.knime.core.node.port.database.connection.DBConnectionFactory;
+import org.knime.core.node.port.database.connection.PooledConnectionFactory;
 import org.knime.core.node.util.CheckUtils;
 import org.knime.core.node.util.StringHistory;
 import org.knime.core.node.workflow.CredentialsProvider;
@@ -663,6 +665,32 @@ private boolean loadConnection(final ConfigRO settings,
     @SuppressWarnings("resource")
     public <T> T execute(final CredentialsProvider cp, final ExecuteStatement<T> stmt) throws SQLException {
         try {
+            final DBConnectionFactory connFactory = getUtility().getConnectionFactory();
+            if (connFactory instanceof PooledConnectionFactory) {
+                CheckUtils.checkSettingNotNull(m_driver, "No settings available to create database connection.");
+                CheckUtils.checkSettingNotNull(m_jdbcUrl, "No JDBC URL set.");
+                final PooledConnectionFactory pooledFactory = (PooledConnectionFactory)connFactory;
+                // exclusive connection -- no need to synchronize
+                for (int i = 1; i <= MAX_CONNECTION_TRIES; i++) {
+                    try (Connection conn = pooledFactory.borrowConnection(cp, this)) {
+                        try {
+                            if (conn.isClosed() || !getUtility().isValid(conn)) {
+                                LOGGER.debug("Invalid or closed pooled connection found. Retry counter: " + i);
+                                pooledFactory.discardConnection(conn);
+                                continue;
+                            }
+                        } catch (Exception ex) {
+                            LOGGER.debug("Exception: " + ex.getMessage() + " during validation of pooled connection",
+                                ex);
+                            pooledFactory.discardConnection(conn);
+                            continue;
+                        }
+                        return stmt.apply(conn);
+                    }
+                }
+                throw new SQLException(
+                    "Maximum number of retries to get a valid connection reached. JDBC URL: " + getJDBCUrl());
+            }
             for (int i = 1; i <= MAX_CONNECTION_TRIES; i++) {
                 final Connection conn = createConnection(cp);
                 final ConnectionKey databaseConnKey = CachedConnectionFactory.getConnectionKey(cp, this);
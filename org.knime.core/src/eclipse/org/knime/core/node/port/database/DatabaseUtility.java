@@ -58,6 +58,7 @@
 import java.util.Map;
 import java.util.Set;
 
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.port.database.aggregation.DBAggregationFunction;
 import org.knime.core.node.port.database.aggregation.DBAggregationFunctionFactory;
@@ -73,6 +74,7 @@
 import org.knime.core.node.port.database.connection.CachedConnectionFactory;
 import org.knime.core.node.port.database.connection.DBConnectionFactory;
 import org.knime.core.node.port.database.connection.DBDriverFactory;
+import org.knime.core.node.port.database.connection.PooledConnectionFactory;
 import org.knime.core.node.port.database.connection.PriorityDriverFactory;
 import org.knime.core.node.port.database.reader.DBReader;
 import org.knime.core.node.port.database.reader.DBReaderImpl;
@@ -102,6 +104,11 @@ public class DatabaseUtility {
         new LastDBAggregationFunction.Factory(), new MaxDBAggregationFunction.Factory(),
         new MinDBAggregationFunction.Factory(), new SumDBAggregationFunction.Factory()};
 
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(DatabaseUtility.class);
+
+    /** Maximum number of pooled connections per database, see {@link KNIMEConstants#PROPERTY_DATABASE_POOL_SIZE}. */
+    private static final int POOL_SIZE = initPoolSize();
+
     private final Map<String, DBAggregationFunctionFactory> m_aggregationFunctions;
 
     private final String m_dbIdentifier;
@@ -201,7 +208,31 @@ public DatabaseUtility(final String dbIdentifier, final StatementManipulator stm
         } else {
             df = new PriorityDriverFactory(RegisteredDriversConnectionFactory.getInstance(), driverFactory);
         }
-        m_connFactory = createConnectionFactory(df);
+        final DBConnectionFactory connFactory = createConnectionFactory(df);
+        if (POOL_SIZE > 1 && connFactory instanceof CachedConnectionFactory) {
+            m_connFactory = new PooledConnectionFactory((CachedConnectionFactory)connFactory, POOL_SIZE);
+        } else {
+            m_connFactory = connFactory;
+        }
+    }
+
+    private static int initPoolSize() {
+        final String poolSize = System.getProperty(KNIMEConstants.PROPERTY_DATABASE_POOL_SIZE);
+        if (poolSize != null) {
+            try {
+                final int size = Integer.parseInt(poolSize);
+                if (size >= 1) {
+                    LOGGER.debug("Database connection pool size: " + size);
+                    return size;
+                }
+                LOGGER.warn("Database connection pool size set via system property not valid (< 1) '" + poolSize
+                    + "', using 1.");
+            } catch (NumberFormatException nfe) {
+                LOGGER.warn("Database connection pool size set via system property not valid '" + poolSize
+                    + "', using 1.");
+            }
+        }
+        return 1;
     }
 
     /**
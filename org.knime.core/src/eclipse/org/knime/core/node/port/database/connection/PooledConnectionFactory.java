@@ -0,0 +1,699 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.node.port.database.connection;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.port.database.DatabaseConnectionSettings;
+import org.knime.core.node.port.database.DatabaseUtility;
+import org.knime.core.node.port.database.connection.CachedConnectionFactory.ConnectionKey;
+import org.knime.core.node.workflow.CredentialsProvider;
+
+/**
+ * {@link DBConnectionFactory} that keeps a bounded pool of connections per {@link ConnectionKey} (database URL, user,
+ * password and workflow user). Connections are obtained via {@link #borrowConnection(CredentialsProvider,
+ * DatabaseConnectionSettings)} and handed back to the pool by calling {@link Connection#close()} on them, so that
+ * concurrent statements against the same database don't have to share (and synchronize on) a single connection.
+ *
+ * <p>Idle connections are validated and, after {@value #IDLE_TIMEOUT_SECONDS} seconds of inactivity, closed by a
+ * background thread that is shared by all factories (and doesn't keep them from being garbage collected). Borrowing
+ * a connection therefore doesn't need a validation round-trip.
+ *
+ * <p>{@link #getConnection(CredentialsProvider, DatabaseConnectionSettings)} keeps the semantics of the
+ * {@link CachedConnectionFactory} this factory delegates to (one shared connection per key that is never closed by
+ * the caller) as the connections it returns are not handed back by existing clients.
+ *
+ * <p>Used if the {@link KNIMEConstants#PROPERTY_DATABASE_POOL_SIZE} property is set to a value larger than 1.
+ *
+ * @author agent
+ * @since 3.8
+ */
+public final class PooledConnectionFactory implements DBConnectionFactory {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(PooledConnectionFactory.class);
+
+    /** Idle connections are closed after this time. */
+    private static final long IDLE_TIMEOUT_SECONDS = 300;
+
+    /** Interval in which idle connections are validated and evicted. */
+    private static final long MAINTENANCE_INTERVAL_SECONDS = 30;
+
+    private static final ScheduledExecutorService MAINTENANCE_EXECUTOR =
+        Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "KNIME-DB-Connection-Pool-Maintenance");
+            t.setDaemon(true);
+            return t;
+        });
+
+    /** Factories with at least one pool, maintained by a single task. Weak so that unused factories can be
+     * collected. Guarded by itself. */
+    private static final Set<PooledConnectionFactory> MAINTAINED_FACTORIES =
+        Collections.newSetFromMap(new WeakHashMap<>());
+
+    /** Whether the maintenance task is scheduled, guarded by {@link #MAINTAINED_FACTORIES}. */
+    private static boolean isMaintenanceScheduled;
+
+    private final CachedConnectionFactory m_delegate;
+
+    private final int m_maxPoolSize;
+
+    private final long m_idleTimeoutNanos;
+
+    private final Map<ConnectionKey, Pool> m_pools = new ConcurrentHashMap<>();
+
+    /**
+     * @param delegate the factory used to open the physical connections and to serve
+     *            {@link #getConnection(CredentialsProvider, DatabaseConnectionSettings)}
+     * @param maxPoolSize the maximum number of connections per key, at least 1
+     */
+    public PooledConnectionFactory(final CachedConnectionFactory delegate, final int maxPoolSize) {
+        this(delegate, maxPoolSize, TimeUnit.SECONDS.toMillis(IDLE_TIMEOUT_SECONDS));
+    }
+
+    /**
+     * @param delegate the factory used to open the physical connections
+     * @param maxPoolSize the maximum number of connections per key, at least 1
+     * @param idleTimeoutMillis the time after which idle connections are closed
+     */
+    PooledConnectionFactory(final CachedConnectionFactory delegate, final int maxPoolSize,
+        final long idleTimeoutMillis) {
+        if (maxPoolSize < 1) {
+            throw new IllegalArgumentException("Pool size must be at least 1: " + maxPoolSize);
+        }
+        m_delegate = delegate;
+        m_maxPoolSize = maxPoolSize;
+        m_idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis);
+    }
+
+    /**
+     * Returns the connection cached by the delegate {@link CachedConnectionFactory}; the connection must not be closed
+     * by the caller. Use {@link #borrowConnection(CredentialsProvider, DatabaseConnectionSettings)} to get a pooled
+     * connection. {@inheritDoc}
+     */
+    @Override
+    public Connection getConnection(final CredentialsProvider cp, final DatabaseConnectionSettings settings)
+        throws InvalidSettingsException, SQLException, IOException {
+        return m_delegate.getConnection(cp, settings);
+    }
+
+    /**
+     * Takes a connection from the pool of the connection key defined by the arguments, opens a new one if the pool
+     * is not yet full or waits for the database timeout for a connection to be returned. The returned connection
+     * must be closed by the caller, which returns it to the pool.
+     *
+     * @param cp {@link CredentialsProvider}
+     * @param settings {@link DatabaseConnectionSettings}
+     * @return a connection for exclusive use until it is closed
+     * @throws InvalidSettingsException if the driver can't be loaded or doesn't accept the URL
+     * @throws SQLException if the connection can't be opened or no connection becomes available in time
+     * @throws IOException if opening the connection times out
+     */
+    public Connection borrowConnection(final CredentialsProvider cp, final DatabaseConnectionSettings settings)
+        throws InvalidSettingsException, SQLException, IOException {
+        final ConnectionKey key = CachedConnectionFactory.createConnectionKey(cp, settings);
+        final Pool pool = m_pools.computeIfAbsent(key, k -> {
+            registerForMaintenance(this);
+            return new Pool(k, settings.getUtility(), m_maxPoolSize, m_idleTimeoutNanos);
+        });
+        final long timeoutNanos = TimeUnit.SECONDS.toNanos(DatabaseConnectionSettings.getDatabaseTimeout());
+        final PooledConnection pooled;
+        try {
+            pooled = pool.take(timeoutNanos);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Thread was interrupted while waiting for a database connection");
+        }
+        if (pooled != null) {
+            return pooled.newHandle();
+        }
+        // pool has granted a new slot
+        boolean success = false;
+        Connection conn = null;
+        try {
+            conn = m_delegate.openConnection(cp, settings);
+            if (conn == null) {
+                throw new SQLException("Driver returned no connection for URL \"" + settings.getJDBCUrl() + "\"");
+            }
+            final PooledConnection newPooled = new PooledConnection(pool, conn);
+            pool.created();
+            success = true;
+            return newPooled.newHandle();
+        } finally {
+            if (!success) {
+                pool.creationFailed();
+                if (conn != null) {
+                    CachedConnectionFactory.closeSafely(key, conn);
+                }
+            }
+        }
+    }
+
+    /**
+     * Closes the physical connection behind a connection returned by
+     * {@link #borrowConnection(CredentialsProvider, DatabaseConnectionSettings)} instead of returning it to the pool,
+     * e.g. because it turned out to be invalid. The argument must not be used afterwards; calling this method for a
+     * connection that has already been closed or that is not from this factory has no effect.
+     *
+     * @param conn a borrowed connection
+     */
+    public void discardConnection(final Connection conn) {
+        if (conn != null && Proxy.isProxyClass(conn.getClass())) {
+            InvocationHandler handler = Proxy.getInvocationHandler(conn);
+            if (handler instanceof Handle) {
+                PooledConnection pooled = ((Handle)handler).detach();
+                if (pooled != null) {
+                    pooled.m_pool.discard(pooled);
+                }
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DBDriverFactory getDriverFactory() {
+        return m_delegate.getDriverFactory();
+    }
+
+    /**
+     * @return the maximum number of connections per connection key
+     */
+    public int getMaxPoolSize() {
+        return m_maxPoolSize;
+    }
+
+    /**
+     * Returns the statistics of all pools of this factory, keyed by the string representation of the connection key
+     * (which doesn't contain the password).
+     *
+     * @return a new map with the current statistics
+     * @noreference This method is not intended to be referenced by clients.
+     */
+    public Map<String, PoolStatistics> getStatistics() {
+        Map<String, PoolStatistics> result = new LinkedHashMap<>();
+        m_pools.forEach((key, pool) -> result.put(key.toString(), pool.getStatistics()));
+        return result;
+    }
+
+    /** Adds the factory to the ones maintained periodically and schedules the maintenance task if not done yet. */
+    private static void registerForMaintenance(final PooledConnectionFactory factory) {
+        synchronized (MAINTAINED_FACTORIES) {
+            MAINTAINED_FACTORIES.add(factory);
+            if (!isMaintenanceScheduled) {
+                isMaintenanceScheduled = true;
+                MAINTENANCE_EXECUTOR.scheduleWithFixedDelay(PooledConnectionFactory::maintainAll,
+                    MAINTENANCE_INTERVAL_SECONDS, MAINTENANCE_INTERVAL_SECONDS, TimeUnit.SECONDS);
+            }
+        }
+    }
+
+    /** Maintains the pools of all factories that are still referenced, called periodically. */
+    private static void maintainAll() {
+        final List<PooledConnectionFactory> factories;
+        synchronized (MAINTAINED_FACTORIES) {
+            factories = new ArrayList<>(MAINTAINED_FACTORIES);
+        }
+        factories.forEach(PooledConnectionFactory::maintain);
+    }
+
+    /** Validates idle connections and closes the ones that are idle for too long. */
+    void maintain() {
+        try {
+            for (Pool pool : m_pools.values()) {
+                pool.maintain();
+            }
+        } catch (Throwable t) {
+            LOGGER.error("Unable to maintain database connection pools: " + t.getMessage(), t);
+        }
+    }
+
+    /** Pool of connections of one connection key. All fields guarded by the pool's monitor. */
+    private static final class Pool {
+
+        private final ConnectionKey m_key;
+
+        private final DatabaseUtility m_utility;
+
+        private final int m_maxSize;
+
+        private final long m_idleTimeoutNanos;
+
+        /** Idle connections, most recently returned first. */
+        private final Deque<PooledConnection> m_idle = new ArrayDeque<>();
+
+        /** Number of open connections, including the ones in creation. */
+        private int m_size;
+
+        private int m_borrowedCount;
+
+        private long m_borrowCount;
+
+        private long m_totalWaitNanos;
+
+        private long m_maxWaitNanos;
+
+        private long m_createdCount;
+
+        private long m_evictedCount;
+
+        private long m_invalidCount;
+
+        Pool(final ConnectionKey key, final DatabaseUtility utility, final int maxSize, final long idleTimeoutNanos) {
+            m_key = key;
+            m_utility = utility;
+            m_maxSize = maxSize;
+            m_idleTimeoutNanos = idleTimeoutNanos;
+        }
+
+        /**
+         * Returns an idle connection or null if the caller may open a new one (the slot is reserved then).
+         * @throws SQLException if no connection becomes available within the timeout
+         */
+        synchronized PooledConnection take(final long timeoutNanos) throws InterruptedException, SQLException {
+            final long start = System.nanoTime();
+            long remaining = timeoutNanos;
+            while (true) {
+                PooledConnection idle;
+                while ((idle = m_idle.pollFirst()) != null) {
+                    if (isClosed(idle.m_connection)) {
+                        m_size -= 1;
+                        m_invalidCount += 1;
+                        continue;
+                    }
+                    onBorrow(start);
+                    return idle;
+                }
+                if (m_size < m_maxSize) {
+                    m_size += 1;
+                    onBorrow(start);
+                    return null;
+                }
+                if (remaining <= 0L) {
+                    throw new SQLException("No database connection available after waiting "
+                        + TimeUnit.NANOSECONDS.toSeconds(timeoutNanos) + "s; all " + m_maxSize
+                        + " connections in use for " + m_key);
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                remaining = timeoutNanos - (System.nanoTime() - start);
+            }
+        }
+
+        private void onBorrow(final long start) {
+            final long waitNanos = System.nanoTime() - start;
+            m_borrowCount += 1;
+            m_borrowedCount += 1;
+            m_totalWaitNanos += waitNanos;
+            m_maxWaitNanos = Math.max(m_maxWaitNanos, waitNanos);
+        }
+
+        synchronized void created() {
+            m_createdCount += 1;
+            LOGGER.debugWithFormat("Opened pooled connection %d/%d for key: %s", m_size, m_maxSize, m_key);
+        }
+
+        synchronized void creationFailed() {
+            m_size -= 1;
+            m_borrowedCount -= 1;
+            notifyAll();
+        }
+
+        void giveBack(final PooledConnection pooled) {
+            final Connection conn = pooled.m_connection;
+            boolean isReusable = !isClosed(conn);
+            if (isReusable) {
+                try {
+                    pooled.reset();
+                } catch (SQLException e) {
+                    LOGGER.debug("Unable to reset state of connection, closing it: " + e.getMessage(), e);
+                    isReusable = false;
+                }
+            }
+            synchronized (this) {
+                m_borrowedCount -= 1;
+                if (isReusable) {
+                    pooled.m_lastUsed = System.nanoTime();
+                    m_idle.addFirst(pooled);
+                } else {
+                    m_size -= 1;
+                    m_invalidCount += 1;
+                }
+                notifyAll();
+            }
+            if (!isReusable) {
+                CachedConnectionFactory.closeSafely(m_key, conn);
+            }
+        }
+
+        void discard(final PooledConnection pooled) {
+            synchronized (this) {
+                m_borrowedCount -= 1;
+                m_size -= 1;
+                m_invalidCount += 1;
+                notifyAll();
+            }
+            CachedConnectionFactory.closeSafely(m_key, pooled.m_connection);
+        }
+
+        void maintain() {
+            final List<PooledConnection> toCheck;
+            final List<PooledConnection> toClose = new ArrayList<>();
+            final long now = System.nanoTime();
+            synchronized (this) {
+                for (Iterator<PooledConnection> it = m_idle.iterator(); it.hasNext();) {
+                    PooledConnection pooled = it.next();
+                    if (now - pooled.m_lastUsed > m_idleTimeoutNanos) {
+                        it.remove();
+                        toClose.add(pooled);
+                        m_size -= 1;
+                        m_evictedCount += 1;
+                    }
+                }
+                toCheck = new ArrayList<>(m_idle);
+            }
+            // validate one connection at a time outside the lock; it stays counted in m_size meanwhile so that
+            // borrowers can't open more than m_maxSize connections
+            for (PooledConnection pooled : toCheck) {
+                synchronized (this) {
+                    if (!m_idle.remove(pooled)) {
+                        // borrowed in the meantime
+                        continue;
+                    }
+                }
+                boolean isValid;
+                try {
+                    isValid = !pooled.m_connection.isClosed() && m_utility.isValid(pooled.m_connection);
+                } catch (Exception e) {
+                    LOGGER.debug("Invalid pooled connection with key '" + m_key + "': " + e.getMessage(), e);
+                    isValid = false;
+                }
+                synchronized (this) {
+                    if (isValid) {
+                        m_idle.addLast(pooled);
+                    } else {
+                        m_size -= 1;
+                        m_invalidCount += 1;
+                        toClose.add(pooled);
+                    }
+                    notifyAll();
+                }
+            }
+            for (PooledConnection pooled : toClose) {
+                CachedConnectionFactory.closeSafely(m_key, pooled.m_connection);
+            }
+        }
+
+        synchronized PoolStatistics getStatistics() {
+            return new PoolStatistics(m_maxSize, m_size, m_borrowedCount, m_idle.size(), m_borrowCount,
+                m_totalWaitNanos, m_maxWaitNanos, m_createdCount, m_evictedCount, m_invalidCount);
+        }
+
+        private static boolean isClosed(final Connection conn) {
+            try {
+                return conn.isClosed();
+            } catch (SQLException e) {
+                return true;
+            }
+        }
+    }
+
+    /** A physical connection in a pool; handed out as proxy that returns it to the pool when closed. */
+    private static final class PooledConnection {
+
+        private final Pool m_pool;
+
+        private final Connection m_connection;
+
+        /** Connection state at creation, restored when the connection is returned. */
+        private final boolean m_initialAutoCommit;
+
+        private final boolean m_initialReadOnly;
+
+        private final int m_initialTransactionIsolation;
+
+        /** Time (System#nanoTime) when the connection was last returned, guarded by pool. */
+        private long m_lastUsed;
+
+        PooledConnection(final Pool pool, final Connection connection) throws SQLException {
+            m_pool = pool;
+            m_connection = connection;
+            m_initialAutoCommit = connection.getAutoCommit();
+            m_initialReadOnly = connection.isReadOnly();
+            m_initialTransactionIsolation = connection.getTransactionIsolation();
+        }
+
+        /**
+         * Rolls back a pending transaction and restores the state the connection had when it was created so that the
+         * next borrower doesn't inherit the settings of the previous one.
+         *
+         * @throws SQLException if any of this fails; the connection must not be reused then
+         */
+        void reset() throws SQLException {
+            if (!m_connection.getAutoCommit()) {
+                m_connection.rollback();
+            }
+            if (m_connection.getAutoCommit() != m_initialAutoCommit) {
+                m_connection.setAutoCommit(m_initialAutoCommit);
+            }
+            if (m_connection.isReadOnly() != m_initialReadOnly) {
+                m_connection.setReadOnly(m_initialReadOnly);
+            }
+            if (m_connection.getTransactionIsolation() != m_initialTransactionIsolation) {
+                m_connection.setTransactionIsolation(m_initialTransactionIsolation);
+            }
+            m_connection.clearWarnings();
+        }
+
+        Connection newHandle() {
+            return (Connection)Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new Handle(this));
+        }
+    }
+
+    /** Invocation handler of the connection proxies; each borrow gets a new handle that can only be closed once. */
+    private static final class Handle implements InvocationHandler {
+
+        private static final AtomicInteger HANDLE_ID = new AtomicInteger();
+
+        private final int m_id = HANDLE_ID.incrementAndGet();
+
+        private PooledConnection m_pooled;
+
+        Handle(final PooledConnection pooled) {
+            m_pooled = pooled;
+        }
+
+        /** @return the pooled connection or null if already closed; the handle is closed afterwards. */
+        synchronized PooledConnection detach() {
+            PooledConnection pooled = m_pooled;
+            m_pooled = null;
+            return pooled;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            final String name = method.getName();
+            final PooledConnection pooled;
+            synchronized (this) {
+                pooled = m_pooled;
+                if ("close".equals(name) && method.getParameterCount() == 0) {
+                    m_pooled = null;
+                }
+            }
+            switch (name) {
+                case "close":
+                    if (pooled != null) {
+                        pooled.m_pool.giveBack(pooled);
+                    }
+                    return null;
+                case "isClosed":
+                    return pooled == null || pooled.m_connection.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return m_id;
+                case "toString":
+                    return "Pooled connection " + m_id + (pooled == null ? " (closed)" : " " + pooled.m_connection);
+                default:
+                    if (pooled == null) {
+                        throw new SQLException("Connection has been returned to the pool");
+                    }
+                    try {
+                        return method.invoke(pooled.m_connection, args);
+                    } catch (InvocationTargetException ite) {
+                        throw ite.getCause();
+                    }
+            }
+        }
+    }
+
+    /**
+     * Snapshot of the usage of a connection pool as returned by {@link PooledConnectionFactory#getStatistics()}.
+     *
+     * @noreference This class is not intended to be referenced by clients.
+     * @noinstantiate This class is not intended to be instantiated by clients.
+     */
+    public static final class PoolStatistics {
+
+        private final int m_maxSize;
+
+        private final int m_size;
+
+        private final int m_borrowedCount;
+
+        private final int m_idleCount;
+
+        private final long m_borrowCount;
+
+        private final long m_totalWaitNanos;
+
+        private final long m_maxWaitNanos;
+
+        private final long m_createdCount;
+
+        private final long m_evictedCount;
+
+        private final long m_invalidCount;
+
+        PoolStatistics(final int maxSize, final int size, final int borrowedCount, final int idleCount,
+            final long borrowCount, final long totalWaitNanos, final long maxWaitNanos, final long createdCount,
+            final long evictedCount, final long invalidCount) {
+            m_maxSize = maxSize;
+            m_size = size;
+            m_borrowedCount = borrowedCount;
+            m_idleCount = idleCount;
+            m_borrowCount = borrowCount;
+            m_totalWaitNanos = totalWaitNanos;
+            m_maxWaitNanos = maxWaitNanos;
+            m_createdCount = createdCount;
+            m_evictedCount = evictedCount;
+            m_invalidCount = invalidCount;
+        }
+
+        /** @return the maximum number of connections in the pool */
+        public int getMaxSize() {
+            return m_maxSize;
+        }
+
+        /** @return the number of open connections (borrowed and idle) */
+        public int getSize() {
+            return m_size;
+        }
+
+        /** @return the number of connections currently borrowed */
+        public int getBorrowedCount() {
+            return m_borrowedCount;
+        }
+
+        /** @return the number of idle connections */
+        public int getIdleCount() {
+            return m_idleCount;
+        }
+
+        /** @return the total number of borrow requests served */
+        public long getBorrowCount() {
+            return m_borrowCount;
+        }
+
+        /** @return the total time borrowers waited for a connection (excluding the time to open one), in ms */
+        public long getTotalWaitTimeMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(m_totalWaitNanos);
+        }
+
+        /** @return the longest time a borrower waited for a connection, in ms */
+        public long getMaxWaitTimeMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(m_maxWaitNanos);
+        }
+
+        /** @return the number of connections opened */
+        public long getCreatedCount() {
+            return m_createdCount;
+        }
+
+        /** @return the number of connections closed because they were idle for too long */
+        public long getEvictedCount() {
+            return m_evictedCount;
+        }
+
+        /** @return the number of connections discarded because they were closed or invalid */
+        public long getInvalidCount() {
+            return m_invalidCount;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public String toString() {
+            return String.format("size %d/%d (%d borrowed, %d idle), %d borrows, wait time total %dms, max %dms, "
+                + "%d created, %d evicted, %d invalid", m_size, m_maxSize, m_borrowedCount, m_idleCount,
+                m_borrowCount, getTotalWaitTimeMillis(), getMaxWaitTimeMillis(), m_createdCount, m_evictedCount,
+                m_invalidCount);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.node.port.database.reader;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.data.RowIterator;
+
+/**
+ * Row iterator that returns the rows read by one or more producer threads, decoupling the database fetch and cell
+ * creation (done by the producers, usually iterating a {@link DBRowIteratorImpl}) from the consumer, e.g. the
+ * data container writing the rows. Rows are handed over in chunks through a bounded queue. The order of rows of
+ * different producers is undefined.
+ *
+ * <p>Producers call {@link #feed(RowIterator)} and then either {@link #producerDone()} or
+ * {@link #producerFailed(Throwable)}. The consumer must call {@link #close()} when done, also if it stops early.
+ *
+ * @author agent
+ */
+final class DBPrefetchingRowIterator extends RowIterator implements AutoCloseable {
+
+    private static final int CHUNK_SIZE = 100;
+
+    /** Queued after the last chunk of a producer. */
+    private static final List<DataRow> END_OF_PRODUCER = Collections.emptyList();
+
+    private final BlockingQueue<List<DataRow>> m_queue;
+
+    private final AtomicReference<Throwable> m_failure = new AtomicReference<>();
+
+    private int m_activeProducerCount;
+
+    private Iterator<DataRow> m_currentChunk = Collections.emptyIterator();
+
+    private volatile boolean m_isClosed;
+
+    /**
+     * @param capacity the approximate number of rows read ahead
+     * @param producerCount the number of producers feeding this iterator
+     */
+    DBPrefetchingRowIterator(final int capacity, final int producerCount) {
+        m_queue = new ArrayBlockingQueue<>(Math.max(2, capacity / CHUNK_SIZE) + producerCount);
+        m_activeProducerCount = producerCount;
+    }
+
+    /**
+     * Called by a producer thread to add all rows of the argument iterator, blocks while the queue is full.
+     *
+     * @param source the rows to add
+     * @throws InterruptedException if interrupted while waiting
+     */
+    void feed(final RowIterator source) throws InterruptedException {
+        List<DataRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        while (!m_isClosed && source.hasNext()) {
+            chunk.add(source.next());
+            if (chunk.size() == CHUNK_SIZE) {
+                put(chunk);
+                chunk = new ArrayList<>(CHUNK_SIZE);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            put(chunk);
+        }
+    }
+
+    /** Called by a producer when all its rows were fed. */
+    void producerDone() {
+        try {
+            put(END_OF_PRODUCER);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Called by a producer if reading the rows failed; the consumer will fail with this exception.
+     *
+     * @param t the cause
+     */
+    void producerFailed(final Throwable t) {
+        m_failure.compareAndSet(null, t);
+        producerDone();
+    }
+
+    private void put(final List<DataRow> chunk) throws InterruptedException {
+        while (!m_isClosed) {
+            if (m_queue.offer(chunk, 1, TimeUnit.SECONDS)) {
+                return;
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasNext() {
+        while (!m_currentChunk.hasNext()) {
+            checkFailure();
+            if (m_activeProducerCount == 0) {
+                return false;
+            }
+            final List<DataRow> chunk;
+            try {
+                chunk = m_queue.take();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for rows from database", ie);
+            }
+            if (chunk == END_OF_PRODUCER) {
+                m_activeProducerCount -= 1;
+            } else {
+                m_currentChunk = chunk.iterator();
+            }
+        }
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DataRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return m_currentChunk.next();
+    }
+
+    private void checkFailure() {
+        final Throwable t = m_failure.get();
+        if (t instanceof RuntimeException) {
+            throw (RuntimeException)t;
+        } else if (t != null) {
+            throw new IllegalStateException("Reading rows from database failed: " + t.getMessage(), t);
+        }
+    }
+
+    /** Stops the producers (they return from {@link #feed(RowIterator)}) and discards queued rows. */
+    @Override
+    public void close() {
+        m_isClosed = true;
+        m_queue.clear();
+    }
+}
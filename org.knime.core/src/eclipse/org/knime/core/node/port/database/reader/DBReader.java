@@ -137,6 +137,26 @@ default BufferedDataTable createTable(final ExecutionContext exec, final Credent
         return createTable(exec, cp, useDbRowId, -1);
     }
 
+    /**
+     * Read data from database, possibly splitting the query into range partitions on the given column that are read
+     * concurrently. The default implementation reads without partitioning.
+     * @param exec used for progress info
+     * @param cp {@link CredentialsProvider} providing user/password
+     * @param useDbRowId <code>true</code> if the row id returned by the database should be used to generate the
+     * KNIME row id
+     * @param partitionColumn the name of the (numeric or date) column used to split the query
+     * @param partitionCount the number of partitions
+     * @return buffered data table read from database, the row order is undefined
+     * @throws CanceledExecutionException if canceled in between
+     * @throws SQLException if the connection could not be opened
+     * @since 3.8
+     */
+    default BufferedDataTable createPartitionedTable(final ExecutionContext exec, final CredentialsProvider cp,
+        final boolean useDbRowId, final String partitionColumn, final int partitionCount)
+        throws CanceledExecutionException, SQLException {
+        return createTable(exec, cp, useDbRowId);
+    }
+
     /**
      * Read data from database.
      * @param exec used for progress info
@@ -50,8 +50,16 @@
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.TimeZone;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.knime.core.data.DataCell;
@@ -73,13 +81,17 @@
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.port.database.DatabaseConnectionSettings;
 import org.knime.core.node.port.database.DatabaseHelper;
 import org.knime.core.node.port.database.DatabaseQueryConnectionSettings;
+import org.knime.core.node.port.database.connection.DBConnectionFactory;
+import org.knime.core.node.port.database.connection.PooledConnectionFactory;
 import org.knime.core.node.streamable.BufferedDataTableRowOutput;
 import org.knime.core.node.streamable.RowInput;
 import org.knime.core.node.workflow.CredentialsProvider;
+import org.knime.core.util.ThreadUtils;
 import org.knime.core.util.UniqueNameGenerator;
 
 /**
@@ -93,6 +105,32 @@ public class DBReaderImpl extends DatabaseHelper implements DBReader {
     static final NodeLogger LOGGER =
             NodeLogger.getLogger(DBReaderImpl.class);
 
+    /** Number of rows read ahead in a background thread, 0 to read in the calling thread,
+     * see {@link KNIMEConstants#PROPERTY_DATABASE_READER_PREFETCH}. */
+    private static final int PREFETCH_ROWS = initPrefetchRows();
+
+    private static final ExecutorService EXECUTOR =
+        ThreadUtils.executorServiceWithContext(Executors.newCachedThreadPool());
+
+    private static int initPrefetchRows() {
+        final String rows = System.getProperty(KNIMEConstants.PROPERTY_DATABASE_READER_PREFETCH);
+        if (rows != null) {
+            try {
+                final int count = Integer.parseInt(rows);
+                if (count >= 0) {
+                    LOGGER.debug("Database reader prefetch: " + count + " rows.");
+                    return count;
+                }
+                LOGGER.warn("Database reader prefetch set via system property not valid (< 0) '" + rows
+                    + "', no prefetching.");
+            } catch (NumberFormatException nfe) {
+                LOGGER.warn("Database reader prefetch set via system property not valid '" + rows
+                    + "', no prefetching.");
+            }
+        }
+        return 0;
+    }
+
     DataTableSpec m_spec;
 
     private BufferedDataContainer m_errorContainer;
@@ -134,6 +172,15 @@ public final DatabaseMetaData getDatabaseMetaData(
             final CredentialsProvider cp) throws SQLException {
         try {
             final DatabaseQueryConnectionSettings dbConn = getQueryConnection();
+            final DBConnectionFactory connFactory = dbConn.getUtility().getConnectionFactory();
+            if (connFactory instanceof PooledConnectionFactory) {
+                // the meta data is bound to its connection and is used after this method returns, so it must not
+                // come from a borrowed connection, which goes back to the pool right away; use the shared one
+                final Connection conn = connFactory.getConnection(cp, dbConn);
+                synchronized (dbConn.syncConnection(conn)) {
+                    return conn.getMetaData();
+                }
+            }
             return dbConn.execute(cp, (conn) -> conn.getMetaData());
         } catch (SQLException sql) {
             throw sql;
@@ -238,6 +285,17 @@ public BufferedDataTable createTable(final ExecutionContext exec, final Credenti
 //        synchronized (getQueryConnection().syncConnection(conn)) {
         return getQueryConnection().execute(cp, conn -> {
             try (DBRowIterator ric = createRowIteratorConnection(conn, exec, cp, useDbRowId)) {
+                if (PREFETCH_ROWS > 0) {
+                    try (DBPrefetchingRowIterator it = new DBPrefetchingRowIterator(PREFETCH_ROWS, 1)) {
+                        final Future<?> producer = EXECUTOR.submit(() -> feed(it, ric.iterator()));
+                        try {
+                            return createBufferedDataTable(exec, ric.getDataTableSpec(), it, false);
+                        } finally {
+                            it.close();
+                            waitForProducer(producer);
+                        }
+                    }
+                }
                 return exec.createBufferedDataTable(new DataTable() {
                     /** {@inheritDoc} */
                     @Override
@@ -258,6 +316,249 @@ public RowIterator iterator() {
 
 
 
+    /**
+     * Read data from database using multiple connections concurrently. The query is split into
+     * <code>partitionCount</code> range partitions on the (numeric or date) partition column, each read by a separate
+     * thread -- and a separate connection if the database connection factory pools connections. The order of the
+     * rows in the result is undefined. Queries consisting of multiple statements are read without partitioning.
+     *
+     * @param exec used for progress info
+     * @param cp {@link CredentialsProvider} providing user/password
+     * @param useDbRowId <code>true</code> if the row id returned by the database should be used to generate the
+     * KNIME row id
+     * @param partitionColumn the name of the column in the query result used to split the query
+     * @param partitionCount the number of partitions, reading without partitioning if less than 2
+     * @return buffered data table read from database
+     * @throws CanceledExecutionException if canceled in between
+     * @throws SQLException if the connection could not be opened or the partition column is not numeric or a date
+     * @since 3.8
+     */
+    @Override
+    public BufferedDataTable createPartitionedTable(final ExecutionContext exec, final CredentialsProvider cp,
+        final boolean useDbRowId, final String partitionColumn, final int partitionCount)
+        throws CanceledExecutionException, SQLException {
+        final DatabaseQueryConnectionSettings dbConn = getQueryConnection();
+        final String[] oQueries = dbConn.getQuery().split(SQL_QUERY_SEPARATOR);
+        if (partitionCount < 2 || oQueries.length > 1) {
+            return createTable(exec, cp, useDbRowId);
+        }
+        if (m_blobFactory == null) {
+            m_blobFactory = new BinaryObjectCellFactory(exec);
+        }
+        exec.setMessage("Determining partitions...");
+        final DataTableSpec spec = getDataTableSpec(cp);
+        final String query = oQueries[0];
+        final String column = dbConn.getUtility().getStatementManipulator().quoteIdentifier(partitionColumn);
+        final String tableAlias = "table_" + System.identityHashCode(this);
+        final Object[] bounds = dbConn.execute(cp, conn -> {
+            try (Statement stmt = conn.createStatement();
+                    ResultSet rs = stmt.executeQuery("SELECT MIN(" + column + "), MAX(" + column + ") FROM ("
+                        + query + ") " + tableAlias)) {
+                rs.next();
+                return createPartitionBounds(rs, partitionColumn, partitionCount);
+            } finally {
+                if (!conn.getAutoCommit()) {
+                    conn.commit();
+                }
+            }
+        });
+        final int count = bounds.length + 1;
+        LOGGER.debugWithFormat("Reading query in %d partitions on column \"%s\"", count, partitionColumn);
+        exec.setMessage("Start reading rows from database...");
+        final int prefetchRows = PREFETCH_ROWS > 0 ? PREFETCH_ROWS : 1000 * count;
+        try (DBPrefetchingRowIterator it = new DBPrefetchingRowIterator(prefetchRows, count)) {
+            final List<Future<?>> producers = new ArrayList<>(count);
+            try {
+                for (int i = 0; i < count; i++) {
+                    final StringBuilder where = new StringBuilder();
+                    if (i == 0) {
+                        // rows with a missing value go into the first partition
+                        where.append(column).append(" IS NULL");
+                        if (count > 1) {
+                            where.append(" OR ").append(column).append(" < ?");
+                        }
+                    } else {
+                        where.append(column).append(" >= ?");
+                        if (i < count - 1) {
+                            where.append(" AND ").append(column).append(" < ?");
+                        }
+                    }
+                    final String sql = "SELECT * FROM (" + query + ") " + tableAlias + " WHERE " + where;
+                    final Object[] params;
+                    if (i == 0) {
+                        params = Arrays.copyOf(bounds, Math.min(1, bounds.length));
+                    } else if (i < count - 1) {
+                        params = new Object[]{bounds[i - 1], bounds[i]};
+                    } else {
+                        params = new Object[]{bounds[i - 1]};
+                    }
+                    // keys must be unique across partitions if derived from a row counter
+                    final long startCounter = useDbRowId ? ((long)i << 40) : 0L;
+                    producers.add(EXECUTOR.submit(() -> {
+                        try {
+                            dbConn.execute(cp, conn -> {
+                                readPartition(conn, sql, params, spec, useDbRowId, startCounter, it);
+                                return null;
+                            });
+                            it.producerDone();
+                        } catch (Throwable t) {
+                            it.producerFailed(t);
+                        }
+                    }));
+                }
+                return createBufferedDataTable(exec, spec, it, !useDbRowId);
+            } finally {
+                it.close();
+                producers.forEach(DBReaderImpl::waitForProducer);
+            }
+        }
+    }
+
+    private void readPartition(final Connection conn, final String sql, final Object[] params,
+        final DataTableSpec spec, final boolean useDbRowId, final long startCounter,
+        final DBPrefetchingRowIterator it) throws Exception {
+        final DatabaseQueryConnectionSettings dbConn = getQueryConnection();
+        final boolean autoCommit = conn.getAutoCommit();
+        LOGGER.debug("Executing SQL statement as executeQuery: " + sql);
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            int fetchsize =
+                (DatabaseConnectionSettings.FETCH_SIZE != null) ? DatabaseConnectionSettings.FETCH_SIZE : -1;
+            dbConn.getUtility().getStatementManipulator().setFetchSize(stmt, fetchsize);
+            for (int p = 0; p < params.length; p++) {
+                stmt.setObject(p + 1, params[p]);
+            }
+            try (ResultSet result = stmt.executeQuery()) {
+                it.feed(createDBRowIterator(spec, dbConn, m_blobFactory, useDbRowId, result, startCounter));
+            }
+        } finally {
+            if (!conn.getAutoCommit()) {
+                conn.commit();
+            }
+            DatabaseConnectionSettings.setAutoCommit(conn, autoCommit);
+        }
+    }
+
+    /**
+     * Returns up to <code>partitionCount - 1</code> split points between the minimum and maximum of the partition
+     * column, as {@link Long}, {@link Double} or {@link Timestamp} depending on the column type. Split points that
+     * coincide (small integer ranges, minimum equals maximum) are returned only once. Returns an empty array if there
+     * are no non-missing values. Package scope for tests.
+     */
+    static Object[] createPartitionBounds(final ResultSet rs, final String partitionColumn,
+        final int partitionCount) throws SQLException {
+        final int type = rs.getMetaData().getColumnType(1);
+        final Object[] bounds = new Object[partitionCount - 1];
+        switch (type) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                final long minLong = rs.getLong(1);
+                if (rs.wasNull()) {
+                    return new Object[0];
+                }
+                final double rangeLong = (double)rs.getLong(2) - minLong;
+                for (int i = 0; i < bounds.length; i++) {
+                    bounds[i] = minLong + (long)(rangeLong * (i + 1) / partitionCount);
+                }
+                return distinct(bounds);
+            case Types.FLOAT:
+            case Types.DOUBLE:
+            case Types.REAL:
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                final double minDouble = rs.getDouble(1);
+                if (rs.wasNull()) {
+                    return new Object[0];
+                }
+                final double rangeDouble = rs.getDouble(2) - minDouble;
+                for (int i = 0; i < bounds.length; i++) {
+                    bounds[i] = minDouble + rangeDouble * (i + 1) / partitionCount;
+                }
+                return distinct(bounds);
+            case Types.DATE:
+            case Types.TIMESTAMP:
+                final Timestamp minTime = rs.getTimestamp(1);
+                if (minTime == null) {
+                    return new Object[0];
+                }
+                final double rangeTime = (double)rs.getTimestamp(2).getTime() - minTime.getTime();
+                for (int i = 0; i < bounds.length; i++) {
+                    bounds[i] = new Timestamp(minTime.getTime() + (long)(rangeTime * (i + 1) / partitionCount));
+                }
+                return distinct(bounds);
+            default:
+                throw new SQLException("Partition column \"" + partitionColumn + "\" is not numeric or a date (type "
+                    + rs.getMetaData().getColumnTypeName(1) + ")");
+        }
+    }
+
+    /** Removes repeated elements from the sorted argument, which would only create empty partitions. */
+    private static Object[] distinct(final Object[] sortedBounds) {
+        final List<Object> result = new ArrayList<>(sortedBounds.length);
+        for (Object bound : sortedBounds) {
+            if (result.isEmpty() || !result.get(result.size() - 1).equals(bound)) {
+                result.add(bound);
+            }
+        }
+        return result.toArray();
+    }
+
+    /** Creates the table from the rows of the prefetching iterator, assigning new keys "Row0", "Row1", ... if
+     * <code>rekey</code> is set. */
+    private static BufferedDataTable createBufferedDataTable(final ExecutionContext exec, final DataTableSpec spec,
+        final DBPrefetchingRowIterator it, final boolean rekey) throws CanceledExecutionException {
+        return exec.createBufferedDataTable(new DataTable() {
+            /** {@inheritDoc} */
+            @Override
+            public DataTableSpec getDataTableSpec() {
+                return spec;
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public RowIterator iterator() {
+                if (!rekey) {
+                    return it;
+                }
+                return new RowIterator() {
+                    private long m_index;
+
+                    @Override
+                    public boolean hasNext() {
+                        return it.hasNext();
+                    }
+
+                    @Override
+                    public DataRow next() {
+                        return new DefaultRow(RowKey.createRowKey(m_index++), it.next());
+                    }
+                };
+            }
+        }, exec);
+    }
+
+    /** Feeds the rows of the source into the iterator, called in a producer thread. */
+    private static void feed(final DBPrefetchingRowIterator it, final RowIterator source) {
+        try {
+            it.feed(source);
+            it.producerDone();
+        } catch (Throwable t) {
+            it.producerFailed(t);
+        }
+    }
+
+    /** Waits for a producer after its iterator was closed so that its connection is no longer in use. */
+    private static void waitForProducer(final Future<?> producer) {
+        try {
+            producer.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ee) {
+            LOGGER.debug("Reading rows from database failed: " + ee.getCause().getMessage(), ee.getCause());
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
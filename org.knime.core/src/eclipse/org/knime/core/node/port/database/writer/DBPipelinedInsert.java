@@ -0,0 +1,526 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.node.port.database.writer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.commons.io.IOUtils;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.port.database.DatabaseConnectionSettings;
+import org.knime.core.node.port.database.connection.DBConnectionFactory;
+import org.knime.core.node.port.database.connection.PooledConnectionFactory;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.workflow.CredentialsProvider;
+import org.knime.core.util.ThreadUtils;
+
+/**
+ * Inserts rows into a database table in a pipelined fashion, used by
+ * {@link DBWriterImpl#writeData(String, RowInput, long, boolean, ExecutionMonitor, Map, CredentialsProvider, int,
+ * boolean, boolean)} if {@link DBWriterImpl#WRITER_THREADS} is set.
+ *
+ * <p>The calling thread reads the rows and cuts them into batches. Each batch is converted in a background thread
+ * by recording the parameters {@link DBWriterImpl#fillRow(PreparedStatement, DataRow, DataTableSpec, int[], boolean,
+ * TimeZone, Map) fillRow} sets on a statement proxy. Sender threads, one per connection, replay the recorded
+ * parameters on their prepared statement and execute the batch, so that conversion and network round-trips overlap.
+ * Additional connections are only available if the connection factory is a {@link PooledConnectionFactory}. The
+ * size of the batches is adapted such that a round-trip takes about {@value #TARGET_ROUND_TRIP_MS}ms.
+ *
+ * <p>Converted batches are handed to the senders in input order (conversions finishing early wait for their
+ * predecessors). With a single connection, and hence always if {@code failOnError} is set, the rows are therefore
+ * inserted in input order; with several connections batches are sent concurrently and their relative order is not
+ * defined.
+ *
+ * <p>Each connection commits at the end of the insert. The commits of several connections are not atomic: if one of
+ * them fails, the rows sent through the connections committed before remain in the table. Therefore only a single
+ * connection is used if {@code failOnError} is set, which is committed or, if any batch fails, rolled back as a
+ * whole (conversion and sending still overlap).
+ *
+ * @author agent
+ */
+final class DBPipelinedInsert {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(DBPipelinedInsert.class);
+
+    private static final ExecutorService EXECUTOR =
+        ThreadUtils.executorServiceWithContext(Executors.newCachedThreadPool());
+
+    /** Round-trip time the batch size is adjusted to. */
+    private static final long TARGET_ROUND_TRIP_MS = 500;
+
+    /** Marks the end of the input in the queue of converted batches. */
+    private static final Batch END_OF_INPUT = new Batch(-1L, 0);
+
+    private final DBWriterImpl m_writer;
+
+    private final DatabaseConnectionSettings m_settings;
+
+    private final CredentialsProvider m_cp;
+
+    private final String m_insertStatement;
+
+    private final DataTableSpec m_spec;
+
+    private final int[] m_mapping;
+
+    private final boolean m_insertNullForMissingCols;
+
+    private final Map<Integer, Integer> m_columnTypes;
+
+    private final boolean m_failOnError;
+
+    private final int m_minBatchSize;
+
+    private final int m_maxBatchSize;
+
+    private final AtomicInteger m_batchSize;
+
+    private final AtomicReference<Throwable> m_failure = new AtomicReference<>();
+
+    private final AtomicLong m_errorCount = new AtomicLong();
+
+    /** Converted batches waiting for their predecessors, by sequence number. Guarded by itself. */
+    private final Map<Long, Batch> m_convertedBatches = new HashMap<>();
+
+    /** Sequence number of the next batch to hand to the senders. Guarded by {@link #m_convertedBatches}. */
+    private long m_nextToSend;
+
+    DBPipelinedInsert(final DBWriterImpl writer, final DatabaseConnectionSettings settings,
+        final CredentialsProvider cp, final String insertStatement, final DataTableSpec spec, final int[] mapping,
+        final boolean insertNullForMissingCols, final Map<Integer, Integer> columnTypes, final int batchSize,
+        final boolean failOnError) {
+        m_writer = writer;
+        m_settings = settings;
+        m_cp = cp;
+        m_insertStatement = insertStatement;
+        m_spec = spec;
+        m_mapping = mapping;
+        m_insertNullForMissingCols = insertNullForMissingCols;
+        m_columnTypes = columnTypes;
+        m_failOnError = failOnError;
+        m_minBatchSize = Math.max(2, batchSize / 4);
+        m_maxBatchSize = Math.max(batchSize, Math.min(batchSize * 16, 100000));
+        m_batchSize = new AtomicInteger(batchSize);
+    }
+
+    /**
+     * Inserts all rows of the input.
+     *
+     * @param conn the connection the target table was created with
+     * @param input the rows to insert
+     * @param rowCount number of rows or -1 if unknown (progress only)
+     * @param exec for progress and cancelation
+     * @param connectionCount the maximum number of connections used concurrently (ignored if failOnError is set)
+     * @return an error message if rows couldn't be inserted (and not failOnError) or null
+     * @throws Exception if the insert fails or is canceled
+     */
+    String write(final Connection conn, final RowInput input, final long rowCount, final ExecutionMonitor exec,
+        final int connectionCount) throws Exception {
+        final List<Connection> connections = new ArrayList<>();
+        final List<Connection> borrowed = new ArrayList<>();
+        connections.add(conn);
+        final DBConnectionFactory factory = m_settings.getUtility().getConnectionFactory();
+        if (factory instanceof PooledConnectionFactory) {
+            final PooledConnectionFactory pool = (PooledConnectionFactory)factory;
+            // all-or-nothing requires a single transaction, i.e. a single connection
+            final int maxCount = m_failOnError ? 1 : Math.min(connectionCount, pool.getMaxPoolSize());
+            while (connections.size() < maxCount) {
+                try {
+                    Connection c = pool.borrowConnection(m_cp, m_settings);
+                    borrowed.add(c);
+                    connections.add(c);
+                } catch (Exception e) {
+                    LOGGER.debug("Unable to get additional connection for insert, continuing with "
+                        + connections.size() + ": " + e.getMessage(), e);
+                    break;
+                }
+            }
+        }
+        final boolean[] autoCommits = new boolean[connections.size()];
+        int initializedCount = 0;
+        final BlockingQueue<Batch> sendQueue = new LinkedBlockingQueue<>();
+        final int converterCount = Math.max(1, Math.min(connections.size() + 1,
+            Runtime.getRuntime().availableProcessors()));
+        // bounds the number of batches in memory (read, being converted, queued or being sent)
+        final Semaphore batchPermits = new Semaphore(2 * (converterCount + connections.size()));
+        final List<Future<?>> senders = new ArrayList<>();
+        final List<Future<?>> conversions = new ArrayList<>();
+        boolean isSuccess = false;
+        try {
+            for (int i = 0; i < connections.size(); i++) {
+                final Connection c = connections.get(i);
+                autoCommits[i] = c.getAutoCommit();
+                initializedCount += 1;
+                DatabaseConnectionSettings.setAutoCommit(c, false);
+                final PreparedStatement stmt = c.prepareStatement(m_insertStatement);
+                senders.add(EXECUTOR.submit(() -> {
+                    runSender(c, stmt, sendQueue, batchPermits);
+                    return null;
+                }));
+            }
+            LOGGER.debugWithFormat("Inserting rows using %d connection(s), initial batch size %d",
+                connections.size(), m_batchSize.get());
+            final TimeZone timezone = m_settings.getTimeZone();
+            long cnt = 0;
+            long batchSequence = 0;
+            Batch batch = null;
+            DataRow row;
+            while ((row = input.poll()) != null) {
+                cnt++;
+                exec.checkCanceled();
+                checkFailure();
+                if (rowCount > 0) {
+                    exec.setProgress(1.0 * cnt / rowCount, "Row " + "#" + cnt);
+                } else {
+                    exec.setProgress("Writing Row#" + cnt);
+                }
+                if (batch == null) {
+                    while (!batchPermits.tryAcquire(1, TimeUnit.SECONDS)) {
+                        exec.checkCanceled();
+                        checkFailure();
+                    }
+                    batch = new Batch(batchSequence++, cnt);
+                }
+                batch.m_rows.add(row);
+                if (batch.m_rows.size() >= m_batchSize.get()) {
+                    conversions.add(submitConversion(batch, timezone, sendQueue));
+                    batch = null;
+                    removeDone(conversions);
+                }
+            }
+            if (batch != null) {
+                conversions.add(submitConversion(batch, timezone, sendQueue));
+            }
+            for (Future<?> f : conversions) {
+                waitFor(f, exec);
+            }
+            for (int i = 0; i < senders.size(); i++) {
+                sendQueue.add(END_OF_INPUT);
+            }
+            for (Future<?> f : senders) {
+                waitFor(f, exec);
+            }
+            checkFailure();
+            for (Connection c : connections) {
+                if (!c.getAutoCommit()) {
+                    c.commit();
+                }
+            }
+            isSuccess = true;
+            final long allErrors = m_errorCount.get();
+            return allErrors == 0 ? null : ("Errors \"" + allErrors + "\" writing " + cnt + " rows.");
+        } finally {
+            if (!isSuccess) {
+                m_failure.compareAndSet(null, new InterruptedException("Insert aborted"));
+                conversions.forEach(f -> f.cancel(true));
+                // let the senders finish their current batch before the connections are rolled back
+                for (int i = 0; i < senders.size(); i++) {
+                    sendQueue.add(END_OF_INPUT);
+                }
+                for (Future<?> f : senders) {
+                    try {
+                        f.get();
+                    } catch (Exception e) {
+                        // failure already reported
+                    }
+                }
+                for (Connection c : connections.subList(0, initializedCount)) {
+                    try {
+                        c.rollback();
+                    } catch (Throwable t) {
+                        LOGGER.debug("Failed rollback after insert error: " + t.getMessage(), t);
+                    }
+                }
+            }
+            for (int i = 0; i < initializedCount; i++) {
+                DatabaseConnectionSettings.setAutoCommit(connections.get(i), autoCommits[i]);
+            }
+            for (Connection c : borrowed) {
+                c.close();
+            }
+        }
+    }
+
+    private Future<?> submitConversion(final Batch batch, final TimeZone timezone,
+        final BlockingQueue<Batch> sendQueue) {
+        return EXECUTOR.submit(() -> {
+            try {
+                final Recorder recorder = new Recorder(batch);
+                final PreparedStatement proxy = (PreparedStatement)Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(), new Class<?>[]{PreparedStatement.class}, recorder);
+                for (DataRow row : batch.m_rows) {
+                    m_writer.fillRow(proxy, row, m_spec, m_mapping, m_insertNullForMissingCols, timezone,
+                        m_columnTypes);
+                    batch.m_rowEnds.add(batch.m_methods.size());
+                }
+                batch.m_rows.clear();
+                converted(batch, sendQueue);
+            } catch (Throwable t) {
+                m_failure.compareAndSet(null, t);
+            }
+            return null;
+        });
+    }
+
+    /** Hands the batch and its converted successors to the senders, or keeps it until its predecessors are done. */
+    private void converted(final Batch batch, final BlockingQueue<Batch> sendQueue) {
+        synchronized (m_convertedBatches) {
+            m_convertedBatches.put(batch.m_sequence, batch);
+            Batch next;
+            while ((next = m_convertedBatches.remove(m_nextToSend)) != null) {
+                m_nextToSend++;
+                sendQueue.add(next);
+            }
+        }
+    }
+
+    private void runSender(final Connection conn, final PreparedStatement stmt, final BlockingQueue<Batch> sendQueue,
+        final Semaphore batchPermits) throws Exception {
+        try {
+            while (true) {
+                final Batch batch = sendQueue.take();
+                if (batch == END_OF_INPUT || m_failure.get() != null) {
+                    return;
+                }
+                try {
+                    send(conn, stmt, batch);
+                } finally {
+                    batchPermits.release();
+                }
+            }
+        } catch (Throwable t) {
+            m_failure.compareAndSet(null, t);
+            throw t;
+        } finally {
+            stmt.close();
+        }
+    }
+
+    private void send(final Connection conn, final PreparedStatement stmt, final Batch batch) throws Exception {
+        final int rowCount = batch.m_rowEnds.size();
+        final long start = System.currentTimeMillis();
+        try {
+            int callIndex = 0;
+            for (int r = 0; r < rowCount; r++) {
+                final int end = batch.m_rowEnds.get(r);
+                for (; callIndex < end; callIndex++) {
+                    try {
+                        batch.m_methods.get(callIndex).invoke(stmt, batch.m_args.get(callIndex));
+                    } catch (InvocationTargetException ite) {
+                        throw (Exception)ite.getCause();
+                    }
+                }
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+            adaptBatchSize(rowCount, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            final String errorMsg = "Error while adding rows #" + batch.m_firstRow + " - #"
+                + (batch.m_firstRow + rowCount - 1) + ", reason: " + e.getMessage();
+            if (m_failOnError) {
+                throw new Exception(errorMsg, e);
+            }
+            // Postgres will refuse any more commands in this transaction after errors
+            // Therefore we commit the changes that were possible. We commit everything at the end anyway.
+            if (!conn.getAutoCommit()) {
+                conn.commit();
+            }
+            final long errorCnt = m_errorCount.incrementAndGet();
+            if (errorCnt <= 10) {
+                LOGGER.warn(errorMsg);
+            } else if (errorCnt == 11) {
+                LOGGER.warn(errorMsg + " - more errors...", e);
+            }
+        } finally {
+            stmt.clearBatch();
+        }
+    }
+
+    /** Moves the batch size towards the number of rows that can be sent in {@link #TARGET_ROUND_TRIP_MS}. */
+    private void adaptBatchSize(final int rowCount, final long elapsedMS) {
+        final long target = rowCount * TARGET_ROUND_TRIP_MS / Math.max(1L, elapsedMS);
+        m_batchSize.updateAndGet(current -> {
+            long next = (current + target) / 2;
+            return (int)Math.max(m_minBatchSize, Math.min(m_maxBatchSize, next));
+        });
+    }
+
+    private void checkFailure() throws Exception {
+        final Throwable t = m_failure.get();
+        if (t instanceof Exception) {
+            throw (Exception)t;
+        } else if (t != null) {
+            throw new Exception(t.getMessage(), t);
+        }
+    }
+
+    private void waitFor(final Future<?> future, final ExecutionMonitor exec) throws Exception {
+        while (true) {
+            exec.checkCanceled();
+            checkFailure();
+            try {
+                future.get(1, TimeUnit.SECONDS);
+                return;
+            } catch (java.util.concurrent.TimeoutException te) {
+                // check cancelation again
+            } catch (ExecutionException ee) {
+                checkFailure();
+                throw new Exception(ee.getCause().getMessage(), ee.getCause());
+            }
+        }
+    }
+
+    private static void removeDone(final List<Future<?>> futures) {
+        if (futures.size() > 64) {
+            for (Iterator<Future<?>> it = futures.iterator(); it.hasNext();) {
+                if (it.next().isDone()) {
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    /** Rows of one batch and, after conversion, the recorded parameter calls. */
+    private static final class Batch {
+
+        /** Position of the batch in the input. */
+        private final long m_sequence;
+
+        private final long m_firstRow;
+
+        private final List<DataRow> m_rows = new ArrayList<>();
+
+        private final List<Method> m_methods = new ArrayList<>();
+
+        private final List<Object[]> m_args = new ArrayList<>();
+
+        /** End index (exclusive) into m_methods and m_args of each row. */
+        private final List<Integer> m_rowEnds = new ArrayList<>();
+
+        Batch(final long sequence, final long firstRow) {
+            m_sequence = sequence;
+            m_firstRow = firstRow;
+        }
+    }
+
+    /** Records the setXXX calls on a statement proxy into a batch. */
+    private static final class Recorder implements InvocationHandler {
+
+        private static final Method SET_BYTES;
+
+        static {
+            try {
+                SET_BYTES = PreparedStatement.class.getMethod("setBytes", int.class, byte[].class);
+            } catch (NoSuchMethodException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private final Batch m_batch;
+
+        Recorder(final Batch batch) {
+            m_batch = batch;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            final String name = method.getName();
+            if ("setBinaryStream".equals(name) && args.length >= 2) {
+                // the stream is read in this thread; also covers drivers not supporting streams (e.g. SQLite)
+                try (InputStream is = (InputStream)args[1]) {
+                    return record(SET_BYTES, new Object[]{args[0], is == null ? null : IOUtils.toByteArray(is)});
+                } catch (IOException ioe) {
+                    return record(PreparedStatement.class.getMethod("setNull", int.class, int.class),
+                        new Object[]{args[0], Types.BLOB});
+                }
+            } else if (name.startsWith("set") && method.getReturnType() == void.class && args != null
+                && args.length >= 2) {
+                return record(method, args);
+            } else if ("toString".equals(name)) {
+                return "Parameter recorder";
+            }
+            throw new SQLFeatureNotSupportedException("Method \"" + name + "\" not supported when writing rows "
+                + "concurrently");
+        }
+
+        private Object record(final Method method, final Object[] args) {
+            m_batch.m_methods.add(method);
+            m_batch.m_args.add(args);
+            return null;
+        }
+    }
+}
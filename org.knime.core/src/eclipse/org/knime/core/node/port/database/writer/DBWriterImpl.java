@@ -69,6 +69,7 @@
 import org.knime.core.data.date.DateAndTimeValue;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.port.database.DatabaseConnectionSettings;
 import org.knime.core.node.port.database.DatabaseHelper;
@@ -87,6 +88,29 @@ public class DBWriterImpl extends DatabaseHelper implements DBWriter {
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(DBWriterImpl.class);
 
+    /** Number of connections used to insert rows concurrently, 0 for the sequential insert,
+     * see {@link KNIMEConstants#PROPERTY_DATABASE_WRITER_THREADS}. */
+    static final int WRITER_THREADS = initWriterThreads();
+
+    private static int initWriterThreads() {
+        final String threads = System.getProperty(KNIMEConstants.PROPERTY_DATABASE_WRITER_THREADS);
+        if (threads != null) {
+            try {
+                final int count = Integer.parseInt(threads);
+                if (count >= 0) {
+                    LOGGER.debug("Database writer threads: " + count);
+                    return count;
+                }
+                LOGGER.warn("Database writer threads set via system property not valid (< 0) '" + threads
+                    + "', using sequential insert.");
+            } catch (NumberFormatException nfe) {
+                LOGGER.warn("Database writer threads set via system property not valid '" + threads
+                    + "', using sequential insert.");
+            }
+        }
+        return 0;
+    }
+
     /**
      * @param conn {@link DatabaseConnectionSettings}
      */
@@ -311,6 +335,12 @@ public String writeData(final String table, final RowInput input, final long row
             final String insertStamtement =
                     createInsertStatment(table, columnNamesForInsertStatement.toString(), mapping, insertNullForMissingCols);
 
+            if (WRITER_THREADS > 0 && batchSize > 1) {
+                return new DBPipelinedInsert(this, conSettings, cp, insertStamtement, spec, mapping,
+                    insertNullForMissingCols, columnTypes, batchSize, failOnError)
+                        .write(conn, input, rowCount, exec, WRITER_THREADS);
+            }
+
             // problems writing more than 13 columns. the prepare statement
             // ensures that we can set the columns directly row-by-row, the
             // database will handle the commit
@@ -341,19 +371,7 @@ public String writeData(final String table, final RowInput input, final long row
                             exec.setProgress("Writing Row#" + cnt);
                         }
 
-                    int dbIdx = 1;
-                    for (int i = 0; i < mapping.length; i++) {
-                        if (mapping[i] < 0) {
-                            if (insertNullForMissingCols) {
-                                //insert only null if the insert null for missing col option is enabled
-                                stmt.setNull(dbIdx++, Types.NULL);
-                            }
-                        } else {
-                            final DataColumnSpec cspec = spec.getColumnSpec(mapping[i]);
-                            final DataCell cell = row.getCell(mapping[i]);
-                            fillStatement(stmt, dbIdx++, cspec, cell, timezone, columnTypes);
-                        }
-                    }
+                    fillRow(stmt, row, spec, mapping, insertNullForMissingCols, timezone, columnTypes);
                     // if batch mode
                     if (batchSize > 1) {
                         // a new row will be added
@@ -439,6 +457,36 @@ public String writeData(final String table, final RowInput input, final long row
         });
     }
 
+    /**
+     * Sets the parameters of the insert statement for a row.
+     *
+     * @param stmt the insert statement
+     * @param row the row to insert
+     * @param spec the spec of the input
+     * @param mapping maps the database columns to the input columns, negative for columns not in the input
+     * @param insertNullForMissingCols whether to set null for database columns not in the input
+     * @param timezone the time zone
+     * @param columnTypes the SQL types of the database columns or null
+     * @throws SQLException if a parameter can't be set
+     */
+    void fillRow(final PreparedStatement stmt, final DataRow row, final DataTableSpec spec, final int[] mapping,
+        final boolean insertNullForMissingCols, final TimeZone timezone, final Map<Integer, Integer> columnTypes)
+        throws SQLException {
+        int dbIdx = 1;
+        for (int i = 0; i < mapping.length; i++) {
+            if (mapping[i] < 0) {
+                if (insertNullForMissingCols) {
+                    //insert only null if the insert null for missing col option is enabled
+                    stmt.setNull(dbIdx++, Types.NULL);
+                }
+            } else {
+                final DataColumnSpec cspec = spec.getColumnSpec(mapping[i]);
+                final DataCell cell = row.getCell(mapping[i]);
+                fillStatement(stmt, dbIdx++, cspec, cell, timezone, columnTypes);
+            }
+        }
+    }
+
     /** Create connection to update table in database.
      * @param data The data to write.
      * @param setColumns columns part of the SET clause
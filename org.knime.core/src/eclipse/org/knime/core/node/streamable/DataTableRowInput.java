@@ -93,6 +93,18 @@ public DataRow poll() throws InterruptedException {
         return null;
     }
 
+    /** Fills the array from the table's iterator as the table is fully available (reading doesn't wait for other
+     * nodes).
+     * {@inheritDoc} */
+    @Override
+    public int poll(final DataRow[] rows) throws InterruptedException {
+        int count = 0;
+        while (count < rows.length && m_iterator.hasNext()) {
+            rows[count++] = m_iterator.next();
+        }
+        return count;
+    }
+
     /** {@inheritDoc} */
     @Override
     public void close() {
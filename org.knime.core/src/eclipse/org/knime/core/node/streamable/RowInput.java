@@ -83,6 +83,38 @@ public abstract class RowInput extends PortInput {
      */
     public abstract DataRow poll() throws InterruptedException;
 
+    /**
+     * Reads a batch of rows into the argument array, starting at index 0. The call blocks until at least one row is
+     * available or the end of the stream has been reached; it may return fewer rows than the array can hold even if
+     * the end of the stream isn't reached yet. Client code could look like this:
+     *
+     * <pre>
+     * DataRow[] rows = new DataRow[64];
+     * int count;
+     * while ((count = rowInput.poll(rows)) &gt; 0) {
+     *     // do something with rows[0] ... rows[count - 1]
+     * }
+     * rowInput.close();
+     * </pre>
+     *
+     * The default implementation calls {@link #poll()} once and so returns at most one row; it must not wait for
+     * more rows as upstream nodes may only produce them once the rows read so far have been processed.
+     * Implementations that have rows available without blocking (e.g. a queued chunk of rows) should overwrite it.
+     *
+     * @param rows The non-empty array to fill; elements after the returned count are unspecified.
+     * @return The number of rows read, 0 if the end of the stream has been reached.
+     * @throws InterruptedException If canceled.
+     * @since 3.8
+     */
+    public int poll(final DataRow[] rows) throws InterruptedException {
+        final DataRow row = poll();
+        if (row == null) {
+            return 0;
+        }
+        rows[0] = row;
+        return 1;
+    }
+
     /** Indicates that no more input is needed. Upstream nodes may stop
      * generating data (unless there are other consumers). */
     public abstract void close();
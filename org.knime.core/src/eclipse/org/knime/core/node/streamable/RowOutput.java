@@ -69,6 +69,23 @@ public abstract class RowOutput extends PortOutput {
      */
     public abstract void push(final DataRow row) throws InterruptedException;
 
+    /**
+     * Adds a batch of rows to the output, equivalent to calling {@link #push(DataRow)} for each of the first
+     * <code>count</code> elements of the array (but usually cheaper, e.g. when rows are handed to another thread).
+     * The array is not retained and can be re-used by the caller after this method returns.
+     *
+     * @param rows The rows to add.
+     * @param count The number of rows to add from the beginning of the array.
+     * @throws InterruptedException If canceled.
+     * @throws OutputClosedException If no consumer is to consume the generated output.
+     * @since 3.8
+     */
+    public void push(final DataRow[] rows, final int count) throws InterruptedException {
+        for (int i = 0; i < count; i++) {
+            push(rows[i]);
+        }
+    }
+
     /** Fully sets the table and closes the output. Only valid to call if no other rows were added previously through
      * {@link #push(DataRow)}.
      * @param table The non-null table to set.
@@ -72,6 +72,9 @@ public abstract class StreamableFunction extends StreamableOperator {
      */
     public static final int DEFAULT_OUTPORT_INDEX = 0;
 
+    /** Number of rows read and written at once in {@link #runFinal(PortInput[], PortOutput[], ExecutionContext)}. */
+    private static final int BATCH_SIZE = 64;
+
     private int m_inportIndex = DEFAULT_INPORT_INDEX;
     private int m_outportIndex = DEFAULT_OUTPORT_INDEX;
 
@@ -105,12 +108,18 @@ public void runFinal(final PortInput[] inputs, final PortOutput[] outputs,
         RowOutput rowOutput = ((RowOutput)outputs[m_outportIndex]);
         init(ctx);
         try {
-            DataRow inputRow;
+            // rows are handed on in batches, which saves synchronization when the output is consumed concurrently
+            DataRow[] inputRows = new DataRow[BATCH_SIZE];
+            DataRow[] outputRows = new DataRow[BATCH_SIZE];
             long index = 0;
-            while ((inputRow = rowInput.poll()) != null) {
-                rowOutput.push(compute(inputRow));
-                final long i = ++index;
-                final DataRow r = inputRow;
+            int count;
+            while ((count = rowInput.poll(inputRows)) > 0) {
+                for (int j = 0; j < count; j++) {
+                    outputRows[j] = compute(inputRows[j]);
+                }
+                rowOutput.push(outputRows, count);
+                final long i = index += count;
+                final DataRow r = inputRows[count - 1];
                 ctx.setMessage(() -> String.format("Row %d (\"%s\"))", i, r.getKey()));
             }
             rowInput.close();
@@ -1088,10 +1088,12 @@ protected DataRow getRow(final int row) {
         }
 
         /* row is not in cache */
-        // row already released from cache
+        // row already released from cache or all cached rows would be evicted anyway: clear cache, init new
+        // iterator (starting shortly before the row if the table can seek to it)
         if (row < (m_rowCountOfInterestInIterator - cacheSize)) {
-            // clear cache, init new iterator
-            clearCache();
+            clearCache(canSeekToRow() ? Math.max(0, row - m_chunkSize) : 0);
+        } else if (canSeekToRow() && isRowCountFinal() && row > m_rowCountOfInterestInIterator + cacheSize) {
+            clearCache(row - m_chunkSize);
         }
         assert (row >= m_rowCountOfInterestInIterator - 1);
 
@@ -1158,30 +1160,48 @@ private boolean cacheNextRow() {
     } // cacheNextRow()
 
     /** Get new iterator, only to be called when data is set. Gets an
-     * {@link BufferedDataTable#iteratorFailProve() fail prove iterator} if
-     * the table is an instance of {@link BufferedDataTable}. */
-    private RowIterator getNewDataIterator() {
+     * {@link BufferedDataTable#iteratorFailProve(long) fail prove iterator} if
+     * the table is an instance of {@link BufferedDataTable}.
+     * @param fromRow the index of the first row, must be 0 unless {@link #canSeekToRow()} */
+    private RowIterator getNewDataIterator(final int fromRow) {
         assert hasData();
         if (m_data instanceof BufferedDataTable) {
-            return ((BufferedDataTable)m_data).iteratorFailProve();
+            return ((BufferedDataTable)m_data).iteratorFailProve(fromRow);
         }
+        assert fromRow == 0 : "Table can't seek to row " + fromRow;
         return m_data.iterator();
     }
 
+    /** @return whether new iterators can start at an arbitrary row index, that is, the table is a
+     * {@link BufferedDataTable} and all rows are of interest (no hilite filtering). */
+    private boolean canSeekToRow() {
+        return m_data instanceof BufferedDataTable && !m_tableFilter.performsFiltering();
+    }
+
     /**
      * Clears cache, instantiates new Iterator.
      */
     protected void clearCache() {
+        clearCache(0);
+    }
+
+    /**
+     * Clears cache, instantiates new Iterator starting at the given row.
+     *
+     * @param fromRow the index of the first row returned by the new iterator, must be 0 unless
+     *            {@link #canSeekToRow()}
+     */
+    private void clearCache(final int fromRow) {
         if (!hasData() || m_cachedRows == null) {
             return;
         }
         if (m_iterator instanceof CloseableRowIterator) {
             ((CloseableRowIterator)m_iterator).close();
         }
-        m_iterator = getNewDataIterator();
-        m_rowCountInIterator = 0;
+        m_iterator = getNewDataIterator(fromRow);
+        m_rowCountInIterator = fromRow;
         // all updated in nextBlock()
-        m_rowCountOfInterestInIterator = 0;
+        m_rowCountOfInterestInIterator = fromRow;
         // clear cache
         Arrays.fill(m_cachedRows, null);
         m_hilitSet.clear();
@@ -1288,7 +1308,7 @@ private void processHiLiteEvent(
             // #rows that changed up to m_rowCountOfInterest
             int changedCount = 0;
             Set<RowKey> keySet = e.keys();
-            for (RowIterator it = getNewDataIterator(); it.hasNext()
+            for (RowIterator it = getNewDataIterator(0); it.hasNext()
                 && c < m_rowCountOfInterest;) {
                 RowKey currentRowKey = it.next().getKey();
                 boolean isNowOfInterest =
@@ -1405,7 +1425,7 @@ private void processHiLiteRequest(
             }
         } else { // iteration necessary: use new (private) iterator
             // TODO: check for correctness when m_showOnlyHilited is set
-            final RowIterator it = getNewDataIterator();
+            final RowIterator it = getNewDataIterator(0);
             for (int i = 0; it.hasNext() && i <= lastSelected; i++) {
                 RowKey key = it.next().getKey();
                 if (i >= firstSelected && selModel.isSelectedIndex(i)) {
@@ -57,11 +57,13 @@
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.knime.core.internal.ReferencedFile;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.FileNodePersistor;
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.Node;
 import org.knime.core.node.NodeLogger;
@@ -98,6 +100,10 @@ public abstract class FileSingleNodeContainerPersistor implements SingleNodeCont
 
     private NodeSettingsRO m_nodeSettings;
 
+    /** Content of the settings file if read ahead of {@link #preLoadNodeContainer(WorkflowPersistor,
+     * NodeSettingsRO, LoadResult)} (parallel workflow load), otherwise null. */
+    private NodeSettingsRO m_prefetchedNodeSettings;
+
     private SingleNodeContainerSettings m_sncSettings;
 
     private boolean m_needsResetAfterLoad;
@@ -196,6 +202,18 @@ public List<FlowObject> getFlowObjects() {
         return m_flowObjects;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void prefetchSettingsFile(final WorkflowPersistor parentPersistor) {
+        File settingsFile = getMetaPersistor().getNodeSettingsFile().getFile();
+        try {
+            m_prefetchedNodeSettings = readSettingsFile(settingsFile, parentPersistor);
+        } catch (IOException ioe) {
+            // reported when the file is read again in preLoadNodeContainer
+            m_prefetchedNodeSettings = null;
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public void preLoadNodeContainer(final WorkflowPersistor parentPersistor, final NodeSettingsRO parentSettings,
@@ -203,19 +221,19 @@ public void preLoadNodeContainer(final WorkflowPersistor parentPersistor, final
         FileNodeContainerMetaPersistor meta = getMetaPersistor();
         final ReferencedFile settingsFileRef = meta.getNodeSettingsFile();
         File settingsFile = settingsFileRef.getFile();
-        if (!settingsFile.isFile()) {
-            setDirtyAfterLoad();
-            throw new IOException("Can't read node file \"" + settingsFile.getAbsolutePath() + "\"");
-        }
-        NodeSettingsRO settings;
-        try {
-            InputStream in = new FileInputStream(settingsFile);
-            // parentPersitor is null for loaded subnode templates
-            in = parentPersistor == null ? in : parentPersistor.decipherInput(in);
-            settings = NodeSettings.loadFromXML(new BufferedInputStream(in));
-        } catch (IOException ioe) {
-            setDirtyAfterLoad();
-            throw ioe;
+        NodeSettingsRO settings = m_prefetchedNodeSettings;
+        m_prefetchedNodeSettings = null;
+        if (settings == null) {
+            if (!settingsFile.isFile()) {
+                setDirtyAfterLoad();
+                throw new IOException("Can't read node file \"" + settingsFile.getAbsolutePath() + "\"");
+            }
+            try {
+                settings = readSettingsFile(settingsFile, parentPersistor);
+            } catch (IOException ioe) {
+                setDirtyAfterLoad();
+                throw ioe;
+            }
         }
 
         boolean resetRequired = meta.load(settings, parentSettings, result);
@@ -230,6 +248,19 @@ public void preLoadNodeContainer(final WorkflowPersistor parentPersistor, final
 
     }
 
+    /** Reads and parses the (possibly enciphered) settings file of the node.
+     * @param settingsFile the settings.xml
+     * @param parentPersistor persistor of the enclosing workflow, null for loaded subnode templates
+     * @return the parsed settings
+     * @throws IOException if the file can't be read or parsed
+     */
+    private static NodeSettingsRO readSettingsFile(final File settingsFile, final WorkflowPersistor parentPersistor)
+        throws IOException {
+        InputStream in = new FileInputStream(settingsFile);
+        in = parentPersistor == null ? in : parentPersistor.decipherInput(in);
+        return NodeSettings.loadFromXML(new BufferedInputStream(in));
+    }
+
     /** {@inheritDoc} */
     @Override
     public void loadNodeContainer(final Map<Integer, BufferedDataTable> tblRep, final ExecutionMonitor exec,
@@ -544,7 +575,18 @@ protected static String save(final SingleNodeContainer singleNC, final Reference
         }
         boolean nodeDirDeleted = true;
         if (singleNC instanceof NativeNodeContainer) {
-            nodeDirDeleted = deleteChildren(nodeDir, SingleNodeContainer.DROP_DIR_NAME);
+            NativeNodeContainer nativeNC = (NativeNodeContainer)singleNC;
+            // keep data that is unchanged since the last save into this directory (see FileNodePersistor#save)
+            Set<String> reusableDirs =
+                FileNodePersistor.getReusableDataDirectories(nativeNC, nodeDirRef, isSaveData(singleNC, saveHelper));
+            if (reusableDirs.isEmpty()) {
+                // data is rewritten; if restored from this directory it may not have been read yet
+                // (see NativeNodeContainer#setDirty)
+                nativeNC.ensureOutputDataIsRead();
+            }
+            List<String> exclude = new ArrayList<>(reusableDirs);
+            exclude.add(SingleNodeContainer.DROP_DIR_NAME);
+            nodeDirDeleted = deleteChildren(nodeDir, exclude.toArray(new String[exclude.size()]));
         }
         nodeDir.mkdirs();
         if (!nodeDir.isDirectory() || !nodeDir.canWrite()) {
@@ -590,7 +632,7 @@ protected static String save(final SingleNodeContainer singleNC, final Reference
         if (singleNC instanceof NativeNodeContainer) {
             NativeNodeContainer nativeNC = (NativeNodeContainer)singleNC;
             FileNativeNodeContainerPersistor.save(nativeNC, settings, exec, nodeDirRef,
-                saveHelper.isSaveData() && singleNC.getInternalState().equals(InternalNodeContainerState.EXECUTED));
+                isSaveData(singleNC, saveHelper));
         } else {
             SubNodeContainer subnodeNC = (SubNodeContainer)singleNC;
             FileSubNodeContainerPersistor.save(subnodeNC, settings, exec, nodeDirRef, saveHelper);
@@ -617,6 +659,10 @@ protected static String save(final SingleNodeContainer singleNC, final Reference
     }
 
 
+    private static boolean isSaveData(final SingleNodeContainer singleNC, final WorkflowSaveHelper saveHelper) {
+        return saveHelper.isSaveData() && singleNC.getInternalState().equals(InternalNodeContainerState.EXECUTED);
+    }
+
     protected static ReferencedFile saveNodeFileName(final SingleNodeContainer snc, final NodeSettingsWO settings,
         final ReferencedFile nodeDirectoryRef) {
         // KNIME 2.7- reads from this file. It used to be "node.xml", which was removed in 2.8 and now the settings.xml
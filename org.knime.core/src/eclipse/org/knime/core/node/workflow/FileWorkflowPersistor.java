@@ -67,6 +67,10 @@
 import java.util.Set;
 import java.util.Stack;
 import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.knime.core.internal.ReferencedFile;
 import org.knime.core.node.BufferedDataTable;
@@ -87,6 +91,7 @@
 import org.knime.core.util.FileUtil;
 import org.knime.core.util.LoadVersion;
 import org.knime.core.util.LockFailedException;
+import org.knime.core.util.ThreadPool;
 import org.knime.core.util.workflowalizer.AuthorInformation;
 
 /**
@@ -220,6 +225,10 @@ public String toString() {
 
     private NodeSettingsRO m_workflowSett;
 
+    /** Content of the workflow.knime if read ahead of {@link #preLoadNodeContainer(WorkflowPersistor,
+     * NodeSettingsRO, LoadResult)} (parallel workflow load), otherwise null. */
+    private NodeSettingsRO m_prefetchedWorkflowSett;
+
     private final List<ReferencedFile> m_obsoleteNodeDirectories;
 
     /** Parse the version string, return {@link LoadVersion#FUTURE} if it can't be parsed. */
@@ -493,6 +502,37 @@ public void setDirtyAfterLoad() {
         m_isDirtyAfterLoad = true;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void prefetchSettingsFile(final WorkflowPersistor parentPersistor) {
+        final ReferencedFile knimeFile = getWorkflowKNIMEFile();
+        try {
+            m_prefetchedWorkflowSett = knimeFile == null ? null : readWorkflowFile(knimeFile.getFile(), parentPersistor);
+        } catch (IOException ioe) {
+            // reported when the file is read again in preLoadNodeContainer
+            m_prefetchedWorkflowSett = null;
+        }
+    }
+
+    /** Reads and parses the workflow.knime (or template.knime) file.
+     * @param nodeFile the file
+     * @param parentPersistor persistor of the enclosing workflow, null for projects
+     * @return the parsed settings
+     * @throws IOException if the file can't be read or parsed
+     */
+    private static NodeSettingsRO readWorkflowFile(final File nodeFile, final WorkflowPersistor parentPersistor)
+        throws IOException {
+        InputStream in = new FileInputStream(nodeFile);
+        if (parentPersistor != null) { // real metanode, not a project
+            // the workflow.knime (or template.knime) file is not encrypted
+            // with this metanode's cipher but possibly with a parent
+            // cipher
+            in = parentPersistor.decipherInput(in);
+        }
+        in = new BufferedInputStream(in);
+        return NodeSettings.loadFromXML(in);
+    }
+
     /** {@inheritDoc} */
     @Override
     public void preLoadNodeContainer(final WorkflowPersistor parentPersistor, final NodeSettingsRO parentSettings,
@@ -513,20 +553,15 @@ public void preLoadNodeContainer(final WorkflowPersistor parentPersistor, final
                 + ReferencedFile.class.getSimpleName() + " object");
         }
         m_mustWarnOnDataLoadError = loadIfMustWarnOnDataLoadError(parentRef.getFile());
-        NodeSettingsRO subWFSettings;
-        try {
-            InputStream in = new FileInputStream(nodeFile);
-            if (m_parentPersistor != null) { // real metanode, not a project
-                // the workflow.knime (or template.knime) file is not encrypted
-                // with this metanode's cipher but possibly with a parent
-                // cipher
-                in = m_parentPersistor.decipherInput(in);
-            }
-            in = new BufferedInputStream(in);
-            subWFSettings = NodeSettings.loadFromXML(in);
-        } catch (IOException ioe) {
-            setDirtyAfterLoad();
-            throw ioe;
+        NodeSettingsRO subWFSettings = m_prefetchedWorkflowSett;
+        m_prefetchedWorkflowSett = null;
+        if (subWFSettings == null) {
+            try {
+                subWFSettings = readWorkflowFile(nodeFile, m_parentPersistor);
+            } catch (IOException ioe) {
+                setDirtyAfterLoad();
+                throw ioe;
+            }
         }
         m_workflowSett = subWFSettings;
 
@@ -848,7 +883,8 @@ public void loadNodeContainer(final Map<Integer, BufferedDataTable> tblRep, fina
             new HashMap<Integer, NodeFactoryUnknownException>();
         exec.setMessage("node information");
         final ReferencedFile workflowDirRef = workflowKNIMEFile.getParent();
-        /* Load nodes */
+        /* Load nodes - first determine their persistors, then pre-load them (possibly reading files in parallel) */
+        List<NodeToLoad> nodesToLoad = new ArrayList<NodeToLoad>();
         for (String nodeKey : nodes.keySet()) {
             exec.checkCanceled();
             NodeSettingsRO nodeSetting;
@@ -938,6 +974,17 @@ public void loadNodeContainer(final Map<Integer, BufferedDataTable> tblRep, fina
                 default:
                     throw new IllegalStateException("Unknown node type: " + nodeType);
             }
+            nodesToLoad.add(new NodeToLoad(nodeSetting, nodeIDSuffix, nodeType, nodeUIInfo, nodeFile, persistor));
+        }
+
+        prefetchSettingsFiles(nodesToLoad, exec);
+        for (NodeToLoad nodeToLoad : nodesToLoad) {
+            exec.checkCanceled();
+            final NodeSettingsRO nodeSetting = nodeToLoad.m_nodeSetting;
+            int nodeIDSuffix = nodeToLoad.m_nodeIDSuffix;
+            final NodeType nodeType = nodeToLoad.m_nodeType;
+            final ReferencedFile nodeFile = nodeToLoad.m_nodeFile;
+            final FromFileNodeContainerPersistor persistor = nodeToLoad.m_persistor;
             try {
                 LoadResult childResult = new LoadResult(nodeType.toString() + " with ID suffix " + nodeIDSuffix);
                 persistor.preLoadNodeContainer(this, nodeSetting, childResult);
@@ -979,7 +1026,7 @@ public void loadNodeContainer(final Map<Integer, BufferedDataTable> tblRep, fina
                 nodeIDSuffix = randomID;
             }
             meta.setNodeIDSuffix(nodeIDSuffix);
-            meta.setUIInfo(nodeUIInfo);
+            meta.setUIInfo(nodeToLoad.m_nodeUIInfo);
             if (persistor.isDirtyAfterLoad()) {
                 setDirtyAfterLoad();
             }
@@ -1186,6 +1233,79 @@ void fixDestPortIfNecessary(final NodeContainerPersistor destPersistor, final Co
         }
     }
 
+    /** Node entry in the workflow.knime whose persistor is created but not yet pre-loaded. */
+    private static final class NodeToLoad {
+        private final NodeSettingsRO m_nodeSetting;
+        private final int m_nodeIDSuffix;
+        private final NodeType m_nodeType;
+        private final NodeUIInformation m_nodeUIInfo;
+        private final ReferencedFile m_nodeFile;
+        private final FromFileNodeContainerPersistor m_persistor;
+
+        NodeToLoad(final NodeSettingsRO nodeSetting, final int nodeIDSuffix, final NodeType nodeType,
+            final NodeUIInformation nodeUIInfo, final ReferencedFile nodeFile,
+            final FromFileNodeContainerPersistor persistor) {
+            m_nodeSetting = nodeSetting;
+            m_nodeIDSuffix = nodeIDSuffix;
+            m_nodeType = nodeType;
+            m_nodeUIInfo = nodeUIInfo;
+            m_nodeFile = nodeFile;
+            m_persistor = persistor;
+        }
+    }
+
+    /** Reads the settings files of the given nodes concurrently in the global thread pool if
+     * {@link KNIMEConstants#PROPERTY_PARALLEL_WORKFLOW_LOAD} is set. The nodes are independent of each other, their
+     * pre-load (instantiating the node factories etc.) still happens sequentially and simply uses the parsed
+     * settings. Failures are ignored here, the files are then read again during pre-load, which reports the error.
+     */
+    private void prefetchSettingsFiles(final List<NodeToLoad> nodesToLoad, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        if (nodesToLoad.size() < 2 || !Boolean.getBoolean(KNIMEConstants.PROPERTY_PARALLEL_WORKFLOW_LOAD)) {
+            return;
+        }
+        exec.setMessage("node settings");
+        final List<Future<?>> futures = new ArrayList<Future<?>>(nodesToLoad.size());
+        for (NodeToLoad nodeToLoad : nodesToLoad) {
+            final FromFileNodeContainerPersistor persistor = nodeToLoad.m_persistor;
+            futures.add(KNIMEConstants.GLOBAL_THREAD_POOL.enqueue(() -> persistor.prefetchSettingsFile(this)));
+        }
+        // always wait for all tasks - they write into the persistors that are pre-loaded afterwards
+        Callable<Void> waitForAll = () -> {
+            boolean isInterrupted = false;
+            for (Future<?> future : futures) {
+                while (true) {
+                    try {
+                        future.get();
+                        break;
+                    } catch (InterruptedException ie) {
+                        isInterrupted = true;
+                        future.cancel(false);
+                    } catch (ExecutionException | CancellationException e) {
+                        getLogger().debug("Unable to read node settings in parallel: " + e.getMessage(), e);
+                        break;
+                    }
+                }
+            }
+            if (isInterrupted) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        };
+        ThreadPool currentPool = ThreadPool.currentPool();
+        try {
+            if (currentPool != null) {
+                // don't block a thread of the pool while waiting for tasks queued in the same pool
+                currentPool.runInvisible(waitForAll);
+            } else {
+                waitForAll.call();
+            }
+        } catch (Exception e) {
+            getLogger().debug("Unable to read node settings in parallel: " + e.getMessage(), e);
+        }
+        exec.checkCanceled();
+    }
+
     NodeSettingsRO readParentSettings() throws IOException {
         if (getLoadVersion().isOlderThan(LoadVersion.V200)) {
             NodeSettings result = new NodeSettings("generated_wf_settings");
@@ -55,7 +55,6 @@
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
-import java.util.Vector;
 
 import org.knime.core.internal.KNIMEPath;
 import org.knime.core.node.NodeLogger;
@@ -68,6 +67,11 @@
 /**
  * Container for the stack that keeps for an individual node the
  * flow variables and flow loop information.
+ *
+ * <p>The stack is represented as a persistent (immutable) linked list. Stacks of downstream nodes share the entries of
+ * their upstream nodes; pushing onto or popping from a stack only replaces its top reference. Creating the stack for
+ * a node with a single predecessor is hence proportional to the number of objects added since the predecessor's
+ * stack was merged and not to the overall stack size.
  * @author Bernd Wiswedel, University of Konstanz
  */
 public final class FlowObjectStack implements Iterable<FlowObject> {
@@ -78,17 +82,16 @@ public final class FlowObjectStack implements Iterable<FlowObject> {
     /** Root stack with all constants. */
     private static FlowObjectStack rootStack = new FlowObjectStack();
 
-    /** Stack of FlowObjects, which is shared among nodes along the
-     * workflow. */
-    private final Vector<FlowObject> m_stack;
-    /** Owner of FlowObject object, which are put onto m_stack via this
+    /** Top of the stack of FlowObjects (or null if empty). The entries are immutable and shared among nodes along
+     * the workflow. Modifications are done in synchronized methods, reads work on a snapshot of this field. */
+    private volatile Entry m_top;
+    /** Owner of FlowObject object, which are put onto the stack via this
      * StackWrapper. */
     private final NodeID m_nodeID;
 
     /** Root stack. */
     private FlowObjectStack() {
         m_nodeID = WorkflowManager.ROOT.getID();
-        m_stack = new Vector<FlowObject>();
         File wsDirPath = KNIMEPath.getWorkspaceDirPath();
         if (wsDirPath != null) {
             push(new FlowVariable("knime.workspace",
@@ -161,24 +164,29 @@ private FlowObjectStack() {
      * @throws NullPointerException If <code>id</code> is <code>null</code>.
      * @throws IllegalFlowObjectStackException If the stacks can't be merged.
      */
-    @SuppressWarnings("unchecked")
     private FlowObjectStack(final NodeID id, final FlowObjectStack[] predStacks, final boolean ignoredFlag) {
         if (id == null) {
             throw new NullPointerException("NodeID argument must not be null.");
         }
-        List<Vector<FlowObject>> predecessors =
-            new ArrayList<Vector<FlowObject>>();
+        List<Entry> predecessors = new ArrayList<Entry>();
+        boolean isAllSame = true;
         for (int i = 0; i < predStacks.length; i++) {
             if (predStacks[i] != null) {
-                predecessors.add(predStacks[i].m_stack);
+                Entry top = predStacks[i].m_top;
+                isAllSame = isAllSame && (predecessors.isEmpty() || predecessors.get(0) == top);
+                predecessors.add(top);
             }
         }
         if (predecessors.isEmpty()) {
-            predecessors.add(rootStack.m_stack);
+            predecessors.add(rootStack.m_top);
+        }
+        if (isAllSame) {
+            // the common case: a single predecessor (or all inputs carry the very same stack)
+            m_top = mergeSingle(predecessors.get(0));
+        } else {
+            Entry[] sos = predecessors.toArray(new Entry[predecessors.size()]);
+            m_top = merge(resortInputStacks(sos));
         }
-        Vector<FlowObject>[] sos = predecessors.toArray(
-                new Vector[predecessors.size()]);
-        m_stack = merge(resortInputStacks(sos));
         m_nodeID = id;
     }
 
@@ -193,26 +201,69 @@ private FlowObjectStack(final NodeID id, final FlowObjectStack[] predStacks, fin
      *         a copy, whereby the copy will be shifted by one and the last
      *         element is the first element of sos.
      */
-    private static Vector<FlowObject>[] resortInputStacks(
-            final Vector<FlowObject>[] sos) {
+    private static Entry[] resortInputStacks(final Entry[] sos) {
         if (sos.length <= 1) {
             return sos;
         }
-        @SuppressWarnings("unchecked")
-        Vector<FlowObject>[] result = new Vector[sos.length];
+        Entry[] result = new Entry[sos.length];
         System.arraycopy(sos, 1, result, 0, sos.length - 1);
         result[sos.length - 1] = sos[0];
         return result;
     }
 
-    private static Vector<FlowObject> merge(final Vector<FlowObject>[] sos) {
-        Vector<FlowObject> result = new Vector<FlowObject>();
+    /** Merges the stack with the given top (usually the stack of the single predecessor). Any entry that is the result
+     * of a previous merge is shared; only the entries pushed on top of it are checked (see
+     * {@link #isMergeInvariant(Entry)}). The full merge is only done if one of these entries needs to be filtered or
+     * re-ordered.
+     * @param top The top of the input stack, may be null.
+     * @return The top of the merged stack, identical to the argument if no changes were needed. */
+    private static Entry mergeSingle(final Entry top) {
+        List<Entry> delta = new ArrayList<Entry>();
+        for (Entry e = top; e != null && !e.m_isMerged; e = e.m_below) {
+            if (!isMergeInvariant(e)) {
+                return merge(new Entry[] {top});
+            }
+            delta.add(e);
+        }
+        for (Entry e : delta) {
+            e.m_isMerged = true;
+        }
+        return top;
+    }
+
+    /** Whether the object of the argument entry remains at its position when the stack is merged, i.e. it is not a
+     * local variable and there is no equal object in the same bucket below it (which {@link #merge(Entry[])} would
+     * remove).
+     * @param e The entry to test, not null.
+     * @return that property. */
+    private static boolean isMergeInvariant(final Entry e) {
+        FlowObject o = e.m_object;
+        if (o instanceof FlowScopeContext) {
+            return true;
+        }
+        if (o instanceof FlowVariable && ((FlowVariable)o).getScope() == Scope.Local) {
+            return false;
+        }
+        Entry below = e.m_below;
+        if (below == null || (below.m_bucketHashBits & Entry.hashBit(o)) == 0L) {
+            return true;
+        }
+        for (Entry b = below; b != null && !(b.m_object instanceof FlowScopeContext); b = b.m_below) {
+            if (b.m_object.equals(o)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Entry merge(final Entry[] tops) {
+        List<FlowObject> result = new ArrayList<FlowObject>();
         @SuppressWarnings("unchecked") // no generics in array definition
-        Iterator<FlowObject>[] its = new Iterator[sos.length];
-        FlowObject[] nexts = new FlowObject[sos.length];
+        Iterator<FlowObject>[] its = new Iterator[tops.length];
+        FlowObject[] nexts = new FlowObject[tops.length];
         boolean hasMoreElements = false;
-        for (int i = 0; i < sos.length; i++) {
-            its[i] = new FilteredScopeIterator(sos[i].iterator(), Scope.Local);
+        for (int i = 0; i < tops.length; i++) {
+            its[i] = new FilteredScopeIterator(Entry.toBottomUpList(tops[i]).iterator(), Scope.Local);
             hasMoreElements = hasMoreElements ||  its[i].hasNext();
         }
         while (hasMoreElements) {
@@ -228,7 +279,7 @@ private static Vector<FlowObject> merge(final Vector<FlowObject>[] sos) {
              * present). Repeat that until the top of the stack is reached. For
              * each of the buckets, put the variables into a hash and add the
              * hash set content to the result list. */
-            for (int i = 0; i < sos.length; i++) {
+            for (int i = 0; i < tops.length; i++) {
                 while (nexts[i] != null || its[i].hasNext()) {
                     FlowObject o = nexts[i] != null ? nexts[i] : its[i].next();
                     nexts[i] = null;
@@ -261,7 +312,12 @@ private static Vector<FlowObject> merge(final Vector<FlowObject>[] sos) {
                 }
             }
         }
-        return result;
+        Entry top = null;
+        for (FlowObject o : result) {
+            top = new Entry(o, top);
+            top.m_isMerged = true;
+        }
+        return top;
     }
 
     /**
@@ -284,15 +340,13 @@ public <T extends FlowObject> T peek(final Class<T> type) {
      * @since 3.4
      */
     public <T extends FlowObject> Optional<T> peekOptional(final Class<T> type) {
-        synchronized (m_stack) {
-            for (int i = m_stack.size() - 1; i >= 0; i--) {
-                FlowObject e = m_stack.get(i);
-                if (type.isInstance(e)) {
-                    return Optional.of(type.cast(e));
-                }
+        for (Entry entry = m_top; entry != null; entry = entry.m_below) {
+            FlowObject e = entry.m_object;
+            if (type.isInstance(e)) {
+                return Optional.of(type.cast(e));
             }
-            return Optional.empty();
         }
+        return Optional.empty();
     }
 
     /**
@@ -306,15 +360,13 @@ public <T extends FlowObject> Optional<T> peekOptional(final Class<T> type) {
      * @since 2.8
      */
     public <T extends FlowScopeContext> T peekScopeContext(final Class<T> type, final boolean isInactiveScope) {
-        synchronized (m_stack) {
-            for (int i = m_stack.size() - 1; i >= 0; i--) {
-                FlowObject e = m_stack.get(i);
-                if (type.isInstance(e) && (type.cast(e).isInactiveScope() == isInactiveScope)) {
-                    return type.cast(e);
-                }
+        for (Entry entry = m_top; entry != null; entry = entry.m_below) {
+            FlowObject e = entry.m_object;
+            if (type.isInstance(e) && (type.cast(e).isInactiveScope() == isInactiveScope)) {
+                return type.cast(e);
             }
-            return null;
         }
+        return null;
     }
 
     /**
@@ -328,16 +380,16 @@ public <T extends FlowScopeContext> T peekScopeContext(final Class<T> type, fina
      * <code>type</code> or <code>null</code> if no such element is available.
      * @see java.util.Stack#pop()
      */
-    public <T extends FlowObject> T pop(final Class<T> type) {
-        synchronized (m_stack) {
-            for (int i = m_stack.size() - 1; i >= 0; i--) {
-                FlowObject e = m_stack.remove(i);
-                if (type.isInstance(e)) {
-                    return type.cast(e);
-                }
+    public synchronized <T extends FlowObject> T pop(final Class<T> type) {
+        for (Entry entry = m_top; entry != null; entry = entry.m_below) {
+            FlowObject e = entry.m_object;
+            if (type.isInstance(e)) {
+                m_top = entry.m_below;
+                return type.cast(e);
             }
-            return null;
         }
+        m_top = null;
+        return null;
     }
 
     /**
@@ -354,16 +406,17 @@ public <T extends FlowObject> T pop(final Class<T> type) {
      * @see java.util.Stack#pop()
      * @since 2.8
      */
-    public <T extends FlowScopeContext> T popScopeContext(final Class<T> type, final boolean isInactiveScope) {
-        synchronized (m_stack) {
-            for (int i = m_stack.size() - 1; i >= 0; i--) {
-                FlowObject e = m_stack.remove(i);
-                if (type.isInstance(e) && (type.cast(e).isInactiveScope() == isInactiveScope)) {
-                    return type.cast(e);
-                }
+    public synchronized <T extends FlowScopeContext> T popScopeContext(final Class<T> type,
+        final boolean isInactiveScope) {
+        for (Entry entry = m_top; entry != null; entry = entry.m_below) {
+            FlowObject e = entry.m_object;
+            if (type.isInstance(e) && (type.cast(e).isInactiveScope() == isInactiveScope)) {
+                m_top = entry.m_below;
+                return type.cast(e);
             }
-            return null;
         }
+        m_top = null;
+        return null;
     }
 
     /** Get the variable with the given name. Throws and exception if
@@ -374,16 +427,14 @@ public <T extends FlowScopeContext> T popScopeContext(final Class<T> type, final
      * @throws NoSuchElementException if variable does not exist
      */
     public FlowVariable peekFlowVariable(final String name, final Type type) {
-        synchronized (m_stack) {
-            for (int i = m_stack.size() - 1; i >= 0; i--) {
-                FlowObject e = m_stack.get(i);
-                if (!(e instanceof FlowVariable)) {
-                    continue;
-                }
-                FlowVariable v = (FlowVariable)e;
-                if (v.getName().equals(name) && v.getType().equals(type)) {
-                    return v;
-                }
+        for (Entry entry = m_top; entry != null; entry = entry.m_below) {
+            FlowObject e = entry.m_object;
+            if (!(e instanceof FlowVariable)) {
+                continue;
+            }
+            FlowVariable v = (FlowVariable)e;
+            if (v.getName().equals(name) && v.getType().equals(type)) {
+                return v;
             }
         }
         throw new NoSuchElementException("No such variable \"" + name + "\" of"
@@ -407,19 +458,17 @@ public Map<String, FlowVariable> getAvailableFlowVariables() {
     public Map<String, FlowVariable> getAvailableFlowVariables(final FlowVariable.Type... types) {
         LinkedHashMap<String, FlowVariable> hash = new LinkedHashMap<String, FlowVariable>();
         List<Type> typesAsList = Arrays.asList(types);
-        synchronized (m_stack) {
-            for (int i = m_stack.size() - 1; i >= 0; i--) {
-                FlowObject e = m_stack.get(i);
-                if (!(e instanceof FlowVariable)) {
-                    continue;
-                }
-                FlowVariable v = (FlowVariable)e;
-                if (!typesAsList.contains(v.getType())) {
-                    continue;
-                }
-                if (!hash.containsKey(v.getName())) {
-                    hash.put(v.getName(), v);
-                }
+        for (Entry entry = m_top; entry != null; entry = entry.m_below) {
+            FlowObject e = entry.m_object;
+            if (!(e instanceof FlowVariable)) {
+                continue;
+            }
+            FlowVariable v = (FlowVariable)e;
+            if (!typesAsList.contains(v.getType())) {
+                continue;
+            }
+            if (!hash.containsKey(v.getName())) {
+                hash.put(v.getName(), v);
             }
         }
         return Collections.unmodifiableMap(hash);
@@ -436,15 +485,14 @@ public Map<String, FlowVariable> getAvailableFlowVariables(final FlowVariable.Ty
     List<FlowObject> getFlowObjectsOwnedBy(final NodeID id,
             final Scope... ignoredScopes) {
         List<FlowObject> result = new ArrayList<FlowObject>();
-        synchronized (m_stack) {
-            FilteredScopeIterator it = new FilteredScopeIterator(m_stack.iterator(), ignoredScopes);
-            while (it.hasNext()) {
-                FlowObject v = it.next();
-                if (v.getOwner().equals(id)) {
-                    result.add(v);
-                }
+        FilteredScopeIterator it = new FilteredScopeIterator(iterator(), ignoredScopes);
+        while (it.hasNext()) {
+            FlowObject v = it.next();
+            if (v.getOwner().equals(id)) {
+                result.add(v);
             }
         }
+        Collections.reverse(result); // bottom of stack first
         return result;
     }
 
@@ -464,33 +512,31 @@ public void push(final FlowObject item) {
      * null for elements pushed by the sub node right after construction.
      * @param item The null item to push.
      */
-    void pushWithOwner(final FlowObject item) {
+    synchronized void pushWithOwner(final FlowObject item) {
         CheckUtils.checkArgument(item.getOwner() != null, "Item should have owner set at this point: %s", item);
-        m_stack.add(item);
+        m_top = new Entry(item, m_top);
     }
 
     /**
      * @return true if stack is empty
      */
     boolean isEmpty() {
-        return m_stack.isEmpty();
+        return m_top == null;
     }
 
     /** Get number of elements in the stack.
      * @return size of stack. */
     int size() {
-        return m_stack.size();
+        return size(m_top);
     }
 
     /** Get iterator on elements, top of stack first. The iterator is
      * read only and not affected by potential modifications of the stack
-     * after this method returns (iterator on copy).
+     * after this method returns (the stack entries are immutable, no copy is made).
      * {@inheritDoc} */
     @Override
     public Iterator<FlowObject> iterator() {
-        Vector<FlowObject> copy = new Vector<FlowObject>(m_stack);
-        Collections.reverse(copy);
-        return Collections.unmodifiableList(copy).iterator();
+        return new EntryIterator(m_top);
     }
 
     /**
@@ -506,10 +552,8 @@ public String toString() {
     public int hashCode() {
         // stacks are not really used in hashs ... but since we implement equals
         int hash = m_nodeID.hashCode();
-        synchronized (m_stack) {
-            for (FlowObject o : m_stack) {
-                hash += o.hashCode();
-            }
+        for (Entry entry = m_top; entry != null; entry = entry.m_below) {
+            hash += entry.m_object.hashCode();
         }
         return hash;
     }
@@ -524,10 +568,23 @@ public boolean equals(final Object obj) {
             return false;
         }
         FlowObjectStack o = (FlowObjectStack)obj;
-        synchronized (m_stack) {
-            return o.m_nodeID.equals(m_nodeID)
-                && o.m_stack.equals(m_stack); // deep equals!
+        if (!o.m_nodeID.equals(m_nodeID)) {
+            return false;
+        }
+        Entry thisEntry = m_top;
+        Entry otherEntry = o.m_top;
+        if (size(thisEntry) != size(otherEntry)) {
+            return false;
+        }
+        // deep equals - stops at the first shared entry (common prefix)
+        while (thisEntry != otherEntry) {
+            if (!thisEntry.m_object.equals(otherEntry.m_object)) {
+                return false;
+            }
+            thisEntry = thisEntry.m_below;
+            otherEntry = otherEntry.m_below;
         }
+        return true;
     }
 
     /**
@@ -539,12 +596,9 @@ public String toDeepString() {
         b.append(m_nodeID);
         b.append("---");
         b.append('\n');
-        synchronized (m_stack) {
-            for (int i = m_stack.size() - 1; i >= 0; --i) {
-                FlowObject o = m_stack.get(i);
-                b.append(o);
-                b.append('\n');
-            }
+        for (Entry entry = m_top; entry != null; entry = entry.m_below) {
+            b.append(entry.m_object);
+            b.append('\n');
         }
         b.append("--------");
         return b.toString();
@@ -605,6 +659,76 @@ private static final Pair<String, Type> getVariableDefinition(
         return new Pair<String, Type>(varName, varType);
     }
 
+    private static int size(final Entry entry) {
+        return entry == null ? 0 : entry.m_size;
+    }
+
+    /** Immutable element of the stack. Entries are shared among stacks; each stack only references its top entry. */
+    private static final class Entry {
+
+        private final FlowObject m_object;
+        private final Entry m_below;
+        private final int m_size;
+        /** Bit mask of hash codes of all objects in this entry's bucket, i.e. this entry and all entries below up to
+         * the next scope context. Used to quickly rule out duplicates in {@link #isMergeInvariant(Entry)}. */
+        private final long m_bucketHashBits;
+        /** Whether the list starting at this entry is the result of a merge, i.e. merging it again will not change
+         * it. This is a property of the (immutable) list and only cached here. */
+        private volatile boolean m_isMerged;
+
+        Entry(final FlowObject object, final Entry below) {
+            m_object = object;
+            m_below = below;
+            m_size = size(below) + 1;
+            if (object instanceof FlowScopeContext) {
+                m_bucketHashBits = 0L;
+            } else {
+                m_bucketHashBits = (below == null ? 0L : below.m_bucketHashBits) | hashBit(object);
+            }
+        }
+
+        static long hashBit(final FlowObject object) {
+            return 1L << (object.hashCode() & 63);
+        }
+
+        /** @return the objects of the list starting at the argument entry, bottom of stack first. */
+        static List<FlowObject> toBottomUpList(final Entry top) {
+            FlowObject[] result = new FlowObject[size(top)];
+            int i = result.length;
+            for (Entry e = top; e != null; e = e.m_below) {
+                result[--i] = e.m_object;
+            }
+            return Arrays.asList(result);
+        }
+    }
+
+    /** Read-only iterator on a list of entries, top of stack first. */
+    private static final class EntryIterator implements Iterator<FlowObject> {
+
+        private Entry m_next;
+
+        EntryIterator(final Entry top) {
+            m_next = top;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean hasNext() {
+            return m_next != null;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public FlowObject next() {
+            if (m_next == null) {
+                throw new NoSuchElementException("Iterator at end");
+            }
+            FlowObject result = m_next.m_object;
+            m_next = m_next.m_below;
+            return result;
+        }
+    }
+
     /** Iterator that removes flow variables with given scopes from an
      * underlying iterator. Used, for instance to remove "local" variables when
      * merging stacks of predecessor nodes.
@@ -66,6 +66,14 @@ void preLoadNodeContainer(final WorkflowPersistor parentPersistor,
                               final NodeSettingsRO parentSettings, LoadResult loadResult)
                               throws InvalidSettingsException, IOException;
 
+    /** Reads and parses the settings file of the node (settings.xml or workflow.knime) ahead of
+     * {@link #preLoadNodeContainer(WorkflowPersistor, NodeSettingsRO, LoadResult)}, which then uses the parsed
+     * settings instead of reading the file again. Called concurrently for the nodes of a workflow (parallel
+     * workflow load); must not throw, failures are reported by the subsequent pre-load.
+     * @param parentPersistor persistor of the workflow containing the node
+     */
+    void prefetchSettingsFile(final WorkflowPersistor parentPersistor);
+
     /** Called on single node persistors if their factory can't be loaded (extension not installed). They will
      * check their up- and downstream nodes and guess their port types from. (Port types are defined in the node
      * code, which is missing here).
@@ -68,6 +68,21 @@ public interface LoopStartParallelizeNode extends LoopStartNode {
 	 */
     public int getNrRemoteChunks();
 
+    /**
+     * Number of remote chunks executed concurrently. If smaller than {@link #getNrRemoteChunks()}, the chunks are
+     * processed adaptively: copies of the loop body are created only for this many chunks upfront and a copy for the
+     * next chunk is created whenever one finishes, so that chunks that finish early pick up the remaining work (the
+     * input should then be split into many small chunks, see
+     * {@link ParallelizedChunkContentMaster#getAdaptiveChunkCount(long, int)}). The results are still collected in
+     * chunk order.
+     *
+     * @return number of concurrently executed remote chunks, by default all ({@link #getNrRemoteChunks()})
+     * @since 3.8
+     */
+    public default int getMaxConcurrentRemoteChunks() {
+        return getNrRemoteChunks();
+    }
+
     /** Set parallel chunk master so the start node has access to clean up
      * when reset.
      *
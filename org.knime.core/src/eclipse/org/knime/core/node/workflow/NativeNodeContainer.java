@@ -75,6 +75,7 @@
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.Node;
 import org.knime.core.node.NodeAndBundleInformationPersistor;
 import org.knime.core.node.NodeConfigureHelper;
@@ -1026,27 +1027,34 @@ public void setDirty() {
          */
         // if-statement fixes bug 1777: ensureOpen can cause trouble if there
         // is a deep hierarchy of BDTs
-        if (!isDirty()) {
-            NodeContext.pushContext(this);
-            try { // only for node context push
+        // (with lazy table data the data is read by the persistor right before the node directory is replaced)
+        if (!isDirty() && !Boolean.getBoolean(KNIMEConstants.PROPERTY_LAZY_TABLE_DATA)) {
+            ensureOutputDataIsRead();
+        }
+        super.setDirty();
+    }
+
+    /** Reads the output data and file stores from the saved location (if not done so before) so that the node
+     * directory can be safely deleted or overwritten. */
+    void ensureOutputDataIsRead() {
+        NodeContext.pushContext(this);
+        try { // only for node context push
+            try {
+                m_node.ensureOutputDataIsRead();
+            } catch (Exception e) {
+                LOGGER.error("Unable to read output data", e);
+            }
+            IFileStoreHandler fileStoreHandler = m_node.getFileStoreHandler();
+            if (fileStoreHandler instanceof IWriteFileStoreHandler) {
                 try {
-                    m_node.ensureOutputDataIsRead();
-                } catch (Exception e) {
-                    LOGGER.error("Unable to read output data", e);
+                    ((IWriteFileStoreHandler)fileStoreHandler).ensureOpenAfterLoad();
+                } catch (IOException e) {
+                    LOGGER.error("Unable to open file store handler " + fileStoreHandler, e);
                 }
-                IFileStoreHandler fileStoreHandler = m_node.getFileStoreHandler();
-                if (fileStoreHandler instanceof IWriteFileStoreHandler) {
-                    try {
-                        ((IWriteFileStoreHandler)fileStoreHandler).ensureOpenAfterLoad();
-                    } catch (IOException e) {
-                        LOGGER.error("Unable to open file store handler " + fileStoreHandler, e);
-                    }
-                }
-            } finally {
-                NodeContext.removeLastContext();
             }
+        } finally {
+            NodeContext.removeLastContext();
         }
-        super.setDirty();
     }
 
     @Override
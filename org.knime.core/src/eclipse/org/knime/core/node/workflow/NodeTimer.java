@@ -197,6 +197,18 @@ void addExecutionTime(final String cname, final boolean success, final long exec
                 processStatChanges();
             }
         }
+        /**
+         * @param cname canonical name of the node type
+         * @return average duration of executions of that node type in ms or -1 if it never executed successfully
+         */
+        synchronized long getAverageExecutionTime(final String cname) {
+            NodeStats ns = m_globalNodeStats.get(cname);
+            if (ns == null || ns.executionCount == 0) {
+                return -1;
+            }
+            return ns.executionTime / (ns.executionCount + ns.failureCount);
+        }
+
         public void addNodeCreation(final NodeContainer nc) {
             if (DISABLE_GLOBAL_TIMER) {
                 return;
@@ -718,6 +730,21 @@ public long getExecutionDurationSinceStart() {
         return m_executionDurationOverall;
     }
 
+    /**
+     * Estimates the duration of the next execution of the node: the duration of its last execution if it was
+     * executed since it was created or loaded, otherwise the average duration of nodes of the same type (as recorded
+     * in the {@link #GLOBAL_TIMER}).
+     *
+     * @return the estimated duration in ms or -1 if unknown
+     * @since 3.8
+     */
+    public long getEstimatedExecutionDuration() {
+        if (m_lastExecutionDuration >= 0) {
+            return m_lastExecutionDuration;
+        }
+        return GLOBAL_TIMER.getAverageExecutionTime(getCanonicalName(m_parent));
+    }
+
     public int getNrExecsSinceReset() {
         return m_numberOfExecutionsSinceReset;
     }
@@ -0,0 +1,164 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.node.workflow;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.port.PortObject;
+
+/**
+ * Reads the data of tables that have been restored from a saved workflow in the background. Tables of a loaded
+ * workflow are only read (copied from the workflow directory into the temp directory) when they are first accessed,
+ * which usually happens when a successor node starts executing. Once a node is queued its input data is known, so the
+ * data can already be read while the node waits for a free execution slot (or while the data of its other inputs is
+ * read). Enabled via {@link KNIMEConstants#PROPERTY_LAZY_TABLE_DATA}.
+ *
+ * @author agent
+ */
+final class TablePrefetcher {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(TablePrefetcher.class);
+
+    private static final boolean IS_ENABLED = Boolean.getBoolean(KNIMEConstants.PROPERTY_LAZY_TABLE_DATA);
+
+    /** Reading tables is mostly I/O bound, a few threads suffice to saturate the disc. */
+    private static final int NR_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+    /**
+     * The threads reading the tables. It's not the global thread pool as prefetching must not take slots from node
+     * executions.
+     */
+    private static final ThreadPoolExecutor PREFETCH_EXECUTORS = new ThreadPoolExecutor(NR_THREADS, NR_THREADS, 60L,
+        TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+            private final AtomicInteger m_threadCount = new AtomicInteger();
+
+            /** {@inheritDoc} */
+            @Override
+            public Thread newThread(final Runnable r) {
+                Thread t = new Thread(r, "KNIME-TablePrefetcher-" + m_threadCount.incrementAndGet());
+                t.setDaemon(true);
+                t.setPriority(Thread.MIN_PRIORITY);
+                return t;
+            }
+        });
+
+    static {
+        PREFETCH_EXECUTORS.allowCoreThreadTimeOut(true);
+    }
+
+    /** Tables currently scheduled or being read, used to avoid duplicate submissions. */
+    private static final Set<BufferedDataTable> IN_PROGRESS =
+        Collections.newSetFromMap(new ConcurrentHashMap<BufferedDataTable, Boolean>());
+
+    private TablePrefetcher() {
+    }
+
+    /**
+     * Schedules the tables among the argument objects to be read in the background (if enabled). Tables that are
+     * already read return immediately from {@link BufferedDataTable}'s open routine, so it's cheap to call this method
+     * for any input data.
+     *
+     * @param nc The node that is going to consume the data, used as context for the temp files.
+     * @param inData The input data of that node, elements may be null.
+     */
+    static void prefetch(final NodeContainer nc, final PortObject[] inData) {
+        if (IS_ENABLED) {
+            submit(nc, inData);
+        }
+    }
+
+    /**
+     * Schedules the tables among the argument objects to be read in the background, independent of
+     * {@link KNIMEConstants#PROPERTY_LAZY_TABLE_DATA}. Package scope for tests.
+     *
+     * @param nc The node that is going to consume the data, used as context for the temp files.
+     * @param inData The input data of that node, elements may be null.
+     * @return The futures of the newly scheduled reads (tables already scheduled are skipped).
+     */
+    static List<Future<?>> submit(final NodeContainer nc, final PortObject[] inData) {
+        List<Future<?>> result = new ArrayList<>();
+        for (PortObject o : inData) {
+            if (o instanceof BufferedDataTable) {
+                final BufferedDataTable table = (BufferedDataTable)o;
+                if (IN_PROGRESS.add(table)) {
+                    result.add(PREFETCH_EXECUTORS.submit(() -> read(nc, table)));
+                }
+            }
+        }
+        return result;
+    }
+
+    private static void read(final NodeContainer nc, final BufferedDataTable table) {
+        NodeContext.pushContext(nc);
+        try {
+            Node.invokeEnsureOpen(table);
+        } catch (Exception e) {
+            // the consuming node will run into the same problem and report it
+            LOGGER.debug("Unable to prefetch input table of node \"" + nc.getNameWithID() + "\": "
+                + e.getMessage(), e);
+        } finally {
+            NodeContext.removeLastContext();
+            IN_PROGRESS.remove(table);
+        }
+    }
+
+}
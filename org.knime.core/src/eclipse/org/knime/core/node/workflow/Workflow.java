@@ -47,11 +47,15 @@
  */
 package org.knime.core.node.workflow;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -155,7 +159,7 @@ void putNode(final NodeID id, final NodeContainer nc) {
         m_connectionsByDest.put(id, new LinkedHashSet<ConnectionContainer>());
         // and then add node (avoid inconsistent node - connection setup)
         m_nodes.put(id, nc);
-        clearGraphAnnotationCache();
+        invalidateGraphAnnotationCache(Collections.singleton(id));
     }
 
     /** Remove given node.
@@ -167,9 +171,23 @@ NodeContainer removeNode(final NodeID id) {
         // remove node
         NodeContainer node = m_nodes.remove(id);
         // and then clean up the connection lists  (avoid inconsistent node - connection setup)
-        m_connectionsBySource.remove(id);
-        m_connectionsByDest.remove(id);
-        clearGraphAnnotationCache();
+        Set<ConnectionContainer> outConnections = m_connectionsBySource.remove(id);
+        Set<ConnectionContainer> inConnections = m_connectionsByDest.remove(id);
+        // drop the node's annotations and re-analyze neighbors it was still connected to (usually none)
+        removeGraphAnnotations(id);
+        Set<NodeID> neighbors = new LinkedHashSet<NodeID>();
+        if (outConnections != null) {
+            for (ConnectionContainer cc : outConnections) {
+                neighbors.addAll(getNodesAffectedByConnection(cc));
+            }
+        }
+        if (inConnections != null) {
+            for (ConnectionContainer cc : inConnections) {
+                neighbors.addAll(getNodesAffectedByConnection(cc));
+            }
+        }
+        neighbors.remove(id);
+        invalidateGraphAnnotationCache(neighbors);
         // and return removed node container
         return node;
     }
@@ -240,7 +258,7 @@ Collection<Set<ConnectionContainer>> getConnectionsBySourceValues() {
      * @throws IllegalArgumentException if connection does not exist.
      */
     void removeConnection(final ConnectionContainer cc) throws IllegalArgumentException {
-        clearGraphAnnotationCache();
+        invalidateGraphAnnotationCache(getNodesAffectedByConnection(cc));
         // 1) try to delete it from set of outgoing connections
         if (!m_connectionsBySource.get(cc.getSource()).remove(cc)) {
             throw new IllegalArgumentException("Connection does not exist!");
@@ -257,7 +275,7 @@ void removeConnection(final ConnectionContainer cc) throws IllegalArgumentExcept
     * @throws IllegalArgumentException if connection cannot be added.
     */
     void addConnection(final ConnectionContainer cc) throws IllegalArgumentException {
-        clearGraphAnnotationCache();
+        invalidateGraphAnnotationCache(getNodesAffectedByConnection(cc));
         // 1) try to insert it into set of outgoing connections
         if (!m_connectionsBySource.get(cc.getSource()).add(cc)) {
             throw new IllegalArgumentException("Connection already exists!");
@@ -576,9 +594,7 @@ HashMap<NodeID, Integer> getStartNodes(/*final int inPort*/) {
      * @return set of outport indices
      */
     Set<Integer> connectedOutPorts(final int inPortIx) {
-        if (m_nodeAnnotationCache == null) {
-            updateGraphAnnotationCache();
-        }
+        updateGraphAnnotationCache();
         HashSet<Integer> outSet = new HashSet<Integer>();
         for (ConnectionContainer cc : m_connectionsBySource.get(this.getID())) {
             if (cc.getSourcePort() == inPortIx) {
@@ -586,21 +602,19 @@ Set<Integer> connectedOutPorts(final int inPortIx) {
                     assert ConnectionContainer.ConnectionType.WFMTHROUGH.equals(cc.getType());
                     outSet.add(cc.getDestPort());
                 } else {
-                    for (NodeGraphAnnotation nga : m_nodeAnnotationCache) {
-                        if (nga.getID().equals(cc.getDest())) {
-                            if (nga.getOutportIndex() == -1) {
-                                // the simple one, just add all metanode outports this node connects to:
+                    for (NodeGraphAnnotation nga : getCachedGraphAnnotations(cc.getDest())) {
+                        if (nga.getOutportIndex() == -1) {
+                            // the simple one, just add all metanode outports this node connects to:
+                            outSet.addAll(nga.getConnectedOutportIndices());
+                        } else {
+                            // more complex, a metanode. We need to first figure out which ports we
+                            // are connected to before potentially adding the outport lists.
+                            NodeContainer nc = getNode(nga.getID());
+                            assert nc instanceof WorkflowManager;
+                            Set<Integer> outPorts
+                                        = ((WorkflowManager)nc).getWorkflow().connectedOutPorts(cc.getDestPort());
+                            if (outPorts.contains(nga.getOutportIndex())) {
                                 outSet.addAll(nga.getConnectedOutportIndices());
-                            } else {
-                                // more complex, a metanode. We need to first figure out which ports we
-                                // are connected to before potentially adding the outport lists.
-                                NodeContainer nc = getNode(nga.getID());
-                                assert nc instanceof WorkflowManager;
-                                Set<Integer> outPorts
-                                            = ((WorkflowManager)nc).getWorkflow().connectedOutPorts(cc.getDestPort());
-                                if (outPorts.contains(nga.getOutportIndex())) {
-                                    outSet.addAll(nga.getConnectedOutportIndices());
-                                }
                             }
                         }
                     }
@@ -829,9 +843,7 @@ private ArrayList<NodeAndInports> findAllNodesInbetween(
      * @return set of inport indices
      */
     Set<Integer> connectedInPorts(final int outPortIx) {
-        if (m_nodeAnnotationCache == null) {
-            updateGraphAnnotationCache();
-        }
+        updateGraphAnnotationCache();
         HashSet<Integer> inSet = new HashSet<Integer>();
         for (ConnectionContainer cc : m_connectionsByDest.get(this.getID())) {
             if (cc.getDestPort() == outPortIx) {
@@ -839,11 +851,9 @@ Set<Integer> connectedInPorts(final int outPortIx) {
                     assert ConnectionContainer.ConnectionType.WFMTHROUGH.equals(cc.getType());
                     inSet.add(cc.getSourcePort());
                 } else {
-                    for (NodeGraphAnnotation nga : m_nodeAnnotationCache) {
-                        if (nga.getID().equals(cc.getSource())) {
-                            if ((nga.getOutportIndex() == -1) || (nga.getOutportIndex() == cc.getSourcePort())) {
-                                inSet.addAll(nga.getConnectedInportIndices());
-                            }
+                    for (NodeGraphAnnotation nga : getCachedGraphAnnotations(cc.getSource())) {
+                        if ((nga.getOutportIndex() == -1) || (nga.getOutportIndex() == cc.getSourcePort())) {
+                            inSet.addAll(nga.getConnectedInportIndices());
                         }
                     }
                 }
@@ -1378,18 +1388,14 @@ NodeID getMatchingLoopEnd(final NodeID id) throws IllegalLoopException {
        if (!snc.isModelCompatibleTo(LoopStartNode.class)) {
            throw new IllegalArgumentException("Not a LoopStartNode " + id);
        }
-       if (m_nodeAnnotationCache == null) {
-           this.updateGraphAnnotationCache();
-       }
-       for (NodeGraphAnnotation nga : m_nodeAnnotationCache) {
-           if (nga.getID().equals(id)) {
-               assert nga.getOutportIndex() == -1;  // must be SingleNodeContainer, ports don't matter.
-               NodeID end = nga.peekEndNodeStack();
-               if (end != null) {
-                   return end;
-               } else {
-                   throw new IllegalLoopException("Could not find matching loop end node!");
-               }
+       updateGraphAnnotationCache();
+       for (NodeGraphAnnotation nga : getCachedGraphAnnotations(id)) {
+           assert nga.getOutportIndex() == -1;  // must be SingleNodeContainer, ports don't matter.
+           NodeID end = nga.peekEndNodeStack();
+           if (end != null) {
+               return end;
+           } else {
+               throw new IllegalLoopException("Could not find matching loop end node!");
            }
        }
        assert false : "Failed to find NodeGraphAnnotation for node from this very workflow.";
@@ -1412,26 +1418,22 @@ NodeID getMatchingLoopStart(final NodeID id) throws IllegalLoopException {
        if (!snc.isModelCompatibleTo(LoopEndNode.class)) {
            throw new IllegalArgumentException("Not a LoopEndNode " + id);
        }
-       if (m_nodeAnnotationCache == null) {
-           this.updateGraphAnnotationCache();
-       }
-       for (NodeGraphAnnotation nga : m_nodeAnnotationCache) {
-           if (nga.getID().equals(id)) {
-               assert nga.getOutportIndex() == -1;  // must be SingleNodeContainer, ports don't matter.
-               NodeID start = nga.peekStartNodeStack();
-               if (start != null) {
-                   NodeContainer ncls = getNode(start);
-                   if (!(ncls instanceof SingleNodeContainer)) {
-                       throw new IllegalLoopException(id + " is not connected to a SNC / LoopStartNode but " + start);
-                   }
-                   SingleNodeContainer sncls = (SingleNodeContainer)ncls;
-                   if (!sncls.isModelCompatibleTo(LoopStartNode.class)) {
-                       throw new IllegalLoopException(id + " is not connected to a LoopStartNode but " + start);
-                   }
-                   return start;
-               } else {
-                   throw new IllegalLoopException("Could not find matching loop start node!");
+       updateGraphAnnotationCache();
+       for (NodeGraphAnnotation nga : getCachedGraphAnnotations(id)) {
+           assert nga.getOutportIndex() == -1;  // must be SingleNodeContainer, ports don't matter.
+           NodeID start = nga.peekStartNodeStack();
+           if (start != null) {
+               NodeContainer ncls = getNode(start);
+               if (!(ncls instanceof SingleNodeContainer)) {
+                   throw new IllegalLoopException(id + " is not connected to a SNC / LoopStartNode but " + start);
+               }
+               SingleNodeContainer sncls = (SingleNodeContainer)ncls;
+               if (!sncls.isModelCompatibleTo(LoopStartNode.class)) {
+                   throw new IllegalLoopException(id + " is not connected to a LoopStartNode but " + start);
                }
+               return start;
+           } else {
+               throw new IllegalLoopException("Could not find matching loop start node!");
            }
        }
        assert false : "Failed to find NodeGraphAnnotation for node from this very workflow.";
@@ -1488,16 +1490,9 @@ ArrayList<NodeAndInports> findAllNodesConnectedToLoopBody(final NodeID startNode
      * @since 2.8
      */
     public List<NodeContainer> getNodesInScope(final SingleNodeContainer anchor) {
-        if (m_nodeAnnotationCache == null) {
-            updateGraphAnnotationCache();
-        }
-        NodeID scope = null;
-        for (NodeGraphAnnotation nga : m_nodeAnnotationCache) {
-            if (nga.getID().equals(anchor.getID())) {
-                scope = nga.peekStartNodeStack();
-                break;
-            }
-        }
+        updateGraphAnnotationCache();
+        List<NodeGraphAnnotation> anchorNGAs = getCachedGraphAnnotations(anchor.getID());
+        NodeID scope = anchorNGAs.isEmpty() ? null : anchorNGAs.get(0).peekStartNodeStack();
         ArrayList<NodeContainer> result = new ArrayList<NodeContainer>();
         if (scope == null) {
             // no scope - return anchor only
@@ -1522,16 +1517,8 @@ public List<NodeContainer> getNodesInScope(final SingleNodeContainer anchor) {
      * @since 2.8
      */
     public Set<NodeGraphAnnotation> getNodeGraphAnnotations(final NodeID id) {
-        if (m_nodeAnnotationCache == null) {
-            updateGraphAnnotationCache();
-        }
-        HashSet<NodeGraphAnnotation> output = new HashSet<NodeGraphAnnotation>();
-        for (NodeGraphAnnotation nga : m_nodeAnnotationCache) {
-            if (nga.getID().equals(id)) {
-                output.add(nga);
-            }
-        }
-        return output;
+        updateGraphAnnotationCache();
+        return new HashSet<NodeGraphAnnotation>(getCachedGraphAnnotations(id));
     }
 
     /**
@@ -1545,161 +1532,364 @@ public NodeGraphAnnotation getSingleNodeGraphAnnotation(final NodeID id)
         if (!(m_nodes.get(id) instanceof SingleNodeContainer)) {
             throw new IllegalArgumentException(id + " is not a SingleNodeContainer!");
         }
-        if (m_nodeAnnotationCache == null) {
-            updateGraphAnnotationCache();
-        }
-        for (NodeGraphAnnotation nga : m_nodeAnnotationCache) {
-            if (nga.getID().equals(id)) {
-                return nga;
-            }
+        updateGraphAnnotationCache();
+        List<NodeGraphAnnotation> ngas = getCachedGraphAnnotations(id);
+        if (ngas.isEmpty()) {
+            throw new IllegalArgumentException("No NodeGraphAnnotation found for " + id);
         }
-        throw new IllegalArgumentException("No NodeGraphAnnotation found for " + id);
+        return ngas.get(0);
     }
 
-    /** hold graph based annotations for all nodes. */
+    /** hold graph based annotations for all nodes (sorted by depth), null if a full analysis is required. */
     private ArrayList<NodeGraphAnnotation> m_nodeAnnotationCache = null;
 
-    /** clean cache - called internally whenever the structure (connections/nodes) are altered. */
-    private void clearGraphAnnotationCache() {
+    /** the annotations of m_nodeAnnotationCache indexed by node ID. */
+    private HashMap<NodeID, List<NodeGraphAnnotation>> m_nodeAnnotationIndex =
+            new HashMap<NodeID, List<NodeGraphAnnotation>>();
+
+    /** nodes whose connectivity has changed since the last analysis - only their downstream cone (and the
+     * predecessors of that cone) need to be re-analyzed. */
+    private final LinkedHashSet<NodeID> m_dirtyAnnotationNodes = new LinkedHashSet<NodeID>();
+
+    /** clean cache - enforces a complete re-analysis of the workflow graph. Package scope so that tests can compare
+     * the incrementally updated annotations against a complete analysis. */
+    void clearGraphAnnotationCache() {
         m_nodeAnnotationCache = null;
-        // also clear cache in parent - changes here may affect the connectivity outside as well.
+        m_nodeAnnotationIndex.clear();
+        m_dirtyAnnotationNodes.clear();
+        invalidateParentGraphAnnotationCache();
+    }
+
+    /** Mark annotations as outdated - called internally whenever the structure (connections/nodes) is altered.
+     *
+     * @param changedNodes nodes whose connections were altered (may include the ID of this workflow for
+     *            connections leaving the metanode inports).
+     */
+    private void invalidateGraphAnnotationCache(final Collection<NodeID> changedNodes) {
+        if (m_nodeAnnotationCache != null) {
+            for (NodeID id : changedNodes) {
+                if (!id.equals(getID()) && !m_nodes.containsKey(id)) {
+                    // unknown node (e.g. a wrapped metanode's inner workflow) - no way to be smart about it.
+                    m_nodeAnnotationCache = null;
+                    m_nodeAnnotationIndex.clear();
+                    m_dirtyAnnotationNodes.clear();
+                    break;
+                }
+                m_dirtyAnnotationNodes.add(id);
+            }
+        }
+        invalidateParentGraphAnnotationCache();
+    }
+
+    /** Changes here may affect the connectivity outside as well - mark this metanode in the parent. */
+    private void invalidateParentGraphAnnotationCache() {
         if (m_wfm != null && m_wfm.getParent() != null && m_wfm.getParent().getWorkflow() != null) {
-            m_wfm.getParent().getWorkflow().clearGraphAnnotationCache();
+            m_wfm.getParent().getWorkflow().invalidateGraphAnnotationCache(Collections.singleton(getID()));
+        }
+    }
+
+    /** @param cc a connection which was added or removed
+     * @return the nodes whose annotations are affected by this connection. */
+    private List<NodeID> getNodesAffectedByConnection(final ConnectionContainer cc) {
+        // connections into a metanode outport only affect the backward analysis of the source
+        return cc.getDest().equals(getID()) ? Collections.singletonList(cc.getSource())
+            : Arrays.asList(cc.getSource(), cc.getDest());
+    }
+
+    /** Drop the annotations of a node which is removed from this workflow.
+     * @param id of the removed node */
+    private void removeGraphAnnotations(final NodeID id) {
+        if (m_nodeAnnotationCache != null && m_nodeAnnotationIndex.remove(id) != null) {
+            for (Iterator<NodeGraphAnnotation> it = m_nodeAnnotationCache.iterator(); it.hasNext();) {
+                if (it.next().getID().equals(id)) {
+                    it.remove();
+                }
+            }
+        }
+        m_dirtyAnnotationNodes.remove(id);
+    }
+
+    /** @param id of node
+     * @return the annotations of the given node from the (up to date) cache, empty list if there are none. */
+    private List<NodeGraphAnnotation> getCachedGraphAnnotations(final NodeID id) {
+        List<NodeGraphAnnotation> ngas = m_nodeAnnotationIndex.get(id);
+        return ngas == null ? Collections.<NodeGraphAnnotation> emptyList() : ngas;
+    }
+
+    /** Determine all nodes whose annotations need to be recomputed after the given nodes have changed: the
+     * forward analysis (depth, scope start stack) changes for all successors, the backward analysis (scope
+     * end stack, connected metanode outports) for all predecessors of those successors. Note that the result
+     * contains the complete upstream closure of the downstream cone (not only the direct predecessors): the end
+     * stack of a node is derived from all its successors, so a change propagates to all transitive predecessors,
+     * and the backward merge accumulates state, so it cannot be re-applied to a node without resetting it. For
+     * edits close to the sources of a workflow this is most of the graph - the savings are in the (common) case
+     * of edits near the end of a long workflow and in the skipped forward analysis of unaffected branches.
+     *
+     * @param changedNodes the nodes whose connections were modified.
+     * @return set of affected nodes, including the changed nodes.
+     */
+    private Set<NodeID> collectNodesAffectedByChange(final Collection<NodeID> changedNodes) {
+        HashSet<NodeID> downstream = new HashSet<NodeID>();
+        ArrayDeque<NodeID> pending = new ArrayDeque<NodeID>();
+        for (NodeID id : changedNodes) {
+            if (downstream.add(id)) {
+                pending.add(id);
+            }
+        }
+        while (!pending.isEmpty()) {
+            for (ConnectionContainer cc : m_connectionsBySource.get(pending.poll())) {
+                // connections into metanode outports end the search (this ID represents the inports only)
+                NodeID destID = cc.getDest();
+                if (!destID.equals(getID()) && downstream.add(destID)) {
+                    pending.add(destID);
+                }
+            }
         }
+        HashSet<NodeID> affected = new HashSet<NodeID>(downstream);
+        for (NodeID id : downstream) {
+            if (!id.equals(getID())) {
+                pending.add(id);
+            }
+        }
+        while (!pending.isEmpty()) {
+            for (ConnectionContainer cc : m_connectionsByDest.get(pending.poll())) {
+                NodeID sourceID = cc.getSource();
+                if (affected.add(sourceID) && !sourceID.equals(getID())) {
+                    pending.add(sourceID);
+                }
+            }
+        }
+        return affected;
     }
 
-    /** Analyse entire workflow graph and mark scope start/end node pairs and
+    /** Work list of the forward graph analysis. Annotations which change after they have been processed are moved
+     * to the end of the list (leaving a null slot behind) so that their successors are updated as well. */
+    private static final class AnnotationWorkList {
+        private final ArrayList<NodeGraphAnnotation> m_list = new ArrayList<NodeGraphAnnotation>();
+        private final IdentityHashMap<NodeGraphAnnotation, Integer> m_positions =
+                new IdentityHashMap<NodeGraphAnnotation, Integer>();
+        private final HashMap<NodeID, List<NodeGraphAnnotation>> m_index =
+                new HashMap<NodeID, List<NodeGraphAnnotation>>();
+
+        void add(final NodeGraphAnnotation nga) {
+            m_positions.put(nga, m_list.size());
+            m_list.add(nga);
+            List<NodeGraphAnnotation> ngas = m_index.get(nga.getID());
+            if (ngas == null) {
+                ngas = new ArrayList<NodeGraphAnnotation>(2);
+                m_index.put(nga.getID(), ngas);
+            }
+            ngas.add(nga);
+        }
+
+        /** @return annotations of the given node sorted by their position in the list (possibly empty). */
+        List<NodeGraphAnnotation> get(final NodeID id) {
+            List<NodeGraphAnnotation> ngas = m_index.get(id);
+            if (ngas == null) {
+                return Collections.emptyList();
+            }
+            if (ngas.size() > 1) {
+                ngas = new ArrayList<NodeGraphAnnotation>(ngas);
+                Collections.sort(ngas, (a, b) -> Integer.compare(m_positions.get(a), m_positions.get(b)));
+            }
+            return ngas;
+        }
+
+        int getPosition(final NodeGraphAnnotation nga) {
+            return m_positions.get(nga);
+        }
+
+        void moveToEnd(final NodeGraphAnnotation nga) {
+            m_list.set(m_positions.get(nga), null);
+            m_positions.put(nga, m_list.size());
+            m_list.add(nga);
+        }
+    }
+
+    /** Analyse workflow graph and mark scope start/end node pairs and
      * level of layered depth search. Do not dive into metanodes but consider
      * their internal connectivity to continue outside search on appropriate
-     * ports.
+     * ports. If the cache exists and only a few nodes were changed since the last
+     * analysis, only the annotations of the affected part of the graph are recomputed.
      */
     private void updateGraphAnnotationCache() {
-        LOGGER.debug("Triggering graph analysis on " + getID());
-        assert m_nodeAnnotationCache == null;
-        m_nodeAnnotationCache = new ArrayList<NodeGraphAnnotation>();
+        if (m_nodeAnnotationCache != null && m_dirtyAnnotationNodes.isEmpty()) {
+            return;
+        }
+        // null = all nodes are affected
+        final Set<NodeID> affected;
+        if (m_nodeAnnotationCache == null) {
+            LOGGER.debug("Triggering graph analysis on " + getID());
+            affected = null;
+        } else {
+            affected = collectNodesAffectedByChange(m_dirtyAnnotationNodes);
+            LOGGER.debug("Triggering graph analysis on " + getID() + " for " + affected.size() + " of "
+                + getNrNodes() + " nodes");
+        }
+        m_dirtyAnnotationNodes.clear();
+        AnnotationWorkList workList = new AnnotationWorkList();
         // 1) add start nodes.
         // insert metanode itself with all connected inports as "outport" indices
-        for (ConnectionContainer cc : getConnectionsBySource(getID())) {
-            NodeGraphAnnotation nls = new NodeGraphAnnotation(getID(), cc.getSourcePort());
-            if (!m_nodeAnnotationCache.contains(nls)) {
-                m_nodeAnnotationCache.add(nls);
+        if (affected == null || affected.contains(getID())) {
+            HashSet<Integer> inports = new HashSet<Integer>();
+            for (ConnectionContainer cc : getConnectionsBySource(getID())) {
+                if (inports.add(cc.getSourcePort())) {
+                    workList.add(new NodeGraphAnnotation(getID(), cc.getSourcePort()));
+                }
             }
         }
         // also add source nodes with all of their outports (SNC or WFM doesn't matter here!)
         for (NodeID id : m_nodes.keySet()) {
-            if (m_connectionsByDest.get(id).size() == 0) {
+            if ((affected == null || affected.contains(id)) && m_connectionsByDest.get(id).size() == 0) {
                 NodeContainer nc = m_nodes.get(id);
-                NodeGraphAnnotation nls = new NodeGraphAnnotation(nc);
-                m_nodeAnnotationCache.add(nls);
+                workList.add(new NodeGraphAnnotation(nc));
             }
         }
-        // 2) follow chain of nodes and keep adding until we reach an end or a metanode outport.
-        int currIndex = 0;
-        while (currIndex < m_nodeAnnotationCache.size()) {
-            NodeGraphAnnotation currNGA = m_nodeAnnotationCache.get(currIndex);
-            NodeID currID = currNGA.getID();
-            int currOutport = currNGA.getOutportIndex();
-            // find all nodes that are connected to this node/outport pair
-            for (ConnectionContainer cc : this.getConnectionsBySource(currID)) {
-                if ((currOutport == -1) || (currOutport == cc.getSourcePort())) {
-                    NodeID destID = cc.getDest();
-                    if (!destID.equals(this.getID())) {
-                        // only if we have not yet reached an outport - try to find node/port in existing list:
-                        NodeContainer destNC = m_nodes.get(destID);
-                        int destInPort = cc.getDestPort();
-                        // determine set of relevant outport indices
-                        Set<Integer> connectedOutports;
-                        if (destNC instanceof SingleNodeContainer) {
-                            // trivial for SNC: all ports (indicated by -1 place holder)
-                            connectedOutports = new HashSet<Integer>();
-                            connectedOutports.add(-1);
-                        } else {
-                            assert destNC instanceof WorkflowManager;
-                            // retrieve outports of this node that are (internally) connected to given inport
-                            connectedOutports = ((WorkflowManager)destNC).getWorkflow().connectedOutPorts(destInPort);
-                        }
-                        int ix = 0;
-                        while (ix < m_nodeAnnotationCache.size()) {
-                            NodeGraphAnnotation nga = m_nodeAnnotationCache.get(ix);
-                            int outportIndex = nga.getOutportIndex();
-                            if ((nga.getID().equals(destID)) && (connectedOutports.contains(outportIndex))) {
-                                assert ix != currIndex;
-                                // node is already in list, merge stacks with "new" element
-                                // and check if we made any adjustments:
-                                if (nga.mergeForward(new NodeGraphAnnotation(destNC, outportIndex, currNGA))) {
-                                    // changes were made, let's check if we need to move the node.
-                                    if (ix < currIndex) {
-                                        // move node to end of list if it was already "touched" so that depth,
-                                        // stacks, and other info of its successors will also be adjusted!
-                                        NodeGraphAnnotation ngaOrg = m_nodeAnnotationCache.remove(ix);
-                                        assert ngaOrg.getID().equals(nga.getID());
-                                        m_nodeAnnotationCache.add(nga);
-                                        // critical: we removed an element in our list which resided before our
-                                        // pointer. Make sure we still point to current node.
-                                        currIndex--;
-                                        ix--;
-                                    }
+        // in case of an incremental update: continue from the (unchanged) predecessors outside the affected part
+        if (affected != null) {
+            for (NodeID id : m_nodes.keySet()) {
+                if (affected.contains(id)) {
+                    for (ConnectionContainer cc : m_connectionsByDest.get(id)) {
+                        if (!affected.contains(cc.getSource())) {
+                            for (NodeGraphAnnotation srcNGA : getCachedGraphAnnotations(cc.getSource())) {
+                                if ((srcNGA.getOutportIndex() == -1)
+                                        || (srcNGA.getOutportIndex() == cc.getSourcePort())) {
+                                    followConnectionForward(srcNGA, -1, cc, workList, affected);
                                 }
-                                // remove this port from our list - no need to add it "as new" later.
-                                connectedOutports.remove(outportIndex);
                             }
-                            if (connectedOutports.size() == 0) {
-                                // skip the rest of the list...
-                                ix = m_nodeAnnotationCache.size();
-                            }
-                            ix++;
-                        }
-                        for (int o : connectedOutports) {
-                            // ...it's a node/port combo not yet in our list: add it
-                            NodeGraphAnnotation nga = new NodeGraphAnnotation(destNC, o, currNGA);
-                            m_nodeAnnotationCache.add(nga);
                         }
                     }
                 }
             }
-            currIndex++;
+        }
+        // 2) follow chain of nodes and keep adding until we reach an end or a metanode outport.
+        for (int currIndex = 0; currIndex < workList.m_list.size(); currIndex++) {
+            NodeGraphAnnotation currNGA = workList.m_list.get(currIndex);
+            if (currNGA == null) {
+                // was moved to the end of the list
+                continue;
+            }
+            int currOutport = currNGA.getOutportIndex();
+            // find all nodes that are connected to this node/outport pair
+            for (ConnectionContainer cc : this.getConnectionsBySource(currNGA.getID())) {
+                if ((currOutport == -1) || (currOutport == cc.getSourcePort())) {
+                    followConnectionForward(currNGA, currIndex, cc, workList, affected);
+                }
+            }
+        }
+        // merge with the annotations of the unaffected nodes
+        ArrayList<NodeGraphAnnotation> annotations = new ArrayList<NodeGraphAnnotation>();
+        if (affected == null) {
+            m_nodeAnnotationIndex = workList.m_index;
+        } else {
+            for (NodeGraphAnnotation nga : m_nodeAnnotationCache) {
+                if (!affected.contains(nga.getID())) {
+                    annotations.add(nga);
+                }
+            }
+            m_nodeAnnotationIndex.keySet().removeAll(affected);
+            m_nodeAnnotationIndex.putAll(workList.m_index);
+        }
+        for (NodeGraphAnnotation nga : workList.m_list) {
+            if (nga != null) {
+                annotations.add(nga);
+            }
         }
         // make sure nodes are inversely sorted by their final depth!
-        Collections.sort(m_nodeAnnotationCache);
-        Collections.reverse(m_nodeAnnotationCache);
+        Collections.sort(annotations);
+        Collections.reverse(annotations);
         // now let's do all of this backwards, so that we also detect end nodes depending on
-        // the same start node:
-        for (NodeGraphAnnotation nga : m_nodeAnnotationCache) {
-            NodeID currID = nga.getID();
-            int currOutPort = nga.getOutportIndex();
-            HashSet<NodeGraphAnnotation> connectedNGAs = new HashSet<NodeGraphAnnotation>();
-            for (ConnectionContainer cc : m_connectionsBySource.get(currID)) {
-                if ((currOutPort == -1) || currOutPort == cc.getSourcePort()) {
-                    NodeID destID = cc.getDest();
-                    if (destID.equals(getID())) {
-                        // leaving metanode, remember port index!
-                        nga.addConnectedOutport(cc.getDestPort());
+        // the same start node (successors outside the affected part keep their annotations):
+        for (NodeGraphAnnotation nga : annotations) {
+            if (affected == null || affected.contains(nga.getID())) {
+                analyzeBackward(nga);
+            }
+        }
+        // and finally sort node again:
+        Collections.reverse(annotations);
+        m_nodeAnnotationCache = annotations;
+    }
+
+    /** Forward analysis along one connection: create or merge the annotations of the destination node.
+     *
+     * @param currNGA annotation of the source node
+     * @param currIndex position of currNGA in the work list, -1 if it is not part of the list
+     * @param cc the connection to follow
+     * @param workList the work list
+     * @param affected nodes to (re-)analyze, null for all
+     */
+    private void followConnectionForward(final NodeGraphAnnotation currNGA, final int currIndex,
+        final ConnectionContainer cc, final AnnotationWorkList workList, final Set<NodeID> affected) {
+        NodeID destID = cc.getDest();
+        if (destID.equals(this.getID()) || (affected != null && !affected.contains(destID))) {
+            // reached an outport or a node whose annotations are not affected by the change
+            return;
+        }
+        NodeContainer destNC = m_nodes.get(destID);
+        int destInPort = cc.getDestPort();
+        // determine set of relevant outport indices
+        Set<Integer> connectedOutports;
+        if (destNC instanceof SingleNodeContainer) {
+            // trivial for SNC: all ports (indicated by -1 place holder)
+            connectedOutports = new HashSet<Integer>();
+            connectedOutports.add(-1);
+        } else {
+            assert destNC instanceof WorkflowManager;
+            // retrieve outports of this node that are (internally) connected to given inport
+            connectedOutports = ((WorkflowManager)destNC).getWorkflow().connectedOutPorts(destInPort);
+        }
+        for (NodeGraphAnnotation nga : workList.get(destID)) {
+            int outportIndex = nga.getOutportIndex();
+            // remove this port from our list - no need to add it "as new" later.
+            if (connectedOutports.remove(outportIndex)) {
+                assert nga != currNGA;
+                // node is already in list, merge stacks with "new" element
+                // and check if we made any adjustments:
+                if (nga.mergeForward(new NodeGraphAnnotation(destNC, outportIndex, currNGA))
+                        && workList.getPosition(nga) < currIndex) {
+                    // move node to end of list if it was already "touched" so that depth,
+                    // stacks, and other info of its successors will also be adjusted!
+                    workList.moveToEnd(nga);
+                }
+            }
+        }
+        for (int o : connectedOutports) {
+            // ...it's a node/port combo not yet in our list: add it
+            workList.add(new NodeGraphAnnotation(destNC, o, currNGA));
+        }
+    }
+
+    /** Backward analysis of one annotation, all annotations of its successors must be final.
+     * @param nga the annotation to complete */
+    private void analyzeBackward(final NodeGraphAnnotation nga) {
+        NodeID currID = nga.getID();
+        int currOutPort = nga.getOutportIndex();
+        HashSet<NodeGraphAnnotation> connectedNGAs = new HashSet<NodeGraphAnnotation>();
+        for (ConnectionContainer cc : m_connectionsBySource.get(currID)) {
+            if ((currOutPort == -1) || currOutPort == cc.getSourcePort()) {
+                NodeID destID = cc.getDest();
+                if (destID.equals(getID())) {
+                    // leaving metanode, remember port index!
+                    nga.addConnectedOutport(cc.getDestPort());
+                } else {
+                    NodeContainer destNC = getNode(destID);
+                    if (destNC instanceof SingleNodeContainer) {
+                        // just add the NGA of the successor
+                        connectedNGAs.addAll(getCachedGraphAnnotations(destID));
                     } else {
-                        NodeContainer destNC = getNode(destID);
-                        if (destNC instanceof SingleNodeContainer) {
-                            // just add the NGA of the successor
-                            for (NodeGraphAnnotation nga2 : m_nodeAnnotationCache) {
-                                if (nga2.getID().equals(destID)) {
-                                    connectedNGAs.add(nga2);
-                                }
-                            }
-                        } else {
-                            assert destNC instanceof WorkflowManager;
-                            // add only NGAs that are available on outports which are connected this inport
-                            Set<Integer> connectedOutPorts
-                                    = ((WorkflowManager)destNC).getWorkflow().connectedOutPorts(cc.getDestPort());
-                            for (NodeGraphAnnotation nga2 : m_nodeAnnotationCache) {
-                                if (nga2.getID().equals(destID) && connectedOutPorts.contains(nga2.getOutportIndex())) {
-                                    connectedNGAs.add(nga2);
-                                }
+                        assert destNC instanceof WorkflowManager;
+                        // add only NGAs that are available on outports which are connected this inport
+                        Set<Integer> connectedOutPorts
+                                = ((WorkflowManager)destNC).getWorkflow().connectedOutPorts(cc.getDestPort());
+                        for (NodeGraphAnnotation nga2 : getCachedGraphAnnotations(destID)) {
+                            if (connectedOutPorts.contains(nga2.getOutportIndex())) {
+                                connectedNGAs.add(nga2);
                             }
                         }
                     }
                 }
             }
-            nga.setAndMergeBackwards(connectedNGAs);
         }
-        // and finally sort node again:
-        Collections.reverse(m_nodeAnnotationCache);
+        nga.setAndMergeBackwards(connectedNGAs);
     }
 }
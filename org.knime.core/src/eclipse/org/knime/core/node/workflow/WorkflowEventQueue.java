@@ -0,0 +1,236 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.node.workflow;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Queue of {@link WorkflowEvent}s that are yet to be delivered to the listeners of the workflows. Events are not
+ * delivered one task per event but the queue is drained by a single task on the notifier executor: all events that
+ * became pending while the notifier was busy are delivered in batches, see
+ * {@link WorkflowListener#workflowChangedBatch(List)}. An event that is identical to the last pending one (same type,
+ * node and listeners, e.g. repeated {@link WorkflowEvent.Type#WORKFLOW_DIRTY}) is dropped.
+ *
+ * <p>All workflows share one queue so that events are delivered in the order they occurred, also across workflows
+ * (events of different workflows go to different listeners and hence end up in different batches). Each event is
+ * delivered to the listeners that were registered at the time the event was queued (see
+ * {@link WorkflowManager#addListener(WorkflowListener)}). Listeners that don't override
+ * {@link WorkflowListener#workflowChangedBatch(List)} get each event separately so that an exception thrown for one
+ * event does not suppress the remaining events of the batch.
+ *
+ * @author agent
+ */
+final class WorkflowEventQueue {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(WorkflowEventQueue.class);
+
+    /** Queue depth at which a debug message is logged. Doubled each time it's reached. */
+    private static final int LOG_THRESHOLD = 1000;
+
+    private static final AtomicInteger PENDING_EVENTS = new AtomicInteger();
+
+    private static final AtomicInteger MAX_PENDING_EVENTS = new AtomicInteger();
+
+    private static final AtomicInteger NEXT_LOG_THRESHOLD = new AtomicInteger(LOG_THRESHOLD);
+
+    private static final LongAdder DELIVERED_EVENTS = new LongAdder();
+
+    private static final LongAdder COALESCED_EVENTS = new LongAdder();
+
+    private static final LongAdder BATCHES = new LongAdder();
+
+    /** Whether a listener class overrides {@link WorkflowListener#workflowChangedBatch(List)}. */
+    private static final ClassValue<Boolean> IS_BATCH_AWARE = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+            try {
+                return type.getMethod("workflowChangedBatch", List.class).getDeclaringClass()
+                        != WorkflowListener.class;
+            } catch (NoSuchMethodException e) {
+                return Boolean.FALSE;
+            }
+        }
+    };
+
+    private final Executor m_notifier;
+
+    /** Guarded by this. */
+    private final ArrayDeque<PendingEvent> m_pending = new ArrayDeque<>();
+
+    /** Whether a drain task is submitted to the notifier and not yet finished. Guarded by this. */
+    private boolean m_isDrainScheduled;
+
+    /**
+     * @param notifier The executor to run the delivery on, must be single threaded to retain the order of events.
+     */
+    WorkflowEventQueue(final Executor notifier) {
+        m_notifier = notifier;
+    }
+
+    /**
+     * Queues an event for delivery.
+     *
+     * @param event The event.
+     * @param listeners The current listeners, not empty.
+     */
+    void enqueue(final WorkflowEvent event, final WorkflowListener[] listeners) {
+        boolean isScheduleDrain;
+        synchronized (this) {
+            PendingEvent last = m_pending.peekLast();
+            if (last != null && last.isSameAs(event, listeners)) {
+                COALESCED_EVENTS.increment();
+                return;
+            }
+            m_pending.addLast(new PendingEvent(event, listeners));
+            isScheduleDrain = !m_isDrainScheduled;
+            m_isDrainScheduled = true;
+        }
+        int pending = PENDING_EVENTS.incrementAndGet();
+        MAX_PENDING_EVENTS.accumulateAndGet(pending, Math::max);
+        int threshold = NEXT_LOG_THRESHOLD.get();
+        if (pending >= threshold && NEXT_LOG_THRESHOLD.compareAndSet(threshold, 2 * threshold)) {
+            LOGGER.debug("Workflow event backlog reached " + pending + " events - " + getStatistics());
+        }
+        if (isScheduleDrain) {
+            m_notifier.execute(this::drain);
+        }
+    }
+
+    /** Delivers all pending events, runs in the notifier thread. */
+    private void drain() {
+        while (true) {
+            List<PendingEvent> batch;
+            synchronized (this) {
+                if (m_pending.isEmpty()) {
+                    m_isDrainScheduled = false;
+                    return;
+                }
+                batch = new ArrayList<>(m_pending);
+                m_pending.clear();
+            }
+            PENDING_EVENTS.addAndGet(-batch.size());
+            BATCHES.increment();
+            deliver(batch);
+        }
+    }
+
+    /** Delivers runs of events with the same listeners as one batch each. */
+    private static void deliver(final List<PendingEvent> batch) {
+        int start = 0;
+        while (start < batch.size()) {
+            WorkflowListener[] listeners = batch.get(start).m_listeners;
+            int end = start + 1;
+            while (end < batch.size() && Arrays.equals(listeners, batch.get(end).m_listeners)) {
+                end++;
+            }
+            List<WorkflowEvent> events = new ArrayList<>(end - start);
+            for (int i = start; i < end; i++) {
+                events.add(batch.get(i).m_event);
+            }
+            for (WorkflowListener l : listeners) {
+                if (IS_BATCH_AWARE.get(l.getClass())) {
+                    try {
+                        l.workflowChangedBatch(events);
+                    } catch (Throwable t) {
+                        logListenerFailure(l, t);
+                    }
+                } else {
+                    for (WorkflowEvent event : events) {
+                        try {
+                            l.workflowChanged(event);
+                        } catch (Throwable t) {
+                            logListenerFailure(l, t);
+                        }
+                    }
+                }
+            }
+            DELIVERED_EVENTS.add(end - start);
+            start = end;
+        }
+    }
+
+    private static void logListenerFailure(final WorkflowListener l, final Throwable t) {
+        LOGGER.error("Workflow listener \"" + l.getClass().getName() + "\" failed: " + t.getMessage(), t);
+    }
+
+    /** @return a snapshot of the statistics of the queue. */
+    static WorkflowEventStatistics getStatistics() {
+        return new WorkflowEventStatistics(PENDING_EVENTS.get(), MAX_PENDING_EVENTS.get(), DELIVERED_EVENTS.sum(),
+            COALESCED_EVENTS.sum(), BATCHES.sum());
+    }
+
+    /** An event along with the listeners registered when it occurred. */
+    private static final class PendingEvent {
+
+        private final WorkflowEvent m_event;
+
+        private final WorkflowListener[] m_listeners;
+
+        PendingEvent(final WorkflowEvent event, final WorkflowListener[] listeners) {
+            m_event = event;
+            m_listeners = listeners;
+        }
+
+        /** Whether the argument event carries the same information (ignoring time stamp). */
+        boolean isSameAs(final WorkflowEvent event, final WorkflowListener[] listeners) {
+            return m_event.getType() == event.getType() && Objects.equals(m_event.getID(), event.getID())
+                && m_event.getOldValue() == event.getOldValue() && m_event.getNewValue() == event.getNewValue()
+                && Arrays.equals(m_listeners, listeners);
+        }
+    }
+
+}
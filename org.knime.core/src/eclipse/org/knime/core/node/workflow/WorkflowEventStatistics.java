@@ -0,0 +1,117 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.node.workflow;
+
+/**
+ * Snapshot of the statistics of the asynchronous delivery of {@link WorkflowEvent}s to {@link WorkflowListener}s,
+ * see {@link WorkflowManager#getEventStatistics()}. Counts cover all workflows in this JVM.
+ *
+ * @author agent
+ * @since 3.8
+ * @noreference This class is not intended to be referenced by clients.
+ * @noinstantiate This class is not intended to be instantiated by clients.
+ */
+public final class WorkflowEventStatistics {
+
+    private final int m_pendingEvents;
+
+    private final int m_maxPendingEvents;
+
+    private final long m_deliveredEvents;
+
+    private final long m_coalescedEvents;
+
+    private final long m_batches;
+
+    WorkflowEventStatistics(final int pendingEvents, final int maxPendingEvents, final long deliveredEvents,
+        final long coalescedEvents, final long batches) {
+        m_pendingEvents = pendingEvents;
+        m_maxPendingEvents = maxPendingEvents;
+        m_deliveredEvents = deliveredEvents;
+        m_coalescedEvents = coalescedEvents;
+        m_batches = batches;
+    }
+
+    /** @return number of events queued but not yet delivered (the current queue depth) */
+    public int getPendingEvents() {
+        return m_pendingEvents;
+    }
+
+    /** @return the maximum queue depth observed so far */
+    public int getMaxPendingEvents() {
+        return m_maxPendingEvents;
+    }
+
+    /** @return number of events delivered to listeners */
+    public long getDeliveredEvents() {
+        return m_deliveredEvents;
+    }
+
+    /** @return number of events dropped as they were merged into an identical pending event */
+    public long getCoalescedEvents() {
+        return m_coalescedEvents;
+    }
+
+    /** @return number of batches the events were delivered in */
+    public long getBatches() {
+        return m_batches;
+    }
+
+    /** @return average number of events per batch, 0 if nothing was delivered */
+    public double getAverageBatchSize() {
+        return m_batches == 0 ? 0.0 : m_deliveredEvents / (double)m_batches;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return String.format("%d pending workflow events (max %d), %d delivered in %d batches (avg %.1f), "
+            + "%d coalesced", m_pendingEvents, m_maxPendingEvents, m_deliveredEvents, m_batches,
+            getAverageBatchSize(), m_coalescedEvents);
+    }
+}
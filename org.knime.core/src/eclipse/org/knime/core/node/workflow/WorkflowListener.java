@@ -48,6 +48,8 @@
  */
 package org.knime.core.node.workflow;
 
+import java.util.List;
+
 /**
  * Interface for listeners that receive workflow events.
  * 
@@ -61,4 +63,18 @@ public interface WorkflowListener {
      */
     public void workflowChanged(final WorkflowEvent event);
 
+    /**
+     * Called from the manager with events that were pending at the same time, in the order they occurred. Listeners
+     * that can handle several changes more efficiently than one by one (e.g. by refreshing only once) may override
+     * this method. The default implementation calls {@link #workflowChanged(WorkflowEvent)} for each event.
+     *
+     * @param events the events that occurred, not empty
+     * @since 3.8
+     */
+    public default void workflowChangedBatch(final List<WorkflowEvent> events) {
+        for (WorkflowEvent event : events) {
+            workflowChanged(event);
+        }
+    }
+
 }
@@ -227,6 +227,10 @@ public Thread newThread(final Runnable r) {
         }
     });
 
+    /** Events to be delivered to the listeners of all workflows - one queue so that the order across workflows is
+     * retained. */
+    private static final WorkflowEventQueue EVENT_QUEUE = new WorkflowEventQueue(WORKFLOW_NOTIFIER);
+
     /**
      * Executor for asynchronous invocation of queueCheckForNodeStateChangeNotification in an unconnected parent. If a
      * queueCheckForNodeStateChangeNotification-Thread is already waiting, additional ones will be discarded.
@@ -2832,6 +2836,7 @@ private boolean queueIfQueuable(final NodeContainer nc) {
                 if (mustHalt) {
                     return false;
                 } else if (nc.queue(inData)) {
+                    TablePrefetcher.prefetch(nc, inData);
                     return true;
                 } else {
                     // coming from UNCONFIGURED_MARKEDFOREXEC and can't be queued
@@ -3353,13 +3358,23 @@ private void parallelizeLoop(final NodeID startID) throws IllegalLoopException {
                     }
                 }
             }
-            ParallelizedChunkContentMaster pccm =
-                new ParallelizedChunkContentMaster(subwfm, endNode, startNode.getNrRemoteChunks());
-            for (int i = 0; i < startNode.getNrRemoteChunks(); i++) {
+            final int nrChunks = startNode.getNrRemoteChunks();
+            final int nrConcurrentChunks = Math.max(1, Math.min(startNode.getMaxConcurrentRemoteChunks(), nrChunks));
+            ParallelizedChunkContentMaster pccm;
+            if (nrConcurrentChunks < nrChunks) {
+                // adaptive mode: further chunks are created by the master whenever a chunk finishes
+                final WorkflowManager chunkWFM = subwfm;
+                pccm = new ParallelizedChunkContentMaster(subwfm, endNode, nrChunks, nrConcurrentChunks,
+                    i -> duplicateLoopBodyInSubWFMandAttach(chunkWFM, extInConnections, startID, endID, loopNodes, i));
+            } else {
+                pccm = new ParallelizedChunkContentMaster(subwfm, endNode, nrChunks);
+            }
+            for (int i = 0; i < Math.min(nrConcurrentChunks, nrChunks); i++) {
                 ParallelizedChunkContent copiedNodes =
                     duplicateLoopBodyInSubWFMandAttach(subwfm, extInConnections, startID, endID, loopNodes, i);
-                copiedNodes.executeChunk();
+                // register before execution so that the master doesn't miss the chunk's completion
                 pccm.addParallelChunk(i, copiedNodes);
+                copiedNodes.executeChunk();
             }
             // make sure head knows his chunk master (for potential cleanup)
             startNode.setChunkMaster(pccm);
@@ -7198,21 +7213,24 @@ private final void notifyWorkflowListeners(final WorkflowEvent evt) {
         if (m_wfmListeners.isEmpty()) {
             return;
         }
-        // the iterator is based on the current(!) set of listeners
+        // the event is delivered to the current(!) set of listeners
         // (problem was: during load the addNodeContainer method fired an event
         // by using this method - the event got delivered at a point where
         // the workflow editor was registered and marked the flow as being dirty
         // although it was freshly loaded)
-        final Iterator<WorkflowListener> it = m_wfmListeners.iterator();
-        WORKFLOW_NOTIFIER.execute(new Runnable() {
-            /** {@inheritDoc} */
-            @Override
-            public void run() {
-                while (it.hasNext()) {
-                    it.next().workflowChanged(evt);
-                }
-            }
-        });
+        EVENT_QUEUE.enqueue(evt, m_wfmListeners.toArray(new WorkflowListener[0]));
+    }
+
+    /**
+     * Returns the statistics of the asynchronous delivery of workflow events (queue depth, batches, coalesced events)
+     * of all workflows.
+     *
+     * @return a snapshot of the event statistics
+     * @since 3.8
+     * @noreference This method is not intended to be referenced by clients.
+     */
+    public static WorkflowEventStatistics getEventStatistics() {
+        return WorkflowEventQueue.getStatistics();
     }
 
     // bug fix 1810, notify children about possible job manager changes
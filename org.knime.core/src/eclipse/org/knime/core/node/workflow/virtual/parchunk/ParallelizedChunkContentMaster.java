@@ -48,22 +48,62 @@
  */
 package org.knime.core.node.workflow.virtual.parchunk;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntFunction;
+
+import org.knime.core.node.NodeLogger;
 import org.knime.core.node.workflow.LoopEndParallelizeNode;
+import org.knime.core.node.workflow.LoopStartParallelizeNode;
 import org.knime.core.node.workflow.NodeContainer;
 import org.knime.core.node.workflow.NodeStateChangeListener;
 import org.knime.core.node.workflow.NodeStateEvent;
+import org.knime.core.node.workflow.WorkflowLock;
 import org.knime.core.node.workflow.WorkflowManager;
 
 /**
  * Represents all parallel chunks ({@link ParallelizedChunkContent}) together and also encapsulating metanode.
  *
+ * <p>Chunks are either all created and executed upfront or, in adaptive mode, only a limited number of them runs
+ * concurrently and the copy of the loop body for the next chunk is created whenever a running one finishes (see
+ * {@link LoopStartParallelizeNode#getMaxConcurrentRemoteChunks()}). In either case the chunks keep their index, so
+ * the loop end collects the results in the original order.
+ *
  * @author M. Berthold, University of Konstanz
  */
 public class ParallelizedChunkContentMaster implements NodeStateChangeListener {
 
-    /** Individual chunks. */
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ParallelizedChunkContentMaster.class);
+
+    /** Number of chunks per concurrently executed chunk suggested by
+     * {@link #getAdaptiveChunkCount(long, int)}. */
+    private static final int CHUNKS_PER_CONCURRENT_CHUNK = 4;
+
+    /** Creates the copies for further chunks outside the workflow lock held while notifying state changes. */
+    private static final ExecutorService CHUNK_DISPATCHER = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "KNIME-Parallel-Chunk-Dispatcher");
+        t.setDaemon(true);
+        return t;
+    });
+
+    /** Individual chunks, null for chunks that are not yet created (adaptive mode). */
     private ParallelizedChunkContent[] m_chunks;
 
+    /** Creates the chunk of a given index, null unless in adaptive mode. */
+    private final IntFunction<ParallelizedChunkContent> m_chunkCreator;
+
+    /** Index of the next chunk to create (adaptive mode), guarded by m_chunks. */
+    private int m_nextChunkIndex;
+
+    /** Chunks whose completion has triggered the creation of another chunk, guarded by m_chunks. */
+    private final boolean[] m_isCompletionHandled;
+
+    /** Set when a chunk fails, execution is canceled or the chunks are cleaned up; no more chunks are created then.
+     * Guarded by m_chunks. */
+    private boolean m_isStopped;
+
     /** metanode container for all chunks. */
     private WorkflowManager m_manager;
 
@@ -79,12 +119,49 @@ public class ParallelizedChunkContentMaster implements NodeStateChangeListener {
      */
     public ParallelizedChunkContentMaster(final WorkflowManager wfm,
             final LoopEndParallelizeNode endNode, final int chunkCount) {
+        this(wfm, endNode, chunkCount, chunkCount, null);
+    }
+
+    /** Create new chunk object master for adaptive mode. The caller adds (and executes) the first
+     * <code>maxConcurrentChunks</code> chunks, further chunks are created using the argument function (which is called
+     * with the workflow lock held) whenever a chunk finishes successfully.
+     *
+     * @param wfm the workflowmanager holding the chunks, not null
+     * @param endNode corresponding end node of the loop
+     * @param chunkCount the number of chunks.
+     * @param maxConcurrentChunks the number of chunks executed concurrently, at most <code>chunkCount</code>
+     * @param chunkCreator creates (but doesn't execute) the chunk of a given index, not null if
+     *            <code>maxConcurrentChunks &lt; chunkCount</code>
+     * @since 3.8
+     */
+    public ParallelizedChunkContentMaster(final WorkflowManager wfm, final LoopEndParallelizeNode endNode,
+        final int chunkCount, final int maxConcurrentChunks,
+        final IntFunction<ParallelizedChunkContent> chunkCreator) {
+        if (maxConcurrentChunks < chunkCount && (wfm == null || chunkCreator == null)) {
+            throw new IllegalArgumentException("Adaptive mode requires workflow and chunk creator");
+        }
         m_manager = wfm;
         m_endNode = endNode;
         m_chunks = new ParallelizedChunkContent[chunkCount];
+        m_isCompletionHandled = new boolean[chunkCount];
+        m_chunkCreator = chunkCreator;
+        m_nextChunkIndex = Math.min(maxConcurrentChunks, chunkCount);
         m_endNode.setParallelChunkMaster(this);
     }
 
+    /** Suggests the number of chunks for adaptive mode: several per concurrently executed chunk so that chunks that
+     * finish early pick up remaining work, but not more than there are rows.
+     *
+     * @param rowCount number of rows to split
+     * @param maxConcurrentChunks number of chunks executed concurrently
+     * @return the number of chunks, at least 1
+     * @since 3.8
+     */
+    public static int getAdaptiveChunkCount(final long rowCount, final int maxConcurrentChunks) {
+        long count = Math.min(rowCount, (long)maxConcurrentChunks * CHUNKS_PER_CONCURRENT_CHUNK);
+        return (int)Math.max(1L, count);
+    }
+
     /** Add a new chunk to the list.
      *
      * @param index of chunk
@@ -107,7 +184,7 @@ public int nrChunks() {
 
     /**
      * @param i index
-     * @return chunk of given index
+     * @return chunk of given index, null if not yet created (adaptive mode)
      */
     public ParallelizedChunkContent getChunk(final int i) {
         return m_chunks[i];
@@ -121,7 +198,7 @@ public void executeChunks() {
             ParallelizedChunkContent pcc = m_chunks[i];
             if (pcc != null) {
                 pcc.executeChunk();
-            } else {
+            } else if (m_chunkCreator == null) {
                 throw new NullPointerException("Chunk " + i + " not set!");
             }
         }
@@ -134,7 +211,7 @@ public int nrExecutedChunks() {
         int count = 0;
         for (int i = 0; i < m_chunks.length; i++) {
             ParallelizedChunkContent pcc = m_chunks[i];
-            if (pcc.isExecuted()) {
+            if (pcc != null && pcc.isExecuted()) {
                 count++;
             }
         }
@@ -142,28 +219,32 @@ public int nrExecutedChunks() {
     }
 
     /**
-     * @return number of executing chunks
+     * @return number of executing chunks (including those not yet created in adaptive mode)
      */
     public int nrExecutingChunks() {
         int count = 0;
-        for (int i = 0; i < m_chunks.length; i++) {
-            ParallelizedChunkContent pcc = m_chunks[i];
-            if (pcc.executionInProgress()) {
-                count++;
+        synchronized (m_chunks) {
+            for (int i = 0; i < m_chunks.length; i++) {
+                ParallelizedChunkContent pcc = m_chunks[i];
+                if (pcc == null ? !m_isStopped : pcc.executionInProgress()) {
+                    count++;
+                }
             }
         }
         return count;
     }
 
     /**
-     * @return number of failed (==IDLE) chunks
+     * @return number of failed (==IDLE) chunks (including those not created in adaptive mode due to a failure)
      */
     public int nrFailedChunks() {
         int count = 0;
-        for (int i = 0; i < m_chunks.length; i++) {
-            ParallelizedChunkContent pcc = m_chunks[i];
-            if ((!pcc.executionInProgress()) && (!pcc.isExecuted())) {
-                count++;
+        synchronized (m_chunks) {
+            for (int i = 0; i < m_chunks.length; i++) {
+                ParallelizedChunkContent pcc = m_chunks[i];
+                if (pcc == null ? m_isStopped : ((!pcc.executionInProgress()) && (!pcc.isExecuted()))) {
+                    count++;
+                }
             }
         }
         return count;
@@ -173,12 +254,11 @@ public int nrFailedChunks() {
      * Trigger cancelation of chunk execution
      */
     public void cancelChunkExecution() {
-        synchronized (m_chunks) {
-            for (int i = 0; i < m_chunks.length; i++) {
-                ParallelizedChunkContent pbc = m_chunks[i];
-                if (pbc.executionInProgress()) {
-                    pbc.cancelExecution();
-                }
+        // canceling takes the workflow lock, which must not be requested while holding m_chunks (lock order is
+        // workflow first, see createAndExecuteNextChunk)
+        for (ParallelizedChunkContent pbc : stopAndGetChunks(false)) {
+            if (pbc.executionInProgress()) {
+                pbc.cancelExecution();
             }
         }
     }
@@ -187,26 +267,40 @@ public void cancelChunkExecution() {
      * Clean up chunks (and containing WFM).
      */
     public void cleanupChunks() {
+        // same lock order as in cancelChunkExecution: m_chunks is released before the workflow is modified
+        for (ParallelizedChunkContent pbc : stopAndGetChunks(true)) {
+            pbc.removeLoopEndStateChangeListener(this);
+        }
+        if ((m_manager != null) && m_manager.getParent().containsNodeContainer(m_manager.getID())) {
+            WorkflowManager parent = m_manager.getParent();
+            NodeContainer nc = parent.getNodeContainer(m_manager.getID());
+            if (m_manager == nc) {
+                // need to make sure that this is not just another node
+                // with the same ID (in rare cases this can happen if
+                // the metanode was cleared but the StartNode did not
+                // get notified and calls this function again.)
+                parent.removeNode(m_manager.getID());
+            }
+        }
+    }
+
+    /** Stops the creation of further chunks (adaptive mode).
+     * @param clear whether to remove the chunks from this master
+     * @return the chunks created so far */
+    private List<ParallelizedChunkContent> stopAndGetChunks(final boolean clear) {
+        List<ParallelizedChunkContent> chunks = new ArrayList<>();
         synchronized (m_chunks) {
+            m_isStopped = true;
             for (int i = 0; i < m_chunks.length; i++) {
-                ParallelizedChunkContent pbc = m_chunks[i];
-                if (pbc != null) {
-                    pbc.removeLoopEndStateChangeListener(this);
-                    m_chunks[i] = null;
-                }
-            }
-            if ((m_manager != null) && m_manager.getParent().containsNodeContainer(m_manager.getID())) {
-                WorkflowManager parent = m_manager.getParent();
-                NodeContainer nc = parent.getNodeContainer(m_manager.getID());
-                if (m_manager == nc) {
-                    // need to make sure that this is not just another node
-                    // with the same ID (in rare cases this can happen if
-                    // the metanode was cleared but the StartNode did not
-                    // get notified and calls this function again.)
-                    parent.removeNode(m_manager.getID());
+                if (m_chunks[i] != null) {
+                    chunks.add(m_chunks[i]);
+                    if (clear) {
+                        m_chunks[i] = null;
+                    }
                 }
             }
         }
+        return chunks;
     }
 
     /**
@@ -214,8 +308,58 @@ public void cleanupChunks() {
      */
     @Override
     public void stateChanged(final NodeStateEvent state) {
+        if (m_chunkCreator != null) {
+            dispatchNextChunks();
+        }
         // notify end node about new status
         m_endNode.updateStatus();
     }
 
+    /** Schedules the creation of a new chunk for each chunk that has finished since the last call (adaptive mode).
+     * Stops creating chunks once a chunk fails. */
+    private void dispatchNextChunks() {
+        int newChunkCount = 0;
+        // chunks are created and queued for execution while holding the workflow lock, so none is seen in between
+        try (WorkflowLock lock = m_manager.lock()) {
+            synchronized (m_chunks) {
+                for (int i = 0; i < m_chunks.length && !m_isStopped; i++) {
+                    ParallelizedChunkContent pcc = m_chunks[i];
+                    if (pcc == null || m_isCompletionHandled[i] || pcc.executionInProgress()) {
+                        continue;
+                    }
+                    m_isCompletionHandled[i] = true;
+                    if (pcc.isExecuted()) {
+                        newChunkCount++;
+                    } else {
+                        m_isStopped = true;
+                    }
+                }
+            }
+        }
+        for (int i = 0; i < newChunkCount; i++) {
+            CHUNK_DISPATCHER.execute(this::createAndExecuteNextChunk);
+        }
+    }
+
+    private void createAndExecuteNextChunk() {
+        // same lock order as on reset (which cleans up the chunks): workflow first
+        try (WorkflowLock lock = m_manager.lock()) {
+            synchronized (m_chunks) {
+                if (m_isStopped || m_nextChunkIndex >= m_chunks.length) {
+                    return;
+                }
+                int index = m_nextChunkIndex++;
+                try {
+                    ParallelizedChunkContent pcc = m_chunkCreator.apply(index);
+                    addParallelChunk(index, pcc);
+                    pcc.executeChunk();
+                } catch (RuntimeException e) {
+                    LOGGER.error("Unable to create parallel chunk " + index + ": " + e.getMessage(), e);
+                    m_isStopped = true;
+                }
+            }
+        }
+        m_endNode.updateStatus();
+    }
+
 }
@@ -0,0 +1,446 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (agent): created
+ */
+package org.knime.core.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.knime.core.node.KNIMEConstants;
+
+/**
+ * A duplicate checker for very large numbers of keys. Instead of the keys themselves it keeps a 64-bit fingerprint
+ * (hash) of each key in an open-addressing hash table that lives outside the Java heap. The keys are collected in a
+ * bounded buffer and then appended to temporary files, partitioned by their fingerprint. A key whose fingerprint is
+ * already contained in the table is only a suspected duplicate (it may be a hash collision); if the other key is
+ * still in the buffer the duplicate is reported by {@link #addKey(String)} right away, otherwise the fingerprint is
+ * remembered and all such suspects are confirmed or rejected in {@link #checkForDuplicates()} by a second pass over
+ * the keys of the affected partitions.
+ *
+ * <p>
+ * Compared to {@link DuplicateChecker} this needs no merge of sorted chunks. The heap holds at most
+ * <code>maxPendingKeys</code> keys (the buffer) plus a primitive array with the fingerprints of the suspects, which
+ * are rare unless the keys contain duplicates.
+ *
+ * <p>
+ * Note: This implementation is not thread-safe, it's supposed to be used by a single thread only.
+ *
+ * @author agent
+ * @since 3.8
+ */
+public class FingerprintDuplicateChecker implements IDuplicateChecker {
+
+    /** The default number of keys kept in memory before they are written to the partition files. */
+    public static final int MAX_PENDING_KEYS = 100000;
+
+    /** The default number of partition files. */
+    public static final int NR_PARTITIONS = 64;
+
+    /** Number of hash table segments, selected by the upper bits of the fingerprint. Power of 2. */
+    private static final int NR_SEGMENTS = 64;
+
+    /** Initial number of slots in a segment. Power of 2. */
+    private static final int INITIAL_SEGMENT_CAPACITY = 1 << 10;
+
+    /** Maximum number of slots in a segment (a direct buffer can't hold more than 2GB). */
+    private static final int MAX_SEGMENT_CAPACITY = 1 << 28;
+
+    /** Fingerprint 0 marks an empty slot, keys with that fingerprint are mapped to this value. */
+    private static final long ZERO_FINGERPRINT_REPLACEMENT = 1L;
+
+    private static final boolean DISABLE_DUPLICATE_CHECK =
+        Boolean.getBoolean(KNIMEConstants.PROPERTY_DISABLE_ROWID_DUPLICATE_CHECK);
+
+    /** Spill directories not yet deleted, removed on shutdown (see bug 2966 in {@link DuplicateChecker}). */
+    private static final Collection<File> ALL_SPILL_DIRS = new ArrayList<File>();
+
+    static {
+        ShutdownHelper.getInstance().appendShutdownHook(() -> removeTempFiles());
+    }
+
+    private static void removeTempFiles() {
+        synchronized (ALL_SPILL_DIRS) {
+            for (File dir : ALL_SPILL_DIRS) {
+                FileUtil.deleteRecursively(dir);
+            }
+            ALL_SPILL_DIRS.clear();
+        }
+    }
+
+    private final int m_maxPendingKeys;
+
+    private final int m_nrPartitions;
+
+    /** The hash table segments, lazily allocated. Each holds fingerprints in (linear probing) slots. */
+    private final LongBuffer[] m_segments = new LongBuffer[NR_SEGMENTS];
+
+    /** Number of used slots per segment. */
+    private final int[] m_segmentSizes = new int[NR_SEGMENTS];
+
+    /** Keys not yet written to disk, the first {@link #m_pendingCount} elements are used. Grows up to
+     * {@link #m_maxPendingKeys}. */
+    private String[] m_pendingKeys;
+
+    /** Fingerprints of the pending keys. */
+    private long[] m_pendingFingerprints;
+
+    private int m_pendingCount;
+
+    /** Fingerprints seen more than once (may contain duplicates), to be confirmed in the second pass. */
+    private long[] m_suspects = new long[16];
+
+    private int m_suspectCount;
+
+    /** The directory of the partition files, null if nothing has been spilled yet. */
+    private File m_spillDir;
+
+    /** The partition files writers, null if nothing has been spilled yet or after the writers were closed. */
+    private DataOutputStream[] m_partitionOuts;
+
+    /**
+     * Creates a new duplicate checker with default parameters.
+     */
+    public FingerprintDuplicateChecker() {
+        this(MAX_PENDING_KEYS, NR_PARTITIONS);
+    }
+
+    /**
+     * Creates a new duplicate checker.
+     *
+     * @param maxPendingKeys the number of keys that are kept in memory before they are written to disk
+     * @param nrPartitions the number of partition files the keys are written to, must be at least 1
+     */
+    public FingerprintDuplicateChecker(final int maxPendingKeys, final int nrPartitions) {
+        if (nrPartitions < 1) {
+            throw new IllegalArgumentException("The number of partitions must be at least 1");
+        }
+        if (maxPendingKeys < 1) {
+            throw new IllegalArgumentException("The number of pending keys must be at least 1");
+        }
+        m_maxPendingKeys = maxPendingKeys;
+        m_nrPartitions = nrPartitions;
+        m_pendingKeys = new String[Math.min(maxPendingKeys, 1024)];
+        m_pendingFingerprints = new long[m_pendingKeys.length];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void addKey(final String s) throws DuplicateKeyException, IOException {
+        if (DISABLE_DUPLICATE_CHECK) {
+            return;
+        }
+        final long fingerprint = fingerprint(s);
+        if (!addFingerprint(fingerprint)) {
+            // a duplicate or a hash collision (rare); confirmed right away if the other key is still in the buffer
+            for (int i = 0; i < m_pendingCount; i++) {
+                if (m_pendingFingerprints[i] == fingerprint && m_pendingKeys[i].equals(s)) {
+                    throw new DuplicateKeyException(s);
+                }
+            }
+            addSuspect(fingerprint);
+        }
+        if (m_pendingCount == m_pendingKeys.length) {
+            final int capacity = Math.min(m_maxPendingKeys, 2 * m_pendingKeys.length);
+            m_pendingKeys = Arrays.copyOf(m_pendingKeys, capacity);
+            m_pendingFingerprints = Arrays.copyOf(m_pendingFingerprints, capacity);
+        }
+        m_pendingKeys[m_pendingCount] = s;
+        m_pendingFingerprints[m_pendingCount] = fingerprint;
+        m_pendingCount++;
+        if (m_pendingCount == m_maxPendingKeys) {
+            writePendingKeys();
+        }
+    }
+
+    private void addSuspect(final long fingerprint) {
+        if (m_suspectCount == m_suspects.length) {
+            m_suspects = Arrays.copyOf(m_suspects, m_suspects.length * 2);
+        }
+        m_suspects[m_suspectCount++] = fingerprint;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void checkForDuplicates() throws DuplicateKeyException, IOException {
+        if (m_suspectCount == 0) {
+            // all fingerprints are unique
+            return;
+        }
+        final long[] suspects = Arrays.copyOf(m_suspects, m_suspectCount);
+        Arrays.sort(suspects);
+        if (m_spillDir == null) {
+            // all keys are still in the buffer
+            final Set<String> keys = new HashSet<String>();
+            for (int i = 0; i < m_pendingCount; i++) {
+                if (Arrays.binarySearch(suspects, m_pendingFingerprints[i]) >= 0 && !keys.add(m_pendingKeys[i])) {
+                    throw new DuplicateKeyException(m_pendingKeys[i]);
+                }
+            }
+        } else {
+            writePendingKeys();
+            for (DataOutputStream out : m_partitionOuts) {
+                out.close();
+            }
+            m_partitionOuts = null;
+            final boolean[] isAffected = new boolean[m_nrPartitions];
+            for (long fingerprint : suspects) {
+                isAffected[partition(fingerprint)] = true;
+            }
+            for (int p = 0; p < m_nrPartitions; p++) {
+                if (isAffected[p]) {
+                    checkPartition(p, suspects);
+                }
+            }
+        }
+        m_suspectCount = 0;
+    }
+
+    /**
+     * Reads the keys of a partition and checks the ones with a suspicious fingerprint for duplicates.
+     *
+     * @param suspects the sorted suspicious fingerprints
+     */
+    private void checkPartition(final int partition, final long[] suspects)
+        throws DuplicateKeyException, IOException {
+        final Set<String> keys = new HashSet<String>();
+        try (DataInputStream in = new DataInputStream(
+            new BufferedInputStream(new FileInputStream(getPartitionFile(partition))))) {
+            while (true) {
+                final long fingerprint;
+                try {
+                    fingerprint = in.readLong();
+                } catch (EOFException eof) {
+                    break;
+                }
+                if (Arrays.binarySearch(suspects, fingerprint) >= 0) {
+                    final String key = in.readUTF();
+                    if (!keys.add(key)) {
+                        throw new DuplicateKeyException(key);
+                    }
+                } else {
+                    // skip the modified UTF-8 string (two bytes length + data)
+                    final int length = in.readUnsignedShort();
+                    if (in.skipBytes(length) != length) {
+                        throw new EOFException("Unexpected end of partition file");
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Clears the checker, i.e. removes all temporary files and releases the hash table.
+     */
+    @Override
+    public void clear() {
+        if (m_partitionOuts != null) {
+            for (DataOutputStream out : m_partitionOuts) {
+                try {
+                    out.close();
+                } catch (IOException ioe) {
+                    // ignore, the files get deleted anyway
+                }
+            }
+            m_partitionOuts = null;
+        }
+        if (m_spillDir != null) {
+            FileUtil.deleteRecursively(m_spillDir);
+            synchronized (ALL_SPILL_DIRS) {
+                ALL_SPILL_DIRS.remove(m_spillDir);
+            }
+            m_spillDir = null;
+        }
+        for (int i = 0; i < NR_SEGMENTS; i++) {
+            m_segments[i] = null;
+            m_segmentSizes[i] = 0;
+        }
+        Arrays.fill(m_pendingKeys, 0, m_pendingCount, null);
+        m_pendingCount = 0;
+        m_suspectCount = 0;
+    }
+
+    /**
+     * Writes the pending keys (with their fingerprints) to the partition files.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    private void writePendingKeys() throws IOException {
+        if (m_pendingCount == 0) {
+            return;
+        }
+        if (m_spillDir == null) {
+            m_spillDir = FileUtil.createTempDir("KNIME_DuplicateChecker", null, false);
+            synchronized (ALL_SPILL_DIRS) {
+                ALL_SPILL_DIRS.add(m_spillDir);
+            }
+            m_partitionOuts = new DataOutputStream[m_nrPartitions];
+            for (int i = 0; i < m_nrPartitions; i++) {
+                m_partitionOuts[i] =
+                    new DataOutputStream(new BufferedOutputStream(new FileOutputStream(getPartitionFile(i))));
+            }
+        }
+        for (int i = 0; i < m_pendingCount; i++) {
+            final long fingerprint = m_pendingFingerprints[i];
+            final DataOutputStream out = m_partitionOuts[partition(fingerprint)];
+            out.writeLong(fingerprint);
+            out.writeUTF(m_pendingKeys[i]);
+            m_pendingKeys[i] = null;
+        }
+        m_pendingCount = 0;
+    }
+
+    private File getPartitionFile(final int partition) {
+        return new File(m_spillDir, "partition_" + partition + ".bin");
+    }
+
+    private int partition(final long fingerprint) {
+        // the lower bits, the upper bits select the hash table segment
+        return (int)((fingerprint & Long.MAX_VALUE) % m_nrPartitions);
+    }
+
+    /**
+     * Adds the fingerprint to the hash table.
+     *
+     * @return true if it was added, false if it was already contained
+     */
+    private boolean addFingerprint(final long fingerprint) {
+        final int segmentIndex = (int)(fingerprint >>> 58);
+        LongBuffer segment = m_segments[segmentIndex];
+        if (segment == null) {
+            segment = allocateSegment(INITIAL_SEGMENT_CAPACITY);
+            m_segments[segmentIndex] = segment;
+        } else if (m_segmentSizes[segmentIndex] >= segment.capacity() / 2) {
+            if (segment.capacity() < MAX_SEGMENT_CAPACITY) {
+                segment = grow(segment);
+                m_segments[segmentIndex] = segment;
+            } else if (m_segmentSizes[segmentIndex] >= segment.capacity() - 1) {
+                // keeps filling beyond the load factor at max capacity (slower probing) but needs one free slot
+                throw new IllegalStateException("Too many keys for duplicate checker");
+            }
+        }
+        if (insert(segment, fingerprint)) {
+            m_segmentSizes[segmentIndex]++;
+            return true;
+        }
+        return false;
+    }
+
+    /** Linear probing insert, returns false if the fingerprint is already contained. */
+    private static boolean insert(final LongBuffer segment, final long fingerprint) {
+        final int mask = segment.capacity() - 1;
+        int slot = (int)fingerprint & mask;
+        while (true) {
+            final long current = segment.get(slot);
+            if (current == 0L) {
+                segment.put(slot, fingerprint);
+                return true;
+            }
+            if (current == fingerprint) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private static LongBuffer grow(final LongBuffer segment) {
+        final int capacity = segment.capacity();
+        final LongBuffer grown = allocateSegment(capacity << 1);
+        for (int i = 0; i < capacity; i++) {
+            final long fingerprint = segment.get(i);
+            if (fingerprint != 0L) {
+                insert(grown, fingerprint);
+            }
+        }
+        return grown;
+    }
+
+    private static LongBuffer allocateSegment(final int capacity) {
+        // direct buffers are zero-initialized
+        return ByteBuffer.allocateDirect(capacity * Long.BYTES).asLongBuffer();
+    }
+
+    /**
+     * Computes a 64-bit hash of the string (FNV-1a over the chars followed by the MurmurHash3 finalizer), never 0.
+     */
+    static long fingerprint(final String s) {
+        long h = 0xcbf29ce484222325L;
+        final int length = s.length();
+        for (int i = 0; i < length; i++) {
+            h ^= s.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h == 0L ? ZERO_FINGERPRINT_REPLACEMENT : h;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void finalize() throws Throwable {
+        super.finalize();
+        clear();
+    }
+}